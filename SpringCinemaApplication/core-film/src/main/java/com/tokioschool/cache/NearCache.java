@@ -0,0 +1,194 @@
+package com.tokioschool.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caché local (near-cache) de una aplicación, limitada por la memoria que ocupan sus entradas.
+ *
+ * Las entradas se expulsan por antigüedad de uso (LRU) cuando se supera la memoria máxima, y caducan pasado
+ * su tiempo de vida. La memoria de cada entrada la calcula la función de peso indicada al crear la caché.
+ *
+ * {@link #invalidate(Object)} elimina la entrada y lo publica en el {@link NearCacheInvalidationBus}, si lo hay,
+ * para que el resto de nodos la eliminen también.
+ *
+ * Las métricas se publican con el prefijo {@code near.cache} y la etiqueta {@code cache}.
+ *
+ * @param <K> El tipo de las claves.
+ * @param <V> El tipo de los valores.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class NearCache<K, V> {
+
+    static final String TAG_CACHE = "cache";
+
+    @Getter
+    private final String name;
+    private final NearCacheProperty.Policy policy;
+    private final ToLongFunction<V> weigher;
+    @Nullable
+    private final NearCacheInvalidationBus invalidationBus;
+    private final Clock clock;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    NearCache(String name, NearCacheProperty.Policy policy, ToLongFunction<V> weigher,
+              @Nullable NearCacheInvalidationBus invalidationBus, MeterRegistry meterRegistry, Clock clock) {
+        this.name = name;
+        this.policy = policy;
+        this.weigher = weigher;
+        this.invalidationBus = invalidationBus;
+        this.clock = clock;
+
+        this.hitCounter = Counter.builder("near.cache.gets").tag(TAG_CACHE, name).tag("result", "hit")
+                .description("Búsquedas en la caché local").register(meterRegistry);
+        this.missCounter = Counter.builder("near.cache.gets").tag(TAG_CACHE, name).tag("result", "miss")
+                .description("Búsquedas en la caché local").register(meterRegistry);
+        this.evictionCounter = Counter.builder("near.cache.evictions").tag(TAG_CACHE, name)
+                .description("Entradas expulsadas de la caché local por falta de memoria").register(meterRegistry);
+        Gauge.builder("near.cache.size", this, NearCache::weight).tag(TAG_CACHE, name).baseUnit("bytes")
+                .description("Memoria ocupada por las entradas de la caché local").register(meterRegistry);
+        Gauge.builder("near.cache.entries", this, NearCache::size).tag(TAG_CACHE, name)
+                .description("Entradas de la caché local").register(meterRegistry);
+    }
+
+    /**
+     * Busca una entrada en la caché.
+     *
+     * @param key La clave de la entrada.
+     * @return Un {@link Optional} con el valor de la entrada, o vacío si no está o ha caducado.
+     */
+    public Optional<V> get(K key) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        final V value;
+        synchronized (this) {
+            final Entry<V> entry = entries.get(key);
+            if (entry != null && entry.isExpired(clock.instant())) {
+                remove(key);
+                value = null;
+            } else {
+                value = entry == null ? null : entry.value();
+            }
+        }
+
+        (value == null ? missCounter : hitCounter).increment();
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Guarda una entrada en la caché, expulsando las menos usadas si se supera la memoria máxima.
+     *
+     * Las entradas de mayor tamaño que la memoria máxima de la caché no se guardan.
+     *
+     * @param key La clave de la entrada.
+     * @param value El valor de la entrada.
+     */
+    public void put(K key, V value) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        final long entryWeight = weigher.applyAsLong(value);
+        if (entryWeight > policy.maxSize().toBytes()) {
+            return;
+        }
+
+        synchronized (this) {
+            remove(key);
+            entries.put(key, new Entry<>(value, entryWeight, clock.instant().plus(policy.timeToLive())));
+            weight += entryWeight;
+
+            final Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (weight > policy.maxSize().toBytes() && iterator.hasNext()) {
+                weight -= iterator.next().getValue().weight();
+                iterator.remove();
+                evictionCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Elimina una entrada de la caché y avisa al resto de nodos para que la eliminen también.
+     *
+     * @param key La clave de la entrada.
+     */
+    public void invalidate(K key) {
+        evict(key);
+        if (invalidationBus != null) {
+            invalidationBus.publish(name, key.toString());
+        }
+    }
+
+    /**
+     * Elimina una entrada de la caché local, sin avisar al resto de nodos.
+     *
+     * @param key La clave de la entrada.
+     */
+    public synchronized void evict(K key) {
+        remove(key);
+    }
+
+    /**
+     * Comprueba si un contenido puede guardarse en la caché.
+     *
+     * @param contentSize El tamaño del contenido, en bytes.
+     * @return {@code true} si el contenido no supera el tamaño máximo de una entrada.
+     */
+    public boolean isCacheableContent(long contentSize) {
+        return contentSize <= policy.maxEntrySize().toBytes();
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(policy.enabled());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    private void remove(K key) {
+        final Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            weight -= entry.weight();
+        }
+    }
+
+    /**
+     * Entrada de la caché.
+     *
+     * @param value El valor guardado.
+     * @param weight La memoria que ocupa.
+     * @param expiresAt El instante en el que caduca.
+     */
+    private record Entry<V>(V value, long weight, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
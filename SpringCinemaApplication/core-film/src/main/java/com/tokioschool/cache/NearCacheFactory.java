@@ -0,0 +1,75 @@
+package com.tokioschool.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Factoría de las cachés locales (near-cache) de las aplicaciones.
+ *
+ * Crea cada caché con la política configurada en {@link NearCacheProperty} y la suscribe al
+ * {@link NearCacheInvalidationBus} de la aplicación, si lo hay, para eliminar las entradas que invalidan
+ * otros nodos.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra la factoría como un bean de Spring.
+ * - {@link Slf4j}: Habilita el registro de logs utilizando SLF4J.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class NearCacheFactory {
+
+    private final NearCacheProperty nearCacheProperty;
+    @Nullable
+    private final NearCacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public NearCacheFactory(NearCacheProperty nearCacheProperty,
+                            ObjectProvider<NearCacheInvalidationBus> invalidationBusProvider,
+                            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(nearCacheProperty, invalidationBusProvider.getIfAvailable(),
+                meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new), Clock.systemUTC());
+    }
+
+    public NearCacheFactory(NearCacheProperty nearCacheProperty, @Nullable NearCacheInvalidationBus invalidationBus,
+                            MeterRegistry meterRegistry, Clock clock) {
+        this.nearCacheProperty = nearCacheProperty;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Crea una caché local.
+     *
+     * @param name El nombre de la caché, que identifica su política y sus invalidaciones.
+     * @param keyParser Función que obtiene la clave a partir de su texto en las invalidaciones de otros nodos.
+     * @param weigher Función que calcula la memoria que ocupa un valor, en bytes.
+     * @return La caché creada.
+     * @param <K> El tipo de las claves.
+     * @param <V> El tipo de los valores.
+     */
+    public <K, V> NearCache<K, V> create(String name, Function<String, K> keyParser, ToLongFunction<V> weigher) {
+        final NearCacheProperty.Policy policy = nearCacheProperty.resolve(name);
+        log.info("Creating near-cache '{}': {}", name, policy);
+
+        final NearCache<K, V> nearCache = new NearCache<>(name, policy, weigher, invalidationBus, meterRegistry, clock);
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(name, key -> nearCache.evict(keyParser.apply(key)));
+        }
+        return nearCache;
+    }
+}
@@ -0,0 +1,31 @@
+package com.tokioschool.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal por el que los nodos de una aplicación se avisan de las entradas invalidadas en sus cachés locales.
+ *
+ * Cuando un nodo elimina un dato, lo invalida en su caché y lo publica en el canal, para que el resto de
+ * nodos lo invaliden también en las suyas.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public interface NearCacheInvalidationBus {
+
+    /**
+     * Publica la invalidación de una entrada.
+     *
+     * @param cacheName El nombre de la caché.
+     * @param key La clave invalidada, como texto.
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Registra la acción a realizar cuando otro nodo invalida una entrada de una caché.
+     *
+     * @param cacheName El nombre de la caché.
+     * @param listener La acción que recibe la clave invalidada, como texto.
+     */
+    void subscribe(String cacheName, Consumer<String> listener);
+}
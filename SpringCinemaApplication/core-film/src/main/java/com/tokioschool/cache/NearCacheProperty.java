@@ -0,0 +1,72 @@
+package com.tokioschool.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Propiedades de configuración de las cachés locales (near-cache) de las aplicaciones.
+ *
+ * Cada caché tiene su propio límite de memoria; sus propiedades se toman de {@code caches.<nombre>} y,
+ * las que no se indiquen, de {@code defaults}.
+ *
+ * @param defaults Propiedades por defecto de todas las cachés.
+ * @param caches Propiedades particulares de cada caché, por nombre.
+ * @param invalidationChannel Canal por el que se avisa al resto de nodos de las entradas invalidadas.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.near-cache")
+public record NearCacheProperty(Policy defaults, Map<String, Policy> caches, String invalidationChannel) {
+
+    private static final Policy BUILT_IN_DEFAULTS = new Policy(true, DataSize.ofMegabytes(64), DataSize.ofKilobytes(512),
+            Duration.ofHours(1));
+
+    public NearCacheProperty {
+        defaults = Optional.ofNullable(defaults).map(value -> value.merge(BUILT_IN_DEFAULTS)).orElse(BUILT_IN_DEFAULTS);
+        caches = Map.copyOf(Objects.requireNonNullElse(caches, Map.of()));
+        invalidationChannel = Objects.requireNonNullElse(invalidationChannel, "near-cache:invalidation");
+    }
+
+    /**
+     * Obtiene las propiedades efectivas de una caché.
+     *
+     * @param name El nombre de la caché.
+     * @return Las propiedades de la caché, completadas con las propiedades por defecto.
+     */
+    public Policy resolve(String name) {
+        return Optional.ofNullable(caches.get(name))
+                .map(policy -> policy.merge(defaults))
+                .orElse(defaults);
+    }
+
+    /**
+     * Política de una caché local.
+     *
+     * @param enabled Indica si la caché está activa.
+     * @param maxSize Memoria máxima que ocupan las entradas de la caché.
+     * @param maxEntrySize Tamaño máximo del contenido de una entrada; el contenido de mayor tamaño no se guarda.
+     * @param timeToLive Tiempo que una entrada permanece en la caché desde que se guarda.
+     */
+    public record Policy(Boolean enabled, DataSize maxSize, DataSize maxEntrySize, Duration timeToLive) {
+
+        /**
+         * Completa las propiedades no indicadas con las de otra política.
+         *
+         * @param fallback La política con la que completar.
+         * @return La política completada.
+         */
+        Policy merge(Policy fallback) {
+            return new Policy(
+                    Objects.requireNonNullElse(enabled, fallback.enabled()),
+                    Objects.requireNonNullElse(maxSize, fallback.maxSize()),
+                    Objects.requireNonNullElse(maxEntrySize, fallback.maxEntrySize()),
+                    Objects.requireNonNullElse(timeToLive, fallback.timeToLive()));
+        }
+    }
+}
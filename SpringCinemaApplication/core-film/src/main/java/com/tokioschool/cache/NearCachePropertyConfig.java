@@ -0,0 +1,26 @@
+package com.tokioschool.cache;
+
+import com.tokioschool.configs.YamlPropertySourceFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Configuración de propiedades de las cachés locales.
+ *
+ * Carga los valores por defecto del archivo YAML {@code near-cache.yml}, que cada aplicación
+ * puede sobrescribir en su propia configuración, y habilita la clase {@link NearCacheProperty}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@PropertySource(
+        value = "classpath:near-cache.yml", // Ruta del archivo de propiedades YAML
+        encoding = "UTF-8", // Codificación del archivo
+        factory = YamlPropertySourceFactory.class // Fábrica personalizada para cargar propiedades YAML
+)
+@EnableConfigurationProperties(NearCacheProperty.class)
+public class NearCachePropertyConfig {
+
+}
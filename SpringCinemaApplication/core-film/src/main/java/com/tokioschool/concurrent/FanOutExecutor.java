@@ -0,0 +1,57 @@
+package com.tokioschool.concurrent;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Ejecutor de consultas concurrentes (fan-out) para los controladores.
+ *
+ * Abre ámbitos ({@link FanOutScope}) en los que un controlador lanza en paralelo, en hilos virtuales,
+ * las consultas independientes que necesita para componer una vista, en lugar de hacerlas una detrás
+ * de otra. Todas las consultas de un ámbito comparten un plazo y, si una falla, se cancelan las demás.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra el ejecutor como un bean de Spring.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+public class FanOutExecutor implements DisposableBean {
+
+    private final FanOutProperty fanOutProperty;
+    private final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+
+    public FanOutExecutor(FanOutProperty fanOutProperty) {
+        this.fanOutProperty = fanOutProperty;
+    }
+
+    /**
+     * Abre un ámbito con el plazo configurado.
+     *
+     * @return El ámbito abierto, que debe cerrarse con un {@code try-with-resources}.
+     */
+    public FanOutScope open() {
+        return open(fanOutProperty.deadline());
+    }
+
+    /**
+     * Abre un ámbito con un plazo concreto.
+     *
+     * @param deadline El plazo común de todas las consultas del ámbito.
+     * @return El ámbito abierto, que debe cerrarse con un {@code try-with-resources}.
+     */
+    public FanOutScope open(Duration deadline) {
+        return new FanOutScope(executorService, deadline);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+}
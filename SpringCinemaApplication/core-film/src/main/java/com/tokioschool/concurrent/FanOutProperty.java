@@ -0,0 +1,22 @@
+package com.tokioschool.concurrent;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Propiedades de configuración de las consultas concurrentes (fan-out) de los controladores.
+ *
+ * @param deadline Plazo común de todas las consultas de un fan-out; al vencer se cancelan las pendientes.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.fan-out")
+public record FanOutProperty(Duration deadline) {
+
+    public FanOutProperty {
+        deadline = Objects.requireNonNullElse(deadline, Duration.ofSeconds(5));
+    }
+}
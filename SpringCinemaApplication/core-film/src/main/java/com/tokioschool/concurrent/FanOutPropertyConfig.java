@@ -0,0 +1,26 @@
+package com.tokioschool.concurrent;
+
+import com.tokioschool.configs.YamlPropertySourceFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Configuración de propiedades de las consultas concurrentes (fan-out).
+ *
+ * Carga los valores por defecto del archivo YAML {@code fan-out.yml}, que cada aplicación
+ * puede sobrescribir en su propia configuración, y habilita la clase {@link FanOutProperty}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@PropertySource(
+        value = "classpath:fan-out.yml", // Ruta del archivo de propiedades YAML
+        encoding = "UTF-8", // Codificación del archivo
+        factory = YamlPropertySourceFactory.class // Fábrica personalizada para cargar propiedades YAML
+)
+@EnableConfigurationProperties(FanOutProperty.class)
+public class FanOutPropertyConfig {
+
+}
@@ -0,0 +1,149 @@
+package com.tokioschool.concurrent;
+
+import com.tokioschool.core.exception.InternalErrorException;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Ámbito de un conjunto de consultas concurrentes (fan-out).
+ *
+ * Sigue el modelo de la concurrencia estructurada: las consultas se lanzan con {@link #fork(Callable)},
+ * se esperan todas juntas con {@link #join()} y ninguna sobrevive al ámbito, ya que al cerrarlo se
+ * cancelan las que sigan en curso. Si una consulta falla se cancelan las demás y {@link #join()} lanza
+ * su excepción original; si vence el plazo se cancelan las pendientes y se lanza una
+ * {@link InternalErrorException}.
+ *
+ * Cada consulta se ejecuta con el contexto de seguridad, el idioma y los atributos de la petición del
+ * hilo que la lanza, de modo que los servicios y fachadas funcionan igual que en el hilo de la petición.
+ *
+ * Un ámbito no es seguro entre hilos: lo usa únicamente el hilo que lo abre.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public final class FanOutScope implements AutoCloseable {
+
+    private final ExecutorService executorService;
+    private final Duration deadline;
+    private final long deadlineNanos;
+    private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private boolean joined;
+
+    FanOutScope(ExecutorService executorService, Duration deadline) {
+        this.executorService = executorService;
+        this.deadline = deadline;
+        this.deadlineNanos = System.nanoTime() + deadline.toNanos();
+    }
+
+    /**
+     * Lanza una consulta en el ámbito.
+     *
+     * @param task La consulta a ejecutar.
+     * @return Proveedor del resultado de la consulta, que solo puede usarse tras {@link #join()}.
+     * @param <T> El tipo del resultado.
+     */
+    public <T> Supplier<T> fork(Callable<T> task) {
+        Assert.state(!joined, "The fan-out has already been joined");
+
+        final Callable<T> contextualTask = withRequestContext(task);
+        final Future<T> future = executorService.submit(() -> {
+            try {
+                return contextualTask.call();
+            } catch (Throwable e) {
+                if (failure.compareAndSet(null, e)) {
+                    cancelAll();
+                }
+                throw e;
+            }
+        });
+        futures.add(future);
+
+        return () -> {
+            Assert.state(joined && failure.get() == null, "The fan-out has not been joined successfully");
+            return future.resultNow();
+        };
+    }
+
+    /**
+     * Espera a que terminen todas las consultas del ámbito, como mucho hasta el plazo.
+     *
+     * @throws RuntimeException La excepción de la primera consulta que falle.
+     * @throws InternalErrorException Si vence el plazo o se interrumpe la espera.
+     */
+    public void join() {
+        joined = true;
+        try {
+            for (Future<?> future : futures) {
+                future.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            }
+        } catch (ExecutionException | CancellationException e) {
+            // la consulta que ha fallado ha registrado su excepción y cancelado el resto
+        } catch (TimeoutException e) {
+            // se registra antes de cancelar para que no prevalezca la interrupción de las consultas pendientes
+            failure.compareAndSet(null, new InternalErrorException("Fan-out deadline of %s exceeded".formatted(deadline)));
+            cancelAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new InternalErrorException("Fan-out interrupted", e));
+            cancelAll();
+        }
+
+        final Throwable throwable = failure.get();
+        if (throwable instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        if (throwable != null) {
+            throw new InternalErrorException(throwable);
+        }
+    }
+
+    /**
+     * Cancela las consultas que sigan en curso.
+     */
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private void cancelAll() {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static <T> Callable<T> withRequestContext(Callable<T> task) {
+        final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final Callable<T> securedTask = new DelegatingSecurityContextCallable<>(task);
+
+        return () -> {
+            LocaleContextHolder.setLocaleContext(localeContext);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return securedTask.call();
+            } finally {
+                LocaleContextHolder.resetLocaleContext();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+}
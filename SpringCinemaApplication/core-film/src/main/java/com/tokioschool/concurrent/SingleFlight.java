@@ -0,0 +1,123 @@
+package com.tokioschool.concurrent;
+
+import com.tokioschool.core.exception.InternalErrorException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Agrupación de lecturas concurrentes idénticas (single-flight).
+ *
+ * Mientras una lectura de una clave está en curso, las lecturas de la misma clave que llegan desde otros
+ * hilos no llaman al servicio destino: esperan a la que está en curso y comparten su resultado, o su
+ * excepción. Al terminar la lectura se olvida la clave, de modo que no guarda resultados; para eso están
+ * las cachés.
+ *
+ * Solo debe usarse con lecturas cuyo resultado no depende de quién las hace.
+ *
+ * Métricas:
+ * - {@code single.flight.calls}: lecturas por nombre y tipo, {@code executed} (llaman al servicio destino)
+ *   o {@code collapsed} (comparten la lectura en curso).
+ * - {@code single.flight.in.flight}: lecturas en curso.
+ *
+ * @param <K> El tipo de las claves.
+ * @param <V> El tipo de los resultados.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class SingleFlight<K, V> {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final boolean enabled;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCounter;
+    private final Counter collapsedCounter;
+
+    SingleFlight(String name, boolean enabled, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.enabled = enabled;
+        this.executedCounter = Counter.builder("single.flight.calls")
+                .description("Lecturas por tipo: ejecutadas o agrupadas con una lectura en curso")
+                .tag("name", name)
+                .tag("kind", "executed")
+                .register(meterRegistry);
+        this.collapsedCounter = Counter.builder("single.flight.calls")
+                .description("Lecturas por tipo: ejecutadas o agrupadas con una lectura en curso")
+                .tag("name", name)
+                .tag("kind", "collapsed")
+                .register(meterRegistry);
+        Gauge.builder("single.flight.in.flight", inFlight, ConcurrentMap::size)
+                .description("Lecturas en curso")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Realiza una lectura o, si ya hay una en curso de la misma clave, espera a su resultado.
+     *
+     * @param key La clave que identifica la lectura.
+     * @param call La lectura a realizar.
+     * @return El resultado de la lectura.
+     */
+    public V execute(K key, Supplier<V> call) {
+        if (!enabled) {
+            executedCounter.increment();
+            return call.get();
+        }
+
+        final CompletableFuture<V> flight = new CompletableFuture<>();
+        final CompletableFuture<V> current = inFlight.putIfAbsent(key, flight);
+        if (current != null) {
+            collapsedCounter.increment();
+            return await(current);
+        }
+
+        executedCounter.increment();
+        try {
+            final V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Número de lecturas en curso.
+     *
+     * @return El número de claves con una lectura en curso.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalErrorException("Interrupted waiting for the in-flight call of '%s'".formatted(name), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new InternalErrorException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.tokioschool.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Factoría de las agrupaciones de lecturas concurrentes (single-flight) de las fachadas.
+ *
+ * Crea cada agrupación habilitada o no según lo configurado en {@link SingleFlightProperty} para su nombre.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra la factoría como un bean de Spring.
+ * - {@link Slf4j}: Habilita el registro de logs utilizando SLF4J.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class SingleFlightFactory {
+
+    private final SingleFlightProperty singleFlightProperty;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SingleFlightFactory(SingleFlightProperty singleFlightProperty, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(singleFlightProperty, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public SingleFlightFactory(SingleFlightProperty singleFlightProperty, MeterRegistry meterRegistry) {
+        this.singleFlightProperty = singleFlightProperty;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Crea una agrupación de lecturas concurrentes.
+     *
+     * @param name El nombre del método cuyas lecturas se agrupan, que identifica su configuración y sus métricas.
+     * @return La agrupación creada.
+     * @param <K> El tipo de las claves.
+     * @param <V> El tipo de los resultados.
+     */
+    public <K, V> SingleFlight<K, V> create(String name) {
+        final boolean enabled = singleFlightProperty.isEnabled(name);
+        log.info("Creating single-flight '{}': enabled={}", name, enabled);
+        return new SingleFlight<>(name, enabled, meterRegistry);
+    }
+}
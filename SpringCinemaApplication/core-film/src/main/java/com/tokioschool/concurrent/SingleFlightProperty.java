@@ -0,0 +1,37 @@
+package com.tokioschool.concurrent;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Propiedades de configuración de la agrupación de lecturas concurrentes (single-flight).
+ *
+ * Cada método de las fachadas que agrupa sus lecturas tiene un nombre; si no aparece en {@code calls}
+ * se usa el valor de {@code enabled}.
+ *
+ * @param enabled Indica si se agrupan las lecturas de los métodos que no se configuran por separado.
+ * @param calls Indica, por nombre de método, si se agrupan sus lecturas.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.single-flight")
+public record SingleFlightProperty(Boolean enabled, Map<String, Boolean> calls) {
+
+    public SingleFlightProperty {
+        enabled = Objects.requireNonNullElse(enabled, Boolean.TRUE);
+        calls = Map.copyOf(Objects.requireNonNullElse(calls, Map.of()));
+    }
+
+    /**
+     * Indica si se agrupan las lecturas de un método.
+     *
+     * @param name El nombre del método.
+     * @return {@code true} si se agrupan sus lecturas.
+     */
+    public boolean isEnabled(String name) {
+        return calls.getOrDefault(name, enabled);
+    }
+}
@@ -0,0 +1,26 @@
+package com.tokioschool.concurrent;
+
+import com.tokioschool.configs.YamlPropertySourceFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Configuración de propiedades de la agrupación de lecturas concurrentes (single-flight).
+ *
+ * Carga los valores por defecto del archivo YAML {@code single-flight.yml}, que cada aplicación
+ * puede sobrescribir en su propia configuración, y habilita la clase {@link SingleFlightProperty}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@PropertySource(
+        value = "classpath:single-flight.yml", // Ruta del archivo de propiedades YAML
+        encoding = "UTF-8", // Codificación del archivo
+        factory = YamlPropertySourceFactory.class // Fábrica personalizada para cargar propiedades YAML
+)
+@EnableConfigurationProperties(SingleFlightProperty.class)
+public class SingleFlightPropertyConfig {
+
+}
@@ -0,0 +1,64 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.dto.artist.ArtistDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapeador estático de la entidad \{@link Artist\} a su DTO \{@link ArtistDto\}.
+ *
+ * Aplica las mismas reglas que \{@link ArtistToArtistDtoMapper\} sobre \{@link org.modelmapper.ModelMapper\},
+ * pero con llamadas directas a los getters y setters, sin reflexión ni búsqueda de mapas de tipos,
+ * para los listados que convierten muchas filas.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public final class ArtistMapper {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private ArtistMapper() {
+    }
+
+    /**
+     * Convierte un artista en su DTO; el tipo de artista se expresa con su nombre en mayúsculas.
+     *
+     * @param artist el artista a convertir
+     * @return el DTO del artista, o null si la entrada es null
+     */
+    public static ArtistDto toDto(Artist artist) {
+        if (artist == null) {
+            return null;
+        }
+
+        final ArtistDto artistDto = new ArtistDto();
+        artistDto.setId(artist.getId());
+        artistDto.setName(artist.getName());
+        artistDto.setSurname(artist.getSurname());
+        artistDto.setTypeArtist(artist.getTypeArtist() != null ? artist.getTypeArtist().name() : null);
+        return artistDto;
+    }
+
+    /**
+     * Convierte una colección de artistas en una lista de DTOs, conservando el orden de iteración.
+     *
+     * @param artists los artistas a convertir
+     * @return la lista de DTOs, vacía si la entrada es null
+     */
+    public static List<ArtistDto> toDtos(Collection<Artist> artists) {
+        if (artists == null) {
+            return new ArrayList<>(0);
+        }
+
+        final List<ArtistDto> artistDtos = new ArrayList<>(artists.size());
+        for (Artist artist : artists) {
+            artistDtos.add(toDto(artist));
+        }
+        return artistDtos;
+    }
+}
@@ -0,0 +1,67 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.dto.movie.MovieDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapeador estático de la entidad \{@link Movie\} a su DTO \{@link MovieDto\}.
+ *
+ * Aplica las mismas reglas que \{@link MovieToMovieDtoMapper\}: el director y el reparto se convierten
+ * con \{@link ArtistMapper\}, el usuario creador con \{@link UserMapper\} y la imagen se expresa
+ * como el identificador del recurso.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public final class MovieMapper {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private MovieMapper() {
+    }
+
+    /**
+     * Convierte una película en su DTO.
+     *
+     * @param movie la película a convertir
+     * @return el DTO de la película, o null si la entrada es null
+     */
+    public static MovieDto toDto(Movie movie) {
+        if (movie == null) {
+            return null;
+        }
+
+        final MovieDto movieDto = new MovieDto();
+        movieDto.setId(movie.getId());
+        movieDto.setTitle(movie.getTitle());
+        movieDto.setReleaseYear(movie.getReleaseYear());
+        movieDto.setManagerDto(ArtistMapper.toDto(movie.getManager()));
+        movieDto.setArtistDtos(ArtistMapper.toDtos(movie.getArtists()));
+        movieDto.setResourceId(movie.getImage() != null ? movie.getImage().toString() : null);
+        movieDto.setCreateUser(UserMapper.toDto(movie.getCreateUser()));
+        return movieDto;
+    }
+
+    /**
+     * Convierte una colección de películas en una lista de DTOs, conservando el orden de iteración.
+     *
+     * @param movies las películas a convertir
+     * @return la lista de DTOs, vacía si la entrada es null
+     */
+    public static List<MovieDto> toDtos(Collection<Movie> movies) {
+        if (movies == null) {
+            return new ArrayList<>(0);
+        }
+
+        final List<MovieDto> movieDtos = new ArrayList<>(movies.size());
+        for (Movie movie : movies) {
+            movieDtos.add(toDto(movie));
+        }
+        return movieDtos;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.RatingFilm;
+import com.tokioschool.filmapp.dto.ratings.RatingFilmDto;
+import com.tokioschool.helpers.DateHelper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapeador estático de la entidad \{@link RatingFilm\} a su DTO \{@link RatingFilmDto\}.
+ *
+ * Las fechas de creación y modificación se expresan en UTC con \{@link DateHelper\}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public final class RatingFilmMapper {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private RatingFilmMapper() {
+    }
+
+    /**
+     * Convierte una calificación en su DTO.
+     *
+     * @param ratingFilm la calificación a convertir
+     * @return el DTO de la calificación, o null si la entrada es null
+     */
+    public static RatingFilmDto toDto(RatingFilm ratingFilm) {
+        if (ratingFilm == null) {
+            return null;
+        }
+
+        final RatingFilmDto ratingFilmDto = new RatingFilmDto();
+        ratingFilmDto.setId(ratingFilm.getId());
+        ratingFilmDto.setUserId(ratingFilm.getUserId());
+        ratingFilmDto.setFilmId(ratingFilm.getFilmId());
+        ratingFilmDto.setScore(ratingFilm.getScore());
+        ratingFilmDto.setCreateAt(DateHelper.parseLocalDateToTimeToOffsetDateTimeUtc(ratingFilm.getCreateAt()));
+        ratingFilmDto.setUpdatedAt(DateHelper.parseLocalDateToTimeToOffsetDateTimeUtc(ratingFilm.getUpdateAt()));
+        return ratingFilmDto;
+    }
+
+    /**
+     * Convierte una colección de calificaciones en una lista de DTOs, conservando el orden de iteración.
+     *
+     * @param ratingFilms las calificaciones a convertir
+     * @return la lista de DTOs, vacía si la entrada es null
+     */
+    public static List<RatingFilmDto> toDtos(Collection<RatingFilm> ratingFilms) {
+        if (ratingFilms == null) {
+            return new ArrayList<>(0);
+        }
+
+        final List<RatingFilmDto> ratingFilmDtos = new ArrayList<>(ratingFilms.size());
+        for (RatingFilm ratingFilm : ratingFilms) {
+            ratingFilmDtos.add(toDto(ratingFilm));
+        }
+        return ratingFilmDtos;
+    }
+}
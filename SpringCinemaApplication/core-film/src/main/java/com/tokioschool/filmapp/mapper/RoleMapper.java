@@ -0,0 +1,89 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.Authority;
+import com.tokioschool.filmapp.domain.Role;
+import com.tokioschool.filmapp.domain.Scope;
+import com.tokioschool.filmapp.dto.user.RoleDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapeador estático de la entidad \{@link Role\} a su DTO \{@link RoleDto\}.
+ *
+ * Aplica las mismas reglas que \{@link RoleToRoleDtoMapper\}: los permisos y ámbitos del rol
+ * se convierten en la lista de sus nombres.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public final class RoleMapper {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private RoleMapper() {
+    }
+
+    /**
+     * Convierte un rol en su DTO.
+     *
+     * @param role el rol a convertir
+     * @return el DTO del rol, o null si la entrada es null
+     */
+    public static RoleDto toDto(Role role) {
+        if (role == null) {
+            return null;
+        }
+
+        final RoleDto roleDto = new RoleDto();
+        roleDto.setId(role.getId());
+        roleDto.setName(role.getName());
+        roleDto.setAuthorities(authorityNames(role.getAuthorities()));
+        roleDto.setScopes(scopeNames(role.getScopes()));
+        return roleDto;
+    }
+
+    /**
+     * Convierte una colección de roles en una lista de DTOs.
+     *
+     * @param roles los roles a convertir
+     * @return la lista de DTOs, vacía si la entrada es null
+     */
+    public static List<RoleDto> toDtos(Collection<Role> roles) {
+        if (roles == null) {
+            return new ArrayList<>(0);
+        }
+
+        final List<RoleDto> roleDtos = new ArrayList<>(roles.size());
+        for (Role role : roles) {
+            roleDtos.add(toDto(role));
+        }
+        return roleDtos;
+    }
+
+    private static List<String> authorityNames(Collection<Authority> authorities) {
+        if (authorities == null) {
+            return new ArrayList<>(0);
+        }
+
+        final List<String> names = new ArrayList<>(authorities.size());
+        for (Authority authority : authorities) {
+            names.add(authority != null ? authority.getName() : null);
+        }
+        return names;
+    }
+
+    private static List<String> scopeNames(Collection<Scope> scopes) {
+        if (scopes == null) {
+            return new ArrayList<>(0);
+        }
+
+        final List<String> names = new ArrayList<>(scopes.size());
+        for (Scope scope : scopes) {
+            names.add(scope != null ? scope.getName() : null);
+        }
+        return names;
+    }
+}
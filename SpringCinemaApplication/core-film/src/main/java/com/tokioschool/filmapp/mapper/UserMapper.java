@@ -0,0 +1,69 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.User;
+import com.tokioschool.filmapp.dto.user.UserDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapeador estático de la entidad \{@link User\} a su DTO \{@link UserDto\}.
+ *
+ * Aplica las mismas reglas que \{@link UserToUserDtoMapper\}: los roles se convierten con \{@link RoleMapper\}
+ * y la imagen se expresa como el identificador del recurso. Las contraseñas no se copian.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public final class UserMapper {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private UserMapper() {
+    }
+
+    /**
+     * Convierte un usuario en su DTO.
+     *
+     * @param user el usuario a convertir
+     * @return el DTO del usuario, o null si la entrada es null
+     */
+    public static UserDto toDto(User user) {
+        if (user == null) {
+            return null;
+        }
+
+        final UserDto userDto = new UserDto();
+        userDto.setId(user.getId());
+        userDto.setName(user.getName());
+        userDto.setSurname(user.getSurname());
+        userDto.setUsername(user.getUsername());
+        userDto.setEmail(user.getEmail());
+        userDto.setBirthDate(user.getBirthDate());
+        userDto.setLastLogin(user.getLastLoginAt());
+        userDto.setCreated(user.getCreated());
+        userDto.setRoles(RoleMapper.toDtos(user.getRoles()));
+        userDto.setResourceId(user.getImage() != null ? user.getImage().toString() : null);
+        return userDto;
+    }
+
+    /**
+     * Convierte una colección de usuarios en una lista de DTOs, conservando el orden de iteración.
+     *
+     * @param users los usuarios a convertir
+     * @return la lista de DTOs, vacía si la entrada es null
+     */
+    public static List<UserDto> toDtos(Collection<User> users) {
+        if (users == null) {
+            return new ArrayList<>(0);
+        }
+
+        final List<UserDto> userDtos = new ArrayList<>(users.size());
+        for (User user : users) {
+            userDtos.add(toDto(user));
+        }
+        return userDtos;
+    }
+}
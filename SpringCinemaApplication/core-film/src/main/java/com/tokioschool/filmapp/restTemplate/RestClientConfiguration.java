@@ -1,5 +1,6 @@
 package com.tokioschool.filmapp.restTemplate;
 
+import com.tokioschool.httpclient.HttpClientFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,14 +24,16 @@ public class RestClientConfiguration {
      * Define un bean de \{@link RestClient\} con configuración predeterminada.
      *
      * Este bean está marcado como primario y tiene el calificador "restClientEmpty".
-     * Se utiliza para realizar solicitudes HTTP con un cliente REST básico.
+     * Se utiliza para realizar solicitudes HTTP con un cliente REST básico, sobre el pool
+     * de conexiones del servicio destino por defecto.
      *
+     * @param httpClientFactory Factoría de los clientes HTTP entre servicios.
      * @return Una instancia de \{@link RestClient\}.
      */
     @Bean
     @Primary
     @Qualifier("restClientEmpty")
-    public RestClient restClient(){
-        return RestClient.builder().build();
+    public RestClient restClient(HttpClientFactory httpClientFactory){
+        return httpClientFactory.restClientBuilder(HttpClientFactory.DEFAULT_DOWNSTREAM).build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.tokioschool.helpers;
+
+import com.tokioschool.core.exception.ValidacionException;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
+import com.tokioschool.filmapp.records.KeysetCursor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Métodos auxiliares para la paginación por cursor (keyset).
+ *
+ * Proporciona métodos estáticos para decodificar el cursor recibido del cliente y para construir
+ * un {@link CursorPageDTO} a partir de las filas leídas. Las consultas leen una fila más que el tamaño
+ * de página para saber si existe una página siguiente sin necesidad de una consulta de recuento.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class CursorPageHelper {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private CursorPageHelper() {}
+
+    /**
+     * Decodifica el cursor recibido del cliente y obtiene de él la posición a partir de la que leer.
+     *
+     * @param cursor El cursor codificado, o nulo para la primera página.
+     * @param position Función que convierte el cursor en la posición, por ejemplo el identificador.
+     * @return Un {@link Optional} con la posición, o vacío si no hay cursor.
+     * @param <R> El tipo de la posición.
+     * @throws ValidacionException Si el cursor no tiene un formato válido.
+     */
+    public static <R> Optional<R> decodeCursor(String cursor, Function<KeysetCursor, R> position) throws ValidacionException {
+        try {
+            return Optional.ofNullable(StringUtils.stripToNull(cursor))
+                    .map(KeysetCursor::decode)
+                    .map(position);
+        } catch (IllegalArgumentException e) {
+            throw new ValidacionException("Cursor not valid", Map.of("cursor", "The cursor is not valid"));
+        }
+    }
+
+    /**
+     * Obtiene el número de filas a leer para una página: una más que el tamaño de página,
+     * o todas si el tamaño de página es 0.
+     *
+     * @param pageSize Tamaño de página.
+     * @return Un {@link Optional} con el número de filas a leer, o vacío si se deben leer todas.
+     */
+    public static Optional<Integer> limitOf(int pageSize) {
+        return pageSize <= 0 ? Optional.empty() : Optional.of(pageSize + 1);
+    }
+
+    /**
+     * Construye la página a partir de las filas leídas con {@link #limitOf(int)}.
+     *
+     * @param rows Filas leídas, ordenadas por la clave del cursor.
+     * @param pageSize Tamaño de página; si es 0, la página contiene todas las filas.
+     * @param mapper Función que convierte cada fila en su DTO.
+     * @param cursorOf Función que obtiene el cursor de una fila.
+     * @return La página, con el cursor de la última fila si existe una página siguiente.
+     * @param <E> El tipo de las filas.
+     * @param <T> El tipo de los elementos de la página.
+     */
+    public static <E, T> CursorPageDTO<T> buildCursorPage(List<E> rows, int pageSize,
+                                                          Function<E, T> mapper, Function<E, KeysetCursor> cursorOf) {
+        final boolean hasNext = pageSize > 0 && rows.size() > pageSize;
+        final List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPageDTO.<T>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .pageSize(pageSize)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.getLast()).encode() : null)
+                .build();
+    }
+}
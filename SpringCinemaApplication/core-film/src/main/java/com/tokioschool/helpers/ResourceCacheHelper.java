@@ -0,0 +1,63 @@
+package com.tokioschool.helpers;
+
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Métodos auxiliares para cachear en el navegador los recursos de la API de Store.
+ *
+ * Los recursos no cambian una vez creados (una actualización crea un recurso nuevo), por lo que
+ * se pueden cachear como inmutables y validar con un ETag fuerte basado en el resumen de su contenido.
+ * El ETag se construye igual que en la API de Store, de modo que el mismo validador sirve en toda la cadena.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class ResourceCacheHelper {
+
+    /**
+     * Política de caché de los recursos: privada, porque requieren autenticación, y de un año, porque no cambian.
+     */
+    public static final CacheControl RESOURCE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePrivate()
+            .immutable();
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private ResourceCacheHelper() {}
+
+    /**
+     * Construye el ETag fuerte de un recurso.
+     *
+     * @param resourceId identificador del recurso, que se usa si no se conoce el resumen del contenido
+     * @param contentHash resumen SHA-256 del contenido, puede ser nulo en recursos antiguos
+     * @return el ETag entre comillas
+     */
+    public static String buildEntityTag(UUID resourceId, String contentHash) {
+        return "\"%s\"".formatted(Optional.ofNullable(contentHash).orElseGet(resourceId::toString));
+    }
+
+    /**
+     * Comprueba si el ETag de un recurso coincide con alguno de los de la cabecera `If-None-Match`.
+     *
+     * Se usa la comparación débil, como indica la RFC 9110 para `If-None-Match`.
+     *
+     * @param ifNoneMatch valor de la cabecera `If-None-Match`, puede ser nulo
+     * @param entityTag ETag actual del recurso, entre comillas
+     * @return {@code true} si el cliente ya tiene el recurso, {@code false} en caso contrario
+     */
+    public static boolean matchesEntityTag(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null || entityTag == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(value -> value.startsWith("W/") ? value.substring(2) : value)
+                .anyMatch(value -> value.equals("*") || value.equals(entityTag));
+    }
+}
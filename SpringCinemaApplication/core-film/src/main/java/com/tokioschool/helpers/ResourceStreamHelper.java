@@ -0,0 +1,83 @@
+package com.tokioschool.helpers;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Métodos auxiliares para reenviar en streaming el contenido de los recursos de la API de Store.
+ *
+ * El contenido se copia de la respuesta de la API de Store a la del cliente con un buffer de tamaño fijo,
+ * sin cargarlo en memoria, de modo que la memoria usada no depende del tamaño del recurso. Se reenvían las
+ * cabeceras de contenido, validación y rangos en ambos sentidos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class ResourceStreamHelper {
+
+    /**
+     * Cabeceras de la petición del cliente que se reenvían a la API de Store.
+     */
+    public static final List<String> PROXIED_REQUEST_HEADERS = List.of(HttpHeaders.RANGE, HttpHeaders.IF_RANGE,
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
+    /**
+     * Cabeceras de la respuesta de la API de Store que se reenvían al cliente.
+     */
+    public static final List<String> PROXIED_RESPONSE_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CONTENT_RANGE, HttpHeaders.ACCEPT_RANGES, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.CACHE_CONTROL, HttpHeaders.CONTENT_DISPOSITION);
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private ResourceStreamHelper() {}
+
+    /**
+     * Copia las cabeceras indicadas de unas cabeceras a otras.
+     *
+     * @param source cabeceras de origen
+     * @param target cabeceras de destino
+     * @param headerNames nombres de las cabeceras a copiar
+     */
+    public static void copyHeaders(HttpHeaders source, HttpHeaders target, List<String> headerNames) {
+        headerNames.forEach(headerName -> Optional.ofNullable(source.get(headerName))
+                .ifPresent(values -> target.put(headerName, values)));
+    }
+
+    /**
+     * Construye la respuesta al cliente a partir de la respuesta de la API de Store.
+     *
+     * El cuerpo es un {@link InputStreamResource}, que Spring copia a la respuesta con un buffer de tamaño fijo
+     * y cierra al terminar, y sobre el que no vuelve a aplicar la cabecera `Range`, ya atendida por la API de Store.
+     *
+     * @param statusCode estado de la respuesta de la API de Store
+     * @param headers cabeceras de la respuesta de la API de Store
+     * @param content contenido de la respuesta de la API de Store, abierto
+     * @return la respuesta al cliente, sin cuerpo si el estado no lo admite (por ejemplo 304) o es un error
+     */
+    public static ResponseEntity<Resource> toResponseEntity(HttpStatusCode statusCode, HttpHeaders headers, InputStream content) {
+        final HttpHeaders responseHeaders = new HttpHeaders();
+        copyHeaders(headers, responseHeaders, PROXIED_RESPONSE_HEADERS);
+
+        if (statusCode.value() == 304 || statusCode.value() == 204 || statusCode.isError()) {
+            try {
+                content.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return ResponseEntity.status(statusCode).headers(responseHeaders).build();
+        }
+
+        return ResponseEntity.status(statusCode).headers(responseHeaders).body(new InputStreamResource(content));
+    }
+}
@@ -0,0 +1,127 @@
+package com.tokioschool.httpclient;
+
+import com.tokioschool.httpclient.properties.HttpClientProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cliente HTTP de un servicio destino, con su propio pool de conexiones.
+ *
+ * Envuelve un {@link HttpClient} del JDK, que reutiliza las conexiones (keep-alive) y multiplexa las
+ * peticiones sobre HTTP/2 cuando el servidor lo soporta. Como interceptor limita el número de peticiones
+ * simultáneas hacia el servicio destino: una petición que no obtiene hueco en el tiempo configurado falla
+ * con una {@link IOException}, en lugar de acumular hilos y conexiones.
+ *
+ * El hueco se libera al recibir las cabeceras de la respuesta.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+class DownstreamHttpClient implements ClientHttpRequestInterceptor, AutoCloseable {
+
+    static final String METRIC_PREFIX = "http.client.pool";
+    static final String TAG_DOWNSTREAM = "downstream";
+
+    @Getter
+    private final String name;
+    private final HttpClientProperty.Downstream downstream;
+    private final ExecutorService executorService;
+    private final HttpClient httpClient;
+    @Getter
+    private final JdkClientHttpRequestFactory requestFactory;
+
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer acquireTimer;
+    private final Counter rejectedCounter;
+
+    DownstreamHttpClient(String name, HttpClientProperty.Downstream downstream, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.downstream = downstream;
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-client-%s-".formatted(name), 0).factory());
+        this.httpClient = HttpClient.newBuilder()
+                .version(Boolean.TRUE.equals(downstream.http2()) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(downstream.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executorService)
+                .build();
+        this.requestFactory = new JdkClientHttpRequestFactory(httpClient, executorService);
+        this.requestFactory.setReadTimeout(downstream.readTimeout());
+        this.permits = new Semaphore(downstream.maxConnections(), true);
+
+        Gauge.builder(METRIC_PREFIX + ".active", permits, value -> downstream.maxConnections() - value.availablePermits())
+                .description("Peticiones en curso hacia el servicio destino")
+                .tag(TAG_DOWNSTREAM, name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending", pending, AtomicInteger::get)
+                .description("Peticiones esperando un hueco libre")
+                .tag(TAG_DOWNSTREAM, name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".max", downstream, value -> value.maxConnections())
+                .description("Peticiones simultáneas permitidas hacia el servicio destino")
+                .tag(TAG_DOWNSTREAM, name)
+                .register(meterRegistry);
+        this.acquireTimer = Timer.builder(METRIC_PREFIX + ".acquire")
+                .description("Tiempo de espera de un hueco libre")
+                .tag(TAG_DOWNSTREAM, name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Peticiones rechazadas por no obtener un hueco libre a tiempo")
+                .tag(TAG_DOWNSTREAM, name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        acquire(request);
+        try {
+            return execution.execute(request, body);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire(HttpRequest request) throws IOException {
+        final long start = System.nanoTime();
+        pending.incrementAndGet();
+        final boolean acquired;
+        try {
+            acquired = permits.tryAcquire(downstream.acquireTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to '%s'".formatted(name));
+        } finally {
+            pending.decrementAndGet();
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new IOException("No connection available to '%s' after %s for %s %s"
+                    .formatted(name, downstream.acquireTimeout(), request.getMethod(), request.getURI()));
+        }
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        executorService.close();
+    }
+}
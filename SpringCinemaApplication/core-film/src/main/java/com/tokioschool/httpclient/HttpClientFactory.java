@@ -0,0 +1,92 @@
+package com.tokioschool.httpclient;
+
+import com.tokioschool.httpclient.properties.HttpClientProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Factoría compartida de los clientes HTTP entre servicios.
+ *
+ * Crea, la primera vez que se solicita, un cliente con su propio pool de conexiones por cada servicio
+ * destino (por ejemplo {@code store} o {@code rating}), configurado con sus tiempos máximos de conexión
+ * y de lectura, HTTP/2 cuando está disponible y un límite de peticiones simultáneas. Así la saturación
+ * de un servicio destino no consume las conexiones de los demás.
+ *
+ * Las métricas de cada pool se publican con el prefijo {@code http.client.pool} y la etiqueta
+ * {@code downstream}.
+ *
+ * El keep-alive de las conexiones es global a la JVM y no se configura aquí, sino al arrancar la
+ * aplicación en {@link HttpClientKeepAliveEnvironmentPostProcessor}.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra la factoría como un bean de Spring.
+ * - {@link Slf4j}: Habilita el registro de logs utilizando SLF4J.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class HttpClientFactory implements DisposableBean {
+
+    /** Servicio destino de los clientes sin un destino concreto. */
+    public static final String DEFAULT_DOWNSTREAM = "default";
+    public static final String STORE_DOWNSTREAM = "store";
+    public static final String RATING_DOWNSTREAM = "rating";
+
+    private final HttpClientProperty httpClientProperty;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, DownstreamHttpClient> downstreamHttpClients = new ConcurrentHashMap<>();
+
+    public HttpClientFactory(HttpClientProperty httpClientProperty, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.httpClientProperty = httpClientProperty;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * Crea un constructor de {@link RestClient} que utiliza el pool de conexiones del servicio destino.
+     *
+     * @param downstream El nombre del servicio destino.
+     * @return Un constructor de {@link RestClient} con la factoría de peticiones y el límite de peticiones
+     * simultáneas del servicio destino.
+     */
+    public RestClient.Builder restClientBuilder(String downstream) {
+        final DownstreamHttpClient downstreamHttpClient = getDownstreamHttpClient(downstream);
+        return RestClient.builder()
+                .requestFactory(downstreamHttpClient.getRequestFactory())
+                .requestInterceptor(downstreamHttpClient);
+    }
+
+    /**
+     * Obtiene la factoría de peticiones del servicio destino, sin límite de peticiones simultáneas.
+     *
+     * @param downstream El nombre del servicio destino.
+     * @return La factoría de peticiones del servicio destino.
+     */
+    public ClientHttpRequestFactory requestFactory(String downstream) {
+        return getDownstreamHttpClient(downstream).getRequestFactory();
+    }
+
+    private DownstreamHttpClient getDownstreamHttpClient(String downstream) {
+        return downstreamHttpClients.computeIfAbsent(downstream, name -> {
+            final HttpClientProperty.Downstream properties = httpClientProperty.resolve(name);
+            log.info("Creating http client for downstream '{}': {}", name, properties);
+            return new DownstreamHttpClient(name, properties, meterRegistry);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        downstreamHttpClients.values().forEach(DownstreamHttpClient::close);
+        downstreamHttpClients.clear();
+    }
+}
@@ -0,0 +1,38 @@
+package com.tokioschool.httpclient;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.time.Duration;
+
+/**
+ * Fija el keep-alive de las conexiones de los clientes HTTP del JDK al arrancar la aplicación.
+ *
+ * El cliente del JDK lee la propiedad de sistema {@code jdk.httpclient.keepalive.timeout} una única vez,
+ * al crear el primer cliente, y la aplica a todos los clientes de la JVM. Por eso se fija aquí, antes de
+ * crear ningún bean, a partir de {@code application.http-client.keep-alive} de la configuración de la
+ * aplicación (30 segundos si no se indica). Si la propiedad de sistema ya está fijada (por ejemplo con
+ * {@code -Djdk.httpclient.keepalive.timeout}), se respeta.
+ *
+ * Se registra en {@code META-INF/spring.factories}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class HttpClientKeepAliveEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    public static final String KEEP_ALIVE_PROPERTY = "application.http-client.keep-alive";
+    static final String JDK_KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(30);
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (System.getProperty(JDK_KEEP_ALIVE_PROPERTY) != null) {
+            return;
+        }
+        final Duration keepAlive = Binder.get(environment).bind(KEEP_ALIVE_PROPERTY, Duration.class).orElse(DEFAULT_KEEP_ALIVE);
+        System.setProperty(JDK_KEEP_ALIVE_PROPERTY, Long.toString(keepAlive.toSeconds()));
+    }
+}
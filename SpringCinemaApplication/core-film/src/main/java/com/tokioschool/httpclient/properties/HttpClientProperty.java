@@ -0,0 +1,75 @@
+package com.tokioschool.httpclient.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Propiedades de configuración de los clientes HTTP entre servicios.
+ *
+ * Cada servicio destino (downstream) tiene su propio pool de conexiones; sus propiedades se toman de
+ * {@code downstreams.<nombre>} y, las que no se indiquen, de {@code defaults}.
+ *
+ * El tiempo que una conexión sin uso permanece abierta ({@code keep-alive}) no está aquí: es global a la JVM
+ * y lo fija {@link com.tokioschool.httpclient.HttpClientKeepAliveEnvironmentPostProcessor} al arrancar.
+ *
+ * @param defaults Propiedades por defecto de todos los servicios destino.
+ * @param downstreams Propiedades particulares de cada servicio destino, por nombre.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.http-client")
+public record HttpClientProperty(Downstream defaults, Map<String, Downstream> downstreams) {
+
+    private static final Downstream BUILT_IN_DEFAULTS =
+            new Downstream(Duration.ofSeconds(2), Duration.ofSeconds(10), true, 50, Duration.ofSeconds(1));
+
+    public HttpClientProperty {
+        defaults = Optional.ofNullable(defaults).map(value -> value.merge(BUILT_IN_DEFAULTS)).orElse(BUILT_IN_DEFAULTS);
+        downstreams = Map.copyOf(Objects.requireNonNullElse(downstreams, Map.of()));
+    }
+
+    /**
+     * Obtiene las propiedades efectivas de un servicio destino.
+     *
+     * @param name El nombre del servicio destino.
+     * @return Las propiedades del servicio destino, completadas con las propiedades por defecto.
+     */
+    public Downstream resolve(String name) {
+        return Optional.ofNullable(downstreams.get(name))
+                .map(downstream -> downstream.merge(defaults))
+                .orElse(defaults);
+    }
+
+    /**
+     * Propiedades del cliente HTTP de un servicio destino.
+     *
+     * @param connectTimeout Tiempo máximo para establecer la conexión.
+     * @param readTimeout Tiempo máximo de espera de la respuesta.
+     * @param http2 Si se negocia HTTP/2, volviendo a HTTP/1.1 cuando el servidor no lo soporta.
+     * @param maxConnections Número máximo de peticiones simultáneas hacia el servicio destino.
+     * @param acquireTimeout Tiempo máximo de espera de una petición cuando se alcanza {@code maxConnections}.
+     */
+    public record Downstream(Duration connectTimeout, Duration readTimeout, Boolean http2, Integer maxConnections,
+                             Duration acquireTimeout) {
+
+        /**
+         * Completa las propiedades no indicadas con las de otro servicio destino.
+         *
+         * @param fallback Las propiedades con las que completar.
+         * @return Las propiedades completadas.
+         */
+        Downstream merge(Downstream fallback) {
+            return new Downstream(
+                    Objects.requireNonNullElse(connectTimeout, fallback.connectTimeout()),
+                    Objects.requireNonNullElse(readTimeout, fallback.readTimeout()),
+                    Objects.requireNonNullElse(http2, fallback.http2()),
+                    Objects.requireNonNullElse(maxConnections, fallback.maxConnections()),
+                    Objects.requireNonNullElse(acquireTimeout, fallback.acquireTimeout()));
+        }
+    }
+}
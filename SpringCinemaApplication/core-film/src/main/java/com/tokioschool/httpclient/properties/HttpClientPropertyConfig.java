@@ -0,0 +1,27 @@
+package com.tokioschool.httpclient.properties;
+
+import com.tokioschool.configs.YamlPropertySourceFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Configuración de propiedades de los clientes HTTP entre servicios.
+ *
+ * Carga los valores por defecto del archivo YAML {@code http-client.yml}, que cada aplicación
+ * puede sobrescribir en su propia configuración, y habilita las clases \{@link HttpClientProperty\}
+ * y \{@link ResilienceProperty\}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@PropertySource(
+        value = "classpath:http-client.yml", // Ruta del archivo de propiedades YAML
+        encoding = "UTF-8", // Codificación del archivo
+        factory = YamlPropertySourceFactory.class // Fábrica personalizada para cargar propiedades YAML
+)
+@EnableConfigurationProperties({HttpClientProperty.class, ResilienceProperty.class})
+public class HttpClientPropertyConfig {
+
+}
@@ -0,0 +1,85 @@
+package com.tokioschool.httpclient.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Propiedades de configuración de la resiliencia de las llamadas a otros servicios.
+ *
+ * Cada servicio destino (downstream) tiene su propio aislamiento (bulkhead), cortocircuito (circuit breaker)
+ * y tiempo máximo de llamada; sus propiedades se toman de {@code downstreams.<nombre>} y, las que no se indiquen,
+ * de {@code defaults}.
+ *
+ * @param defaults Propiedades por defecto de todos los servicios destino.
+ * @param downstreams Propiedades particulares de cada servicio destino, por nombre.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.http-client.resilience")
+public record ResilienceProperty(Policy defaults, Map<String, Policy> downstreams) {
+
+    private static final Policy BUILT_IN_DEFAULTS = new Policy(Duration.ofSeconds(10), 25, Duration.ZERO, 50,
+            Duration.ofSeconds(2), 100, 20, 10, Duration.ofSeconds(30), 3);
+
+    public ResilienceProperty {
+        defaults = Optional.ofNullable(defaults).map(value -> value.merge(BUILT_IN_DEFAULTS)).orElse(BUILT_IN_DEFAULTS);
+        downstreams = Map.copyOf(Objects.requireNonNullElse(downstreams, Map.of()));
+    }
+
+    /**
+     * Obtiene las propiedades efectivas de un servicio destino.
+     *
+     * @param name El nombre del servicio destino.
+     * @return Las propiedades del servicio destino, completadas con las propiedades por defecto.
+     */
+    public Policy resolve(String name) {
+        return Optional.ofNullable(downstreams.get(name))
+                .map(policy -> policy.merge(defaults))
+                .orElse(defaults);
+    }
+
+    /**
+     * Política de resiliencia de un servicio destino.
+     *
+     * @param timeout Tiempo máximo de una llamada; al superarlo se abandona y cuenta como fallo.
+     * @param maxConcurrentCalls Número máximo de llamadas simultáneas (bulkhead).
+     * @param maxWait Tiempo máximo de espera de una llamada cuando se alcanza {@code maxConcurrentCalls}.
+     * @param failureRateThreshold Porcentaje de llamadas fallidas a partir del cual se abre el circuito.
+     * @param slowCallDuration Duración a partir de la cual una llamada se considera lenta.
+     * @param slowCallRateThreshold Porcentaje de llamadas lentas a partir del cual se abre el circuito.
+     * @param slidingWindowSize Número de últimas llamadas con las que se calculan los porcentajes.
+     * @param minimumNumberOfCalls Número mínimo de llamadas antes de calcular los porcentajes.
+     * @param waitDurationInOpenState Tiempo que el circuito permanece abierto antes de probar de nuevo.
+     * @param permittedCallsInHalfOpenState Número de llamadas de prueba con el circuito semiabierto.
+     */
+    public record Policy(Duration timeout, Integer maxConcurrentCalls, Duration maxWait, Integer failureRateThreshold,
+                         Duration slowCallDuration, Integer slowCallRateThreshold, Integer slidingWindowSize,
+                         Integer minimumNumberOfCalls, Duration waitDurationInOpenState,
+                         Integer permittedCallsInHalfOpenState) {
+
+        /**
+         * Completa las propiedades no indicadas con las de otra política.
+         *
+         * @param fallback La política con la que completar.
+         * @return La política completada.
+         */
+        Policy merge(Policy fallback) {
+            return new Policy(
+                    Objects.requireNonNullElse(timeout, fallback.timeout()),
+                    Objects.requireNonNullElse(maxConcurrentCalls, fallback.maxConcurrentCalls()),
+                    Objects.requireNonNullElse(maxWait, fallback.maxWait()),
+                    Objects.requireNonNullElse(failureRateThreshold, fallback.failureRateThreshold()),
+                    Objects.requireNonNullElse(slowCallDuration, fallback.slowCallDuration()),
+                    Objects.requireNonNullElse(slowCallRateThreshold, fallback.slowCallRateThreshold()),
+                    Objects.requireNonNullElse(slidingWindowSize, fallback.slidingWindowSize()),
+                    Objects.requireNonNullElse(minimumNumberOfCalls, fallback.minimumNumberOfCalls()),
+                    Objects.requireNonNullElse(waitDurationInOpenState, fallback.waitDurationInOpenState()),
+                    Objects.requireNonNullElse(permittedCallsInHalfOpenState, fallback.permittedCallsInHalfOpenState()));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.tokioschool.httpclient.resilience;
+
+import com.tokioschool.httpclient.properties.ResilienceProperty;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Cortocircuito (circuit breaker) de un servicio destino.
+ *
+ * Guarda el resultado de las últimas llamadas en una ventana de tamaño fijo y, cuando el porcentaje de llamadas
+ * fallidas o lentas supera el umbral configurado, abre el circuito: las llamadas se rechazan sin llegar al
+ * servicio destino. Pasado el tiempo de espera, el circuito queda semiabierto y deja pasar un número limitado
+ * de llamadas de prueba; cuando han terminado todas, se aplican a sus resultados los mismos umbrales de llamadas
+ * fallidas y lentas: si alguno se supera se vuelve a abrir y, si no, se cierra. Así, una sola llamada de prueba
+ * lenta pero correcta no vuelve a abrir el circuito.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * Estados del cortocircuito.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Getter
+    private final String name;
+    private final ResilienceProperty.Policy policy;
+    private final Clock clock;
+
+    // ventana circular con el resultado de las últimas llamadas
+    private final boolean[] failures;
+    private final boolean[] slows;
+    private int position;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int halfOpenPermits;
+    private int halfOpenCalls;
+    private int halfOpenFailures;
+    private int halfOpenSlows;
+
+    public CircuitBreaker(String name, ResilienceProperty.Policy policy, Clock clock) {
+        this.name = name;
+        this.policy = policy;
+        this.clock = clock;
+        this.failures = new boolean[policy.slidingWindowSize()];
+        this.slows = new boolean[policy.slidingWindowSize()];
+    }
+
+    /**
+     * Solicita permiso para realizar una llamada.
+     *
+     * @return {@code true} si la llamada puede realizarse, {@code false} si el circuito la rechaza.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(policy.waitDurationInOpenState()))) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (halfOpenPermits < policy.permittedCallsInHalfOpenState()) {
+                    halfOpenPermits++;
+                    yield true;
+                }
+                yield false;
+            }
+        };
+    }
+
+    /**
+     * Devuelve un permiso concedido cuya llamada no llegó a realizarse.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    /**
+     * Registra una llamada terminada correctamente.
+     *
+     * @param duration La duración de la llamada.
+     */
+    public synchronized void onSuccess(Duration duration) {
+        record(false, isSlow(duration));
+    }
+
+    /**
+     * Registra una llamada fallida.
+     *
+     * @param duration La duración de la llamada.
+     */
+    public synchronized void onError(Duration duration) {
+        record(true, isSlow(duration));
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private boolean isSlow(Duration duration) {
+        return duration.compareTo(policy.slowCallDuration()) >= 0;
+    }
+
+    private void record(boolean failure, boolean slow) {
+        switch (state) {
+            case HALF_OPEN -> {
+                halfOpenCalls++;
+                halfOpenFailures += failure ? 1 : 0;
+                halfOpenSlows += slow ? 1 : 0;
+                if (halfOpenCalls >= policy.permittedCallsInHalfOpenState()) {
+                    transitionTo(exceedsThresholds(halfOpenFailures, halfOpenSlows, halfOpenCalls) ? State.OPEN : State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                addToWindow(failure, slow);
+                if (recorded >= policy.minimumNumberOfCalls() && exceedsThresholds(failureCount, slowCount, recorded)) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            // llamadas concedidas antes de abrir el circuito
+            case OPEN -> { }
+        }
+    }
+
+    /**
+     * Comprueba si el porcentaje de llamadas fallidas o lentas alcanza su umbral.
+     */
+    private boolean exceedsThresholds(int failed, int slow, int calls) {
+        return failed * 100 >= policy.failureRateThreshold() * calls
+                || slow * 100 >= policy.slowCallRateThreshold() * calls;
+    }
+
+    private void addToWindow(boolean failure, boolean slow) {
+        if (recorded == failures.length) {
+            failureCount -= failures[position] ? 1 : 0;
+            slowCount -= slows[position] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failures[position] = failure;
+        slows[position] = slow;
+        failureCount += failure ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        position = (position + 1) % failures.length;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        halfOpenPermits = 0;
+        halfOpenCalls = 0;
+        halfOpenFailures = 0;
+        halfOpenSlows = 0;
+        if (newState == State.OPEN) {
+            openedAt = clock.instant();
+        } else if (newState == State.CLOSED) {
+            position = 0;
+            recorded = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.tokioschool.httpclient.resilience;
+
+import lombok.Getter;
+
+/**
+ * Excepción lanzada cuando una llamada a un servicio destino no se realiza o se abandona para
+ * proteger a la aplicación: el circuito está abierto, no quedan huecos libres o se superó el tiempo máximo.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Getter
+public class DownstreamUnavailableException extends RuntimeException {
+
+    /**
+     * Motivos por los que el servicio destino no está disponible.
+     */
+    public enum Reason {
+        CIRCUIT_OPEN, BULKHEAD_FULL, TIMEOUT
+    }
+
+    private final String downstream;
+    private final Reason reason;
+
+    public DownstreamUnavailableException(String downstream, Reason reason) {
+        super("Downstream '%s' unavailable: %s".formatted(downstream, reason));
+        this.downstream = downstream;
+        this.reason = reason;
+    }
+}
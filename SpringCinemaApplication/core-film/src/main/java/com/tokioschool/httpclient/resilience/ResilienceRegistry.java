@@ -0,0 +1,73 @@
+package com.tokioschool.httpclient.resilience;
+
+import com.tokioschool.httpclient.properties.ResilienceProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Registro de los ejecutores resilientes de los servicios destino.
+ *
+ * Crea, la primera vez que se solicita, un {@link ResilientExecutor} por servicio destino (por ejemplo
+ * {@code store} o {@code rating}) con la política configurada en {@link ResilienceProperty}. Las llamadas
+ * se ejecutan en hilos virtuales, de modo que esperar a un servicio lento no bloquea hilos de plataforma.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra el registro como un bean de Spring.
+ * - {@link Slf4j}: Habilita el registro de logs utilizando SLF4J.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class ResilienceRegistry implements DisposableBean {
+
+    private final ResilienceProperty resilienceProperty;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("resilience-", 0).factory());
+    private final ConcurrentMap<String, ResilientExecutor> executors = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ResilienceRegistry(ResilienceProperty resilienceProperty, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(resilienceProperty, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new), Clock.systemUTC());
+    }
+
+    public ResilienceRegistry(ResilienceProperty resilienceProperty, MeterRegistry meterRegistry, Clock clock) {
+        this.resilienceProperty = resilienceProperty;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Obtiene el ejecutor resiliente de un servicio destino.
+     *
+     * @param downstream El nombre del servicio destino.
+     * @return El ejecutor del servicio destino.
+     */
+    public ResilientExecutor getExecutor(String downstream) {
+        return executors.computeIfAbsent(downstream, name -> {
+            final ResilienceProperty.Policy policy = resilienceProperty.resolve(name);
+            log.info("Creating resilient executor for downstream '{}': {}", name, policy);
+            return new ResilientExecutor(name, policy, executorService, meterRegistry, clock);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+        executors.clear();
+    }
+}
@@ -0,0 +1,272 @@
+package com.tokioschool.httpclient.resilience;
+
+import com.tokioschool.httpclient.properties.ResilienceProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Ejecutor resiliente de las llamadas a un servicio destino.
+ *
+ * Cada llamada pasa, en este orden, por:
+ * - el cortocircuito ({@link CircuitBreaker}), que la rechaza si el servicio destino está fallando;
+ * - el aislamiento (bulkhead), que limita las llamadas simultáneas para que un servicio lento no
+ *   agote los hilos de la aplicación;
+ * - el tiempo máximo de la llamada, pasado el cual se abandona y se interrumpe.
+ *
+ * Cuando la llamada no se realiza, se abandona o falla, se devuelve el resultado alternativo (fallback)
+ * indicado. Los errores del cliente (4xx) no cuentan como fallos del servicio destino. Si una llamada
+ * abandonada termina de todos modos con un resultado que ocupa recursos (por ejemplo una respuesta abierta),
+ * nadie lo recibe, por lo que se libera con la acción indicada.
+ *
+ * Las llamadas se ejecutan en otro hilo con el contexto de seguridad y el contexto de log (MDC) del hilo
+ * que las solicita, de modo que los logs del cliente HTTP conservan el identificador de la petición.
+ *
+ * Las métricas se publican con el prefijo {@code resilience} y la etiqueta {@code downstream}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Slf4j
+public class ResilientExecutor {
+
+    static final String TAG_DOWNSTREAM = "downstream";
+
+    /**
+     * Resultados de las llamadas que se contabilizan en las métricas.
+     */
+    enum CallKind {
+        SUCCESSFUL, FAILED, TIMEOUT, NOT_PERMITTED, BULKHEAD_FULL
+    }
+
+    @Getter
+    private final String name;
+    private final ResilienceProperty.Policy policy;
+    private final ExecutorService executorService;
+    private final Clock clock;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final Map<CallKind, Counter> callCounters = new EnumMap<>(CallKind.class);
+
+    ResilientExecutor(String name, ResilienceProperty.Policy policy, ExecutorService executorService,
+                      MeterRegistry meterRegistry, Clock clock) {
+        this.name = name;
+        this.policy = policy;
+        this.executorService = executorService;
+        this.clock = clock;
+        this.circuitBreaker = new CircuitBreaker(name, policy, clock);
+        this.bulkhead = new Semaphore(policy.maxConcurrentCalls(), true);
+
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("resilience.circuitbreaker.state", circuitBreaker, value -> value.getState() == state ? 1 : 0)
+                    .description("Estado del cortocircuito del servicio destino (1 si es el estado actual)")
+                    .tag(TAG_DOWNSTREAM, name)
+                    .tag("state", state.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        for (CallKind kind : CallKind.values()) {
+            callCounters.put(kind, Counter.builder("resilience.calls")
+                    .description("Llamadas al servicio destino por resultado")
+                    .tag(TAG_DOWNSTREAM, name)
+                    .tag("kind", kind.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("resilience.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Huecos libres para llamadas simultáneas al servicio destino")
+                .tag(TAG_DOWNSTREAM, name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta una llamada al servicio destino.
+     *
+     * @param call La llamada a realizar, ejecutada con el contexto de seguridad y el MDC del hilo que la solicita.
+     * @param fallback Función que obtiene el resultado alternativo a partir de la excepción producida;
+     *                 puede relanzarla si no hay alternativa posible.
+     * @return El resultado de la llamada o el resultado alternativo.
+     * @param <T> El tipo del resultado.
+     */
+    public <T> T execute(Callable<T> call, Function<RuntimeException, T> fallback) {
+        return execute(call, result -> {}, fallback);
+    }
+
+    /**
+     * Ejecuta una llamada al servicio destino cuyo resultado debe liberarse si nadie lo recibe.
+     *
+     * Si la llamada se abandona (por tiempo o por interrupción) pero termina con un resultado, ese resultado
+     * se libera con {@code release}, ya que no llega a quien la solicitó.
+     *
+     * @param call La llamada a realizar, ejecutada con el contexto de seguridad y el MDC del hilo que la solicita.
+     * @param release Acción que libera el resultado de una llamada abandonada.
+     * @param fallback Función que obtiene el resultado alternativo a partir de la excepción producida;
+     *                 puede relanzarla si no hay alternativa posible.
+     * @return El resultado de la llamada o el resultado alternativo.
+     * @param <T> El tipo del resultado.
+     */
+    public <T> T execute(Callable<T> call, Consumer<? super T> release, Function<RuntimeException, T> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            callCounters.get(CallKind.NOT_PERMITTED).increment();
+            return fallback.apply(new DownstreamUnavailableException(name, DownstreamUnavailableException.Reason.CIRCUIT_OPEN));
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.releasePermission();
+            callCounters.get(CallKind.BULKHEAD_FULL).increment();
+            return fallback.apply(new DownstreamUnavailableException(name, DownstreamUnavailableException.Reason.BULKHEAD_FULL));
+        }
+
+        // la llamada y quien la espera compiten por quedarse el resultado: quien llega segundo lo libera
+        final AtomicBoolean claimed = new AtomicBoolean();
+        final RuntimeException exception;
+        try {
+            final long start = clock.millis();
+            final Future<T> future = executorService.submit(new DelegatingSecurityContextCallable<>(
+                    withContextMap(releasingIfAbandoned(call, claimed, release), MDC.getCopyOfContextMap())));
+            try {
+                final T result = future.get(policy.timeout().toMillis(), TimeUnit.MILLISECONDS);
+                circuitBreaker.onSuccess(elapsed(start));
+                callCounters.get(CallKind.SUCCESSFUL).increment();
+                return result;
+            } catch (TimeoutException e) {
+                abandon(future, claimed, release);
+                circuitBreaker.onError(elapsed(start));
+                callCounters.get(CallKind.TIMEOUT).increment();
+                exception = new DownstreamUnavailableException(name, DownstreamUnavailableException.Reason.TIMEOUT);
+            } catch (ExecutionException e) {
+                exception = toRuntimeException(e.getCause());
+                if (exception instanceof HttpClientErrorException) {
+                    circuitBreaker.onSuccess(elapsed(start));
+                } else {
+                    circuitBreaker.onError(elapsed(start));
+                }
+                callCounters.get(CallKind.FAILED).increment();
+            } catch (InterruptedException e) {
+                abandon(future, claimed, release);
+                Thread.currentThread().interrupt();
+                circuitBreaker.releasePermission();
+                throw new IllegalStateException("Interrupted calling downstream '%s'".formatted(name), e);
+            }
+        } finally {
+            bulkhead.release();
+        }
+
+        log.debug("Call to downstream '{}' failed, using fallback: {}", name, exception.getMessage());
+        return fallback.apply(exception);
+    }
+
+    /**
+     * Ejecuta una llamada al servicio destino que no devuelve resultado.
+     *
+     * @param call La llamada a realizar.
+     * @param fallback Acción alternativa a partir de la excepción producida; puede relanzarla.
+     */
+    public void run(Runnable call, Consumer<RuntimeException> fallback) {
+        execute(() -> {
+            call.run();
+            return null;
+        }, exception -> {
+            fallback.accept(exception);
+            return null;
+        });
+    }
+
+    /**
+     * Envuelve una llamada para que libere su resultado si, al terminar, ya se ha abandonado.
+     */
+    private static <T> Callable<T> releasingIfAbandoned(Callable<T> call, AtomicBoolean claimed, Consumer<? super T> release) {
+        return () -> {
+            final T result = call.call();
+            if (!claimed.compareAndSet(false, true)) {
+                release.accept(result);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Abandona una llamada: si aún no ha terminado se cancela, y liberará su resultado si termina;
+     * si ya ha terminado, su resultado se libera en otro hilo, sin esperarlo aquí.
+     */
+    private <T> void abandon(Future<T> future, AtomicBoolean claimed, Consumer<? super T> release) {
+        if (claimed.compareAndSet(false, true)) {
+            future.cancel(true);
+            return;
+        }
+        executorService.execute(() -> {
+            try {
+                release.accept(future.get());
+            } catch (Exception e) {
+                log.debug("Result of an abandoned call to downstream '{}' not released: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return policy.maxWait().isZero()
+                    ? bulkhead.tryAcquire()
+                    : bulkhead.tryAcquire(policy.maxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Envuelve una llamada para que se ejecute con el MDC dado, restaurando al terminar el del hilo que la ejecuta.
+     *
+     * @param call La llamada a realizar.
+     * @param contextMap El MDC del hilo que solicita la llamada, o nulo si está vacío.
+     * @return La llamada envuelta.
+     * @param <T> El tipo del resultado.
+     */
+    private static <T> Callable<T> withContextMap(Callable<T> call, Map<String, String> contextMap) {
+        return () -> {
+            final Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContextMap(contextMap);
+            try {
+                return call.call();
+            } finally {
+                setContextMap(previous);
+            }
+        };
+    }
+
+    private static void setContextMap(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+
+    private Duration elapsed(long start) {
+        return Duration.ofMillis(clock.millis() - start);
+    }
+
+    private static RuntimeException toRuntimeException(Throwable throwable) {
+        return throwable instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException(throwable.getMessage(), throwable);
+    }
+}
@@ -0,0 +1,58 @@
+package com.tokioschool.httpclient.token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Interceptor que añade el token de acceso de un servicio a cada petición, en la cabecera `Authorization`.
+ *
+ * Si el servicio destino rechaza el token (401), por ejemplo porque ha cambiado su secreto o se ha reiniciado,
+ * se descarta el token, se obtiene uno nuevo y se repite la petición una sola vez. Sin el reintento, todas las
+ * peticiones fallarían hasta que el token caducase por sí mismo.
+ *
+ * Debe ser el último interceptor del cliente, de modo que el reintento solo repite el envío de la petición.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Slf4j
+public class BearerTokenInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Supplier<String> tokenSupplier;
+    private final Consumer<String> rejectedTokenHandler;
+
+    /**
+     * @param tokenSupplier Obtiene el token de acceso vigente.
+     * @param rejectedTokenHandler Descarta un token rechazado por el servicio destino.
+     */
+    public BearerTokenInterceptor(Supplier<String> tokenSupplier, Consumer<String> rejectedTokenHandler) {
+        this.tokenSupplier = tokenSupplier;
+        this.rejectedTokenHandler = rejectedTokenHandler;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        final String token = tokenSupplier.get();
+        request.getHeaders().set(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(token));
+
+        final ClientHttpResponse response = execution.execute(request, body);
+        if (!response.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)) {
+            return response;
+        }
+
+        response.close();
+        log.info("Token rejected by {} {}, retrying with a new token", request.getMethod(), request.getURI());
+        rejectedTokenHandler.accept(token);
+        request.getHeaders().set(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(tokenSupplier.get()));
+        return execution.execute(request, body);
+    }
+}
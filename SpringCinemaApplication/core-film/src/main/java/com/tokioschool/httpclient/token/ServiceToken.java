@@ -0,0 +1,45 @@
+package com.tokioschool.httpclient.token;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Token de acceso de un servicio, inmutable.
+ *
+ * @param value El valor del token.
+ * @param issuedAt El instante en el que se obtuvo.
+ * @param expiresAt El instante a partir del cual deja de ser válido.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record ServiceToken(String value, Instant issuedAt, Instant expiresAt) {
+
+    public ServiceToken {
+        Objects.requireNonNull(value, "The token value is required");
+        Objects.requireNonNull(issuedAt, "The issue instant is required");
+        Objects.requireNonNull(expiresAt, "The expiration instant is required");
+    }
+
+    /**
+     * Crea un token a partir del tiempo de validez en segundos que devuelven los endpoints de autenticación.
+     *
+     * @param value El valor del token.
+     * @param now El instante actual.
+     * @param expiresInSeconds El tiempo de validez del token en segundos.
+     * @return El token.
+     */
+    public static ServiceToken of(String value, Instant now, long expiresInSeconds) {
+        return new ServiceToken(value, now, now.plusSeconds(Math.max(expiresInSeconds, 0)));
+    }
+
+    /**
+     * Comprueba si el token ha caducado.
+     *
+     * @param now El instante actual.
+     * @return {@code true} si el token ya no es válido.
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,245 @@
+package com.tokioschool.httpclient.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Gestor de los tokens de acceso de un servicio, sin bloqueos.
+ *
+ * Guarda por cada clave (por ejemplo, el usuario con el que se autentica) una instantánea inmutable del token
+ * en una referencia atómica, de modo que las lecturas no se sincronizan entre sí. El token se renueva en segundo
+ * plano antes de que caduque y, mientras tanto, se sigue sirviendo el token vigente. Solo se realiza una
+ * renovación a la vez por clave: las peticiones que no tienen un token válido esperan a esa renovación
+ * en lugar de lanzar la suya.
+ *
+ * Las métricas se publican con el nombre {@code service.token.refresh} (latencia, con la etiqueta
+ * {@code outcome}) y {@code service.token.refresh.failures}, con la etiqueta {@code token}.
+ *
+ * @param <K> El tipo de la clave de los tokens.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Slf4j
+public class ServiceTokenManager<K> {
+
+    static final String METRIC_REFRESH = "service.token.refresh";
+    static final String METRIC_REFRESH_FAILURES = "service.token.refresh.failures";
+    static final String TAG_TOKEN = "token";
+    static final String TAG_OUTCOME = "outcome";
+
+    /** Tiempo de espera antes de reintentar una renovación fallida, si el token sigue siendo válido. */
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final String name;
+    private final Function<K, ServiceToken> tokenLoader;
+    private final Duration refreshAhead;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final ExecutorService executorService;
+
+    private final ConcurrentMap<K, TokenHolder> tokenHolders = new ConcurrentHashMap<>();
+    private final Timer refreshSuccessTimer;
+    private final Timer refreshFailureTimer;
+    private final Counter refreshFailureCounter;
+
+    ServiceTokenManager(String name, Function<K, ServiceToken> tokenLoader, Duration refreshAhead, Clock clock,
+                        ScheduledExecutorService scheduledExecutorService, ExecutorService executorService,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.tokenLoader = tokenLoader;
+        this.refreshAhead = refreshAhead;
+        this.clock = clock;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.executorService = executorService;
+
+        this.refreshSuccessTimer = buildRefreshTimer(meterRegistry, "success");
+        this.refreshFailureTimer = buildRefreshTimer(meterRegistry, "failure");
+        this.refreshFailureCounter = Counter.builder(METRIC_REFRESH_FAILURES)
+                .description("Renovaciones fallidas del token de acceso")
+                .tag(TAG_TOKEN, name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtiene el token de acceso de una clave.
+     *
+     * Si hay un token válido se devuelve sin esperar, aunque haya una renovación en curso. Si no lo hay,
+     * se espera a la renovación en curso o se lanza una.
+     *
+     * @param key La clave del token.
+     * @return El valor del token de acceso.
+     * @throws RuntimeException La excepción de la obtención del token, si no hay un token válido y falla.
+     */
+    public String getToken(K key) {
+        final TokenHolder tokenHolder = tokenHolders.computeIfAbsent(key, ignored -> new TokenHolder());
+        final ServiceToken serviceToken = tokenHolder.snapshot.get();
+        final Instant now = clock.instant();
+
+        if (serviceToken != null && !serviceToken.isExpired(now)) {
+            if (!now.isBefore(getRefreshAt(serviceToken))) {
+                // la renovación programada no se ha realizado todavía
+                refresh(key, tokenHolder, serviceToken, true);
+            }
+            return serviceToken.value();
+        }
+
+        try {
+            return refresh(key, tokenHolder, serviceToken, false).join().value();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Descarta el token de una clave, por ejemplo cuando el servicio destino lo rechaza.
+     *
+     * @param key La clave del token.
+     */
+    public void invalidate(K key) {
+        tokenHolders.remove(key);
+    }
+
+    /**
+     * Descarta el token de una clave si sigue siendo el que ha rechazado el servicio destino.
+     *
+     * Si otra petición ya lo ha renovado, se conserva el nuevo: así, cuando varias peticiones reciben a la vez
+     * el rechazo del mismo token, solo se obtiene uno nuevo.
+     *
+     * @param key La clave del token.
+     * @param rejectedToken El valor del token rechazado.
+     */
+    public void invalidate(K key, String rejectedToken) {
+        final TokenHolder tokenHolder = tokenHolders.get(key);
+        final ServiceToken serviceToken = tokenHolder == null ? null : tokenHolder.snapshot.get();
+        if (serviceToken != null && serviceToken.value().equals(rejectedToken)) {
+            tokenHolders.remove(key, tokenHolder);
+        }
+    }
+
+    /**
+     * Lanza la renovación del token, o devuelve la que ya está en curso.
+     *
+     * @param key La clave del token.
+     * @param tokenHolder El contenedor del token.
+     * @param observed El token que se leyó antes de decidir renovarlo, o nulo si no había.
+     * @param async Si la renovación se realiza en segundo plano o en el hilo actual.
+     * @return La renovación del token.
+     */
+    private CompletableFuture<ServiceToken> refresh(K key, TokenHolder tokenHolder, @Nullable ServiceToken observed,
+                                                    boolean async) {
+        final CompletableFuture<ServiceToken> promise = new CompletableFuture<>();
+        final CompletableFuture<ServiceToken> inFlight = tokenHolder.inFlight.compareAndExchange(null, promise);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        // otra renovación pudo terminar entre la lectura del token y la reserva de la renovación
+        final ServiceToken current = tokenHolder.snapshot.get();
+        if (current != observed && current != null && !current.isExpired(clock.instant())) {
+            tokenHolder.inFlight.set(null);
+            promise.complete(current);
+            return promise;
+        }
+
+        if (async) {
+            try {
+                executorService.execute(() -> load(key, tokenHolder, promise));
+            } catch (RejectedExecutionException e) {
+                // sin liberar la renovación reservada, los siguientes llamantes esperarían una promesa que nunca termina
+                log.warn("The refresh of the token '{}' of {} was rejected", name, key, e);
+                tokenHolder.inFlight.set(null);
+                promise.completeExceptionally(e);
+            }
+        } else {
+            load(key, tokenHolder, promise);
+        }
+        return promise;
+    }
+
+    private void load(K key, TokenHolder tokenHolder, CompletableFuture<ServiceToken> promise) {
+        final long start = System.nanoTime();
+        try {
+            final ServiceToken serviceToken = tokenLoader.apply(key);
+            if (serviceToken == null) {
+                throw new IllegalStateException("The token loader of '%s' returned no token".formatted(name));
+            }
+            refreshSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            tokenHolder.snapshot.set(serviceToken);
+            tokenHolder.inFlight.set(null);
+            promise.complete(serviceToken);
+            schedule(key, tokenHolder, serviceToken, Duration.between(clock.instant(), getRefreshAt(serviceToken)));
+        } catch (RuntimeException e) {
+            refreshFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            refreshFailureCounter.increment();
+            log.warn("Error refreshing the token '{}' of {}", name, key, e);
+
+            tokenHolder.inFlight.set(null);
+            promise.completeExceptionally(e);
+
+            final ServiceToken serviceToken = tokenHolder.snapshot.get();
+            if (serviceToken != null && !serviceToken.isExpired(clock.instant())) {
+                schedule(key, tokenHolder, serviceToken, RETRY_DELAY);
+            }
+        }
+    }
+
+    private void schedule(K key, TokenHolder tokenHolder, ServiceToken serviceToken, Duration delay) {
+        if (scheduledExecutorService.isShutdown()) {
+            return;
+        }
+        scheduledExecutorService.schedule(() -> {
+            // la clave puede haberse invalidado, o el token renovado, desde que se programó
+            if (tokenHolders.get(key) == tokenHolder && tokenHolder.snapshot.get() == serviceToken) {
+                refresh(key, tokenHolder, serviceToken, true);
+            }
+        }, Math.max(delay.toMillis(), 0), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Calcula el instante de renovación del token: la antelación configurada antes de caducar,
+     * sin superar la mitad de su vida.
+     */
+    private Instant getRefreshAt(ServiceToken serviceToken) {
+        final Duration lifetime = Duration.between(serviceToken.issuedAt(), serviceToken.expiresAt());
+        final Duration ahead = refreshAhead.compareTo(lifetime.dividedBy(2)) < 0 ? refreshAhead : lifetime.dividedBy(2);
+        return serviceToken.expiresAt().minus(ahead);
+    }
+
+    private Timer buildRefreshTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(METRIC_REFRESH)
+                .description("Latencia de la renovación del token de acceso")
+                .tag(TAG_TOKEN, name)
+                .tag(TAG_OUTCOME, outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Contenedor del token de una clave: la instantánea vigente y la renovación en curso.
+     */
+    private static final class TokenHolder {
+        private final AtomicReference<ServiceToken> snapshot = new AtomicReference<>();
+        private final AtomicReference<CompletableFuture<ServiceToken>> inFlight = new AtomicReference<>();
+    }
+}
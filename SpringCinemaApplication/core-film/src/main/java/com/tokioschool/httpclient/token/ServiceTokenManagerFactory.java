@@ -0,0 +1,82 @@
+package com.tokioschool.httpclient.token;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+/**
+ * Factoría de los gestores de tokens de acceso entre servicios.
+ *
+ * Comparte entre todos los gestores el planificador de las renovaciones, que se ejecutan en hilos virtuales,
+ * y el registro de métricas.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra la factoría como un bean de Spring.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+public class ServiceTokenManagerFactory implements DisposableBean {
+
+    private final Duration refreshAhead;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final ExecutorService executorService;
+
+    @Autowired
+    public ServiceTokenManagerFactory(@Value("${application.http-client.token.refresh-ahead:PT30S}") Duration refreshAhead,
+                                      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(refreshAhead, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new), Clock.systemUTC());
+    }
+
+    public ServiceTokenManagerFactory(Duration refreshAhead, MeterRegistry meterRegistry, Clock clock) {
+        this.refreshAhead = refreshAhead;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("service-token-scheduler").daemon().factory());
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("service-token-", 0).factory());
+    }
+
+    /**
+     * Crea un gestor de tokens de acceso.
+     *
+     * @param name El nombre de los tokens, utilizado en las métricas y en los logs.
+     * @param tokenLoader La función que obtiene un nuevo token dada su clave, por ejemplo llamando al
+     *                    endpoint de autenticación del servicio.
+     * @param <K> El tipo de la clave de los tokens.
+     * @return El gestor de tokens de acceso.
+     */
+    public <K> ServiceTokenManager<K> create(String name, Function<K, ServiceToken> tokenLoader) {
+        return new ServiceTokenManager<>(name, tokenLoader, refreshAhead, clock, scheduledExecutorService,
+                executorService, meterRegistry);
+    }
+
+    /**
+     * Obtiene el reloj con el que se calcula la validez de los tokens.
+     *
+     * @return El reloj.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public void destroy() {
+        scheduledExecutorService.shutdownNow();
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,45 @@
+package com.tokioschool.store.authentications;
+
+/**
+ * Interfaz para el servicio de autenticación de la tienda.
+ *
+ * Proporciona métodos para obtener un token de acceso, ya sea utilizando un nombre de usuario
+ * predeterminado o uno específico.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public interface StoreAuthenticationService {
+
+    /**
+     * Obtiene un token de acceso utilizando el nombre de usuario predeterminado.
+     *
+     * @return El token de acceso actual o un nuevo token si el actual ha expirado.
+     */
+    String getAccessToken();
+
+    /**
+     * Obtiene un token de acceso para un nombre de usuario específico.
+     *
+     * @param userName El nombre de usuario para el cual se obtendrá el token de acceso.
+     * @return El token de acceso actual o un nuevo token si el actual ha expirado.
+     */
+    String getAccessToken(String userName);
+
+    /**
+     * Descarta el token de acceso del nombre de usuario predeterminado, rechazado por la tienda.
+     *
+     * @param accessToken El token de acceso rechazado.
+     */
+    void invalidateAccessToken(String accessToken);
+
+    /**
+     * Descarta el token de acceso de un nombre de usuario específico, rechazado por la tienda, para que la
+     * siguiente petición obtenga uno nuevo. Si ya se ha renovado, se conserva el nuevo.
+     *
+     * @param userName El nombre de usuario del token.
+     * @param accessToken El token de acceso rechazado.
+     */
+    void invalidateAccessToken(String userName, String accessToken);
+
+}
@@ -0,0 +1,201 @@
+package com.tokioschool.store.authentications.impl;
+
+import com.tokioschool.httpclient.token.ServiceToken;
+import com.tokioschool.httpclient.token.ServiceTokenManager;
+import com.tokioschool.httpclient.token.ServiceTokenManagerFactory;
+import com.tokioschool.store.authentications.StoreAuthenticationService;
+import com.tokioschool.store.dto.AuthResponseDto;
+import com.tokioschool.store.properties.StoreLoginProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Implementación del servicio de autenticación para la tienda.
+ *
+ * Esta clase proporciona métodos para obtener un token de acceso utilizando credenciales
+ * configuradas en las propiedades de la aplicación y realiza solicitudes a un endpoint de autenticación.
+ *
+ * Los tokens se guardan por usuario en un {@link ServiceTokenManager}, que los renueva en segundo plano
+ * antes de que caduquen, por lo que las peticiones no se sincronizan ni inician sesión en cada llamada.
+ *
+ * No es un componente: cada aplicación que consume la tienda declara el bean con sus propiedades,
+ * de modo que las aplicaciones que no la usan no lo crean.
+ *
+ * Anotaciones:
+ * - {@link Slf4j}: Proporciona un logger para la clase.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Slf4j
+public class StoreAuthenticationServiceImpl implements StoreAuthenticationService {
+
+    /**
+     * Ruta del recurso para el endpoint de autenticación.
+     */
+    private static final String RESOURCE_PATH = "/store/api/auth";
+
+    /**
+     * URL base de la tienda.
+     */
+    private final String baseUrl;
+
+    /**
+     * Configuración de inicio de sesión, con los usuarios de la tienda.
+     */
+    private final StoreLoginProperty storeLoginProperty;
+
+    /**
+     * Cliente REST para realizar las solicitudes al endpoint de autenticación.
+     */
+    private final RestClient restClient;
+
+    /**
+     * Factoría de los gestores de tokens de acceso, de la que se toma también el reloj.
+     */
+    private final ServiceTokenManagerFactory serviceTokenManagerFactory;
+
+    /**
+     * Gestor de los tokens de acceso, uno por usuario.
+     */
+    private final ServiceTokenManager<String> serviceTokenManager;
+
+    public StoreAuthenticationServiceImpl(String baseUrl, StoreLoginProperty storeLoginProperty, RestClient restClient,
+                                          ServiceTokenManagerFactory serviceTokenManagerFactory) {
+        this.baseUrl = baseUrl;
+        this.storeLoginProperty = storeLoginProperty;
+        this.restClient = restClient;
+        this.serviceTokenManagerFactory = serviceTokenManagerFactory;
+        this.serviceTokenManager = serviceTokenManagerFactory.create("store", this::authenticate);
+    }
+
+    /**
+     * Obtiene el token de acceso utilizando el nombre de usuario predeterminado, el primero configurado.
+     *
+     * @return El token de acceso.
+     */
+    @Override
+    public String getAccessToken() {
+        return getAccessToken(null);
+    }
+
+    /**
+     * Obtiene el token de acceso para un nombre de usuario específico.
+     *
+     * Si el token actual aún es válido, se devuelve directamente, aunque se esté renovando. De lo contrario,
+     * se espera a la solicitud al endpoint de autenticación que obtiene un nuevo token.
+     *
+     * @param userName El nombre de usuario para el cual se obtendrá el token de acceso.
+     * @return El token de acceso, o nulo si no se pudo obtener uno.
+     */
+    @Override
+    public String getAccessToken(String userName) {
+        log.debug("getAccessToken: userName={}", userName);
+        final String filterUserName = Optional.ofNullable(userName)
+                .map(StringUtils::trimToNull)
+                .orElseGet(this::getDefaultUserName)
+                .toLowerCase();
+
+        // Comprueba que el usuario existe antes de buscar su token
+        findUserStore(filterUserName);
+
+        try {
+            return serviceTokenManager.getToken(filterUserName);
+        } catch (Exception e) {
+            log.error("Exception in file-store auth endpoint", e);
+            return null;
+        }
+    }
+
+    /**
+     * Descarta el token de acceso del nombre de usuario predeterminado, rechazado por la tienda.
+     *
+     * @param accessToken El token de acceso rechazado.
+     */
+    @Override
+    public void invalidateAccessToken(String accessToken) {
+        invalidateAccessToken(null, accessToken);
+    }
+
+    /**
+     * Descarta el token de acceso de un nombre de usuario específico, rechazado por la tienda.
+     *
+     * @param userName El nombre de usuario del token.
+     * @param accessToken El token de acceso rechazado.
+     */
+    @Override
+    public void invalidateAccessToken(String userName, String accessToken) {
+        final String filterUserName = Optional.ofNullable(userName)
+                .map(StringUtils::trimToNull)
+                .orElseGet(this::getDefaultUserName)
+                .toLowerCase();
+        log.debug("invalidateAccessToken: userName={}", filterUserName);
+
+        serviceTokenManager.invalidate(filterUserName, accessToken);
+    }
+
+    /**
+     * Inicia sesión en la tienda con un usuario para obtener un nuevo token de acceso.
+     *
+     * @param userName El nombre de usuario, en minúsculas.
+     * @return El nuevo token de acceso.
+     */
+    private ServiceToken authenticate(String userName) {
+        final StoreLoginProperty.UserStore userStore = findUserStore(userName);
+
+        // Decodifica la contraseña de Base64
+        byte[] decodedBytes = Base64.getDecoder().decode(userStore.password());
+
+        Map<String, String> authRequest = Map.of(
+                "username", userStore.username(),
+                "password", new String(decodedBytes)
+        );
+
+        // Realiza la solicitud al endpoint de autenticación
+        AuthResponseDto authResponseDto = restClient.post()
+                .uri(("%s%s").formatted(baseUrl, RESOURCE_PATH))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(authRequest)
+                .retrieve()
+                .body(AuthResponseDto.class);
+
+        if (Objects.isNull(authResponseDto)) {
+            throw new NullPointerException("Response is null");
+        }
+        // expiresIn es relativo, en segundos
+        return ServiceToken.of(authResponseDto.accessToken(), serviceTokenManagerFactory.getClock().instant(),
+                authResponseDto.expiresIn());
+    }
+
+    /**
+     * Obtiene el nombre del usuario predeterminado, el primero de la configuración.
+     *
+     * @return El nombre de usuario predeterminado.
+     */
+    private String getDefaultUserName() {
+        return storeLoginProperty.users().stream()
+                .findFirst()
+                .map(StoreLoginProperty.UserStore::username)
+                .orElseThrow(() -> new RuntimeException("No user found"));
+    }
+
+    /**
+     * Busca un usuario en las propiedades de configuración.
+     *
+     * @param userName El nombre de usuario, en minúsculas.
+     * @return El usuario de la tienda.
+     */
+    private StoreLoginProperty.UserStore findUserStore(String userName) {
+        return storeLoginProperty.users()
+                .stream()
+                .filter(usr -> Objects.equals(usr.username().toLowerCase(), userName))
+                .findFirst().orElseThrow(() -> new RuntimeException("No user found"));
+    }
+}
@@ -15,7 +15,7 @@ import lombok.Builder;
  *
  * Campos:
  * - `accessToken`: El token de acceso obtenido tras la autenticación.
- * - `expiresIn`: El tiempo de expiración del token en segundos.
+ * - `expiresIn`: El tiempo de expiración del token en segundos, relativo al momento de la respuesta.
  *
  * @author andres.rpenuela
  * @version 1.0
@@ -24,16 +24,4 @@ import lombok.Builder;
 public record AuthResponseDto(
         @JsonProperty("access_token") String accessToken,
         @JsonProperty("expires_in") long expiresIn) {
-
-    /**
-     * Calcula el tiempo de expiración del token en milisegundos.
-     *
-     * Este metodo convierte el tiempo de expiración del token de segundos a milisegundos
-     * y resta 5 segundos para evitar problemas durante una solicitud cercana al vencimiento.
-     *
-     * @return El tiempo de expiración ajustado en milisegundos.
-     */
-    public long getExpiresAt() {
-        return System.currentTimeMillis() + expiresIn * 1000L - 5 * 1000L;
-    }
-}
\ No newline at end of file
+}
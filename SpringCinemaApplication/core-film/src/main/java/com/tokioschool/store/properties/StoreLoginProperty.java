@@ -0,0 +1,24 @@
+package com.tokioschool.store.properties;
+
+import java.util.List;
+
+/**
+ * Configuración de inicio de sesión en la tienda, compartida por las aplicaciones que la consumen.
+ *
+ * Se vincula bajo `application.store.login` dentro de las propiedades de la tienda de cada aplicación.
+ *
+ * @param users Lista de usuarios con sus credenciales. El primero es el usuario predeterminado.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record StoreLoginProperty(List<UserStore> users) {
+
+    /**
+     * Credenciales de un usuario de la tienda.
+     *
+     * @param username Nombre de usuario.
+     * @param password Contraseña del usuario, codificada en Base64.
+     */
+    public record UserStore(String username, String password) {}
+}
@@ -0,0 +1,110 @@
+package com.tokioschool.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class NearCacheUTest {
+
+    private static final String CACHE = "test";
+
+    private final Map<String, Consumer<String>> listeners = new HashMap<>();
+    private final Map<String, String> published = new HashMap<>();
+    private final NearCacheInvalidationBus invalidationBus = new NearCacheInvalidationBus() {
+        @Override
+        public void publish(String cacheName, String key) {
+            published.put(cacheName, key);
+        }
+
+        @Override
+        public void subscribe(String cacheName, Consumer<String> listener) {
+            listeners.put(cacheName, listener);
+        }
+    };
+
+    private MeterRegistry meterRegistry;
+    private Instant now;
+    private NearCache<Integer, String> nearCache;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = Instant.parse("2025-01-01T00:00:00Z");
+        final Clock clock = new Clock() {
+            @Override
+            public java.time.ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        final NearCacheProperty nearCacheProperty = new NearCacheProperty(null,
+                Map.of(CACHE, new NearCacheProperty.Policy(null, DataSize.ofBytes(10), DataSize.ofBytes(4), Duration.ofMinutes(1))),
+                null);
+        nearCache = new NearCacheFactory(nearCacheProperty, invalidationBus, meterRegistry, clock)
+                .create(CACHE, Integer::valueOf, value -> value.length());
+    }
+
+    @Test
+    void givenFullCache_whenPut_thenEvictLeastRecentlyUsed() {
+        nearCache.put(1, "aaaa");
+        nearCache.put(2, "bbbb");
+        nearCache.get(1);
+
+        nearCache.put(3, "cccc");
+
+        Assertions.assertThat(nearCache.get(1)).contains("aaaa");
+        Assertions.assertThat(nearCache.get(2)).isEmpty();
+        Assertions.assertThat(nearCache.get(3)).contains("cccc");
+        Assertions.assertThat(nearCache.weight()).isEqualTo(8);
+        Assertions.assertThat(meterRegistry.get("near.cache.evictions").tag("cache", CACHE).counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("near.cache.gets").tag("cache", CACHE).tag("result", "hit").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void givenExpiredEntry_whenGet_thenReturnEmpty() {
+        nearCache.put(1, "aaaa");
+        now = now.plus(Duration.ofMinutes(1));
+
+        Assertions.assertThat(nearCache.get(1)).isEmpty();
+        Assertions.assertThat(nearCache.size()).isZero();
+    }
+
+    @Test
+    void givenEntry_whenInvalidate_thenEvictAndPublish() {
+        nearCache.put(1, "aaaa");
+        nearCache.put(2, "bbbb");
+
+        nearCache.invalidate(1);
+        listeners.get(CACHE).accept("2");
+
+        Assertions.assertThat(nearCache.size()).isZero();
+        Assertions.assertThat(published).containsEntry(CACHE, "1");
+    }
+
+    @Test
+    void givenContentSize_whenIsCacheableContent_thenCompareWithMaxEntrySize() {
+        Assertions.assertThat(nearCache.isCacheableContent(4)).isTrue();
+        Assertions.assertThat(nearCache.isCacheableContent(5)).isFalse();
+    }
+}
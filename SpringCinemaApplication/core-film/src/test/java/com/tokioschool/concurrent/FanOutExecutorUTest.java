@@ -0,0 +1,96 @@
+package com.tokioschool.concurrent;
+
+import com.tokioschool.core.exception.InternalErrorException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+class FanOutExecutorUTest {
+
+    private final FanOutExecutor fanOutExecutor = new FanOutExecutor(new FanOutProperty(Duration.ofSeconds(5)));
+
+    @AfterEach
+    void tearDown() {
+        fanOutExecutor.destroy();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void givenIndependentTasks_whenJoin_thenRunConcurrentlyAndReturnResults() {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            final Supplier<Boolean> first = scope.fork(() -> {
+                bothStarted.countDown();
+                return bothStarted.await(2, TimeUnit.SECONDS);
+            });
+            final Supplier<Boolean> second = scope.fork(() -> {
+                bothStarted.countDown();
+                return bothStarted.await(2, TimeUnit.SECONDS);
+            });
+            scope.join();
+
+            // cada tarea solo termina a tiempo si la otra se ejecuta a la vez
+            Assertions.assertThat(first.get()).isTrue();
+            Assertions.assertThat(second.get()).isTrue();
+        }
+    }
+
+    @Test
+    void givenFailingTask_whenJoin_thenCancelOthersAndThrowOriginalException() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "slow";
+            });
+            scope.fork(() -> {
+                throw new IllegalArgumentException("boom");
+            });
+
+            Assertions.assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("boom");
+        }
+        Assertions.assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void givenSlowTask_whenDeadlineExpires_thenThrowInternalError() {
+        try (FanOutScope scope = fanOutExecutor.open(Duration.ofMillis(100))) {
+            final Supplier<String> slow = scope.fork(() -> {
+                Thread.sleep(Duration.ofSeconds(10));
+                return "slow";
+            });
+
+            Assertions.assertThatThrownBy(scope::join)
+                    .isInstanceOf(InternalErrorException.class)
+                    .hasMessageContaining("deadline");
+            Assertions.assertThatThrownBy(slow::get).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void givenAuthenticatedThread_whenFork_thenPropagateSecurityContext() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "secret"));
+
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            final Supplier<String> userName = scope.fork(() -> SecurityContextHolder.getContext().getAuthentication().getName());
+            scope.join();
+
+            Assertions.assertThat(userName.get()).isEqualTo("user");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.tokioschool.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SingleFlightUTest {
+
+    private static final String NAME = "test";
+    private static final int CALLERS = 5;
+
+    private MeterRegistry meterRegistry;
+    private SingleFlightFactory singleFlightFactory;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlightFactory = new SingleFlightFactory(new SingleFlightProperty(true, Map.of("disabled", false)), meterRegistry);
+    }
+
+    @Test
+    void givenConcurrentIdenticalReads_whenExecute_thenShareOneCall() throws Exception {
+        final SingleFlight<Long, String> singleFlight = singleFlightFactory.create(NAME);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executorService.submit(() -> singleFlight.execute(1L, () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "value";
+                })));
+            }
+
+            // la primera lectura sigue en curso hasta que el resto se ha agrupado con ella
+            awaitCounter("collapsed", CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                Assertions.assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        }
+
+        Assertions.assertThat(calls).hasValue(1);
+        Assertions.assertThat(counter("executed")).isEqualTo(1);
+        Assertions.assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void givenFailingRead_whenExecute_thenShareExceptionAndForgetKey() throws Exception {
+        final SingleFlight<Long, String> singleFlight = singleFlightFactory.create(NAME);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(executorService.submit(() -> singleFlight.execute(1L, () -> {
+                    await(release);
+                    throw new IllegalStateException("boom");
+                })));
+            }
+            awaitCounter("collapsed", 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                Assertions.assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(IllegalStateException.class);
+            }
+        }
+
+        // la clave se olvida: la siguiente lectura vuelve a llamar
+        Assertions.assertThat(singleFlight.execute(1L, () -> "retry")).isEqualTo("retry");
+        Assertions.assertThat(counter("executed")).isEqualTo(2);
+    }
+
+    @Test
+    void givenDisabledName_whenExecute_thenAlwaysCall() {
+        final SingleFlight<Long, String> singleFlight = singleFlightFactory.create("disabled");
+
+        Assertions.assertThat(singleFlight.isEnabled()).isFalse();
+        Assertions.assertThat(singleFlight.execute(1L, () -> "value")).isEqualTo("value");
+        Assertions.assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    private void awaitCounter(String kind, int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (counter(kind) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(counter(kind)).isEqualTo(expected);
+    }
+
+    private double counter(String kind) {
+        return meterRegistry.get("single.flight.calls").tag("name", NAME).tag("kind", kind).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
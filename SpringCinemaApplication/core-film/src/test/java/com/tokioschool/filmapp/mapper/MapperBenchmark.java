@@ -0,0 +1,167 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Authority;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.domain.Role;
+import com.tokioschool.filmapp.domain.Scope;
+import com.tokioschool.filmapp.domain.User;
+import com.tokioschool.filmapp.dto.movie.MovieDto;
+import com.tokioschool.filmapp.dto.user.UserDto;
+import com.tokioschool.filmapp.enums.TYPE_ARTIST;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compara el mapeo de entidades a DTOs con \{@link ModelMapper\}, configurado como en la aplicación,
+ * frente a los mapeadores estáticos (\{@link MovieMapper\}, \{@link UserMapper\}), para un único objeto
+ * y para un listado de 10.000 filas.
+ *
+ * No es un test: se ejecuta aparte, tras compilar los tests del módulo, con
+ * {@code java -cp <classpath de test> com.tokioschool.filmapp.mapper.MapperBenchmark}
+ * o desde el IDE con el método main.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class MapperBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private ModelMapper modelMapper;
+    private Movie movie;
+    private User user;
+    private List<Movie> movies;
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        new ArtistToArtistDtoMapper(modelMapper);
+        new RoleToRoleDtoMapper(modelMapper);
+        new UserToUserDtoMapper(modelMapper);
+        new MovieToMovieDtoMapper(modelMapper);
+
+        final Role role = Role.builder()
+                .id(1L)
+                .name("USER")
+                .authorities(Set.of(Authority.builder().id(1L).name("read").build(),
+                        Authority.builder().id(2L).name("write").build()))
+                .scopes(Set.of(Scope.builder().id(1L).name("openid").build(),
+                        Scope.builder().id(2L).name("profile").build()))
+                .build();
+
+        users = IntStream.range(0, ROWS).mapToObj(i -> buildUser(i, role)).toList();
+        movies = IntStream.range(0, ROWS).mapToObj(i -> buildMovie(i, users.get(i))).toList();
+        user = users.getFirst();
+        movie = movies.getFirst();
+    }
+
+    @Benchmark
+    public MovieDto movieModelMapper() {
+        return modelMapper.map(movie, MovieDto.class);
+    }
+
+    @Benchmark
+    public MovieDto movieStaticMapper() {
+        return MovieMapper.toDto(movie);
+    }
+
+    @Benchmark
+    public List<MovieDto> movies10kModelMapper() {
+        return movies.stream().map(source -> modelMapper.map(source, MovieDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<MovieDto> movies10kStaticMapper() {
+        return MovieMapper.toDtos(movies);
+    }
+
+    @Benchmark
+    public UserDto userModelMapper() {
+        return modelMapper.map(user, UserDto.class);
+    }
+
+    @Benchmark
+    public UserDto userStaticMapper() {
+        return UserMapper.toDto(user);
+    }
+
+    @Benchmark
+    public List<UserDto> users10kModelMapper() {
+        return users.stream().map(source -> modelMapper.map(source, UserDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<UserDto> users10kStaticMapper() {
+        return UserMapper.toDtos(users);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static User buildUser(int i, Role role) {
+        return User.builder()
+                .id("user-%d".formatted(i))
+                .name("Name %d".formatted(i))
+                .surname("Surname %d".formatted(i))
+                .username("user%d".formatted(i))
+                .email("user%d@email.com".formatted(i))
+                .birthDate(LocalDate.of(1990, 1, 1).plusDays(i))
+                .created(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .lastLoginAt(LocalDateTime.of(2024, 2, 1, 10, 0))
+                .roles(Set.of(role))
+                .image(UUID.randomUUID())
+                .build();
+    }
+
+    private static Movie buildMovie(int i, User createUser) {
+        final List<Artist> artists = new ArrayList<>();
+        IntStream.range(0, 3).forEach(j -> artists.add(Artist.builder()
+                .id((long) j + 2)
+                .name("Actor %d".formatted(j))
+                .surname("Surname %d".formatted(j))
+                .typeArtist(TYPE_ARTIST.ACTOR)
+                .build()));
+
+        return Movie.builder()
+                .id((long) i)
+                .title("Movie %d".formatted(i))
+                .releaseYear(1950 + i % 70)
+                .manager(Artist.builder().id(1L).name("Director").surname("Surname").typeArtist(TYPE_ARTIST.DIRECTOR).build())
+                .artists(artists)
+                .image(UUID.randomUUID())
+                .createUser(createUser)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Authority;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.domain.Role;
+import com.tokioschool.filmapp.domain.Scope;
+import com.tokioschool.filmapp.domain.User;
+import com.tokioschool.filmapp.dto.movie.MovieDto;
+import com.tokioschool.filmapp.enums.TYPE_ARTIST;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class MovieMapperUTest {
+
+    @Test
+    void givenMovie_whenToDto_thenSameAsModelMapper() {
+        final ModelMapper modelMapper = new ModelMapper();
+        new UserToUserDtoMapper(modelMapper);
+        new MovieToMovieDtoMapper(modelMapper);
+
+        final Movie movie = buildMovie();
+
+        // el conversor de roles de ModelMapper no copiaba el id del rol; el mapeador estático sí
+        Assertions.assertThat(MovieMapper.toDto(movie))
+                .usingRecursiveComparison()
+                .ignoringFields("createUser.roles.id")
+                .isEqualTo(modelMapper.map(movie, MovieDto.class));
+    }
+
+    @Test
+    void givenMovieWithoutRelations_whenToDto_thenNullRelationsAndEmptyCast() {
+        final Movie movie = Movie.builder().id(1L).title("Movie").releaseYear(2000).build();
+
+        Assertions.assertThat(MovieMapper.toDto(movie))
+                .returns(1L, MovieDto::getId)
+                .returns(null, MovieDto::getManagerDto)
+                .returns(null, MovieDto::getCreateUser)
+                .returns(null, MovieDto::getResourceId)
+                .satisfies(movieDto -> Assertions.assertThat(movieDto.getArtistDtos()).isEmpty());
+    }
+
+    @Test
+    void givenMovies_whenToDtos_thenKeepOrder() {
+        final List<Movie> movies = List.of(
+                Movie.builder().id(2L).title("Second").build(),
+                Movie.builder().id(1L).title("First").build());
+
+        Assertions.assertThat(MovieMapper.toDtos(movies))
+                .extracting(MovieDto::getId)
+                .containsExactly(2L, 1L);
+        Assertions.assertThat(MovieMapper.toDtos(null)).isEmpty();
+        Assertions.assertThat(MovieMapper.toDto(null)).isNull();
+    }
+
+    private static Movie buildMovie() {
+        final Role role = Role.builder()
+                .id(1L)
+                .name("USER")
+                .authorities(Set.of(Authority.builder().id(1L).name("read").build()))
+                .scopes(Set.of(Scope.builder().id(1L).name("openid").build()))
+                .build();
+
+        final User user = User.builder()
+                .id("user-1")
+                .name("andres")
+                .surname("ruiz peñuela")
+                .username("arp0001")
+                .email("test@test.com")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .created(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .lastLoginAt(LocalDateTime.of(2024, 2, 1, 10, 0))
+                .roles(Set.of(role))
+                .image(UUID.randomUUID())
+                .build();
+
+        final List<Artist> artists = new ArrayList<>();
+        artists.add(Artist.builder().id(2L).name("Keanu").surname("Reeves").typeArtist(TYPE_ARTIST.ACTOR).build());
+        artists.add(Artist.builder().id(3L).name("Carrie-Anne").surname("Moss").typeArtist(TYPE_ARTIST.ACTOR).build());
+
+        return Movie.builder()
+                .id(1L)
+                .title("The Matrix")
+                .releaseYear(1999)
+                .manager(Artist.builder().id(1L).name("Lana").surname("Wachowski").typeArtist(TYPE_ARTIST.DIRECTOR).build())
+                .artists(artists)
+                .image(UUID.randomUUID())
+                .createUser(user)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.RatingFilm;
+import com.tokioschool.filmapp.dto.ratings.RatingFilmDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+class RatingFilmMapperUTest {
+
+    @Test
+    void givenRatingFilm_whenToDto_thenDatesInUtc() {
+        final LocalDateTime createAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final RatingFilm ratingFilm = RatingFilm.builder()
+                .id(1L)
+                .filmId(2L)
+                .userId("user-1")
+                .score(BigDecimal.valueOf(4))
+                .createAt(createAt)
+                .build();
+
+        Assertions.assertThat(RatingFilmMapper.toDto(ratingFilm))
+                .returns(1L, RatingFilmDto::getId)
+                .returns(2L, RatingFilmDto::getFilmId)
+                .returns("user-1", RatingFilmDto::getUserId)
+                .returns(BigDecimal.valueOf(4), RatingFilmDto::getScore)
+                .returns(createAt.atOffset(ZoneOffset.UTC), RatingFilmDto::getCreateAt)
+                .returns(null, RatingFilmDto::getUpdatedAt);
+    }
+
+    @Test
+    void givenRatingFilms_whenToDtos_thenKeepOrder() {
+        final List<RatingFilm> ratingFilms = List.of(
+                RatingFilm.builder().id(2L).build(),
+                RatingFilm.builder().id(1L).build());
+
+        Assertions.assertThat(RatingFilmMapper.toDtos(ratingFilms))
+                .extracting(RatingFilmDto::getId)
+                .containsExactly(2L, 1L);
+        Assertions.assertThat(RatingFilmMapper.toDtos(null)).isEmpty();
+    }
+}
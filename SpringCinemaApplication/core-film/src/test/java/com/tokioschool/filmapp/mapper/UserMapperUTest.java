@@ -0,0 +1,69 @@
+package com.tokioschool.filmapp.mapper;
+
+import com.tokioschool.filmapp.domain.Authority;
+import com.tokioschool.filmapp.domain.Role;
+import com.tokioschool.filmapp.domain.Scope;
+import com.tokioschool.filmapp.domain.User;
+import com.tokioschool.filmapp.dto.user.RoleDto;
+import com.tokioschool.filmapp.dto.user.UserDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class UserMapperUTest {
+
+    @Test
+    void givenUser_whenToDto_thenCopyFieldsWithoutPassword() {
+        final UUID resourceId = UUID.randomUUID();
+        final Role role = Role.builder()
+                .id(1L)
+                .name("ADMIN")
+                .authorities(Set.of(Authority.builder().id(1L).name("writer").build()))
+                .scopes(Set.of(Scope.builder().id(1L).name("openid").build()))
+                .build();
+
+        final User user = User.builder()
+                .id("user-1")
+                .name("andres")
+                .surname("ruiz peñuela")
+                .username("arp0001")
+                .email("test@test.com")
+                .birthDate(LocalDate.now().minusYears(32))
+                .created(LocalDateTime.now())
+                .lastLoginAt(LocalDateTime.now())
+                .password("123")
+                .passwordBis("123")
+                .roles(Set.of(role))
+                .image(resourceId)
+                .build();
+
+        Assertions.assertThat(UserMapper.toDto(user))
+                .returns(user.getId(), UserDto::getId)
+                .returns(user.getName(), UserDto::getName)
+                .returns(user.getSurname(), UserDto::getSurname)
+                .returns(user.getUsername(), UserDto::getUsername)
+                .returns(user.getEmail(), UserDto::getEmail)
+                .returns(user.getBirthDate(), UserDto::getBirthDate)
+                .returns(user.getLastLoginAt(), UserDto::getLastLogin)
+                .returns(user.getCreated(), UserDto::getCreated)
+                .returns(resourceId.toString(), UserDto::getResourceId)
+                .returns(true, UserDto::isAdmin)
+                .satisfies(userDto -> Assertions.assertThat(userDto.getRoles()).singleElement()
+                        .returns(1L, RoleDto::getId)
+                        .returns(List.of("writer"), RoleDto::getAuthorities)
+                        .returns(List.of("openid"), RoleDto::getScopes));
+    }
+
+    @Test
+    void givenUserWithoutRoles_whenToDto_thenEmptyRoles() {
+        Assertions.assertThat(UserMapper.toDto(User.builder().id("user-1").build()))
+                .returns(null, UserDto::getResourceId)
+                .satisfies(userDto -> Assertions.assertThat(userDto.getRoles()).isEmpty());
+        Assertions.assertThat(UserMapper.toDto(null)).isNull();
+    }
+}
@@ -0,0 +1,84 @@
+package com.tokioschool.helpers;
+
+import com.tokioschool.core.exception.ValidacionException;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
+import com.tokioschool.filmapp.records.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageHelperUTest {
+
+    @Test
+    void decodeCursor_withEncodedCursor_returnsPosition() {
+        String cursor = KeysetCursor.of("Captain", 7L).encode();
+
+        Optional<KeysetCursor> result = CursorPageHelper.decodeCursor(cursor, Function.identity());
+
+        assertThat(result).contains(new KeysetCursor("Captain", "7"));
+    }
+
+    @Test
+    void decodeCursor_withCursorOnlyById_returnsPositionWithoutSortKey() {
+        String cursor = KeysetCursor.of(42L).encode();
+
+        Optional<Long> result = CursorPageHelper.decodeCursor(cursor, keysetCursor -> Long.valueOf(keysetCursor.id()));
+
+        assertThat(result).contains(42L);
+    }
+
+    @Test
+    void decodeCursor_withBlankCursor_returnsEmptyOptional() {
+        assertThat(CursorPageHelper.decodeCursor(null, Function.identity())).isEmpty();
+        assertThat(CursorPageHelper.decodeCursor("  ", Function.identity())).isEmpty();
+    }
+
+    @Test
+    void decodeCursor_withMalformedCursor_throwsValidacionException() {
+        assertThatThrownBy(() -> CursorPageHelper.decodeCursor("%%%", Function.identity()))
+                .isInstanceOf(ValidacionException.class);
+
+        String cursorWithTextId = KeysetCursor.of("abc").encode();
+        assertThatThrownBy(() -> CursorPageHelper.decodeCursor(cursorWithTextId, keysetCursor -> Long.valueOf(keysetCursor.id())))
+                .isInstanceOf(ValidacionException.class);
+    }
+
+    @Test
+    void limitOf_withPageSize_returnsOneMoreRow() {
+        assertThat(CursorPageHelper.limitOf(10)).contains(11);
+        assertThat(CursorPageHelper.limitOf(0)).isEmpty();
+    }
+
+    @Test
+    void buildCursorPage_withMoreRowsThanPageSize_returnsNextCursorOfLastItem() {
+        CursorPageDTO<String> page = CursorPageHelper.buildCursorPage(List.of(1L, 2L, 3L), 2,
+                String::valueOf, KeysetCursor::of);
+
+        assertThat(page.getItems()).containsExactly("1", "2");
+        assertThat(page.getPageSize()).isEqualTo(2);
+        assertThat(page.getNextCursor()).isEqualTo(KeysetCursor.of(2L).encode());
+    }
+
+    @Test
+    void buildCursorPage_withLastPage_returnsNullNextCursor() {
+        CursorPageDTO<String> page = CursorPageHelper.buildCursorPage(List.of(1L, 2L), 2,
+                String::valueOf, KeysetCursor::of);
+
+        assertThat(page.getItems()).containsExactly("1", "2");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void buildCursorPage_withPageSizeZero_returnsAllRows() {
+        CursorPageDTO<String> page = CursorPageHelper.buildCursorPage(List.of(1L, 2L, 3L), 0,
+                String::valueOf, KeysetCursor::of);
+
+        assertThat(page.getItems()).hasSize(3);
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,35 @@
+package com.tokioschool.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceCacheHelperUTest {
+
+    @Test
+    void buildEntityTag_withContentHash_returnsQuotedContentHash() {
+        String contentHash = "a".repeat(64);
+        assertEquals("\"%s\"".formatted(contentHash), ResourceCacheHelper.buildEntityTag(UUID.randomUUID(), contentHash));
+    }
+
+    @Test
+    void buildEntityTag_withoutContentHash_returnsQuotedResourceId() {
+        UUID resourceId = UUID.randomUUID();
+        assertEquals("\"%s\"".formatted(resourceId), ResourceCacheHelper.buildEntityTag(resourceId, null));
+    }
+
+    @Test
+    void resourceCacheControl_isPrivateAndImmutable() {
+        assertEquals("max-age=31536000, private, immutable", ResourceCacheHelper.RESOURCE_CACHE_CONTROL.getHeaderValue());
+    }
+
+    @Test
+    void matchesEntityTag_withListOfTags_returnsTrueWhenAnyMatches() {
+        assertTrue(ResourceCacheHelper.matchesEntityTag("\"other\", W/\"abc\"", "\"abc\""));
+        assertTrue(ResourceCacheHelper.matchesEntityTag("*", "\"abc\""));
+        assertFalse(ResourceCacheHelper.matchesEntityTag("\"other\"", "\"abc\""));
+        assertFalse(ResourceCacheHelper.matchesEntityTag(null, "\"abc\""));
+    }
+}
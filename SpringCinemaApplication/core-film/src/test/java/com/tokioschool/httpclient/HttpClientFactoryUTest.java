@@ -0,0 +1,123 @@
+package com.tokioschool.httpclient;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tokioschool.httpclient.properties.HttpClientProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class HttpClientFactoryUTest {
+
+    private static final String STORE = "store";
+
+    private HttpServer httpServer;
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final CountDownLatch received = new CountDownLatch(1);
+
+    private MeterRegistry meterRegistry;
+    private HttpClientFactory httpClientFactory;
+
+    @BeforeEach
+    void init() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        httpServer.createContext("/hello", exchange -> {
+            final byte[] body = "HOLA".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        httpServer.createContext("/slow", exchange -> {
+            received.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        httpServer.start();
+
+        final HttpClientProperty httpClientProperty = new HttpClientProperty(
+                new HttpClientProperty.Downstream(null, Duration.ofSeconds(5), null, null, null),
+                Map.of(STORE, new HttpClientProperty.Downstream(null, null, false, 1, Duration.ofMillis(100))));
+        meterRegistry = new SimpleMeterRegistry();
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        httpClientFactory = new HttpClientFactory(httpClientProperty, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        httpClientFactory.destroy();
+        httpServer.stop(0);
+    }
+
+    @Test
+    void givenDownstreamProperties_whenResolve_thenMergeWithDefaults() {
+        final HttpClientProperty httpClientProperty = new HttpClientProperty(
+                new HttpClientProperty.Downstream(null, Duration.ofSeconds(5), null, null, null),
+                Map.of(STORE, new HttpClientProperty.Downstream(null, null, false, 1, null)));
+
+        Assertions.assertThat(httpClientProperty.resolve(STORE))
+                .isEqualTo(new HttpClientProperty.Downstream(Duration.ofSeconds(2), Duration.ofSeconds(5), false, 1, Duration.ofSeconds(1)));
+        Assertions.assertThat(httpClientProperty.resolve("other")).isEqualTo(httpClientProperty.defaults());
+    }
+
+    @Test
+    void givenDownstream_whenRequest_thenReuseClientAndPublishMetrics() {
+        final RestClient restClient = httpClientFactory.restClientBuilder(STORE).baseUrl(getBaseUrl()).build();
+
+        final String response = restClient.get().uri("/hello").retrieve().body(String.class);
+        final String otherResponse = httpClientFactory.restClientBuilder(STORE).baseUrl(getBaseUrl()).build()
+                .get().uri("/hello").retrieve().body(String.class);
+
+        Assertions.assertThat(response).isEqualTo("HOLA");
+        Assertions.assertThat(otherResponse).isEqualTo("HOLA");
+        Assertions.assertThat(httpClientFactory.requestFactory(STORE)).isSameAs(httpClientFactory.requestFactory(STORE));
+        Assertions.assertThat(meterRegistry.get("http.client.pool.max").tag("downstream", STORE).gauge().value()).isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("http.client.pool.active").tag("downstream", STORE).gauge().value()).isZero();
+        Assertions.assertThat(meterRegistry.get("http.client.pool.acquire").tag("downstream", STORE).timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenSaturatedDownstream_whenRequest_thenRejectWithoutBlockingOtherDownstreams() throws InterruptedException {
+        final RestClient restClient = httpClientFactory.restClientBuilder(STORE).baseUrl(getBaseUrl()).build();
+        final CompletableFuture<Void> slowRequest = CompletableFuture.runAsync(() ->
+                restClient.get().uri("/slow").retrieve().toBodilessEntity());
+        Assertions.assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThatThrownBy(() -> restClient.get().uri("/hello").retrieve().body(String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("No connection available to 'store'");
+        Assertions.assertThat(httpClientFactory.restClientBuilder("rating").baseUrl(getBaseUrl()).build()
+                .get().uri("/hello").retrieve().body(String.class)).isEqualTo("HOLA");
+        Assertions.assertThat(meterRegistry.get("http.client.pool.rejected").tag("downstream", STORE).counter().count()).isEqualTo(1.0);
+
+        released.countDown();
+        slowRequest.join();
+        Assertions.assertThat(meterRegistry.get("http.client.pool.active").tag("downstream", STORE).gauge().value()).isZero();
+    }
+
+    private String getBaseUrl() {
+        return "http://localhost:%d".formatted(httpServer.getAddress().getPort());
+    }
+}
@@ -0,0 +1,56 @@
+package com.tokioschool.httpclient;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+class HttpClientKeepAliveEnvironmentPostProcessorUTest {
+
+    private final HttpClientKeepAliveEnvironmentPostProcessor postProcessor = new HttpClientKeepAliveEnvironmentPostProcessor();
+    private String previous;
+
+    @BeforeEach
+    void init() {
+        previous = System.clearProperty(HttpClientKeepAliveEnvironmentPostProcessor.JDK_KEEP_ALIVE_PROPERTY);
+    }
+
+    @AfterEach
+    void restore() {
+        if (previous == null) {
+            System.clearProperty(HttpClientKeepAliveEnvironmentPostProcessor.JDK_KEEP_ALIVE_PROPERTY);
+        } else {
+            System.setProperty(HttpClientKeepAliveEnvironmentPostProcessor.JDK_KEEP_ALIVE_PROPERTY, previous);
+        }
+    }
+
+    @Test
+    void givenKeepAlive_whenPostProcessEnvironment_thenSetJdkProperty() {
+        final MockEnvironment environment = new MockEnvironment()
+                .withProperty(HttpClientKeepAliveEnvironmentPostProcessor.KEEP_ALIVE_PROPERTY, "PT45S");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        Assertions.assertThat(System.getProperty(HttpClientKeepAliveEnvironmentPostProcessor.JDK_KEEP_ALIVE_PROPERTY)).isEqualTo("45");
+    }
+
+    @Test
+    void givenNoKeepAlive_whenPostProcessEnvironment_thenSetDefault() {
+        postProcessor.postProcessEnvironment(new MockEnvironment(), new SpringApplication());
+
+        Assertions.assertThat(System.getProperty(HttpClientKeepAliveEnvironmentPostProcessor.JDK_KEEP_ALIVE_PROPERTY)).isEqualTo("30");
+    }
+
+    @Test
+    void givenJdkPropertyAlreadySet_whenPostProcessEnvironment_thenKeepIt() {
+        System.setProperty(HttpClientKeepAliveEnvironmentPostProcessor.JDK_KEEP_ALIVE_PROPERTY, "10");
+        final MockEnvironment environment = new MockEnvironment()
+                .withProperty(HttpClientKeepAliveEnvironmentPostProcessor.KEEP_ALIVE_PROPERTY, "PT45S");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        Assertions.assertThat(System.getProperty(HttpClientKeepAliveEnvironmentPostProcessor.JDK_KEEP_ALIVE_PROPERTY)).isEqualTo("10");
+    }
+}
@@ -0,0 +1,262 @@
+package com.tokioschool.httpclient.resilience;
+
+import com.tokioschool.httpclient.properties.ResilienceProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ResilientExecutorUTest {
+
+    private static final String DOWNSTREAM = "test";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private MeterRegistry meterRegistry;
+    private ResilienceRegistry resilienceRegistry;
+
+    @BeforeEach
+    void init() {
+        final ResilienceProperty.Policy policy = new ResilienceProperty.Policy(Duration.ofMillis(200), 1, Duration.ZERO,
+                50, Duration.ofSeconds(5), 100, 4, 4, Duration.ofSeconds(30), 1);
+        meterRegistry = new SimpleMeterRegistry();
+        resilienceRegistry = new ResilienceRegistry(new ResilienceProperty(null, Map.of(DOWNSTREAM, policy)),
+                meterRegistry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilienceRegistry.destroy();
+    }
+
+    @Test
+    void givenFailingDownstream_whenExecute_thenOpenCircuitAndProbeAfterWait() {
+        final ResilientExecutor resilientExecutor = resilienceRegistry.getExecutor(DOWNSTREAM);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThat(resilientExecutor.execute(ResilientExecutorUTest::fail, e -> "fallback"))
+                    .isEqualTo("fallback");
+        }
+        Assertions.assertThat(resilientExecutor.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        final AtomicReference<RuntimeException> rejected = new AtomicReference<>();
+        resilientExecutor.execute(() -> "ok", e -> {
+            rejected.set(e);
+            return "fallback";
+        });
+        Assertions.assertThat(rejected.get()).isInstanceOf(DownstreamUnavailableException.class)
+                .extracting("reason").isEqualTo(DownstreamUnavailableException.Reason.CIRCUIT_OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        Assertions.assertThat(resilientExecutor.execute(() -> "ok", e -> "fallback")).isEqualTo("ok");
+        Assertions.assertThat(resilientExecutor.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        Assertions.assertThat(meterRegistry.get("resilience.calls").tag("downstream", DOWNSTREAM)
+                .tag("kind", "not_permitted").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("resilience.circuitbreaker.state").tag("downstream", DOWNSTREAM)
+                .tag("state", "closed").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void givenContextMap_whenExecute_thenCallSeesCallerContextMap() {
+        final ResilientExecutor resilientExecutor = resilienceRegistry.getExecutor(DOWNSTREAM);
+        MDC.put("requestID", "request-1");
+        try {
+            Assertions.assertThat(resilientExecutor.execute(() -> MDC.get("requestID"), e -> "fallback"))
+                    .isEqualTo("request-1");
+        } finally {
+            MDC.remove("requestID");
+        }
+
+        // the worker thread does not keep the context map of the previous call
+        Assertions.assertThat(resilientExecutor.execute(() -> MDC.get("requestID"), e -> "fallback")).isNull();
+    }
+
+    @Test
+    void givenFailingProbe_whenHalfOpen_thenOpenAgain() {
+        final ResilientExecutor resilientExecutor = resilienceRegistry.getExecutor(DOWNSTREAM);
+        for (int i = 0; i < 4; i++) {
+            resilientExecutor.execute(ResilientExecutorUTest::fail, e -> "fallback");
+        }
+        clock.advance(Duration.ofSeconds(30));
+
+        resilientExecutor.execute(ResilientExecutorUTest::fail, e -> "fallback");
+
+        Assertions.assertThat(resilientExecutor.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void givenSlowButSuccessfulProbe_whenHalfOpen_thenCloseWithTheRateThresholds() {
+        final CircuitBreaker circuitBreaker = openHalfOpenCircuitBreaker();
+
+        probe(circuitBreaker, false, Duration.ofSeconds(6));
+        probe(circuitBreaker, false, Duration.ofMillis(10));
+        probe(circuitBreaker, false, Duration.ofMillis(10));
+
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenFailedProbesOverThreshold_whenHalfOpen_thenOpenAgain() {
+        final CircuitBreaker circuitBreaker = openHalfOpenCircuitBreaker();
+
+        probe(circuitBreaker, true, Duration.ofMillis(10));
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        probe(circuitBreaker, true, Duration.ofMillis(10));
+        probe(circuitBreaker, false, Duration.ofMillis(10));
+
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void givenClientErrors_whenExecute_thenKeepCircuitClosed() {
+        final ResilientExecutor resilientExecutor = resilienceRegistry.getExecutor(DOWNSTREAM);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThatThrownBy(() -> resilientExecutor.execute(() -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }, e -> {
+                throw e;
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        Assertions.assertThat(resilientExecutor.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenSlowCall_whenExecute_thenTimeoutAndInterrupt() throws InterruptedException {
+        final ResilientExecutor resilientExecutor = resilienceRegistry.getExecutor(DOWNSTREAM);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        final DownstreamUnavailableException.Reason reason = resilientExecutor.execute(() -> {
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        }, e -> ((DownstreamUnavailableException) e).getReason());
+
+        Assertions.assertThat(reason).isEqualTo(DownstreamUnavailableException.Reason.TIMEOUT);
+        Assertions.assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void givenSlowCallThatEndsAfterTimeout_whenExecute_thenReleaseItsResult() throws InterruptedException {
+        final ResilientExecutor resilientExecutor = resilienceRegistry.getExecutor(DOWNSTREAM);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final AtomicReference<String> releasedResult = new AtomicReference<>();
+
+        final String result = resilientExecutor.execute(() -> {
+            // the response is already open, the interrupt does not stop the call
+            while (finish.getCount() > 0) {
+                try {
+                    finish.await();
+                } catch (InterruptedException ignored) {
+                    // keep waiting
+                }
+            }
+            return "open response";
+        }, openResponse -> {
+            releasedResult.set(openResponse);
+            released.countDown();
+        }, e -> "fallback");
+        finish.countDown();
+
+        Assertions.assertThat(result).isEqualTo("fallback");
+        Assertions.assertThat(released.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(releasedResult.get()).isEqualTo("open response");
+    }
+
+    @Test
+    void givenBusyBulkhead_whenExecute_thenRejectWithoutCalling() throws Exception {
+        final ResilientExecutor resilientExecutor = resilienceRegistry.getExecutor(DOWNSTREAM);
+        final CountDownLatch calling = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> resilientExecutor.execute(() -> {
+            calling.countDown();
+            release.await();
+            return "ok";
+        }, e -> "fallback"));
+        Assertions.assertThat(calling.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final String result = resilientExecutor.execute(() -> "ok", e ->
+                ((DownstreamUnavailableException) e).getReason().name());
+        release.countDown();
+
+        Assertions.assertThat(result).isEqualTo(DownstreamUnavailableException.Reason.BULKHEAD_FULL.name());
+        Assertions.assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        Assertions.assertThat(meterRegistry.get("resilience.bulkhead.available").tag("downstream", DOWNSTREAM)
+                .gauge().value()).isEqualTo(1);
+    }
+
+    /**
+     * Crea un cortocircuito con 3 llamadas de prueba, lo abre y lo deja semiabierto.
+     */
+    private CircuitBreaker openHalfOpenCircuitBreaker() {
+        final CircuitBreaker circuitBreaker = new CircuitBreaker(DOWNSTREAM, new ResilienceProperty.Policy(Duration.ofMillis(200),
+                1, Duration.ZERO, 50, Duration.ofSeconds(5), 100, 4, 4, Duration.ofSeconds(30), 3), clock);
+        for (int i = 0; i < 4; i++) {
+            probe(circuitBreaker, true, Duration.ofMillis(10));
+        }
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        clock.advance(Duration.ofSeconds(30));
+        return circuitBreaker;
+    }
+
+    private static void probe(CircuitBreaker circuitBreaker, boolean failure, Duration duration) {
+        Assertions.assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        if (failure) {
+            circuitBreaker.onError(duration);
+        } else {
+            circuitBreaker.onSuccess(duration);
+        }
+    }
+
+    private static String fail() {
+        throw new ResourceAccessException("Connection refused");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.tokioschool.httpclient.token;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.client.response.MockRestResponseCreators;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+class BearerTokenInterceptorUTest {
+
+    private static final String URL = "http://localhost/resource";
+
+    private final AtomicReference<String> token = new AtomicReference<>("token-1");
+    private final List<String> rejectedTokens = new ArrayList<>();
+
+    @Test
+    void givenRejectedToken_whenRequest_thenRenewTokenAndRetryOnce() {
+        final RestClient.Builder builder = RestClient.builder()
+                .requestInterceptor(new BearerTokenInterceptor(token::get, rejectedToken -> {
+                    rejectedTokens.add(rejectedToken);
+                    token.set("token-2");
+                }));
+        final MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(MockRestRequestMatchers.requestTo(URL))
+                .andExpect(MockRestRequestMatchers.method(HttpMethod.POST))
+                .andExpect(MockRestRequestMatchers.header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andRespond(MockRestResponseCreators.withUnauthorizedRequest());
+        server.expect(MockRestRequestMatchers.requestTo(URL))
+                .andExpect(MockRestRequestMatchers.header(HttpHeaders.AUTHORIZATION, "Bearer token-2"))
+                .andExpect(MockRestRequestMatchers.content().string("body"))
+                .andRespond(MockRestResponseCreators.withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        final String response = builder.build().post().uri(URL).body("body").retrieve().body(String.class);
+
+        Assertions.assertThat(response).isEqualTo("ok");
+        Assertions.assertThat(rejectedTokens).containsExactly("token-1");
+        server.verify();
+    }
+
+    @Test
+    void givenRenewedTokenAlsoRejected_whenRequest_thenFailWithoutMoreRetries() {
+        final RestClient.Builder builder = RestClient.builder()
+                .requestInterceptor(new BearerTokenInterceptor(token::get, rejectedTokens::add));
+        final MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(MockRestRequestMatchers.requestTo(URL))
+                .andRespond(MockRestResponseCreators.withUnauthorizedRequest());
+        server.expect(MockRestRequestMatchers.requestTo(URL))
+                .andRespond(MockRestResponseCreators.withUnauthorizedRequest());
+
+        Assertions.assertThatThrownBy(() -> builder.build().get().uri(URL).retrieve().body(String.class))
+                .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+        Assertions.assertThat(rejectedTokens).containsExactly("token-1");
+        server.verify();
+    }
+
+    @Test
+    void givenAcceptedToken_whenRequest_thenSendItOnce() {
+        final RestClient.Builder builder = RestClient.builder()
+                .requestInterceptor(new BearerTokenInterceptor(token::get, rejectedTokens::add));
+        final MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(MockRestRequestMatchers.requestTo(URL))
+                .andExpect(MockRestRequestMatchers.header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andRespond(MockRestResponseCreators.withStatus(HttpStatus.NOT_FOUND));
+
+        Assertions.assertThatThrownBy(() -> builder.build().get().uri(URL).retrieve().body(String.class))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+        Assertions.assertThat(rejectedTokens).isEmpty();
+        server.verify();
+    }
+}
@@ -0,0 +1,215 @@
+package com.tokioschool.httpclient.token;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class ServiceTokenManagerUTest {
+
+    private static final String KEY = "consumer";
+    private static final long EXPIRES_IN = 3600;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+    private ServiceTokenManagerFactory serviceTokenManagerFactory;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        serviceTokenManagerFactory = new ServiceTokenManagerFactory(Duration.ofSeconds(30), meterRegistry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceTokenManagerFactory.destroy();
+    }
+
+    @Test
+    void givenValidToken_whenGetToken_thenLoadOnce() {
+        final ServiceTokenManager<String> serviceTokenManager = serviceTokenManagerFactory.create("test",
+                key -> ServiceToken.of("token-%d".formatted(loads.incrementAndGet()), clock.instant(), EXPIRES_IN));
+
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-1");
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-1");
+        Assertions.assertThat(serviceTokenManager.getToken("producer")).isEqualTo("token-2");
+        Assertions.assertThat(meterRegistry.get("service.token.refresh").tag("token", "test").tag("outcome", "success")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenConcurrentReadersWithoutToken_whenGetToken_thenLoadOnce() throws InterruptedException {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ServiceTokenManager<String> serviceTokenManager = serviceTokenManagerFactory.create("test", key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return ServiceToken.of("token", clock.instant(), EXPIRES_IN);
+        });
+
+        final List<CompletableFuture<String>> readers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> serviceTokenManager.getToken(KEY)))
+                .toList();
+        Assertions.assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        Assertions.assertThat(readers).allSatisfy(reader -> Assertions.assertThat(reader.join()).isEqualTo("token"));
+        Assertions.assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenTokenAboutToExpire_whenGetToken_thenReturnCurrentTokenWhileRefreshing() throws InterruptedException {
+        final CountDownLatch refreshing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ServiceTokenManager<String> serviceTokenManager = serviceTokenManagerFactory.create("test", key -> {
+            if (loads.incrementAndGet() > 1) {
+                refreshing.countDown();
+                await(release);
+            }
+            return ServiceToken.of("token-%d".formatted(loads.get()), clock.instant(), EXPIRES_IN);
+        });
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-1");
+
+        // dentro de la antelación de renovación, el token sigue siendo válido
+        clock.advance(Duration.ofSeconds(EXPIRES_IN - 10));
+
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-1");
+        Assertions.assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-1");
+        release.countDown();
+
+        awaitToken(serviceTokenManager, "token-2");
+        Assertions.assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void givenRejectedBackgroundRefresh_whenGetToken_thenReleaseRefreshAndLoadOnExpiry() {
+        final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.shutdown();
+        try {
+            final ServiceTokenManager<String> serviceTokenManager = new ServiceTokenManager<>("test",
+                    key -> ServiceToken.of("token-%d".formatted(loads.incrementAndGet()), clock.instant(), EXPIRES_IN),
+                    Duration.ofSeconds(30), clock, scheduledExecutorService, executorService, meterRegistry);
+            Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-1");
+
+            // la renovación en segundo plano se rechaza, pero el token sigue siendo válido
+            clock.advance(Duration.ofSeconds(EXPIRES_IN - 10));
+            Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-1");
+
+            // al caducar, la renovación no queda bloqueada por la rechazada
+            clock.advance(Duration.ofSeconds(20));
+            Assertions.assertThat(CompletableFuture.supplyAsync(() -> serviceTokenManager.getToken(KEY)))
+                    .succeedsWithin(Duration.ofSeconds(5))
+                    .isEqualTo("token-2");
+        } finally {
+            scheduledExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenFailingLoader_whenGetToken_thenThrowAndCountFailure() {
+        final ServiceTokenManager<String> serviceTokenManager = serviceTokenManagerFactory.create("test", key -> {
+            throw new IllegalStateException("Authentication failed");
+        });
+
+        Assertions.assertThatThrownBy(() -> serviceTokenManager.getToken(KEY))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Authentication failed");
+        Assertions.assertThat(meterRegistry.get("service.token.refresh.failures").tag("token", "test").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void givenExpiredToken_whenGetToken_thenLoadNewToken() {
+        final ServiceTokenManager<String> serviceTokenManager = serviceTokenManagerFactory.create("test",
+                key -> ServiceToken.of("token-%d".formatted(loads.incrementAndGet()), clock.instant(), EXPIRES_IN));
+        serviceTokenManager.getToken(KEY);
+
+        clock.advance(Duration.ofSeconds(EXPIRES_IN));
+
+        awaitToken(serviceTokenManager, "token-2");
+    }
+
+    @Test
+    void givenRejectedToken_whenInvalidate_thenLoadNewTokenOnlyOnce() {
+        final ServiceTokenManager<String> serviceTokenManager = serviceTokenManagerFactory.create("test",
+                key -> ServiceToken.of("token-%d".formatted(loads.incrementAndGet()), clock.instant(), EXPIRES_IN));
+        serviceTokenManager.getToken(KEY);
+
+        serviceTokenManager.invalidate(KEY, "token-1");
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-2");
+
+        // another request rejected with the same token keeps the renewed one
+        serviceTokenManager.invalidate(KEY, "token-1");
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo("token-2");
+        Assertions.assertThat(loads).hasValue(2);
+    }
+
+    private static void awaitToken(ServiceTokenManager<String> serviceTokenManager, String expected) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!expected.equals(serviceTokenManager.getToken(KEY)) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        Assertions.assertThat(serviceTokenManager.getToken(KEY)).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch countDownLatch) {
+        try {
+            countDownLatch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reloj que se puede adelantar durante la prueba.
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
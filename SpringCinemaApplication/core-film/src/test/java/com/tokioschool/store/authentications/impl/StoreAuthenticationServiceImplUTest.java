@@ -0,0 +1,204 @@
+package com.tokioschool.store.authentications.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.httpclient.token.ServiceTokenManagerFactory;
+import com.tokioschool.store.dto.AuthResponseDto;
+import com.tokioschool.store.properties.StoreLoginProperty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreAuthenticationServiceImplUTest {
+
+    @Mock
+    public RestClient restClient;
+
+    @Mock
+    private RestClient.RequestBodyUriSpec requestBodyUriSpec;
+
+    @Mock
+    private RestClient.ResponseSpec responseSpec;
+
+    private final ServiceTokenManagerFactory serviceTokenManagerFactory =
+            new ServiceTokenManagerFactory(Duration.ofSeconds(30), new SimpleMeterRegistry(), Clock.systemUTC());
+
+    public StoreAuthenticationServiceImpl storeAuthenticationService;
+
+    private static final String RESOURCE_PATH = "/store/api/auth";
+    private static final String USERNAME_LOGIN_DEFAULT  =   "user";
+
+    @BeforeEach
+    void setUp() {
+        // the first user is the default user
+        StoreLoginProperty storeLoginProperty = new StoreLoginProperty(List.of(
+                new StoreLoginProperty.UserStore(USERNAME_LOGIN_DEFAULT, "passwordEncoded"),
+                new StoreLoginProperty.UserStore("test", "passwordEncoded")));
+        storeAuthenticationService = new StoreAuthenticationServiceImpl(RESOURCE_PATH, storeLoginProperty,
+                restClient, serviceTokenManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceTokenManagerFactory.destroy();
+    }
+
+    @Test
+    void givenNewAuthenticationByDefault_whenGetAccessToken_thenTokenIsGenerated() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        AuthResponseDto authenticationResponseDTO = AuthResponseDto.builder().accessToken("secret").expiresIn( System.currentTimeMillis() + 3600 * 1000  ).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(authenticationResponseDTO);
+
+        String token = storeAuthenticationService.getAccessToken();
+        assertNotNull(token);
+    }
+
+    @Test
+    void givenValidUserName_whenGetAccessToken_thenTokenIsReturned() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        AuthResponseDto authenticationResponseDTO = AuthResponseDto.builder().accessToken("secret").expiresIn( System.currentTimeMillis() + 3600 * 1000 ).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(authenticationResponseDTO);
+
+        String token = storeAuthenticationService.getAccessToken("test");
+        assertNotNull(token);
+    }
+
+    @Test
+    void givenNullUserName_whenGetAccessToken_thenTokenIsGenerated() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        AuthResponseDto authenticationResponseDTO = AuthResponseDto.builder().accessToken("secret").expiresIn( System.currentTimeMillis() + 3600 * 1000 ).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(authenticationResponseDTO);
+
+        String token = storeAuthenticationService.getAccessToken(null);
+
+        assertEquals("secret", token);
+    }
+
+    @Test
+    void givenWhitespaceUserName_whenGetAccessToken_thenTokenIsGenerated() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        AuthResponseDto authenticationResponseDTO = AuthResponseDto.builder().accessToken("secret").expiresIn( System.currentTimeMillis() + 3600 * 1000 ).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(authenticationResponseDTO);
+
+        String token = storeAuthenticationService.getAccessToken("   ");
+
+        assertEquals("secret", token);
+    }
+
+    @Test
+    void givenEmptyUserName_whenGetAccessToken_thenTokenIsGenerated() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        AuthResponseDto authenticationResponseDTO = AuthResponseDto.builder().accessToken("secret").expiresIn( System.currentTimeMillis() + 3600 * 1000 ).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(authenticationResponseDTO);
+
+        String token = storeAuthenticationService.getAccessToken("");
+
+        assertEquals("secret", token);
+    }
+
+    @Test
+    void givenExceptionDuringAuthentication_whenGetAccessToken_thenNullIsReturned() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenThrow(new RuntimeException("Authentication failed"));
+
+        String token = storeAuthenticationService.getAccessToken("test");
+
+        assertNull(token);
+    }
+
+    @Test
+    void givenValidToken_whenGetAccessToken_thenSameTokenIsReturned() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        // expiresIn is a relative value in seconds
+        AuthResponseDto authenticationResponseDTO = AuthResponseDto.builder().accessToken("validToken").expiresIn(3600).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(authenticationResponseDTO);
+
+        String token = storeAuthenticationService.getAccessToken("test");
+        String otherToken = storeAuthenticationService.getAccessToken("test");
+
+        assertEquals("validToken", token);
+        assertEquals("validToken", otherToken);
+        // only one login in the store
+        Mockito.verify(restClient, Mockito.times(1)).post();
+    }
+
+    @Test
+    void givenExpiredToken_whenGetAccessToken_thenNewTokenIsGenerated() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        AuthResponseDto expiredResponseDTO = AuthResponseDto.builder().accessToken("secret expired").expiresIn(0).build();
+        AuthResponseDto authenticationResponseDTO = AuthResponseDto.builder().accessToken("secret").expiresIn(3600).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(expiredResponseDTO, authenticationResponseDTO);
+
+        storeAuthenticationService.getAccessToken("test");
+        String token = storeAuthenticationService.getAccessToken("test");
+
+        assertEquals("secret", token);
+        Mockito.verify(restClient, Mockito.times(2)).post();
+    }
+
+    @Test
+    void givenDifferentUsers_whenGetAccessToken_thenEachUserHasItsToken() {
+        configurationMockGetTokenW();
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+
+        AuthResponseDto testResponseDTO = AuthResponseDto.builder().accessToken("secret test").expiresIn(3600).build();
+        AuthResponseDto defaultResponseDTO = AuthResponseDto.builder().accessToken("secret user").expiresIn(3600).build();
+        Mockito.when(responseSpec.body(AuthResponseDto.class)).thenReturn(testResponseDTO, defaultResponseDTO);
+
+        assertEquals("secret test", storeAuthenticationService.getAccessToken("test"));
+        assertEquals("secret user", storeAuthenticationService.getAccessToken());
+        assertEquals("secret test", storeAuthenticationService.getAccessToken("TEST"));
+    }
+
+    @Test
+    void givenStoreAuthResponse_whenDeserialize_thenAccessTokenAndExpiresInAreRead() throws Exception {
+        AuthResponseDto authResponseDto = new ObjectMapper()
+                .readValue("{\"access_token\":\"secret\",\"expires_in\":3600}", AuthResponseDto.class);
+
+        assertEquals("secret", authResponseDto.accessToken());
+        assertEquals(3600, authResponseDto.expiresIn());
+    }
+
+    /**
+     * Recollection of the configuration of the mock objects for the test of the method getAccessToken
+     * that shared more of at the one unitary case
+     *
+     */
+    private void configurationMockGetTokenW() {
+        //mock rest client
+        Mockito.when(restClient.post()).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.contentType(Mockito.any(MediaType.class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.body(Mockito.any(Map.class))).thenReturn(requestBodyUriSpec);
+    }
+
+}
\ No newline at end of file
@@ -3,6 +3,12 @@ package com.tokioschool.filmapp.domain;
 import com.tokioschool.filmapp.enums.TYPE_ARTIST;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CurrentTimestamp;
+
+import java.time.LocalDateTime;
 
 /**
  * Representa un artista en la aplicación de películas.
@@ -10,6 +16,11 @@ import lombok.*;
  * Esta clase define la entidad `Artist` que se mapea a la tabla `artists` en la base de datos.
  * Incluye información básica como el nombre, apellido y tipo de artista.
  *
+ * Los artistas se leen mucho más de lo que se modifican, así que se guardan en la caché de segundo nivel.
+ * Con el proveedor local cada aplicación tiene su propia copia, de modo que un cambio hecho desde otra
+ * aplicación no se ve hasta que caduca la entrada: el tiempo de vida de la región {@link #CACHE_REGION}
+ * es corto por eso.
+ *
  * @author andres.rpenuela
  * @version 1.0
  */
@@ -20,8 +31,16 @@ import lombok.*;
 @Builder
 @Entity
 @Table(name = "artists") // Define el nombre de la tabla en la base de datos
+@BatchSize(size = 50)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Artist.CACHE_REGION)
 public class Artist {
 
+    /**
+     * Región de la caché de segundo nivel de los artistas.
+     */
+    public static final String CACHE_REGION = "artist";
+
     /**
      * Identificador único del artista.
      * Se genera automáticamente utilizando la estrategia de identidad.
@@ -53,4 +72,13 @@ public class Artist {
     @Enumerated(EnumType.STRING)
     private TYPE_ARTIST typeArtist;
 
+    /**
+     * Marca de tiempo de la última modificación del artista.
+     * La establece la base de datos al crearlo y al modificarlo; los índices de búsqueda la usan
+     * para recoger los cambios hechos desde otras aplicaciones.
+     */
+    @Column(name = "updated_at")
+    @CurrentTimestamp
+    private LocalDateTime updatedAt;
+
 }
\ No newline at end of file
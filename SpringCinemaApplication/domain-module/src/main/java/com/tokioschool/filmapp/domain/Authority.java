@@ -2,6 +2,8 @@ package com.tokioschool.filmapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Representa una autoridad en la aplicación.
@@ -19,8 +21,15 @@ import lombok.*;
 @Builder
 @Entity
 @Table(name = "authorities") // Define el nombre de la tabla en la base de datos
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Authority.CACHE_REGION)
 public class Authority {
 
+    /**
+     * Región de la caché de segundo nivel de las autoridades.
+     */
+    public static final String CACHE_REGION = "authority";
+
     /**
      * Identificador único de la autoridad.
      * Se genera automáticamente utilizando la estrategia de identidad.
@@ -2,9 +2,12 @@ package com.tokioschool.filmapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.CurrentTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +17,10 @@ import java.util.UUID;
  * Esta clase define la entidad `Movie` que se mapea a la tabla `movies` en la base de datos.
  * Incluye información como el título, año de lanzamiento, gerente, imagen y artistas asociados.
  *
+ * Define dos grafos de entidad para cargar las relaciones en la misma consulta que la película:
+ * {@link #ENTITY_GRAPH_SUMMARY} con las relaciones a uno, para los listados paginados, y
+ * {@link #ENTITY_GRAPH_DETAIL} añadiendo los artistas, para el detalle y los listados sin paginar.
+ *
  * @author andres.rpenuela
  * @version 1.0
  */
@@ -24,8 +31,27 @@ import java.util.UUID;
 @Builder
 @Entity
 @Table(name = "movies") // Define el nombre de la tabla en la base de datos
+@NamedEntityGraph(name = Movie.ENTITY_GRAPH_SUMMARY, attributeNodes = {
+        @NamedAttributeNode("manager"),
+        @NamedAttributeNode("createUser")
+})
+@NamedEntityGraph(name = Movie.ENTITY_GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("manager"),
+        @NamedAttributeNode("artists"),
+        @NamedAttributeNode("createUser")
+})
 public class Movie {
 
+    /**
+     * Grafo con el gerente y el usuario creador; no incluye colecciones, por lo que se puede paginar en la base de datos.
+     */
+    public static final String ENTITY_GRAPH_SUMMARY = "Movie.summary";
+
+    /**
+     * Grafo con el gerente, los artistas y el usuario creador.
+     */
+    public static final String ENTITY_GRAPH_DETAIL = "Movie.detail";
+
     /**
      * Identificador único de la película.
      * Se genera automáticamente utilizando la estrategia de identidad.
@@ -68,6 +94,7 @@ public class Movie {
      * Se utiliza una tabla intermedia `movies_artists` para gestionar la relación.
      */
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50) // si no se cargan con un grafo, se cargan los de varias películas en cada consulta
     @JoinTable(
             name = "movies_artists",
             joinColumns = {@JoinColumn(name = "movie_id")},
@@ -78,4 +105,13 @@ public class Movie {
     @OneToOne
     @JoinColumn(name = "users_id", referencedColumnName = "id")
     public User createUser;
+
+    /**
+     * Marca de tiempo de la última modificación de la película.
+     * La establece la base de datos al crearla y al modificarla; los índices de búsqueda la usan
+     * para recoger los cambios hechos desde otras aplicaciones.
+     */
+    @Column(name = "updated_at")
+    @CurrentTimestamp
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
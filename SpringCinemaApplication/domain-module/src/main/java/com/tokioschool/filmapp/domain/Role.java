@@ -2,6 +2,9 @@ package com.tokioschool.filmapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
@@ -11,6 +14,8 @@ import java.util.Set;
  * Esta clase define la entidad `Role` que se mapea a la tabla `roles` en la base de datos.
  * Incluye información como el nombre del rol, las autoridades asociadas y los alcances relacionados.
  *
+ * Los roles apenas cambian, así que tanto el rol como sus colecciones se guardan en la caché de segundo nivel.
+ *
  * @author andres.rpenuela
  * @version 1.0
  */
@@ -21,8 +26,17 @@ import java.util.Set;
 @Builder
 @Entity
 @Table(name = "roles") // Define el nombre de la tabla en la base de datos
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Role.CACHE_REGION)
 public class Role {
 
+    /**
+     * Regiones de la caché de segundo nivel del rol y de sus colecciones.
+     */
+    public static final String CACHE_REGION = "role";
+    public static final String CACHE_REGION_AUTHORITIES = "role-authorities";
+    public static final String CACHE_REGION_SCOPES = "role-scopes";
+
     /**
      * Identificador único del rol.
      * Se genera automáticamente utilizando la estrategia de identidad.
@@ -44,6 +58,8 @@ public class Role {
      * Se utiliza una tabla intermedia `roles_authorities` para gestionar la relación.
      */
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_AUTHORITIES)
     @JoinTable(
             name = "roles_authorities",
             joinColumns = {@JoinColumn(name = "ROLE_ID")},
@@ -57,6 +73,8 @@ public class Role {
      * Se utiliza una tabla intermedia `roles_scopes` para gestionar la relación.
      */
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_SCOPES)
     @JoinTable(
             name = "roles_scopes",
             joinColumns = {@JoinColumn(name = "ROLE_ID")},
@@ -2,6 +2,8 @@ package com.tokioschool.filmapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Representa un alcance en la aplicación.
@@ -19,8 +21,15 @@ import lombok.*;
 @Builder
 @Entity
 @Table(name = "scopes") // Define el nombre de la tabla en la base de datos
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Scope.CACHE_REGION)
 public class Scope {
 
+    /**
+     * Región de la caché de segundo nivel de las alcances.
+     */
+    public static final String CACHE_REGION = "scope";
+
     /**
      * Identificador único del alcance.
      * Se genera automáticamente utilizando la estrategia de identidad.
@@ -3,6 +3,7 @@ package com.tokioschool.filmapp.domain;
 import com.tokioschool.filmapp.tsId.TSId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CurrentTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -19,6 +20,10 @@ import java.util.UUID;
  * Incluye información como el nombre, apellidos, correo electrónico, credenciales,
  * fechas de creación y último inicio de sesión, imagen asociada y roles asignados.
  *
+ * El grafo de entidad {@link #ENTITY_GRAPH_ROLES} carga los roles, con sus autoridades y alcances,
+ * en la misma consulta que el usuario. Los roles de cada usuario no se guardan en la caché de segundo nivel:
+ * la asignación de roles decide los permisos, y una copia caducada en otra aplicación los mantendría tras retirarlos.
+ *
  * @author andres.rpenuela
  * @version 1.0
  */
@@ -29,8 +34,21 @@ import java.util.UUID;
 @Builder
 @Entity
 @Table(name = "users") // Define el nombre de la tabla en la base de datos
+@BatchSize(size = 50)
+@NamedEntityGraph(name = User.ENTITY_GRAPH_ROLES,
+        attributeNodes = @NamedAttributeNode(value = "roles", subgraph = "roles"),
+        subgraphs = @NamedSubgraph(name = "roles", attributeNodes = {
+                @NamedAttributeNode("authorities"),
+                @NamedAttributeNode("scopes")
+        })
+)
 public class User {
 
+    /**
+     * Grafo con los roles del usuario y sus autoridades y alcances.
+     */
+    public static final String ENTITY_GRAPH_ROLES = "User.roles";
+
     /**
      * Identificador único del usuario.
      * Este campo utiliza una anotación personalizada `@TSId`.
@@ -114,6 +132,7 @@ public class User {
      * Se utiliza una tabla intermedia `users_roles` para gestionar la relación.
      */
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @JoinTable(
             name = "users_roles",
             joinColumns = {@JoinColumn(name = "user_id")},
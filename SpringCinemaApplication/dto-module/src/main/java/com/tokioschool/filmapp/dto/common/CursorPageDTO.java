@@ -0,0 +1,40 @@
+package com.tokioschool.filmapp.dto.common;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * Clase DTO (Data Transfer Object) para representar una página de resultados obtenida por cursor.
+ *
+ * A diferencia de {@link PageDTO}, no usa número de página ni desplazamiento: cada página devuelve
+ * un cursor opaco con la posición del último elemento, que se envía para pedir la página siguiente.
+ * El coste de obtener una página no depende de lo lejos que esté del principio.
+ *
+ * @param <T> el tipo de los elementos contenidos en la página.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Builder
+@Value
+@Jacksonized
+public class CursorPageDTO<T> {
+
+    /**
+     * Lista de elementos contenidos en la página.
+     */
+    List<T> items;
+
+    /**
+     * Tamaño de la página pedido (número máximo de elementos por página).
+     */
+    int pageSize;
+
+    /**
+     * Cursor para obtener la página siguiente, o nulo si no hay más elementos.
+     */
+    String nextCursor;
+}
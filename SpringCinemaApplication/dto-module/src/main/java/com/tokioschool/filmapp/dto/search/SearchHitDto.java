@@ -0,0 +1,50 @@
+package com.tokioschool.filmapp.dto.search;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Clase DTO (Data Transfer Object) para representar un resultado de la búsqueda de texto completo.
+ *
+ * Cada resultado es una película o un artista, con su puntuación de relevancia; los resultados
+ * se devuelven ordenados de mayor a menor puntuación.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Builder
+@Value
+@Jacksonized
+public class SearchHitDto {
+
+    /**
+     * Tipos de elementos que devuelve la búsqueda.
+     */
+    public enum Type { MOVIE, ARTIST }
+
+    /**
+     * Tipo del elemento encontrado.
+     */
+    Type type;
+
+    /**
+     * Identificador de la película o del artista.
+     */
+    Long id;
+
+    /**
+     * Título de la película, o nombre y apellido del artista.
+     */
+    String title;
+
+    /**
+     * Año de lanzamiento de la película; nulo para los artistas.
+     */
+    Integer releaseYear;
+
+    /**
+     * Puntuación de relevancia del resultado.
+     */
+    float score;
+}
@@ -0,0 +1,47 @@
+package com.tokioschool.filmapp.dto.suggest;
+
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Clase DTO (Data Transfer Object) para representar una sugerencia del autocompletado.
+ *
+ * Cada sugerencia es una película o un artista cuyo título o nombre empieza, en alguna de sus palabras,
+ * por el texto escrito; las sugerencias se devuelven ordenadas de mayor a menor popularidad.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Builder
+@Value
+@Jacksonized
+public class SuggestionDto {
+
+    /**
+     * Tipo del elemento sugerido.
+     */
+    SearchHitDto.Type type;
+
+    /**
+     * Identificador de la película o del artista.
+     */
+    Long id;
+
+    /**
+     * Título de la película, o nombre y apellido del artista.
+     */
+    String label;
+
+    /**
+     * Año de lanzamiento de la película; nulo para los artistas.
+     */
+    Integer releaseYear;
+
+    /**
+     * Popularidad del elemento: número de calificaciones de la película, o suma de las calificaciones
+     * de las películas en las que participa el artista.
+     */
+    long popularity;
+}
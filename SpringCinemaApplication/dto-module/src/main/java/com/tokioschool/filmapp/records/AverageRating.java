@@ -1,5 +1,6 @@
 package com.tokioschool.filmapp.records;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 
 /**
@@ -18,4 +19,23 @@ import lombok.Builder;
  */
 @Builder
 public record AverageRating(Double average, Long ratings) {
+
+    /**
+     * Crea la calificación promedio de una película cuando el servicio de calificaciones no está disponible.
+     *
+     * @return Una calificación promedio sin valor ni número de calificaciones.
+     */
+    public static AverageRating unavailable() {
+        return new AverageRating(null, null);
+    }
+
+    /**
+     * Comprueba si la calificación promedio no pudo obtenerse.
+     *
+     * @return {@code true} si el servicio de calificaciones no estaba disponible, {@code false} en caso contrario.
+     */
+    @JsonIgnore
+    public boolean isUnavailable() {
+        return average == null && ratings == null;
+    }
 }
\ No newline at end of file
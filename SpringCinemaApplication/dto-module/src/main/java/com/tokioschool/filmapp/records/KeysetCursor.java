@@ -0,0 +1,77 @@
+package com.tokioschool.filmapp.records;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Registro que representa la posición de un cursor de paginación por clave (keyset).
+ *
+ * Guarda la clave de ordenación y el identificador del último elemento devuelto, de forma que la
+ * página siguiente se obtiene con `WHERE (sortKey, id) > (?, ?)`. Se envía al cliente codificado
+ * en Base64 URL-safe, por lo que para el cliente es un valor opaco.
+ *
+ * @param sortKey Clave de ordenación del último elemento, o nula si se ordena solo por identificador.
+ * @param id Identificador del último elemento.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record KeysetCursor(String sortKey, String id) {
+
+    /** Separador entre la clave de ordenación y el identificador. */
+    private static final char SEPARATOR = '\u001F';
+
+    public KeysetCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("The id of cursor is required");
+        }
+    }
+
+    /**
+     * Crea un cursor ordenado solo por identificador.
+     *
+     * @param id Identificador del último elemento.
+     * @return El cursor.
+     */
+    public static KeysetCursor of(Object id) {
+        return new KeysetCursor(null, String.valueOf(id));
+    }
+
+    /**
+     * Crea un cursor ordenado por una clave y, a igualdad de clave, por identificador.
+     *
+     * @param sortKey Clave de ordenación del último elemento.
+     * @param id Identificador del último elemento.
+     * @return El cursor.
+     */
+    public static KeysetCursor of(String sortKey, Object id) {
+        return new KeysetCursor(sortKey, String.valueOf(id));
+    }
+
+    /**
+     * Codifica el cursor como un valor opaco para el cliente.
+     *
+     * @return El cursor codificado.
+     */
+    public String encode() {
+        final String raw = sortKey == null ? id : sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido del cliente.
+     *
+     * @param cursor El cursor codificado.
+     * @return El cursor decodificado.
+     * @throws IllegalArgumentException Si el cursor no tiene un formato válido.
+     */
+    public static KeysetCursor decode(String cursor) throws IllegalArgumentException {
+        final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        // el identificador nunca contiene el separador, la clave de ordenación sí podría
+        final int separator = raw.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            return new KeysetCursor(null, raw);
+        }
+        return new KeysetCursor(raw.substring(0, separator), raw.substring(separator + 1));
+    }
+}
@@ -0,0 +1,13 @@
+package com.tokioschool.filmapp.records;
+
+/**
+ * Registro que representa el número de calificaciones de una película.
+ *
+ * @param filmId Identificador de la película.
+ * @param ratings Número total de calificaciones recibidas.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record RatingCount(Long filmId, Long ratings) {
+}
@@ -1,7 +1,9 @@
 package com.tokioschool.filmapp.controller;
 
 import com.tokioschool.filmapp.dto.artist.ArtistDto;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.core.exception.ValidacionException;
+import com.tokioschool.filmapp.records.SearchArtistRecord;
 import com.tokioschool.filmapp.services.artist.ArtistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -26,8 +29,8 @@ import java.util.stream.Collectors;
 /**
  * Controlador REST para gestionar operaciones relacionadas con artistas.
  *
- * Este controlador proporciona endpoints para registrar artistas y obtener
- * una lista de todos los artistas registrados en el sistema.
+ * Este controlador proporciona endpoints para registrar artistas, obtener
+ * una lista de todos los artistas registrados en el sistema y recorrerlos por cursor.
  *
  * Anotaciones:
  * - {@link RestController}: Indica que esta clase es un controlador REST.
@@ -138,4 +141,62 @@ public class ArtistApiController {
     public ResponseEntity<List<ArtistDto>> findAllArtists() {
         return ResponseEntity.ok(artistService.findByAll());
     }
-}
\ No newline at end of file
+
+    /**
+     * Endpoint para buscar artistas paginando por cursor.
+     *
+     * Este metodo devuelve los artistas, ordenados por apellido, que cumplen los criterios de búsqueda,
+     * junto con el cursor para obtener la página siguiente.
+     *
+     * @param cursor Cursor devuelto por la página anterior; si no se indica, devuelve la primera página.
+     * @param pageSize Número de registros por página (por defecto: 10).
+     * @param name Texto que debe contener el nombre del artista.
+     * @param surname Texto que debe contener el apellido del artista.
+     * @param type Tipo de artista.
+     * @return Una respuesta HTTP con la página de artistas y un código de estado 200 (OK).
+     */
+    @Operation(
+            summary = "Buscar artistas paginando por cursor",
+            description = "Este endpoint permite recorrer los artistas registrados en el sistema. Cada página devuelve el cursor de la siguiente.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Página de artistas obtenida exitosamente",
+                            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Cursor no válido",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "No autorizado",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Error interno del servidor",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "auth-openapi")
+    public ResponseEntity<CursorPageDTO<ArtistDto>> scrollArtists(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Min(0) @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "surname", required = false) String surname,
+            @RequestParam(value = "type", required = false) String type) {
+        final SearchArtistRecord searchArtistRecord = SearchArtistRecord.builder()
+                .name(name)
+                .surname(surname)
+                .type(type)
+                .build();
+
+        return ResponseEntity.ok(artistService.searchArtistByCursor(cursor, pageSize, searchArtistRecord));
+    }
+}
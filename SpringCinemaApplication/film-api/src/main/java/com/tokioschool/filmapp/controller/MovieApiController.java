@@ -3,6 +3,7 @@ package com.tokioschool.filmapp.controller;
 import com.tokioschool.core.exception.NotFoundException;
 import com.tokioschool.core.exception.ValidacionException;
 import com.tokioschool.filmapp.controller.schemas.MovieFormRequestSchema;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.movie.FilterMovie;
 import com.tokioschool.filmapp.dto.movie.MovieDto;
@@ -21,6 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -112,6 +114,55 @@ public class MovieApiController {
         return ResponseEntity.ok( movieService.searchMovie(searchMovieRecord) );
     }
 
+    /**
+     * Endpoint para buscar películas por título y/o rango de años de lanzamiento, paginando por cursor.
+     *
+     * Pensado para clientes con scroll infinito: cada página devuelve el cursor de la siguiente y el coste
+     * de obtenerla no depende de su profundidad.
+     *
+     * @param cursor Cursor devuelto por la página anterior; si no se indica, devuelve la primera página.
+     * @param pageSize Número de registros por página (por defecto: 10).
+     * @param filterMovie Objeto {@link FilterMovie} con los filtros de búsqueda.
+     * @return Una respuesta HTTP con los resultados de la búsqueda y un código de estado 200 (OK).
+     */
+    @Operation(
+            summary = "Buscar películas por título o rango de años paginando por cursor",
+            description = "Permite recorrer las películas, ordenadas por ID, proporcionando un título y/o un rango de años de lanzamiento. Cada página devuelve el cursor de la siguiente.",
+            parameters = {
+                    @Parameter(name = "cursor", description = "Cursor devuelto por la página anterior (por defecto: primera página)", required = false),
+                    @Parameter(name = "pageSize", description = "Número de registros por página (por defecto: 10)", required = false, example = "10"),
+                    @Parameter(name = "filter", description = "Objeto de filtro con título y rango de años", required = false, content = @Content(mediaType = "application/json", schema = @Schema(implementation = FilterMovie.class)))
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Resultados de búsqueda obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Solicitud inválida o cursor no válido", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(mediaType = "application/json"))
+            }
+    )
+    @SecurityRequirement(name = "auth-openapi")
+    @GetMapping(value = "/scroll", consumes = {MediaType.ALL_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPageDTO<MovieDto>> scrollMoviesHandler(
+            @RequestParam(value = "cursor",required = false) String cursor,
+            @Min(0) @RequestParam(value = "pageSize",required = false, defaultValue = "10") int pageSize,
+            @RequestPart(value = "filter",required = false) FilterMovie filterMovie
+    ){
+
+        filterMovie = Optional.ofNullable(filterMovie).orElse(new FilterMovie());
+
+        SearchMovieRecord searchMovieRecord = SearchMovieRecord.builder()
+                .title(filterMovie.getTitle())
+                .rangeReleaseYear(new RangeReleaseYear(
+                        Optional.ofNullable(filterMovie.getYearMin()).orElse(0), // Default yearMin
+                        Optional.ofNullable(filterMovie.getYearMax()).orElse(0)  // Default yearMax
+                ))
+                .pageSize(pageSize)
+                .build();
+
+        return ResponseEntity.ok( movieService.searchMovieByCursor(searchMovieRecord, cursor) );
+    }
+
     /**
      * Endpoint para obtener los detalles de una película por su ID.
      *
@@ -1,8 +1,12 @@
 package com.tokioschool.filmapp.controller;
 
 import com.tokioschool.core.exception.NotFoundException;
+import com.tokioschool.helpers.ResourceCacheHelper;
+import com.tokioschool.helpers.ResourceStreamHelper;
 import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.dto.ResourceContentStream;
 import com.tokioschool.store.facade.StoreFacade;
+import com.tokioschool.store.properties.StorePropertiesFilm;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,17 +15,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -49,14 +59,26 @@ import java.util.UUID;
 public class ResourceApiController {
 
     private final StoreFacade storeFacade;
+    private final StorePropertiesFilm storePropertiesFilm;
 
     /**
      * Endpoint para obtener el contenido de un recurso.
      *
-     * Este metodo busca un recurso por su ID y devuelve su contenido.
+     * Este metodo busca un recurso por su ID y devuelve su contenido, con el ETag del recurso y una política
+     * de caché inmutable. Si la petición trae `If-None-Match`, se valida contra `store-api` sin descargar
+     * el contenido y, si no ha cambiado, se responde 304 (NOT MODIFIED).
+     *
+     * Con `application.store.streaming-proxy` activo, el contenido se reenvía en streaming desde `store-api`
+     * junto con sus cabeceras de contenido, ETag y rangos (`Range`), sin cargarlo en memoria. La petición
+     * reenvía también `If-None-Match`, por lo que el 304 de `store-api` se devuelve tal cual sin una petición
+     * previa de validación, y los errores 4xx de `store-api` (por ejemplo 404 o 416) también se devuelven tal cual.
+     * Solo si `store-api` falla o no está disponible, se valida y se obtiene el recurso completo como hasta ahora.
      *
      * @param resourceId ID del recurso a buscar.
-     * @return Una respuesta HTTP con el contenido del recurso y un código de estado 200 (OK).
+     * @param ifNoneMatch ETags del recurso que ya tiene el cliente, si los tiene.
+     * @param requestHeaders Cabeceras de la petición, que se reenvían a `store-api` en streaming.
+     * @return Una respuesta HTTP con el contenido del recurso y un código de estado 200 (OK) o 206 (PARTIAL CONTENT),
+     * o sin contenido y un código de estado 304 (NOT MODIFIED).
      * @throws NotFoundException Si el recurso no se encuentra o el servidor remoto está desconectado.
      */
     @Operation(
@@ -79,6 +101,14 @@ public class ResourceApiController {
                                     schema = @Schema(implementation = byte[].class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "206",
+                            description = "Parte del contenido del recurso, según la cabecera Range"
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "El recurso no ha cambiado"
+                    ),
                     @ApiResponse(
                             responseCode = "404",
                             description = "Recurso no encontrado o servidor remoto desconectado",
@@ -94,14 +124,37 @@ public class ResourceApiController {
     @SecurityRequirement(name = "auth-openapi")
     @GetMapping(value = {"/", ""}, produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<byte[]> getContentResourceHandler(@RequestParam("resourceId") @Nonnull UUID resourceId) {
+    public ResponseEntity<Resource> getContentResourceHandler(@RequestParam("resourceId") @Nonnull UUID resourceId,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Nullable String ifNoneMatch,
+                                                              @RequestHeader HttpHeaders requestHeaders) {
+        if (storePropertiesFilm.streamingProxy()) {
+            final Optional<ResourceContentStream> resourceContentStreamOpt = storeFacade.openResourceContent(resourceId, requestHeaders);
+            if (resourceContentStreamOpt.isPresent()) {
+                final ResourceContentStream resourceContentStream = resourceContentStreamOpt.get();
+                return ResourceStreamHelper.toResponseEntity(resourceContentStream.statusCode(),
+                        resourceContentStream.headers(), resourceContentStream.content());
+            }
+        }
+
+        if (ifNoneMatch != null) {
+            final Optional<String> eTagOpt = storeFacade.findResourceETagIfNotModified(resourceId, ifNoneMatch);
+            if (eTagOpt.isPresent()) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTagOpt.get())
+                        .cacheControl(ResourceCacheHelper.RESOURCE_CACHE_CONTROL)
+                        .build();
+            }
+        }
+
         final ResourceContentDto resourceContentDto = storeFacade.findResource(resourceId)
                 .orElseThrow(() -> new NotFoundException("Resource with id: %s not found! or Store Server is disconnected.".formatted(resourceId)));
 
         return ResponseEntity.ok()
+                .eTag(ResourceCacheHelper.buildEntityTag(resourceId, resourceContentDto.contentHash()))
+                .cacheControl(ResourceCacheHelper.RESOURCE_CACHE_CONTROL)
                 .contentType(MediaType.parseMediaType(resourceContentDto.contentType()))
                 .contentLength(resourceContentDto.size())
-                .body(resourceContentDto.content());
+                .body(new ByteArrayResource(resourceContentDto.content()));
     }
 
     /**
@@ -0,0 +1,174 @@
+package com.tokioschool.filmapp.controller;
+
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import com.tokioschool.filmapp.dto.suggest.SuggestionDto;
+import com.tokioschool.filmapp.services.search.SearchService;
+import com.tokioschool.filmapp.services.suggest.SuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador REST para la búsqueda de texto libre sobre películas y artistas.
+ *
+ * Este controlador proporciona endpoints para buscar en el índice de texto completo,
+ * tolerando errores tipográficos, para reconstruir el índice a partir de la base de datos
+ * y para autocompletar títulos de películas y nombres de artistas.
+ *
+ * Anotaciones:
+ * - {@link RestController}: Indica que esta clase es un controlador REST.
+ * - {@link RequestMapping}: Define la ruta base para los endpoints de este controlador.
+ * - {@link Tag}: Proporciona metadatos para la documentación de Swagger.
+ *
+ * Dependencias:
+ * - {@link SearchService}: Servicio que gestiona el índice de búsqueda.
+ * - {@link SuggestService}: Servicio que gestiona el índice de prefijos del autocompletado.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/film/api")
+@Tag(name = "search", description = "Búsqueda de texto libre sobre películas y artistas")
+public class SearchApiController {
+
+    private final SearchService searchService;
+    private final SuggestService suggestService;
+
+    /**
+     * Endpoint para buscar películas y artistas por texto.
+     *
+     * Busca en los títulos, años de estreno, directores y repartos, y devuelve los resultados
+     * ordenados por relevancia.
+     *
+     * @param query Texto a buscar.
+     * @param limit Número máximo de resultados, hasta {@link SearchService#MAX_RESULTS_LIMIT}; si es 0 se usa el configurado.
+     * @return Una respuesta HTTP con la lista de resultados y un código de estado 200 (OK).
+     */
+    @Operation(
+            summary = "Buscar películas y artistas",
+            description = "Este endpoint busca películas y artistas por texto libre, tolerando errores tipográficos, y los devuelve ordenados por relevancia.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Resultados obtenidos exitosamente",
+                            content = @Content(schema = @Schema(implementation = SearchHitDto.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "No autorizado",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Error interno del servidor",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "auth-openapi")
+    public ResponseEntity<List<SearchHitDto>> search(
+            @RequestParam(value = "q", required = false) String query,
+            @Min(0) @Max(SearchService.MAX_RESULTS_LIMIT) @RequestParam(value = "limit", required = false, defaultValue = "0") int limit) {
+        return ResponseEntity.ok(searchService.search(query, limit));
+    }
+
+    /**
+     * Endpoint para reconstruir el índice de búsqueda a partir de la base de datos.
+     *
+     * @return Una respuesta HTTP con el número de documentos indexados y un código de estado 200 (OK).
+     */
+    @Operation(
+            summary = "Reconstruir el índice de búsqueda",
+            description = "Este endpoint vuelve a indexar todas las películas y artistas del sistema.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Índice reconstruido exitosamente",
+                            content = @Content(schema = @Schema(implementation = Integer.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "No autorizado",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Prohibido",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Error interno del servidor",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @PostMapping(value = "/search/reindex", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @SecurityRequirement(name = "auth-openapi")
+    public ResponseEntity<Integer> reindex() {
+        return ResponseEntity.ok(searchService.rebuild());
+    }
+
+    /**
+     * Endpoint para autocompletar títulos de películas y nombres de artistas.
+     *
+     * Devuelve los elementos con alguna palabra que empieza por el texto escrito,
+     * ordenados por popularidad (número de calificaciones).
+     *
+     * @param prefix Texto escrito por el usuario.
+     * @param type Tipo de elemento a sugerir (MOVIE o ARTIST); si no se indica, se sugieren ambos.
+     * @param limit Número máximo de sugerencias, hasta {@link SuggestService#MAX_RESULTS_LIMIT}; si es 0 se usa el configurado.
+     * @return Una respuesta HTTP con la lista de sugerencias y un código de estado 200 (OK).
+     */
+    @Operation(
+            summary = "Autocompletar películas y artistas",
+            description = "Este endpoint sugiere películas y artistas con alguna palabra que empieza por el texto escrito, ordenados por número de calificaciones.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Sugerencias obtenidas exitosamente",
+                            content = @Content(schema = @Schema(implementation = SuggestionDto.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "No autorizado",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Error interno del servidor",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @GetMapping(value = "/suggest", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "auth-openapi")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam(value = "q", required = false) String prefix,
+            @RequestParam(value = "type", required = false) SearchHitDto.Type type,
+            @Min(0) @Max(SuggestService.MAX_RESULTS_LIMIT) @RequestParam(value = "limit", required = false, defaultValue = "0") int limit) {
+        return ResponseEntity.ok(suggestService.suggest(prefix, type, limit));
+    }
+}
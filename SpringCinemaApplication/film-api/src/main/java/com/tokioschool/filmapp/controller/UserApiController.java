@@ -2,6 +2,7 @@ package com.tokioschool.filmapp.controller;
 
 import com.tokioschool.core.exception.NotFoundException;
 import com.tokioschool.core.exception.ValidacionException;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.user.RoleDto;
 import com.tokioschool.filmapp.dto.user.UserDto;
@@ -255,6 +256,32 @@ public class UserApiController {
         return ResponseEntity.ok(userPageDTO);
     }
 
+    /**
+     * Endpoint para buscar usuarios paginando por cursor.
+     *
+     * @param searchUserRecord Criterios de búsqueda.
+     * @param cursor Cursor devuelto por la página anterior; si no se indica, devuelve la primera página.
+     * @param pageSize Tamaño de la página.
+     * @return Respuesta HTTP con los resultados de la búsqueda y el cursor de la página siguiente.
+     */
+    @Operation(
+            summary = "Buscar usuarios paginando por cursor",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Resultados de búsqueda obtenidos exitosamente", content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor no válido", content = @Content(schema = @Schema(implementation = Map.class))),
+                    @ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(schema = @Schema(implementation = Map.class)))
+            }
+    )
+    @PostMapping(value = "/search/scroll", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @SecurityRequirement(name = "auth-openapi")
+    public ResponseEntity<CursorPageDTO<UserDto>> scrollUsersHandler(@RequestPart(required = false,value = "search-user-record") SearchUserRecord searchUserRecord,
+                                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                                     @Min(0) @RequestParam(value = "page-size",required = false,defaultValue = "100") int pageSize){
+        CursorPageDTO<UserDto> userCursorPageDTO = userService.searchUsersByCursor(cursor,pageSize,searchUserRecord);
+        return ResponseEntity.ok(userCursorPageDTO);
+    }
+
     /**
      * Mapper an instance UserDto to instance UserFormDto
      * @param userDTO information of user to mapper
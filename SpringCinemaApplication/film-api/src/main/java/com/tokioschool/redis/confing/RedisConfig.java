@@ -1,10 +1,12 @@
 package com.tokioschool.redis.confing;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -53,4 +55,21 @@ public class RedisConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Crea un bean de tipo {@link RedisMessageListenerContainer}.
+     *
+     * Este bean recibe los mensajes de los canales de Redis a los que se suscribe la aplicación,
+     * como las invalidaciones de las cachés locales entre nodos.
+     *
+     * @param connectionFactory la fábrica de conexiones de Redis.
+     * @return una instancia de {@link RedisMessageListenerContainer}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.near-cache", name = "redis-invalidation", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tokioschool.redis.services.impl;
+
+import com.tokioschool.cache.NearCacheInvalidationBus;
+import com.tokioschool.cache.NearCacheProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Implementación del canal de invalidación de las cachés locales sobre Redis (publicación/suscripción).
+ *
+ * Cada invalidación se publica en el canal configurado en {@code application.near-cache.invalidation-channel}
+ * con el formato {@code <caché>:<clave>}, y todos los nodos suscritos, incluido el que la publica,
+ * eliminan la entrada de su caché local.
+ *
+ * Anotaciones:
+ * - {@link Service}: Marca esta clase como un componente de servicio de Spring.
+ * - {@link ConditionalOnProperty}: Solo se activa si {@code application.near-cache.redis-invalidation} no es {@code false}.
+ * - {@link Slf4j}: Habilita el registro de logs utilizando SLF4J.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.near-cache", name = "redis-invalidation", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RedisNearCacheInvalidationBus implements NearCacheInvalidationBus, MessageListener {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Plantilla de Redis para publicar las invalidaciones.
+     */
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String channel;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public RedisNearCacheInvalidationBus(RedisTemplate<String, String> redisTemplate,
+                                         RedisMessageListenerContainer redisMessageListenerContainer,
+                                         NearCacheProperty nearCacheProperty) {
+        this.redisTemplate = redisTemplate;
+        this.channel = nearCacheProperty.invalidationChannel();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * Publica la invalidación de una entrada; si Redis no está disponible solo se registra el error,
+     * y el resto de nodos mantienen la entrada hasta que caduque.
+     *
+     * @param cacheName El nombre de la caché.
+     * @param key La clave invalidada, como texto.
+     */
+    @Override
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, cacheName + SEPARATOR + key);
+        } catch (Exception e) {
+            log.error("No se pudo publicar la invalidación de {} en la caché {}", key, cacheName, e);
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Recibe una invalidación publicada por cualquier nodo y la aplica a la caché indicada.
+     *
+     * @param message El mensaje con el formato {@code <caché>:<clave>}.
+     * @param pattern El patrón de la suscripción.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        final int separator = body.indexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("Invalidación de caché descartada: {}", body);
+            return;
+        }
+
+        final String key = body.substring(separator + 1);
+        listeners.getOrDefault(body.substring(0, separator), List.of())
+                .forEach(listener -> listener.accept(key));
+    }
+}
@@ -0,0 +1,41 @@
+package com.tokioschool.store.authentications;
+
+import com.tokioschool.httpclient.token.ServiceTokenManagerFactory;
+import com.tokioschool.store.authentications.impl.StoreAuthenticationServiceImpl;
+import com.tokioschool.store.properties.StorePropertiesFilm;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Configuración del servicio de autenticación de la tienda.
+ *
+ * La implementación está en core-film y es común a las aplicaciones que consumen la tienda;
+ * esta clase la crea con las propiedades de la tienda de la aplicación.
+ *
+ * Anotaciones:
+ * - {@link Configuration}: Marca esta clase como una clase de configuración de Spring.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+public class StoreAuthenticationConfiguration {
+
+    /**
+     * Define el servicio de autenticación de la tienda.
+     *
+     * @param storePropertiesFilm Las propiedades de la tienda, con su URL base y sus usuarios.
+     * @param restClient El cliente REST sin autenticación, para el endpoint de autenticación.
+     * @param serviceTokenManagerFactory La factoría de los gestores de tokens de acceso.
+     * @return El servicio de autenticación de la tienda.
+     */
+    @Bean
+    public StoreAuthenticationService storeAuthenticationService(StorePropertiesFilm storePropertiesFilm,
+                                                                 @Qualifier("restClientEmpty") RestClient restClient,
+                                                                 ServiceTokenManagerFactory serviceTokenManagerFactory) {
+        return new StoreAuthenticationServiceImpl(storePropertiesFilm.baseUrl(), storePropertiesFilm.login(),
+                restClient, serviceTokenManagerFactory);
+    }
+}
@@ -1,8 +1,7 @@
 package com.tokioschool.store.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
-
-import java.util.List;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * Clase de propiedades para la configuración de la tienda de películas.
@@ -16,29 +15,14 @@ import java.util.List;
  *
  * Campos:
  * - {@code baseUrl}: URL base para interactuar con la tienda.
- * - {@code login}: Configuración de inicio de sesión que incluye una lista de usuarios.
+ * - {@code login}: Configuración de inicio de sesión que incluye una lista de usuarios, compartida
+ *   con el servicio de autenticación de la tienda ({@link StoreLoginProperty}).
+ * - {@code streamingProxy}: Indica si el contenido de los recursos se reenvía en streaming desde la tienda,
+ *   en lugar de cargarlo en memoria. Por defecto {@code true}.
  *
  * @author andres.rpenuela
  * @version 1.0
  */
 @ConfigurationProperties(prefix = "application.store")
-public record StorePropertiesFilm(String baseUrl, Login login) {
-
-    /**
-     * Clase interna que representa las credenciales de un usuario de la tienda.
-     *
-     * Campos:
-     * - {@code username}: Nombre de usuario.
-     * - {@code password}: Contraseña del usuario.
-     */
-    public record UserStore(String username, String password) {}
-
-    /**
-     * Clase interna que representa la configuración de inicio de sesión.
-     *
-     * Campos:
-     * - {@code users}: Lista de usuarios con sus credenciales.
-     */
-    public record Login(List<UserStore> users) {}
-
+public record StorePropertiesFilm(String baseUrl, StoreLoginProperty login, @DefaultValue("true") boolean streamingProxy) {
 }
\ No newline at end of file
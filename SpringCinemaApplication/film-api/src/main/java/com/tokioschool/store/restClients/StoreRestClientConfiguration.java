@@ -1,6 +1,10 @@
 package com.tokioschool.store.restClients;
 
+import com.tokioschool.httpclient.HttpClientFactory;
+import com.tokioschool.httpclient.token.BearerTokenInterceptor;
 import com.tokioschool.store.authentications.StoreAuthenticationService;
+import com.tokioschool.store.client.StoreClient;
+import com.tokioschool.store.client.StoreClientFactory;
 import com.tokioschool.store.properties.StorePropertiesFilm;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +20,10 @@ import org.springframework.web.client.RestClient;
  * Configuración de los clientes REST para interactuar con la API de la tienda.
  *
  * Esta clase define dos clientes REST, uno para el consumidor y otro para el productor,
- * con sus respectivas configuraciones de autenticación y encabezados.
+ * con sus respectivas configuraciones de autenticación y encabezados, que comparten el pool
+ * de conexiones hacia la tienda creado por {@link HttpClientFactory}, y el {@link StoreClient} que usa
+ * el cliente del consumidor. Si la tienda rechaza el token de acceso de una solicitud, se renueva y se
+ * repite la solicitud una vez ({@link BearerTokenInterceptor}).
  *
  * Anotaciones:
  * - {@link Configuration}: Indica que esta clase contiene definiciones de beans de Spring.
@@ -33,6 +40,7 @@ public class StoreRestClientConfiguration {
 
     private final StorePropertiesFilm storePropertiesFilm;
     private final StoreAuthenticationService storeAuthenticationService;
+    private final HttpClientFactory httpClientFactory;
 
     @Value("${application.store.login.users[0].username}")
     private String consumer;
@@ -51,13 +59,10 @@ public class StoreRestClientConfiguration {
     @Bean
     @Qualifier("restClientConsumer")
     public RestClient restConsumerClient() {
-        return RestClient.builder()
+        return httpClientFactory.restClientBuilder(HttpClientFactory.STORE_DOWNSTREAM)
                 .baseUrl(storePropertiesFilm.baseUrl())
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .requestInitializer(request -> {
-                    log.info("Adding secret to request as {}", consumer);
-                    request.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(storeAuthenticationService.getAccessToken(consumer)));
-                })
+                .requestInterceptor(bearerTokenInterceptor(consumer))
                 .build();
     }
 
@@ -72,13 +77,37 @@ public class StoreRestClientConfiguration {
     @Bean
     @Qualifier("restClientProducer")
     public RestClient restProducerClient() {
-        return RestClient.builder()
+        return httpClientFactory.restClientBuilder(HttpClientFactory.STORE_DOWNSTREAM)
                 .baseUrl(storePropertiesFilm.baseUrl())
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .requestInitializer(request -> {
-                    log.info("Adding secret to request as {}", producer);
-                    request.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(storeAuthenticationService.getAccessToken(producer)));
-                })
+                .requestInterceptor(bearerTokenInterceptor(producer))
                 .build();
     }
+
+    /**
+     * Crea el interceptor que añade el token de acceso de un usuario a cada solicitud y, si la tienda
+     * lo rechaza, lo renueva y repite la solicitud una vez.
+     *
+     * @param userName El nombre de usuario del token.
+     * @return El interceptor del token de acceso.
+     */
+    private BearerTokenInterceptor bearerTokenInterceptor(String userName) {
+        return new BearerTokenInterceptor(() -> {
+            log.info("Adding secret to request as {}", userName);
+            return storeAuthenticationService.getAccessToken(userName);
+        }, rejectedToken -> storeAuthenticationService.invalidateAccessToken(userName, rejectedToken));
+    }
+
+    /**
+     * Define el cliente de la API de Store de la aplicación, que actúa como consumidor.
+     *
+     * @param restClient El cliente REST del consumidor.
+     * @param storeClientFactory La factoría de los clientes de la API de Store.
+     * @return Una instancia configurada de {@link StoreClient}.
+     */
+    @Bean
+    public StoreClient storeClient(@Qualifier("restClientConsumer") RestClient restClient,
+                                   StoreClientFactory storeClientFactory) {
+        return storeClientFactory.create(restClient);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.tokioschool.filmapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.movie.MovieDto;
 import com.tokioschool.filmapp.security.confings.JwtConfiguration;
@@ -29,6 +30,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.List;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -83,4 +85,26 @@ class MovieApiControllerWithSecurityEnableUTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(3)
+    @WithMockUser(username = "user",roles = "user")
+    void givenRequestWithCursor_whenScrollMoviesHandler_returnCursorPage() throws Exception {
+        // Mockear el servicio
+        CursorPageDTO<MovieDto> cursorPageDTO = CursorPageDTO.<MovieDto>builder()
+                .items(List.of(MovieDto.builder().id(2L).build()))
+                .pageSize(1)
+                .nextCursor("Mg")
+                .build();
+        Mockito.when(movieService.searchMovieByCursor(Mockito.any(SearchMovieRecord.class), Mockito.eq("MQ")))
+                .thenReturn(cursorPageDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/film/api/movies/scroll")
+                        .param("cursor", "MQ")
+                        .param("pageSize", "1")
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").value("Mg"));
+    }
+}
@@ -11,6 +11,7 @@ import com.tokioschool.filmapp.services.ratings.RatingFilmService;
 import com.tokioschool.filmapp.services.user.UserService;
 import com.tokioschool.redis.services.JwtBlacklistService;
 import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.dto.ResourceContentStream;
 import com.tokioschool.store.facade.StoreFacade;
 import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.test.context.support.WithAnonymousUser;
@@ -31,9 +33,15 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -87,6 +95,109 @@ public class ResourceApiControllerWithSecurityEnableUTest {
                 .andExpect(content().bytes(resourceContentDto.content()));
     }
 
+    @Test
+    @WithMockUser(username = "user",roles = "user")
+    public void givenValidResourceId_whenGetContentResourceHandler_thenReturnCacheValidators() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        String contentHash = "a".repeat(64);
+        ResourceContentDto resourceContentDto = new ResourceContentDto(resourceId,"hola".getBytes(),"resource.txt","application/json", "description", "hola".length(), contentHash);
+        when(storeFacade.findResource(resourceId)).thenReturn(Optional.of(resourceContentDto));
+
+        mockMvc.perform(get("/film/api/resources")
+                        .param("resourceId", resourceId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"%s\"".formatted(contentHash)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"));
+    }
+
+    @Test
+    @WithMockUser(username = "user",roles = "user")
+    public void givenMatchingIfNoneMatch_whenGetContentResourceHandler_thenReturnNotModified() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        String eTag = "\"%s\"".formatted("a".repeat(64));
+        when(storeFacade.findResourceETagIfNotModified(resourceId, eTag)).thenReturn(Optional.of(eTag));
+
+        mockMvc.perform(get("/film/api/resources")
+                        .param("resourceId", resourceId.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(storeFacade, never()).findResource(resourceId);
+    }
+
+    @Test
+    @WithMockUser(username = "user",roles = "user")
+    public void givenMatchingIfNoneMatchAndStreaming_whenGetContentResourceHandler_thenRelayNotModifiedFromStore() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        String eTag = "\"%s\"".formatted("a".repeat(64));
+        HttpHeaders storeHeaders = new HttpHeaders();
+        storeHeaders.setETag(eTag);
+        storeHeaders.setCacheControl("max-age=31536000, private, immutable");
+        when(storeFacade.openResourceContent(eq(resourceId), any(HttpHeaders.class)))
+                .thenReturn(Optional.of(new ResourceContentStream(HttpStatus.NOT_MODIFIED, storeHeaders,
+                        new ByteArrayInputStream(new byte[0]))));
+
+        mockMvc.perform(get("/film/api/resources")
+                        .param("resourceId", resourceId.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+                .andExpect(content().bytes(new byte[0]));
+
+        // the conditional GET replaces the HEAD validation request
+        verify(storeFacade, never()).findResourceETagIfNotModified(any(UUID.class), any(String.class));
+        verify(storeFacade, never()).findResource(resourceId);
+    }
+
+    @Test
+    @WithMockUser(username = "user",roles = "user")
+    public void givenRangeRequest_whenGetContentResourceHandler_thenStreamPartialContentFromStore() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        HttpHeaders storeHeaders = new HttpHeaders();
+        storeHeaders.setContentType(MediaType.TEXT_PLAIN);
+        storeHeaders.setContentLength(2);
+        storeHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes 1-2/4");
+        storeHeaders.setETag("\"%s\"".formatted("a".repeat(64)));
+        storeHeaders.set("X-Internal", "hidden");
+        when(storeFacade.openResourceContent(eq(resourceId), any(HttpHeaders.class)))
+                .thenReturn(Optional.of(new ResourceContentStream(HttpStatus.PARTIAL_CONTENT, storeHeaders,
+                        new ByteArrayInputStream("ol".getBytes()))));
+
+        mockMvc.perform(get("/film/api/resources")
+                        .param("resourceId", resourceId.toString())
+                        .header(HttpHeaders.RANGE, "bytes=1-2"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1-2/4"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"%s\"".formatted("a".repeat(64))))
+                .andExpect(header().doesNotExist("X-Internal"))
+                .andExpect(content().bytes("ol".getBytes()));
+
+        verify(storeFacade, never()).findResource(resourceId);
+    }
+
+    @Test
+    @WithMockUser(username = "user",roles = "user")
+    public void givenUnsatisfiableRange_whenGetContentResourceHandler_thenReturnStoreStatusWithoutFullFetch() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        HttpHeaders storeHeaders = new HttpHeaders();
+        storeHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes */4");
+        when(storeFacade.openResourceContent(eq(resourceId), any(HttpHeaders.class)))
+                .thenReturn(Optional.of(new ResourceContentStream(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, storeHeaders,
+                        InputStream.nullInputStream())));
+
+        mockMvc.perform(get("/film/api/resources")
+                        .param("resourceId", resourceId.toString())
+                        .header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */4"))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(storeFacade, never()).findResource(resourceId);
+    }
+
     @Test
     @WithMockUser(username = "user",roles = "user")
     public void givenInvalidResourceId_whenGetContentResourceHandler_thenThrowNotFoundException() throws Exception {
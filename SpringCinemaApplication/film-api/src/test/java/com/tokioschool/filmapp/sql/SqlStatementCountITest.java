@@ -0,0 +1,277 @@
+package com.tokioschool.filmapp.sql;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Authority;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.domain.Role;
+import com.tokioschool.filmapp.domain.Scope;
+import com.tokioschool.filmapp.domain.User;
+import com.tokioschool.filmapp.enums.TYPE_ARTIST;
+import com.tokioschool.filmapp.repositories.RoleDao;
+import com.tokioschool.redis.services.JwtBlacklistService;
+import com.tokioschool.store.facade.StoreFacade;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Comprueba el número de sentencias SQL que lanza cada endpoint de listado y detalle.
+ *
+ * Los datos tienen varias películas, cada una con su director, su reparto y su usuario creador, y cada usuario
+ * con varios roles, permisos y ámbitos. Cada petición se lanza dos veces, la segunda después de añadir más
+ * películas, artistas y usuarios, y debe lanzar las mismas sentencias: una carga N+1 de las relaciones
+ * aumentaría su número con las filas. Si una consulta cambia, el número esperado debe revisarse a conciencia.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class SqlStatementCountITest {
+
+    private static final int MOVIES = 6;
+    private static final int ACTORS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RoleDao roleDao;
+
+    @MockitoBean
+    private StoreFacade storeFacade;
+    @MockitoBean
+    private JwtBlacklistService jwtBlacklistService;
+
+    private SqlStatementCounter sqlStatementCounter;
+    private Long movieId;
+
+    @BeforeEach
+    void init() {
+        sqlStatementCounter = new SqlStatementCounter(entityManagerFactory);
+        movieId = new TransactionTemplate(transactionManager).execute(status -> {
+            final List<Movie> movies = entityManager.createQuery("SELECT m FROM Movie m ORDER BY m.id", Movie.class).getResultList();
+            if (!movies.isEmpty()) {
+                return movies.getFirst().getId();
+            }
+            populateRoles();
+            return null;
+        });
+        if (movieId == null) {
+            movieId = addMovies(MOVIES, ACTORS);
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void givenMovies_whenSearchAllMovies_thenStatementsDoNotDependOnRows() throws Exception {
+        assertStatements(MockMvcRequestBuilders.get("/film/api/movies").param("pageSize", "0"), 4);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void givenMovies_whenSearchMoviesPage_thenStatementsDoNotDependOnRows() throws Exception {
+        assertStatements(MockMvcRequestBuilders.get("/film/api/movies").param("page", "0").param("pageSize", "4"), 6);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void givenMovies_whenScrollMovies_thenStatementsDoNotDependOnRows() throws Exception {
+        assertStatements(MockMvcRequestBuilders.get("/film/api/movies/scroll").param("pageSize", "4"), 5);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void givenMovie_whenFindMovieById_thenStatementsDoNotDependOnRelations() throws Exception {
+        final long statements = countStatements(MockMvcRequestBuilders.get("/film/api/movies/{id}", movieId));
+        final Long movieWithMoreActors = addMovies(1, 2 * ACTORS);
+        final long statementsWithMoreActors = countStatements(MockMvcRequestBuilders.get("/film/api/movies/{id}", movieWithMoreActors));
+
+        Assertions.assertThat(statements)
+                .as("SQL statements of the request for a movie with %d actors", ACTORS)
+                .isEqualTo(4);
+        Assertions.assertThat(statementsWithMoreActors)
+                .as("SQL statements of the request for a movie with %d actors", 2 * ACTORS)
+                .isEqualTo(statements);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void givenUsers_whenSearchUsers_thenStatementsDoNotDependOnRows() throws Exception {
+        assertStatements(MockMvcRequestBuilders.multipart("/film/api/users/search"), 1);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void givenUsers_whenScrollUsers_thenStatementsDoNotDependOnRows() throws Exception {
+        assertStatements(MockMvcRequestBuilders.multipart("/film/api/users/search/scroll").param("page-size", "4"), 4);
+    }
+
+    @Test
+    void givenCachedRole_whenFindRoleAgain_thenNoStatements() {
+        sqlStatementCounter.clearSecondLevelCache();
+        findRoleWithPermissions("ADMIN");
+
+        sqlStatementCounter.reset();
+        final Role role = findRoleWithPermissions("ADMIN");
+
+        Assertions.assertThat(role.getAuthorities()).hasSize(3);
+        Assertions.assertThat(role.getScopes()).hasSize(3);
+        Assertions.assertThat(sqlStatementCounter.count())
+                .as("SQL statements of the cached role lookup")
+                .isZero();
+    }
+
+    /**
+     * Lanza la petición con los datos actuales y otra vez tras añadir más películas, y comprueba que
+     * las dos lanzan el número de sentencias SQL esperado.
+     */
+    private void assertStatements(RequestBuilder request, long expectedStatements) throws Exception {
+        final long rows = countMovies();
+        final long statements = countStatements(request);
+        addMovies(MOVIES, 2 * ACTORS);
+        final long statementsWithMoreRows = countStatements(request);
+
+        Assertions.assertThat(statements)
+                .as("SQL statements of the request with %d movies", rows)
+                .isEqualTo(expectedStatements);
+        Assertions.assertThat(statementsWithMoreRows)
+                .as("SQL statements of the request with %d movies", rows + MOVIES)
+                .isEqualTo(statements);
+    }
+
+    /**
+     * Lanza la petición, sin la caché de segundo nivel, y cuenta sus sentencias SQL.
+     */
+    private long countStatements(RequestBuilder request) throws Exception {
+        sqlStatementCounter.clearSecondLevelCache();
+        sqlStatementCounter.reset();
+
+        mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        return sqlStatementCounter.count();
+    }
+
+    /**
+     * Cuenta las películas guardadas.
+     */
+    private long countMovies() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                entityManager.createQuery("SELECT COUNT(m) FROM Movie m", Long.class).getSingleResult());
+    }
+
+    /**
+     * Busca un rol por nombre e inicializa sus permisos y ámbitos, como al autenticar a un usuario.
+     */
+    private Role findRoleWithPermissions(String name) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            final Role role = roleDao.findByNameIgnoreCase(name);
+            role.getAuthorities().size();
+            role.getScopes().size();
+            return role;
+        });
+    }
+
+    /**
+     * Inserta los roles, cada uno con varios permisos y ámbitos.
+     */
+    private void populateRoles() {
+        for (String name : List.of("ADMIN", "USER")) {
+            final Role role = Role.builder()
+                    .name(name)
+                    .authorities(new HashSet<>())
+                    .scopes(new HashSet<>())
+                    .build();
+            IntStream.rangeClosed(1, 3).forEach(i -> {
+                final Authority authority = Authority.builder().name("%s_AUTHORITY_%d".formatted(name, i)).build();
+                entityManager.persist(authority);
+                role.getAuthorities().add(authority);
+
+                final Scope scope = Scope.builder().name("%s_SCOPE_%d".formatted(name, i)).build();
+                entityManager.persist(scope);
+                role.getScopes().add(scope);
+            });
+            entityManager.persist(role);
+        }
+    }
+
+    /**
+     * Inserta películas, cada una con su director y su usuario creador, y un reparto compartido por todas.
+     *
+     * @param count Número de películas.
+     * @param actorCount Número de actores del reparto.
+     * @return El identificador de la primera película insertada.
+     */
+    private Long addMovies(int count, int actorCount) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            final Set<Role> roles = new HashSet<>(entityManager.createQuery("SELECT r FROM Role r", Role.class).getResultList());
+            final long offset = entityManager.createQuery("SELECT COUNT(m) FROM Movie m", Long.class).getSingleResult();
+
+            final List<Artist> actors = IntStream.rangeClosed(1, actorCount)
+                    .mapToObj(i -> Artist.builder().name("Actor").surname("Surname %d-%d".formatted(offset, i)).typeArtist(TYPE_ARTIST.ACTOR).build())
+                    .peek(entityManager::persist)
+                    .toList();
+
+            final List<Movie> movies = IntStream.rangeClosed(1, count).mapToLong(i -> offset + i).mapToObj(i -> {
+                final User user = User.builder()
+                        .name("User")
+                        .surname("Surname %d".formatted(i))
+                        .username("user%d".formatted(i))
+                        .email("user%d@email.com".formatted(i))
+                        .password("password")
+                        .passwordBis("password")
+                        .birthDate(LocalDate.of(1990, 1, 1).plusDays(i))
+                        .roles(new HashSet<>(roles))
+                        .build();
+                entityManager.persist(user);
+
+                final Artist director = Artist.builder().name("Director").surname("Surname %d".formatted(i)).typeArtist(TYPE_ARTIST.DIRECTOR).build();
+                entityManager.persist(director);
+
+                final Movie movie = Movie.builder()
+                        .title("Movie %d".formatted(i))
+                        .releaseYear(2000 + (int) i)
+                        .manager(director)
+                        .artists(new ArrayList<>(actors))
+                        .createUser(user)
+                        .build();
+                entityManager.persist(movie);
+                return movie;
+            }).toList();
+
+            return movies.getFirst().getId();
+        });
+    }
+}
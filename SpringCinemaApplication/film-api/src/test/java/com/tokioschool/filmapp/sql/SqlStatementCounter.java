@@ -0,0 +1,50 @@
+package com.tokioschool.filmapp.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Cuenta las sentencias SQL que prepara Hibernate, para comprobar en los tests cuántas consultas
+ * lanza cada endpoint y detectar regresiones de tipo N+1.
+ *
+ * Usa las estadísticas de Hibernate, que se activan al crear el contador.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class SqlStatementCounter {
+
+    private final SessionFactory sessionFactory;
+    private final Statistics statistics;
+
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.statistics = sessionFactory.getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Pone a cero el contador.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Vacía todas las regiones de la caché de segundo nivel (entidades, colecciones y consultas), para que
+     * el número de sentencias no dependa de las peticiones anteriores.
+     */
+    public void clearSecondLevelCache() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    /**
+     * Obtiene el número de sentencias SQL preparadas desde la última puesta a cero.
+     *
+     * @return Número de sentencias SQL.
+     */
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+}
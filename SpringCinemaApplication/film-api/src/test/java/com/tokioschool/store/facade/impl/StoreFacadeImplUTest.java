@@ -2,23 +2,42 @@ package com.tokioschool.store.facade.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.cache.NearCacheFactory;
+import com.tokioschool.cache.NearCacheProperty;
+import com.tokioschool.concurrent.SingleFlightFactory;
+import com.tokioschool.concurrent.SingleFlightProperty;
+import com.tokioschool.httpclient.properties.ResilienceProperty;
+import com.tokioschool.httpclient.resilience.ResilienceRegistry;
+import com.tokioschool.store.client.StoreClientFactory;
+import com.tokioschool.store.dto.ResourceBatchDto;
+import com.tokioschool.store.dto.ResourceBatchRequestDto;
+import com.tokioschool.store.dto.ResourceContentDto;
 import com.tokioschool.store.dto.ResourceIdDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Clock;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,7 +51,14 @@ class StoreFacadeImplUTest {
     @Mock
     private ObjectMapper objectMapper;
 
-    @InjectMocks
+    private final ResilienceRegistry resilienceRegistry =
+            new ResilienceRegistry(new ResilienceProperty(null, null), new SimpleMeterRegistry(), Clock.systemUTC());
+
+    private final NearCacheFactory nearCacheFactory =
+            new NearCacheFactory(new NearCacheProperty(null, null, null), null, new SimpleMeterRegistry(), Clock.systemUTC());
+
+    private StoreClientFactory storeClientFactory;
+
     private StoreFacadeImpl storeFacade;
 
     // MOCK for Rest Client
@@ -43,6 +69,19 @@ class StoreFacadeImplUTest {
 
     private static final String RESOURCE_URL = "/store/api/resource";
 
+    @BeforeEach
+    void init() {
+        storeClientFactory = new StoreClientFactory(objectMapper, resilienceRegistry, nearCacheFactory,
+                new SingleFlightFactory(new SingleFlightProperty(null, null), new SimpleMeterRegistry()));
+        storeFacade = new StoreFacadeImpl(storeClientFactory.create(restClient));
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeClientFactory.destroy();
+        resilienceRegistry.destroy();
+    }
+
     @Test
     void saveResource_withValidData_returnsResourceId() throws JsonProcessingException {
         MultipartFile multipartFile = new MockMultipartFile("file", "test.txt", "text/plain", "test".getBytes());
@@ -120,6 +159,103 @@ class StoreFacadeImplUTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void findResources_withMoreIdsThanBatchSize_returnsResourcesOfSuccessfulBatches() {
+        final List<UUID> resourceIds = Stream.generate(UUID::randomUUID)
+                .limit(ResourceBatchRequestDto.MAX_RESOURCES + 10)
+                .toList();
+        final ResourceContentDto resourceContentDto = ResourceContentDto.builder()
+                .resourceId(resourceIds.getFirst())
+                .content("test".getBytes())
+                .size(4)
+                .build();
+
+        Mockito.when(restClient.post()).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.contentType(Mockito.any(MediaType.class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.accept(Mockito.any(MediaType[].class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.body(Mockito.any(ResourceBatchRequestDto.class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+        // el primer lote responde y el segundo falla
+        Mockito.when(responseSpec.body(ResourceBatchDto.class))
+                .thenReturn(ResourceBatchDto.builder()
+                        .resources(List.of(resourceContentDto))
+                        .notFound(resourceIds.subList(1, ResourceBatchRequestDto.MAX_RESOURCES))
+                        .build())
+                .thenThrow(new RuntimeException("Error finding resources"));
+
+        // los identificadores repetidos se piden una sola vez
+        final List<UUID> requestedIds = Stream.concat(resourceIds.stream(), Stream.of(resourceIds.getFirst())).toList();
+        final Map<UUID, ResourceContentDto> result = storeFacade.findResources(requestedIds);
+
+        assertEquals(Map.of(resourceContentDto.resourceId(), resourceContentDto), result);
+
+        final ArgumentCaptor<ResourceBatchRequestDto> requestCaptor = ArgumentCaptor.forClass(ResourceBatchRequestDto.class);
+        Mockito.verify(requestBodyUriSpec, Mockito.times(2)).body(requestCaptor.capture());
+        assertEquals(ResourceBatchRequestDto.MAX_RESOURCES, requestCaptor.getAllValues().get(0).resourceIds().size());
+        assertEquals(10, requestCaptor.getAllValues().get(1).resourceIds().size());
+    }
+
+    @Test
+    void findResources_withEmptyIds_returnsEmptyWithoutRequest() {
+        assertTrue(storeFacade.findResources(List.of()).isEmpty());
+
+        Mockito.verifyNoInteractions(restClient);
+    }
+
+    @Test
+    void findResourceETagIfNotModified_withNotModifiedResponse_returnsETag() {
+        final UUID resourceId = UUID.randomUUID();
+        final String eTag = "\"%s\"".formatted("a".repeat(64));
+        final RestClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(RestClient.RequestHeadersUriSpec.class);
+
+        Mockito.when(restClient.head()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.header(HttpHeaders.IF_NONE_MATCH, eTag)).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.toBodilessEntity())
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+
+        assertEquals(Optional.of(eTag), storeFacade.findResourceETagIfNotModified(resourceId, eTag));
+    }
+
+    @Test
+    void findResourceETagIfNotModified_withFailRestClient_returnsEmpty() {
+        Mockito.when(restClient.head()).thenThrow(new RuntimeException("Error validating resource"));
+
+        assertTrue(storeFacade.findResourceETagIfNotModified(UUID.randomUUID(), "\"etag\"").isEmpty());
+    }
+
+    @Test
+    void findResource_withCachedResource_requestsOnceAndValidatesETagLocally() {
+        final UUID resourceId = UUID.randomUUID();
+        final ResourceContentDto resourceContentDto = ResourceContentDto.builder()
+                .resourceId(resourceId)
+                .content("test".getBytes())
+                .resourceName("test.txt")
+                .contentType(MediaType.TEXT_PLAIN_VALUE)
+                .size(4)
+                .contentHash("a".repeat(64))
+                .build();
+        final RestClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(RestClient.RequestHeadersUriSpec.class);
+
+        Mockito.when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.body(ResourceContentDto.class)).thenReturn(resourceContentDto);
+
+        assertEquals(Optional.of(resourceContentDto), storeFacade.findResource(resourceId));
+        assertEquals(Optional.of(resourceContentDto), storeFacade.findResource(resourceId));
+        final String eTag = "\"%s\"".formatted("a".repeat(64));
+        assertEquals(Optional.of(eTag), storeFacade.findResourceETagIfNotModified(resourceId, eTag));
+        assertTrue(storeFacade.findResourceETagIfNotModified(resourceId, "\"other\"").isEmpty());
+        assertEquals(Map.of(resourceId, resourceContentDto), storeFacade.findResources(List.of(resourceId)));
+
+        Mockito.verify(restClient, Mockito.times(1)).get();
+        Mockito.verify(restClient, Mockito.never()).head();
+        Mockito.verify(restClient, Mockito.never()).post();
+    }
+
     /**
      * Recollection of the configuration of the mock objects for the test of the method getAccessToken
      * that shared more of at the one unitary case
@@ -1,5 +1,7 @@
 package com.tokioschool.filmweb.controllers.mvc;
 
+import com.tokioschool.concurrent.FanOutExecutor;
+import com.tokioschool.concurrent.FanOutScope;
 import com.tokioschool.core.exception.OperationNotAllowException;
 import com.tokioschool.filmapp.dto.artist.ArtistDto;
 import com.tokioschool.filmapp.dto.movie.MovieDto;
@@ -35,6 +37,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.servlet.view.RedirectView;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Controlador MVC para gestionar películas.
@@ -75,6 +78,9 @@ public class FilmMvcController {
     /** Ayudante para traducir mensajes en la aplicación. */
     private final TranslatedMessageHelper translatedMessageHelper;
 
+    /** Ejecutor de las consultas concurrentes necesarias para componer las vistas. */
+    private final FanOutExecutor fanOutExecutor;
+
     /**
      * Inicializa el `WebDataBinder` para registrar editores personalizados.
      *
@@ -146,17 +152,41 @@ public class FilmMvcController {
             throw new AccessDeniedException("No tienes permisos para editar películas.");
         }
 
-        MovieDto movieDto = Optional.ofNullable(movieId)
-                .map(movieService::getMovieById)
-                .orElseGet(MovieDto::new);
+        // el usuario se resuelve antes de lanzar las consultas, que dependen de él
+        final String userId = profileMode ? getUserIdAuth().getId() : null;
+
+        final MovieDto movieDto;
+        final List<ArtistDto> managers;
+        final List<ArtistDto> actors;
+        final Optional<RatingFilmDto> ratingFilmDtoOptional;
+        final Optional<AverageRating> averageRatingOptional;
+
+        // las consultas son independientes, por lo que se lanzan a la vez con un plazo común
+        try (FanOutScope scope = fanOutExecutor.open()) {
+            final Supplier<MovieDto> movieSupplier = scope.fork(() -> Optional.ofNullable(movieId)
+                    .map(movieService::getMovieById)
+                    .orElseGet(MovieDto::new));
+            final Supplier<List<ArtistDto>> managersSupplier = scope.fork(() -> artistService.findByAllByTypeArtist(TYPE_ARTIST.DIRECTOR));
+            final Supplier<List<ArtistDto>> actorsSupplier = scope.fork(() -> artistService.findByAllByTypeArtist(TYPE_ARTIST.ACTOR));
+            final Supplier<Optional<RatingFilmDto>> ratingSupplier = profileMode
+                    ? scope.fork(() -> ratingFacade.findRatingByUserIdAndMovieId(userId, movieId))
+                    : Optional::empty;
+            final Supplier<Optional<AverageRating>> averageRatingSupplier = profileMode
+                    ? scope.fork(() -> ratingFacade.findRatingAverageByMovieId(movieId))
+                    : Optional::empty;
+            scope.join();
+
+            movieDto = movieSupplier.get();
+            managers = managersSupplier.get();
+            actors = actorsSupplier.get();
+            ratingFilmDtoOptional = ratingSupplier.get();
+            averageRatingOptional = averageRatingSupplier.get();
+        }
 
         if (!model.containsAttribute("movie")) {
             model.addAttribute("movie", movieDto);
         }
 
-        List<ArtistDto> managers = artistService.findByAllByTypeArtist(TYPE_ARTIST.DIRECTOR);
-        List<ArtistDto> actors = artistService.findByAllByTypeArtist(TYPE_ARTIST.ACTOR);
-
         if (managers.isEmpty() || actors.isEmpty()) {
             throw new OperationNotAllowException(translatedMessageHelper.getMessage("movie.artists.not.available"));
         }
@@ -166,12 +196,11 @@ public class FilmMvcController {
         model.addAttribute("profileMode", profileMode);
 
         if (profileMode) {
-            final String userId = getUserIdAuth().getId();
-            RatingFilmDto ratingFilmDto = ratingFacade.findRatingByUserIdAndMovieId(userId, movieId)
+            RatingFilmDto ratingFilmDto = ratingFilmDtoOptional
                     .orElseGet(() -> RatingFilmDto.builder().filmId(movieId).userId(userId).build());
             model.addAttribute("rating", ratingFilmDto);
 
-            AverageRating averageRating = ratingFacade.findRatingAverageByMovieId(movieId)
+            AverageRating averageRating = averageRatingOptional
                     .orElseGet(() -> AverageRating.builder().average(0.0).ratings(0L).build());
             model.addAttribute("averageRating", averageRating);
         }
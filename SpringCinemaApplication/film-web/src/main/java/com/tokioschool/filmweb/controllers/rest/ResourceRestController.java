@@ -1,17 +1,29 @@
 package com.tokioschool.filmweb.controllers.rest;
 
 import com.tokioschool.core.exception.NotFoundException;
+import com.tokioschool.helpers.ResourceCacheHelper;
+import com.tokioschool.helpers.ResourceStreamHelper;
 import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.dto.ResourceContentStream;
 import com.tokioschool.store.facade.StoreFacade;
+import com.tokioschool.store.facade.impl.PlaceholderPosterProvider;
+import com.tokioschool.store.properties.StorePropertiesFilm;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -36,22 +48,75 @@ public class ResourceRestController {
     /** Fachada para gestionar la lógica de negocio relacionada con recursos. */
     private final StoreFacade storeFacade;
 
+    /** Proveedor del cartel por defecto, que sustituye a los recursos cuando la API de Store no está disponible. */
+    private final PlaceholderPosterProvider placeholderPosterProvider;
+
+    /** Propiedades de la tienda, que indican si el contenido se reenvía en streaming. */
+    private final StorePropertiesFilm storePropertiesFilm;
+
     /**
      * Maneja la obtención del contenido de un recurso.
      *
+     * La respuesta lleva el ETag del recurso y una política de caché inmutable, para que el navegador
+     * no vuelva a descargar los carteles. Si la petición trae `If-None-Match`, se valida contra la API
+     * de Store sin descargar el contenido y, si no ha cambiado, se responde 304 (NOT MODIFIED).
+     *
+     * Si la API de Store no está disponible se responde con el cartel por defecto, sin ETag y sin
+     * guardarlo en caché, para que el navegador pida el recurso real cuando se recupere.
+     *
+     * Con `application.store.streaming-proxy` activo, el contenido se reenvía en streaming desde la API de Store
+     * junto con sus cabeceras de contenido, ETag y rangos (`Range`), sin cargarlo en memoria. La petición
+     * reenvía también `If-None-Match`, por lo que el 304 de la API de Store se devuelve tal cual sin una petición
+     * previa de validación, y los errores 4xx de la API de Store (por ejemplo 404 o 416) también se devuelven tal cual.
+     * Solo si la API de Store falla o no está disponible, se valida y se obtiene el recurso completo (o el cartel
+     * por defecto) como hasta ahora.
+     *
      * @param resourceId ID del recurso solicitado.
-     * @return Una respuesta HTTP con el contenido del recurso en el cuerpo.
+     * @param ifNoneMatch ETags del recurso que ya tiene el navegador, si los tiene.
+     * @param requestHeaders Cabeceras de la petición, que se reenvían a la API de Store en streaming.
+     * @return Una respuesta HTTP con el contenido del recurso en el cuerpo (completo o parcial), o vacía con el estado 304.
      * @throws NotFoundException Si el recurso no se encuentra.
      */
     @GetMapping({"", "/"})
-    public ResponseEntity<byte[]> getResourceContentHandler(@RequestParam(value = "rsc") UUID resourceId) {
+    public ResponseEntity<Resource> getResourceContentHandler(@RequestParam(value = "rsc") UUID resourceId,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Nullable String ifNoneMatch,
+                                                              @RequestHeader HttpHeaders requestHeaders) {
+        if (storePropertiesFilm.streamingProxy()) {
+            final Optional<ResourceContentStream> resourceContentStreamOpt = storeFacade.openResourceContent(resourceId, requestHeaders);
+            if (resourceContentStreamOpt.isPresent()) {
+                final ResourceContentStream resourceContentStream = resourceContentStreamOpt.get();
+                return ResourceStreamHelper.toResponseEntity(resourceContentStream.statusCode(),
+                        resourceContentStream.headers(), resourceContentStream.content());
+            }
+        }
+
+        if (ifNoneMatch != null) {
+            final Optional<String> eTagOpt = storeFacade.findResourceETagIfNotModified(resourceId, ifNoneMatch);
+            if (eTagOpt.isPresent()) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTagOpt.get())
+                        .cacheControl(ResourceCacheHelper.RESOURCE_CACHE_CONTROL)
+                        .build();
+            }
+        }
+
         final ResourceContentDto resourceContentDto = storeFacade.findResource(resourceId)
                 .orElseThrow(() -> new NotFoundException("Resource not found! "));
 
+        if (placeholderPosterProvider.isPlaceholder(resourceContentDto)) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .contentType(MediaType.parseMediaType(resourceContentDto.contentType()))
+                    .contentLength(resourceContentDto.size())
+                    .body(new ByteArrayResource(resourceContentDto.content()));
+        }
+
         return ResponseEntity.ok()
+                .eTag(ResourceCacheHelper.buildEntityTag(resourceId, resourceContentDto.contentHash()))
+                .cacheControl(ResourceCacheHelper.RESOURCE_CACHE_CONTROL)
                 .contentType(MediaType.parseMediaType(resourceContentDto.contentType()))
                 .contentLength(resourceContentDto.size())
-                .body(resourceContentDto.content());
+                .body(new ByteArrayResource(resourceContentDto.content()));
     }
 
     /**
@@ -61,7 +126,8 @@ public class ResourceRestController {
      * necesarias para indicar el nombre del archivo y su tipo de contenido.
      *
      * @param resourceId ID del recurso solicitado.
-     * @return Una respuesta HTTP con el contenido del recurso y cabeceras para descarga.
+     * @return Una respuesta HTTP con el contenido del recurso y cabeceras para descarga, o con el estado 503
+     * (SERVICE UNAVAILABLE) si la API de Store no está disponible.
      * @throws NotFoundException Si el recurso no se encuentra.
      */
     @GetMapping("/downloads")
@@ -69,6 +135,11 @@ public class ResourceRestController {
         final ResourceContentDto resresourceContentDtoourceDto = storeFacade.findResource(resourceId)
                 .orElseThrow(() -> new NotFoundException("Resource not found! "));
 
+        // no se descarga el cartel por defecto como si fuera el recurso
+        if (placeholderPosterProvider.isPlaceholder(resresourceContentDtoourceDto)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
         // Configuración de cabeceras HTTP para forzar la descarga
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add(HttpHeaders.CONTENT_DISPOSITION,
@@ -0,0 +1,55 @@
+package com.tokioschool.filmweb.controllers.rest;
+
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import com.tokioschool.filmapp.dto.suggest.SuggestionDto;
+import com.tokioschool.filmapp.services.suggest.SuggestService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST para el autocompletado de títulos de películas y nombres de artistas.
+ *
+ * Las vistas lo consultan mientras el usuario escribe, por ejemplo para elegir el director o el reparto
+ * en el formulario de películas sin cargar todos los artistas.
+ *
+ * Anotaciones utilizadas:
+ * - `@RestController`: Marca esta clase como un controlador REST, combinando `@Controller` y `@ResponseBody`.
+ * - `@RequestMapping`: Define la ruta base para las solicitudes de autocompletado.
+ * - `@RequiredArgsConstructor`: Genera un constructor con los argumentos requeridos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestRestController {
+
+    /** Servicio que gestiona el índice de prefijos del autocompletado. */
+    private final SuggestService suggestService;
+
+    /**
+     * Sugiere las películas y artistas con alguna palabra que empieza por el texto escrito,
+     * ordenados por número de calificaciones.
+     *
+     * @param prefix Texto escrito por el usuario.
+     * @param type Tipo de elemento a sugerir (MOVIE o ARTIST); si no se indica, se sugieren ambos.
+     * @param limit Número máximo de sugerencias, hasta {@link SuggestService#MAX_RESULTS_LIMIT}; si es 0 se usa el configurado.
+     * @return Una respuesta HTTP con la lista de sugerencias.
+     */
+    @GetMapping(value = {"", "/"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<SuggestionDto>> suggestHandler(@RequestParam(value = "q", required = false) String prefix,
+                                                              @RequestParam(value = "type", required = false) SearchHitDto.Type type,
+                                                              @Min(0) @Max(SuggestService.MAX_RESULTS_LIMIT) @RequestParam(value = "limit", required = false, defaultValue = "0") int limit) {
+        return ResponseEntity.ok(suggestService.suggest(prefix, type, limit));
+    }
+}
@@ -20,4 +20,12 @@ public interface RatingAuth2 {
      * @return Una cadena que representa el token de acceso.
      */
     String getTokenAccess();
+
+    /**
+     * Descarta el token de acceso rechazado por el sistema de calificaciones, para que la siguiente
+     * solicitud obtenga uno nuevo. Si ya se ha renovado, se conserva el nuevo.
+     *
+     * @param tokenAccess El token de acceso rechazado.
+     */
+    void invalidateTokenAccess(String tokenAccess);
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.tokioschool.ratings.authentications;
 
+import com.tokioschool.httpclient.HttpClientFactory;
+import com.tokioschool.httpclient.token.ServiceToken;
+import com.tokioschool.httpclient.token.ServiceTokenManager;
+import com.tokioschool.httpclient.token.ServiceTokenManagerFactory;
 import com.tokioschool.ratings.configs.RatingProperty;
 import com.tokioschool.ratings.core.OAuth2TokenResponse;
 import jakarta.annotation.PostConstruct;
@@ -20,6 +24,8 @@ import java.util.Objects;
  *
  * Esta clase implementa la interfaz `RatingAuth2` y proporciona la lógica para
  * autenticar solicitudes y gestionar tokens de acceso en el sistema de calificaciones.
+ * El token se guarda en un `ServiceTokenManager`, que lo renueva en segundo plano antes de que caduque
+ * y garantiza una única renovación simultánea.
  *
  * Anotaciones utilizadas:
  * - `@Service`: Marca esta clase como un componente de servicio de Spring.
@@ -39,23 +45,23 @@ public class RatingAuth2Impl implements RatingAuth2 {
     /** Propiedades de configuración para el sistema de calificaciones. */
     private final RatingProperty ratingProperty;
 
+    /** Factoría de los clientes HTTP, con el pool de conexiones hacia el sistema de calificaciones. */
+    private final HttpClientFactory httpClientFactory;
+
     /**
      * Cliente REST para realizar solicitudes HTTP.
      * Se inicializa en el metodo `init`.
      */
     private RestClient restClient;
 
-    /**
-     * Token de acceso actual.
-     * Se actualiza al realizar una nueva autenticación.
-     */
-    private String accessToken = null;
+    /** Factoría de los gestores de tokens de acceso. */
+    private final ServiceTokenManagerFactory serviceTokenManagerFactory;
 
     /**
-     * Tiempo de expiración del token de acceso en milisegundos.
-     * Se utiliza para determinar si el token actual sigue siendo válido.
+     * Gestor del token de acceso del cliente.
+     * Se inicializa en el metodo `init`.
      */
-    private long expiresIn = 0;
+    private ServiceTokenManager<String> serviceTokenManager;
 
     /**
      * Ruta del recurso para el endpoint de autenticación.
@@ -63,56 +69,30 @@ public class RatingAuth2Impl implements RatingAuth2 {
     private static final String RESOURCE_PATH = "/oauth2/authenticate";
 
     /**
-     * Inicializa el cliente REST con la URL base configurada.
+     * Inicializa el cliente REST con la URL base configurada, sobre el pool de conexiones
+     * del sistema de calificaciones, y el gestor del token de acceso.
      *
      * Este metodo se ejecuta después de la construcción de la clase.
      */
     @PostConstruct
     public void init() {
-        restClient = RestClient.builder().baseUrl(ratingProperty.baseUrl()).build();
+        restClient = httpClientFactory.restClientBuilder(HttpClientFactory.RATING_DOWNSTREAM).baseUrl(ratingProperty.baseUrl()).build();
+        serviceTokenManager = serviceTokenManagerFactory.create("rating", this::authenticate);
     }
 
     /**
      * Obtiene el token de acceso OAuth2.
      *
-     * Si el token actual aún es válido, se devuelve directamente. De lo contrario,
-     * se realiza una nueva solicitud al endpoint de autenticación para obtener un nuevo token.
+     * Si el token actual aún es válido, se devuelve directamente, aunque se esté renovando. De lo contrario,
+     * se espera a la solicitud al endpoint de autenticación que obtiene un nuevo token.
      *
      * @return El token de acceso como una cadena de texto.
      * @throws RestClientResponseException Si ocurre un error en la solicitud al endpoint de autenticación.
      */
     @Override
     public String getTokenAccess() {
-
-        // Comprueba si el token actual aún es válido
-        if (System.currentTimeMillis() < expiresIn) {
-            return accessToken;
-        }
-
-        // Decodifica la contraseña de Base64
-        String pwdEncodeBase64 = ratingProperty.client().password();
-        byte[] decodedBytes = Base64.getDecoder().decode(pwdEncodeBase64);
-
         try {
-            // Realiza la solicitud al endpoint de autenticación
-            OAuth2TokenResponse oAuth2TokenResponse = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(RESOURCE_PATH)
-                            .queryParam("grant_type", "client_credentials")
-                            .build())
-                    .headers(h -> h.setBasicAuth(ratingProperty.client().user(), new String(decodedBytes)))
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .body(OAuth2TokenResponse.class);
-
-            // Verifica que la respuesta no sea nula
-            if (Objects.isNull(oAuth2TokenResponse)) {
-                throw new NullPointerException("Response is null");
-            }
-
-            // Actualiza el token de acceso y su tiempo de expiración
-            accessToken = oAuth2TokenResponse.getAccessToken();
-            expiresIn = System.currentTimeMillis() + oAuth2TokenResponse.getExpiresIn();
+            return serviceTokenManager.getToken(ratingProperty.client().user());
 
         } catch (RestClientResponseException e) {
             // Manejo de errores específicos del cliente REST
@@ -126,7 +106,47 @@ public class RatingAuth2Impl implements RatingAuth2 {
             log.error("Unexpected exception in auth endpoint", e);
             return null;
         }
+    }
+
+    /**
+     * Descarta el token de acceso rechazado por el sistema de calificaciones.
+     *
+     * @param tokenAccess El token de acceso rechazado.
+     */
+    @Override
+    public void invalidateTokenAccess(String tokenAccess) {
+        serviceTokenManager.invalidate(ratingProperty.client().user(), tokenAccess);
+    }
+
+    /**
+     * Solicita un nuevo token de acceso al endpoint de autenticación con las credenciales del cliente.
+     *
+     * @param user El usuario del cliente.
+     * @return El nuevo token de acceso.
+     */
+    private ServiceToken authenticate(String user) {
+        // Decodifica la contraseña de Base64
+        String pwdEncodeBase64 = ratingProperty.client().password();
+        byte[] decodedBytes = Base64.getDecoder().decode(pwdEncodeBase64);
+
+        // Realiza la solicitud al endpoint de autenticación
+        OAuth2TokenResponse oAuth2TokenResponse = restClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(RESOURCE_PATH)
+                        .queryParam("grant_type", "client_credentials")
+                        .build())
+                .headers(h -> h.setBasicAuth(user, new String(decodedBytes)))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .body(OAuth2TokenResponse.class);
+
+        // Verifica que la respuesta no sea nula
+        if (Objects.isNull(oAuth2TokenResponse)) {
+            throw new NullPointerException("Response is null");
+        }
 
-        return accessToken;
+        // El tiempo de expiración es relativo, en segundos
+        return ServiceToken.of(oAuth2TokenResponse.getAccessToken(), serviceTokenManagerFactory.getClock().instant(),
+                oAuth2TokenResponse.getExpiresIn());
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.tokioschool.ratings.configs;
 
+import com.tokioschool.httpclient.HttpClientFactory;
+import com.tokioschool.httpclient.token.BearerTokenInterceptor;
 import com.tokioschool.ratings.authentications.RatingAuth2;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -32,21 +34,24 @@ public class RatingRestClientConfig {
     /** Servicio de autenticación para obtener el token de acceso. */
     private final RatingAuth2 ratingAuth2;
 
+    /** Factoría de los clientes HTTP, con el pool de conexiones hacia el sistema de calificaciones. */
+    private final HttpClientFactory httpClientFactory;
+
     /**
      * Define un bean para el cliente REST configurado con autenticación.
      *
      * Este cliente REST utiliza la URL base definida en las propiedades de configuración
-     * y agrega un encabezado de autorización con un token de acceso válido.
+     * y agrega un encabezado de autorización con un token de acceso válido. Si el sistema de calificaciones
+     * rechaza el token, se renueva y se repite la solicitud una vez ({@link BearerTokenInterceptor}).
      *
      * @return Una instancia configurada de `RestClient`.
      */
     @Bean("ratingRestClientCredentials")
     public RestClient restClient() {
-        return RestClient.builder()
+        return httpClientFactory.restClientBuilder(HttpClientFactory.RATING_DOWNSTREAM) // Pool de conexiones del sistema de calificaciones
                 .baseUrl(ratingProperty.baseUrl()) // Establece la URL base del cliente REST
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) // Configura el encabezado Content-Type
-                .requestInitializer(request ->
-                        request.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(ratingAuth2.getTokenAccess())) // Agrega el encabezado de autorización
-                ).build();
+                .requestInterceptor(new BearerTokenInterceptor(ratingAuth2::getTokenAccess, ratingAuth2::invalidateTokenAccess)) // Agrega el encabezado de autorización
+                .build();
     }
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package com.tokioschool.ratings.facade;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.concurrent.SingleFlight;
+import com.tokioschool.concurrent.SingleFlightFactory;
 import com.tokioschool.filmapp.dto.ratings.RatingFilmDto;
 import com.tokioschool.filmapp.records.AverageRating;
+import com.tokioschool.httpclient.HttpClientFactory;
+import com.tokioschool.httpclient.resilience.ResilienceRegistry;
+import com.tokioschool.httpclient.resilience.ResilientExecutor;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
@@ -21,6 +28,10 @@ import java.util.Optional;
  * operaciones como registrar calificaciones, buscar calificaciones específicas y calcular
  * el promedio de calificaciones.
  *
+ * Las llamadas pasan por el ejecutor resiliente del servicio destino {@code rating}, que limita su
+ * duración y las llamadas simultáneas y deja de llamar al servicio mientras este falla. Las peticiones
+ * concurrentes del promedio de una misma película se agrupan en una sola llamada ({@link SingleFlight}).
+ *
  * Anotaciones utilizadas:
  * - `@Service`: Marca esta clase como un componente de servicio de Spring.
  * - `@RequiredArgsConstructor`: Genera un constructor con los argumentos requeridos
@@ -42,6 +53,12 @@ public class RatingFacadeImpl implements RatingFacade {
     /** Objeto para mapear datos JSON. */
     private final ObjectMapper objectMapper;
 
+    /** Registro de los ejecutores resilientes de los servicios destino. */
+    private final ResilienceRegistry resilienceRegistry;
+
+    /** Factoría de las agrupaciones de lecturas concurrentes. */
+    private final SingleFlightFactory singleFlightFactory;
+
     /** URL para registrar una nueva calificación. */
     private static final String REGISTER_URL = "/api/ratings/register/films";
 
@@ -51,6 +68,20 @@ public class RatingFacadeImpl implements RatingFacade {
     /** URL para calcular el promedio de calificaciones de una película. */
     private static final String AVERAGE_RATING_URL = "/api/ratings/ratings-average/films/%d";
 
+    /** Nombre de la agrupación de las peticiones concurrentes del promedio de calificaciones. */
+    public static final String FIND_AVERAGE_FLIGHT = "rating-find-average";
+
+    /** Agrupación de las peticiones concurrentes del promedio de calificaciones, por película. */
+    private SingleFlight<Long, Optional<AverageRating>> findAverageFlight;
+
+    /**
+     * Crea la agrupación de las peticiones concurrentes del promedio de calificaciones.
+     */
+    @PostConstruct
+    public void init() {
+        findAverageFlight = singleFlightFactory.create(FIND_AVERAGE_FLIGHT);
+    }
+
     /**
      * Registra una nueva calificación para una película.
      *
@@ -61,26 +92,22 @@ public class RatingFacadeImpl implements RatingFacade {
      */
     @Override
     public RatingFilmDto registerRating(RatingFilmDto ratingFilmDto) {
-        try {
-            RatingFilmDto response = restClient.post()
-                    .uri(REGISTER_URL)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(ratingFilmDto)
-                    .retrieve()
-                    .body(RatingFilmDto.class);
-
-            return response;
-
-        } catch (RestClientResponseException e) {
-            log.error("Error HTTP al guardar el recurso ({}): {}",
-                    e.getStatusCode().value(),
-                    e.getResponseBodyAsString());
-            throw e;
-
-        } catch (Exception e) {
+        return ratingExecutor().execute(() -> restClient.post()
+                .uri(REGISTER_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ratingFilmDto)
+                .retrieve()
+                .body(RatingFilmDto.class), e -> {
+            if (e instanceof RestClientResponseException restClientResponseException) {
+                log.error("Error HTTP al guardar el recurso ({}): {}",
+                        restClientResponseException.getStatusCode().value(),
+                        restClientResponseException.getResponseBodyAsString());
+                throw e;
+            }
+
             log.error("Error inesperado al guardar el recurso", e);
             throw new RuntimeException("No pudo registrarse la valoración", e);
-        }
+        });
     }
 
     /**
@@ -93,24 +120,13 @@ public class RatingFacadeImpl implements RatingFacade {
      */
     @Override
     public Optional<RatingFilmDto> findRatingByUserIdAndMovieId(String userId, Long movieId) {
-        try {
-            RatingFilmDto response = restClient.get()
-                    .uri(FIND_RATING_URL.formatted(movieId, userId))
-                    .retrieve()
-                    .body(RatingFilmDto.class);
-
-            return Optional.ofNullable(response);
-
-        } catch (RestClientResponseException e) {
-            log.error("Error HTTP al buscar el recurso ({}): {}",
-                    e.getStatusCode().value(),
-                    e.getResponseBodyAsString(), e);
+        return ratingExecutor().execute(() -> Optional.ofNullable(restClient.get()
+                .uri(FIND_RATING_URL.formatted(movieId, userId))
+                .retrieve()
+                .body(RatingFilmDto.class)), e -> {
+            logFindError(e);
             return Optional.empty();
-
-        } catch (Exception e) {
-            log.error("Error inesperado al buscar el recurso", e);
-            return Optional.empty();
-        }
+        });
     }
 
     /**
@@ -118,27 +134,46 @@ public class RatingFacadeImpl implements RatingFacade {
      *
      * @param movieId El ID de la película para la cual se calculará el promedio de calificaciones.
      * @return Un `Optional` que contiene un objeto `AverageRating` con el promedio de calificaciones,
-     *         o vacío si no hay calificaciones disponibles.
+     *         {@link AverageRating#unavailable()} si el servicio de calificaciones no responde o falla (5xx),
+     *         o vacío si no hay calificaciones disponibles (4xx).
      */
     @Override
     public Optional<AverageRating> findRatingAverageByMovieId(Long movieId) {
-        try {
-            AverageRating averageRating = restClient.get()
-                    .uri(AVERAGE_RATING_URL.formatted(movieId))
-                    .retrieve()
-                    .body(AverageRating.class);
+        return findAverageFlight.execute(movieId, () -> ratingExecutor().execute(() -> Optional.ofNullable(restClient.get()
+                .uri(AVERAGE_RATING_URL.formatted(movieId))
+                .retrieve()
+                .body(AverageRating.class)), e -> {
+            logFindError(e);
+            // el servicio rechazó la petición (4xx): no hay calificaciones que mostrar; los errores del
+            // servidor (5xx) y de conexión indican que el servicio no está disponible
+            if (e instanceof HttpClientErrorException) {
+                return Optional.empty();
+            }
+            return Optional.of(AverageRating.unavailable());
+        }));
+    }
 
-            return Optional.ofNullable(averageRating);
+    /**
+     * Obtiene el ejecutor resiliente de las llamadas al servicio de calificaciones.
+     *
+     * @return El ejecutor resiliente del servicio destino {@code rating}.
+     */
+    private ResilientExecutor ratingExecutor() {
+        return resilienceRegistry.getExecutor(HttpClientFactory.RATING_DOWNSTREAM);
+    }
 
-        } catch (RestClientResponseException e) {
+    /**
+     * Registra el error de una búsqueda en el servicio de calificaciones.
+     *
+     * @param e La excepción producida.
+     */
+    private void logFindError(RuntimeException e) {
+        if (e instanceof RestClientResponseException restClientResponseException) {
             log.error("Error HTTP al buscar el recurso ({}): {}",
-                    e.getStatusCode().value(),
-                    e.getResponseBodyAsString(), e);
-            return Optional.empty();
-
-        } catch (Exception e) {
+                    restClientResponseException.getStatusCode().value(),
+                    restClientResponseException.getResponseBodyAsString(), e);
+        } else {
             log.error("Error inesperado al buscar el recurso", e);
-            return Optional.empty();
         }
     }
 }
\ No newline at end of file
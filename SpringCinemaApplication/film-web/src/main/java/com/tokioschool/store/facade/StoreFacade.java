@@ -1,10 +1,14 @@
 package com.tokioschool.store.facade;
 
 import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.dto.ResourceContentStream;
 import com.tokioschool.store.dto.ResourceIdDto;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -54,6 +58,44 @@ public interface StoreFacade {
     @PreAuthorize("isAuthenticated()")
     Optional<ResourceContentDto> findResource(UUID resourceId);
 
+    /**
+     * Comprueba, con una petición condicional, si un recurso sigue coincidiendo con alguno de los ETag
+     * que tiene el cliente, sin descargar su contenido. Requiere autenticación.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @param ifNoneMatch El valor de la cabecera `If-None-Match` del cliente.
+     * @return Un {@link Optional} con el ETag actual del recurso si no ha cambiado, o vacío en caso contrario.
+     */
+    @PreAuthorize("isAuthenticated()")
+    Optional<String> findResourceETagIfNotModified(UUID resourceId, String ifNoneMatch);
+
+    /**
+     * Abre en streaming el contenido binario de un recurso, sin cargarlo en memoria. Requiere autenticación.
+     *
+     * Reenvía a la API de Store las cabeceras `Range`, `If-Range` y condicionales de la petición del cliente,
+     * por lo que la respuesta puede ser parcial (206) o no modificada (304). Los errores del cliente (4xx),
+     * como un recurso que no existe (404) o un rango que no se puede servir (416), se devuelven con su estado.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @param requestHeaders Las cabeceras de la petición del cliente.
+     * @return Un {@link Optional} con el contenido abierto, que debe cerrarse, o vacío si la API de Store
+     * falla o no está disponible.
+     */
+    @PreAuthorize("isAuthenticated()")
+    Optional<ResourceContentStream> openResourceContent(UUID resourceId, HttpHeaders requestHeaders);
+
+    /**
+     * Busca varios recursos en el sistema por sus identificadores. Requiere autenticación.
+     *
+     * Los recursos se piden a la API de Store en lotes, en lugar de hacer una petición por recurso.
+     *
+     * @param resourceIds Los identificadores únicos de los recursos.
+     * @return Un {@link Map} con el contenido de los recursos encontrados, indexado por su identificador.
+     * Los recursos que no se encuentran no aparecen en el mapa.
+     */
+    @PreAuthorize("isAuthenticated()")
+    Map<UUID, ResourceContentDto> findResources(Collection<UUID> resourceIds);
+
     /**
      * Elimina un recurso del sistema por su identificador. Requiere autenticación.
      *
@@ -0,0 +1,78 @@
+package com.tokioschool.store.facade.impl;
+
+import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.properties.StorePropertiesFilm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Proveedor del cartel por defecto.
+ *
+ * Cuando la API de Store no está disponible (circuito abierto, sin huecos libres o tiempo agotado), la fachada
+ * devuelve este cartel en lugar del recurso pedido, para que las páginas se sigan mostrando. La imagen se lee
+ * una sola vez al arrancar, de la ubicación configurada en {@code application.store.placeholder-poster}.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra el proveedor como un bean de Spring.
+ * - {@link Slf4j}: Habilita el registro de logs utilizando SLF4J.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class PlaceholderPosterProvider {
+
+    private final byte[] content;
+    private final String resourceName;
+    private final String contentType;
+
+    public PlaceholderPosterProvider(StorePropertiesFilm storePropertiesFilm) {
+        byte[] bytes = new byte[0];
+        try (InputStream inputStream = storePropertiesFilm.placeholderPoster().getInputStream()) {
+            bytes = inputStream.readAllBytes();
+        } catch (IOException e) {
+            log.error("No se pudo leer el cartel por defecto {}", storePropertiesFilm.placeholderPoster(), e);
+        }
+        this.content = bytes;
+        this.resourceName = storePropertiesFilm.placeholderPoster().getFilename();
+        this.contentType = MediaTypeFactory.getMediaType(storePropertiesFilm.placeholderPoster())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    /**
+     * Obtiene el cartel por defecto en lugar de un recurso.
+     *
+     * @param resourceId El identificador del recurso sustituido.
+     * @return El contenido del cartel por defecto, con el identificador del recurso sustituido y sin resumen
+     * del contenido, para que no se guarde en caché como si fuera el recurso.
+     */
+    public ResourceContentDto getPlaceholder(UUID resourceId) {
+        return ResourceContentDto.builder()
+                .resourceId(resourceId)
+                .content(content)
+                .resourceName(resourceName)
+                .contentType(contentType)
+                .description("placeholder")
+                .size(content.length)
+                .build();
+    }
+
+    /**
+     * Comprueba si un contenido es el cartel por defecto.
+     *
+     * @param resourceContentDto El contenido a comprobar.
+     * @return {@code true} si es el cartel por defecto, {@code false} en caso contrario.
+     */
+    public boolean isPlaceholder(@Nullable ResourceContentDto resourceContentDto) {
+        return resourceContentDto != null && resourceContentDto.content() == content;
+    }
+}
@@ -1,36 +1,35 @@
 package com.tokioschool.store.facade.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.store.client.StoreClient;
 import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.dto.ResourceContentStream;
 import com.tokioschool.store.dto.ResourceIdDto;
 import com.tokioschool.store.facade.StoreFacade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Implementación de la fachada para gestionar recursos en el sistema.
  *
  * Esta clase proporciona métodos para registrar, guardar, buscar, eliminar y actualizar
- * recursos en el sistema utilizando un cliente REST.
+ * recursos en el sistema utilizando el {@link StoreClient} compartido.
+ *
+ * La fachada aplica la política de errores de la aplicación web: los fallos de la API de Store se registran
+ * y se devuelven como {@link Optional#empty()}, salvo al eliminar un recurso, que se relanzan, y al buscar
+ * un recurso, que se sustituye por el cartel por defecto si la API de Store no está disponible.
  *
  * Anotaciones:
  * - {@link Service}: Marca esta clase como un componente de servicio de Spring.
@@ -46,15 +45,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class StoreFacadeImpl implements StoreFacade {
 
-    /** Cliente REST para interactuar con el sistema de recursos. */
-    @Qualifier("restClientCostumer")
-    private final RestClient restClient;
-
-    /** Objeto para mapear datos a/desde JSON. */
-    private final ObjectMapper objectMapper;
+    /** Cliente de la API de Store. */
+    private final StoreClient storeClient;
 
-    /** URL base para los recursos en el sistema. */
-    private static final String RESOURCE_URL = "/store/api/resource";
+    /** Cartel que sustituye a los recursos cuando la API de Store no está disponible. */
+    private final PlaceholderPosterProvider placeholderPosterProvider;
 
     /**
      * Registra un recurso en el sistema.
@@ -65,44 +60,8 @@ public class StoreFacadeImpl implements StoreFacade {
      */
     @Override
     public Optional<ResourceIdDto> registerResource(@NonNull MultipartFile multipartFile, @Nullable String description) {
-        // Simulación de la descripción como parte de la solicitud
-        Map<String, String> descriptionMap = new HashMap<>();
-        descriptionMap.put("description", description);
-        String descriptionBody = StringUtils.EMPTY;
-        try {
-            descriptionBody = objectMapper.writeValueAsString(descriptionMap);
-        } catch (JsonProcessingException e) {
-            log.error("Error al procesar la descripción", e);
-        }
-
-        // Simulación del archivo como parte de la solicitud
-        MediaType mediaType = Optional.ofNullable(multipartFile.getContentType())
-                .map(MediaType::valueOf)
-                .orElseGet(() -> MediaType.APPLICATION_OCTET_STREAM); // Por defecto como binario
-
-        // Construcción de las partes de la solicitud
-        final HttpEntity<Object> descriptionPart = buildHttpEntity(MediaType.APPLICATION_JSON, descriptionBody);
-        final HttpEntity<Object> resourcePart = buildHttpEntity(mediaType, multipartFile.getResource());
-
-        // Montaje del cuerpo de la solicitud multipart
-        MultiValueMap<Object, Object> parts = new LinkedMultiValueMap<>();
-        parts.add("description", descriptionPart);
-        parts.add("content", resourcePart);
-
-        try {
-            final ResourceIdDto resourceIdDto = restClient.post()
-                    .uri(RESOURCE_URL)
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(parts)
-                    .retrieve()
-                    .body(ResourceIdDto.class);
-
-            return Optional.ofNullable(resourceIdDto);
-        } catch (Exception e) {
-            log.error("Error al guardar el recurso", e);
-        }
-
-        return Optional.empty();
+        return orEmpty(() -> Optional.of(storeClient.saveResource(multipartFile, description)),
+                "Error al guardar el recurso");
     }
 
     /**
@@ -114,67 +73,68 @@ public class StoreFacadeImpl implements StoreFacade {
      */
     @Override
     public Optional<ResourceIdDto> saveResource(MultipartFile multipartFile, String description) {
-        // Simulación de la descripción como parte de la solicitud
-        Map<String, String> descriptionMap = new HashMap<>();
-        descriptionMap.put("description", description);
-        String descriptionBody = StringUtils.EMPTY;
-        try {
-            descriptionBody = objectMapper.writeValueAsString(descriptionMap);
-        } catch (JsonProcessingException e) {
-            log.error("Error al procesar la descripción", e);
-        }
-
-        // Simulación del archivo como parte de la solicitud
-        MediaType mediaType = Optional.ofNullable(multipartFile.getContentType())
-                .map(MediaType::valueOf)
-                .orElseGet(() -> MediaType.APPLICATION_OCTET_STREAM);
-
-        // Construcción de las partes de la solicitud
-        final HttpEntity<Object> descriptionPart = buildHttpEntity(MediaType.APPLICATION_JSON, descriptionBody);
-        final HttpEntity<Object> resourcePart = buildHttpEntity(mediaType, multipartFile.getResource());
-
-        // Montaje del cuerpo de la solicitud multipart
-        MultiValueMap<Object, Object> parts = new LinkedMultiValueMap<>();
-        parts.add("description", descriptionPart);
-        parts.add("content", resourcePart);
-
-        try {
-            final ResourceIdDto resourceIdDto = restClient.post()
-                    .uri(RESOURCE_URL)
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(parts)
-                    .retrieve()
-                    .body(ResourceIdDto.class);
-
-            return Optional.ofNullable(resourceIdDto);
-        } catch (Exception e) {
-            log.error("Error al guardar el recurso", e);
-        }
-
-        return Optional.empty();
+        return registerResource(multipartFile, description);
     }
 
     /**
      * Busca un recurso en el sistema por su identificador.
      *
+     * Si la API de Store no está disponible devuelve el cartel por defecto de {@link PlaceholderPosterProvider}.
+     *
      * @param resourceId El identificador único del recurso.
      * @return Un {@link Optional} que contiene el contenido del recurso si se encuentra.
      */
     @Override
     public Optional<ResourceContentDto> findResource(UUID resourceId) {
-        final String uri = "%s/{resourceId}".formatted(RESOURCE_URL);
         try {
-            ResourceContentDto resourceContentDto = restClient.get()
-                    .uri(uri, resourceId)
-                    .retrieve()
-                    .body(ResourceContentDto.class);
-
-            return Optional.ofNullable(resourceContentDto);
-        } catch (Exception e) {
+            return storeClient.findResource(resourceId);
+        } catch (HttpClientErrorException e) {
+            // el recurso no es accesible: no hay nada que sustituir
+            log.error("Excepción al buscar el recurso", e);
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            // la API de Store no está disponible: se muestra el póster por defecto
             log.error("Excepción al buscar el recurso", e);
+            return Optional.of(placeholderPosterProvider.getPlaceholder(resourceId));
         }
+    }
 
-        return Optional.empty();
+    /**
+     * Comprueba si un recurso sigue coincidiendo con alguno de los ETag que tiene el cliente.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @param ifNoneMatch El valor de la cabecera `If-None-Match` del cliente.
+     * @return Un {@link Optional} con el ETag actual del recurso si no ha cambiado, o vacío en caso contrario.
+     */
+    @Override
+    public Optional<String> findResourceETagIfNotModified(UUID resourceId, String ifNoneMatch) {
+        return orEmpty(() -> storeClient.findResourceETagIfNotModified(resourceId, ifNoneMatch),
+                "Excepción al validar el recurso");
+    }
+
+    /**
+     * Abre en streaming el contenido binario de un recurso, sin cargarlo en memoria.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @param requestHeaders Las cabeceras de la petición del cliente.
+     * @return Un {@link Optional} con el contenido abierto o la respuesta de error de la API de Store,
+     * o vacío si la API de Store no está disponible.
+     */
+    @Override
+    public Optional<ResourceContentStream> openResourceContent(UUID resourceId, HttpHeaders requestHeaders) {
+        return orEmpty(() -> Optional.of(storeClient.openResourceContent(resourceId, requestHeaders)),
+                "Excepción al abrir el contenido del recurso");
+    }
+
+    /**
+     * Busca varios recursos en el sistema por sus identificadores.
+     *
+     * @param resourceIds Los identificadores únicos de los recursos.
+     * @return Un {@link Map} con el contenido de los recursos encontrados, en el orden pedido.
+     */
+    @Override
+    public Map<UUID, ResourceContentDto> findResources(Collection<UUID> resourceIds) {
+        return storeClient.findResources(resourceIds);
     }
 
     /**
@@ -184,11 +144,7 @@ public class StoreFacadeImpl implements StoreFacade {
      */
     @Override
     public void deleteResource(UUID resourceId) {
-        final String uri = "%s/{resourceId}".formatted(RESOURCE_URL);
-
-        restClient.delete().uri(uri, resourceId)
-                .retrieve()
-                .toBodilessEntity();
+        storeClient.deleteResource(resourceId);
     }
 
     /**
@@ -215,15 +171,19 @@ public class StoreFacadeImpl implements StoreFacade {
     }
 
     /**
-     * Construye una entidad HTTP con el tipo de contenido y el cuerpo proporcionados.
+     * Ejecuta una llamada al cliente de la API de Store y, si falla, registra el error y devuelve vacío.
      *
-     * @param mediaType El tipo de contenido de la entidad.
-     * @param body El cuerpo de la entidad.
-     * @return Una instancia de {@link HttpEntity}.
+     * @param call La llamada a realizar.
+     * @param errorMessage El mensaje con el que se registra el error.
+     * @return El resultado de la llamada, o vacío si falla.
+     * @param <T> El tipo del resultado.
      */
-    private HttpEntity<Object> buildHttpEntity(MediaType mediaType, Object body) {
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(mediaType);
-        return new HttpEntity<>(body, headers);
+    private <T> Optional<T> orEmpty(Supplier<Optional<T>> call, String errorMessage) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            log.error(errorMessage, e);
+            return Optional.empty();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,8 @@
 package com.tokioschool.store.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
-
-import java.util.List;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
 
 /**
  * Clase de configuración de propiedades para la tienda de películas.
@@ -12,29 +12,17 @@ import java.util.List;
  *
  * Campos:
  * - {@code baseUrl}: URL base para acceder a los recursos de la tienda.
- * - {@code login}: Configuración de inicio de sesión que incluye una lista de usuarios y sus credenciales.
+ * - {@code login}: Configuración de inicio de sesión que incluye una lista de usuarios y sus credenciales,
+ *   compartida con el servicio de autenticación de la tienda ({@link StoreLoginProperty}).
+ * - {@code placeholderPoster}: Imagen que se muestra en lugar de un cartel cuando la tienda no está disponible.
+ * - {@code streamingProxy}: Indica si el contenido de los recursos se reenvía en streaming desde la tienda,
+ *   en lugar de cargarlo en memoria. Por defecto {@code true}.
  *
  * @author andres.rpenuela
  * @version 1.0
  */
 @ConfigurationProperties(prefix = "application.store")
-public record StorePropertiesFilm(String baseUrl, Login login) {
-
-    /**
-     * Clase interna que representa las credenciales de un usuario de la tienda.
-     *
-     * Campos:
-     * - {@code username}: Nombre de usuario.
-     * - {@code password}: Contraseña del usuario.
-     */
-    public record UserStore(String username, String password) {}
-
-    /**
-     * Clase interna que representa la configuración de inicio de sesión.
-     *
-     * Campos:
-     * - {@code users}: Lista de usuarios con sus credenciales.
-     */
-    public record Login(List<UserStore> users) {}
-
+public record StorePropertiesFilm(String baseUrl, StoreLoginProperty login,
+                                  @DefaultValue("classpath:static/images/default-movie-poster.png") Resource placeholderPoster,
+                                  @DefaultValue("true") boolean streamingProxy) {
 }
\ No newline at end of file
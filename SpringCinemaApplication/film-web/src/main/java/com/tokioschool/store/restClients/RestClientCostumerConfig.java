@@ -1,8 +1,13 @@
 package com.tokioschool.store.restClients;
 
+import com.tokioschool.httpclient.HttpClientFactory;
+import com.tokioschool.httpclient.token.BearerTokenInterceptor;
 import com.tokioschool.store.authentications.StoreAuthenticationService;
+import com.tokioschool.store.client.StoreClient;
+import com.tokioschool.store.client.StoreClientFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,7 +19,7 @@ import org.springframework.web.client.RestClient;
  * Configuración del cliente REST para interactuar con el sistema de la tienda.
  *
  * Esta clase configura un cliente REST personalizado que incluye la URL base y
- * un encabezado de autorización con un token de acceso.
+ * un encabezado de autorización con un token de acceso, y el {@link StoreClient} que lo utiliza.
  *
  * Anotaciones:
  * - {@link Configuration}: Marca esta clase como una clase de configuración de Spring.
@@ -44,23 +49,43 @@ public class RestClientCostumerConfig {
      */
     private final StoreAuthenticationService storeAuthenticationService;
 
+    /**
+     * Factoría de los clientes HTTP, con el pool de conexiones hacia la tienda.
+     */
+    private final HttpClientFactory httpClientFactory;
+
     /**
      * Define un bean para el cliente REST utilizado en la interacción con el sistema de la tienda.
      *
      * Este cliente REST incluye:
+     * - El pool de conexiones y los tiempos máximos del servicio destino de la tienda.
      * - La URL base configurada.
      * - Un encabezado predeterminado para el tipo de contenido (JSON).
-     * - Un encabezado de autorización que incluye un token de acceso.
+     * - Un encabezado de autorización que incluye un token de acceso, que se renueva y reintenta una vez
+     *   si la tienda lo rechaza ({@link BearerTokenInterceptor}).
      *
      * @return Una instancia configurada de {@link RestClient}.
      */
     @Bean("restClientCostumer")
     public RestClient restClient() {
-        return RestClient.builder()
+        return httpClientFactory.restClientBuilder(HttpClientFactory.STORE_DOWNSTREAM)
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .requestInitializer(request ->
-                        request.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(storeAuthenticationService.getAccessToken()))
-                ).build();
+                .requestInterceptor(new BearerTokenInterceptor(storeAuthenticationService::getAccessToken,
+                        storeAuthenticationService::invalidateAccessToken))
+                .build();
+    }
+
+    /**
+     * Define un bean para el cliente de la API de Store, que utiliza el cliente REST de la tienda.
+     *
+     * @param restClient El cliente REST de la tienda.
+     * @param storeClientFactory La factoría de los clientes de la API de Store.
+     * @return Una instancia configurada de {@link StoreClient}.
+     */
+    @Bean
+    public StoreClient storeClient(@Qualifier("restClientCostumer") RestClient restClient,
+                                   StoreClientFactory storeClientFactory) {
+        return storeClientFactory.create(restClient);
     }
 }
\ No newline at end of file
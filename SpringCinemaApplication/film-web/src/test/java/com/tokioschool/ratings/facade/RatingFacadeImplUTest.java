@@ -0,0 +1,71 @@
+package com.tokioschool.ratings.facade;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.concurrent.SingleFlightFactory;
+import com.tokioschool.concurrent.SingleFlightProperty;
+import com.tokioschool.filmapp.records.AverageRating;
+import com.tokioschool.httpclient.properties.ResilienceProperty;
+import com.tokioschool.httpclient.resilience.ResilienceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Clock;
+
+@ExtendWith(MockitoExtension.class)
+class RatingFacadeImplUTest {
+
+    @Mock
+    private RestClient restClient;
+    @Mock
+    private RestClient.RequestHeadersUriSpec requestHeadersUriSpec;
+    @Mock
+    private RestClient.ResponseSpec responseSpec;
+
+    private final ResilienceRegistry resilienceRegistry =
+            new ResilienceRegistry(new ResilienceProperty(null, null), new SimpleMeterRegistry(), Clock.systemUTC());
+
+    private RatingFacadeImpl ratingFacade;
+
+    @BeforeEach
+    void init() {
+        ratingFacade = new RatingFacadeImpl(restClient, new ObjectMapper(), resilienceRegistry,
+                new SingleFlightFactory(new SingleFlightProperty(null, null), new SimpleMeterRegistry()));
+        ratingFacade.init();
+
+        Mockito.when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilienceRegistry.destroy();
+    }
+
+    @Test
+    void givenMovieWithoutRatings_whenFindRatingAverageByMovieId_thenReturnEmpty() {
+        Mockito.when(responseSpec.body(AverageRating.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        Assertions.assertThat(ratingFacade.findRatingAverageByMovieId(1L)).isEmpty();
+    }
+
+    @Test
+    void givenFailingRatingService_whenFindRatingAverageByMovieId_thenReturnUnavailable() {
+        Mockito.when(responseSpec.body(AverageRating.class))
+                .thenThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null));
+
+        Assertions.assertThat(ratingFacade.findRatingAverageByMovieId(1L)).contains(AverageRating.unavailable());
+    }
+}
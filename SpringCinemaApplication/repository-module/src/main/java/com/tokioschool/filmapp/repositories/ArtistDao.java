@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -32,4 +33,12 @@ public interface ArtistDao extends JpaRepository<Artist, Long>, JpaSpecification
     List<Artist> getArtistsByTypeArtist(TYPE_ARTIST typeArtist);
 
     List<Artist> findByTypeArtistIs(TYPE_ARTIST typeArtist);
-}
\ No newline at end of file
+
+    /**
+     * Busca los artistas modificados desde un instante.
+     *
+     * @param since Instante desde el que se buscan las modificaciones, incluido.
+     * @return Una lista de artistas modificados.
+     */
+    List<Artist> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+}
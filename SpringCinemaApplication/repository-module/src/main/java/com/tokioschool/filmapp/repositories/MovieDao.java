@@ -2,17 +2,26 @@ package com.tokioschool.filmapp.repositories;
 
 import com.tokioschool.filmapp.domain.Movie;
 import com.tokioschool.filmapp.projections.ResultMovie;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio para la entidad {@link Movie}.
  *
- * Esta interfaz extiende {@link JpaRepository} para proporcionar métodos CRUD
- * y consultas personalizadas para la entidad Movie.
+ * Esta interfaz extiende {@link JpaRepository} y {@link JpaSpecificationExecutor} para proporcionar
+ * métodos CRUD, consultas personalizadas y soporte para especificaciones JPA en la entidad Movie.
  *
  * Anotaciones:
  * - {@link Repository}: Marca esta interfaz como un componente de acceso a datos de Spring.
@@ -21,7 +30,50 @@ import java.util.List;
  * @version 1.0
  */
 @Repository
-public interface MovieDao extends JpaRepository<Movie, Long> {
+public interface MovieDao extends JpaRepository<Movie, Long>, JpaSpecificationExecutor<Movie> {
+
+        /**
+         * Obtiene todas las películas con su gerente, sus artistas y su usuario creador.
+         *
+         * @return Lista de películas.
+         */
+        @Override
+        @EntityGraph(Movie.ENTITY_GRAPH_DETAIL)
+        List<Movie> findAll();
+
+        /**
+         * Busca las películas que cumplen una especificación, con su gerente, sus artistas y su usuario creador.
+         *
+         * @param spec Especificación que deben cumplir las películas.
+         * @param sort Orden de los resultados.
+         * @return Lista de películas.
+         */
+        @Override
+        @EntityGraph(Movie.ENTITY_GRAPH_DETAIL)
+        List<Movie> findAll(Specification<Movie> spec, Sort sort);
+
+        /**
+         * Busca una página de películas que cumplen una especificación, con su gerente y su usuario creador.
+         *
+         * Los artistas no se incluyen en la consulta para que la paginación se haga en la base de datos;
+         * se cargan por lotes al acceder a ellos.
+         *
+         * @param spec Especificación que deben cumplir las películas.
+         * @param pageable Página a obtener.
+         * @return Página de películas.
+         */
+        @Override
+        @EntityGraph(Movie.ENTITY_GRAPH_SUMMARY)
+        Page<Movie> findAll(Specification<Movie> spec, Pageable pageable);
+
+        /**
+         * Busca una película por su identificador, con su gerente, sus artistas y su usuario creador en la misma consulta.
+         *
+         * @param id El identificador de la película.
+         * @return Un {@link Optional} que contiene la película si existe.
+         */
+        @Query("SELECT m FROM Movie m LEFT JOIN FETCH m.manager LEFT JOIN FETCH m.artists LEFT JOIN FETCH m.createUser WHERE m.id = :id")
+        Optional<Movie> findDetailById(@Param("id") Long id);
 
         /**
          * Busca todas las películas cuyo título contenga la palabra especificada,
@@ -63,4 +115,28 @@ public interface MovieDao extends JpaRepository<Movie, Long> {
         List<Movie> findFilmsNotExported();
 
         List<Movie> findMovieByManagerId(Long id);
-}
\ No newline at end of file
+
+        /**
+         * Busca las películas en cuyo reparto aparece un artista.
+         *
+         * @param id El identificador del artista.
+         * @return Una lista de películas en las que participa el artista.
+         */
+        List<Movie> findMovieByArtistsId(Long id);
+
+        /**
+         * Busca las películas modificadas desde un instante, o cuyo gerente o alguno de sus artistas
+         * se ha modificado desde entonces, con su gerente, sus artistas y su usuario creador.
+         *
+         * @param since Instante desde el que se buscan las modificaciones, incluido.
+         * @return Lista de películas modificadas.
+         */
+        @EntityGraph(Movie.ENTITY_GRAPH_DETAIL)
+        @Query("""
+                SELECT DISTINCT m FROM Movie m
+                WHERE m.updatedAt >= :since
+                   OR m.manager.updatedAt >= :since
+                   OR EXISTS (SELECT 1 FROM Movie mc JOIN mc.artists a WHERE mc = m AND a.updatedAt >= :since)
+                """)
+        List<Movie> findModifiedSince(@Param("since") LocalDateTime since);
+}
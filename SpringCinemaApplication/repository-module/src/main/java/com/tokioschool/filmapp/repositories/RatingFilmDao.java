@@ -2,10 +2,12 @@ package com.tokioschool.filmapp.repositories;
 
 import com.tokioschool.filmapp.domain.RatingFilm;
 import com.tokioschool.filmapp.records.AverageRating;
+import com.tokioschool.filmapp.records.RatingCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -42,4 +44,13 @@ public interface RatingFilmDao extends JpaRepository<RatingFilm, Long> {
     @Query("SELECT new com.tokioschool.filmapp.records.AverageRating( AVG(r.score), count(*) ) " +
             "FROM RatingFilm r WHERE r.filmId = ?1 GROUP BY r.filmId")
     Optional<AverageRating> mainScoreByFilmId(Long filmId);
+
+    /**
+     * Cuenta las calificaciones de cada película calificada.
+     *
+     * @return Una lista de objetos {@link RatingCount} con el número de calificaciones de cada película.
+     */
+    @Query("SELECT new com.tokioschool.filmapp.records.RatingCount( r.filmId, count(*) ) " +
+            "FROM RatingFilm r GROUP BY r.filmId")
+    List<RatingCount> countRatingsGroupByFilmId();
 }
\ No newline at end of file
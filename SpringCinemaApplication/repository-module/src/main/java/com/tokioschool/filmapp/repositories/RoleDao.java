@@ -1,6 +1,9 @@
 package com.tokioschool.filmapp.repositories;
 
 import com.tokioschool.filmapp.domain.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +15,9 @@ import java.util.List;
  * Esta interfaz extiende {@link CrudRepository} para proporcionar métodos CRUD básicos
  * y consultas personalizadas para la entidad Role.
  *
+ * Las consultas de roles se guardan en la caché de consultas de Hibernate: los roles apenas cambian
+ * y se buscan por nombre en cada alta y modificación de usuario.
+ *
  * Anotaciones:
  * - {@link Repository}: Marca esta interfaz como un componente de acceso a datos de Spring.
  *
@@ -21,13 +27,16 @@ import java.util.List;
 @Repository
 public interface RoleDao extends CrudRepository<Role, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Role> findAll();
+
     /**
      * Busca un rol por su nombre, ignorando mayúsculas y minúsculas.
      *
      * @param name El nombre del rol a buscar.
      * @return Una instancia de {@link Role} que coincide con el nombre especificado.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Role findByNameIgnoreCase(String name);
 
 }
\ No newline at end of file
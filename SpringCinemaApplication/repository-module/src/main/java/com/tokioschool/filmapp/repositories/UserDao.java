@@ -1,12 +1,15 @@
 package com.tokioschool.filmapp.repositories;
 
 import com.tokioschool.filmapp.domain.User;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,6 +33,7 @@ public interface UserDao extends JpaRepository<User, String>, JpaSpecificationEx
      * @param email El correo electrónico del usuario a buscar.
      * @return Un {@link Optional} que contiene el usuario si existe.
      */
+    @EntityGraph(User.ENTITY_GRAPH_ROLES)
     Optional<User> findByEmailIgnoreCase(String email);
 
     /**
@@ -38,6 +42,7 @@ public interface UserDao extends JpaRepository<User, String>, JpaSpecificationEx
      * @param username El nombre de usuario a buscar.
      * @return Un {@link Optional} que contiene el usuario si existe.
      */
+    @EntityGraph(User.ENTITY_GRAPH_ROLES)
     Optional<User> findByUsernameIgnoreCase(String username);
 
     /**
@@ -46,6 +51,27 @@ public interface UserDao extends JpaRepository<User, String>, JpaSpecificationEx
      * @param filter El nombre de usuario o correo electrónico a buscar.
      * @return Un {@link Optional} que contiene el usuario si existe.
      */
+    @EntityGraph(User.ENTITY_GRAPH_ROLES)
     @Query(value = "SELECT u FROM User u WHERE UPPER(u.username) = UPPER(:filter) or UPPER(u.email) = UPPER(:filter)")
     Optional<User> findByUsernameOrEmailIgnoreCase(@Param("filter") String filter);
-}
\ No newline at end of file
+
+    /**
+     * Busca un usuario por su identificador, con sus roles, autoridades y alcances.
+     *
+     * @param id El identificador del usuario.
+     * @return Un {@link Optional} que contiene el usuario si existe.
+     */
+    @Override
+    @EntityGraph(User.ENTITY_GRAPH_ROLES)
+    Optional<User> findById(String id);
+
+    /**
+     * Busca los usuarios que cumplen una especificación, con sus roles, autoridades y alcances.
+     *
+     * @param spec Especificación que deben cumplir los usuarios.
+     * @return Lista de usuarios.
+     */
+    @Override
+    @EntityGraph(User.ENTITY_GRAPH_ROLES)
+    List<User> findAll(Specification<User> spec);
+}
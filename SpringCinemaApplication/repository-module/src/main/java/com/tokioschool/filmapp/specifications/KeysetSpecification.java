@@ -0,0 +1,69 @@
+package com.tokioschool.filmapp.specifications;
+
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+
+/**
+ * Clase que proporciona especificaciones para la paginación por clave (keyset).
+ *
+ * En lugar de saltar un número de filas (`OFFSET`), filtra las filas posteriores al último elemento
+ * devuelto, `WHERE (sortKey, id) > (?, ?)`, de forma que la base de datos puede usar el índice y el
+ * coste de una página no depende de su posición. JPA no soporta la comparación de tuplas, por lo que
+ * se expresa como `sortKey > ? OR (sortKey = ? AND id > ?)`.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class KeysetSpecification {
+
+    /**
+     * Crea una especificación para filtrar las entidades cuyo identificador es posterior al indicado.
+     *
+     * @param idField El nombre del atributo identificador.
+     * @param idValue El identificador del último elemento devuelto. Si es nulo, no aplica filtro.
+     * @return Una especificación para obtener la página siguiente ordenada por identificador.
+     * @param <T> El tipo de la entidad.
+     * @param <I> El tipo del identificador.
+     */
+    public static <T, I extends Comparable<? super I>> Specification<T> after(@NonNull final String idField, I idValue) {
+        return (root, query, cb) -> idValue == null ? null : cb.greaterThan(root.get(idField), idValue);
+    }
+
+    /**
+     * Crea una especificación para filtrar las entidades posteriores a la posición (sortKey, id) indicada.
+     *
+     * @param sortField El nombre del atributo de ordenación, que no debe admitir nulos.
+     * @param sortValue La clave de ordenación del último elemento devuelto.
+     * @param idField El nombre del atributo identificador, que desempata a igualdad de clave.
+     * @param idValue El identificador del último elemento devuelto. Si es nulo, no aplica filtro.
+     * @return Una especificación para obtener la página siguiente ordenada por (sortKey, id).
+     * @param <T> El tipo de la entidad.
+     * @param <S> El tipo de la clave de ordenación.
+     * @param <I> El tipo del identificador.
+     */
+    public static <T, S extends Comparable<? super S>, I extends Comparable<? super I>> Specification<T> after(
+            @NonNull final String sortField, S sortValue, @NonNull final String idField, I idValue) {
+        return (root, query, cb) -> {
+            if (sortValue == null || idValue == null) {
+                return null;
+            }
+            final Path<S> sortPath = root.get(sortField);
+            return cb.or(
+                    cb.greaterThan(sortPath, sortValue),
+                    cb.and(cb.equal(sortPath, sortValue), cb.greaterThan(root.get(idField), idValue)));
+        };
+    }
+
+    /**
+     * Crea el orden que corresponde a {@link #after(String, Comparable, String, Comparable)}.
+     *
+     * @param sortField El nombre del atributo de ordenación.
+     * @param idField El nombre del atributo identificador.
+     * @return El orden ascendente por (sortKey, id).
+     */
+    public static Sort sortBy(@NonNull final String sortField, @NonNull final String idField) {
+        return Sort.by(Sort.Direction.ASC, sortField, idField);
+    }
+}
@@ -0,0 +1,90 @@
+package com.tokioschool.filmapp.specifications;
+
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.records.RangeReleaseYear;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clase que proporciona especificaciones para filtrar entidades {@link Movie}.
+ *
+ * Esta clase utiliza el API de Criteria de JPA para construir consultas dinámicas
+ * basadas en los atributos de la entidad Movie, de forma que el filtrado se realiza en la base de datos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class MovieSpecification {
+
+    /** Nombre de los campos de la clase {@link Movie} utilizados para filtrar **/
+    private static final String MOVIE_TITLE_FIELD = "title";
+    private static final String MOVIE_RELEASE_YEAR_FIELD = "releaseYear";
+
+    /**
+     * Crea una especificación para filtrar películas cuyo título contenga un texto, ignorando mayúsculas y minúsculas.
+     *
+     * @param title El texto por el cual filtrar. Si es nulo o está vacío, no aplica filtro.
+     * @return Una especificación para filtrar películas por título.
+     */
+    public static Specification<Movie> containsTitle(String title) {
+        return filterContainsStringIgnoreCase(MOVIE_TITLE_FIELD, title);
+    }
+
+    /**
+     * Crea una especificación para filtrar películas por rango de años de lanzamiento (mínimo y máximo, inclusivo).
+     *
+     * Un límite nulo o menor o igual que cero no se aplica, y las películas sin año de lanzamiento
+     * se incluyen siempre.
+     *
+     * @param rangeReleaseYear El rango de años por el cual filtrar. Si es nulo, no aplica filtro.
+     * @return Una especificación para filtrar películas por año de lanzamiento.
+     */
+    public static Specification<Movie> hasReleaseYearBetween(RangeReleaseYear rangeReleaseYear) {
+        final Integer maybeYearMin = rangeReleaseYear == null ? null : positiveOrNull(rangeReleaseYear.yearMin());
+        final Integer maybeYearMax = rangeReleaseYear == null ? null : positiveOrNull(rangeReleaseYear.yearMax());
+
+        return (root, query, cb) -> {
+            if (maybeYearMin == null && maybeYearMax == null) {
+                return null;
+            }
+            final Path<Integer> releaseYear = root.get(MOVIE_RELEASE_YEAR_FIELD);
+
+            final List<Predicate> bounds = new ArrayList<>();
+            if (maybeYearMin != null) {
+                bounds.add(cb.greaterThanOrEqualTo(releaseYear, maybeYearMin));
+            }
+            if (maybeYearMax != null) {
+                bounds.add(cb.lessThanOrEqualTo(releaseYear, maybeYearMax));
+            }
+            return cb.or(cb.isNull(releaseYear), cb.and(bounds.toArray(Predicate[]::new)));
+        };
+    }
+
+    /**
+     * Normaliza un límite del rango de años: los valores nulos o menores o iguales que cero significan "sin límite".
+     *
+     * @param year El límite a normalizar.
+     * @return El límite, o nulo si no se debe aplicar.
+     */
+    private static Integer positiveOrNull(Integer year) {
+        return year == null || year <= 0 ? null : year;
+    }
+
+    /**
+     * Crea una especificación para filtrar películas por un atributo de tipo cadena que contenga un valor, ignorando mayúsculas y minúsculas.
+     *
+     * @param nameField  El nombre del atributo por el cual filtrar.
+     * @param valueField El valor por el cual filtrar.
+     * @return Una especificación para filtrar películas por el atributo especificado, ignorando mayúsculas y minúsculas.
+     */
+    private static Specification<Movie> filterContainsStringIgnoreCase(@NonNull final String nameField, String valueField) {
+        final String maybeValue = StringUtils.stripToNull(valueField);
+        return (root, query, cb) -> maybeValue == null ? null : cb.like(cb.lower(root.get(nameField)), String.format("%%%s%%", maybeValue.toLowerCase()));
+    }
+}
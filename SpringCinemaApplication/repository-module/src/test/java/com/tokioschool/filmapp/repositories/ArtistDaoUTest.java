@@ -4,6 +4,7 @@ import com.github.javafaker.Faker;
 import com.tokioschool.filmapp.domain.Artist;
 import com.tokioschool.filmapp.enums.TYPE_ARTIST;
 import com.tokioschool.filmapp.repositories.configuration.TestConfig;
+import com.tokioschool.filmapp.specifications.KeysetSpecification;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.util.Objects;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -26,6 +32,7 @@ class ArtistDaoUTest {
 
     @Autowired private ArtistDao artistDao;
     @Autowired private Faker faker;
+    @Autowired private TestEntityManager testEntityManager;
 
     private static List<Artist> artists;
 
@@ -66,6 +73,44 @@ class ArtistDaoUTest {
                 .satisfies(artist -> Assertions.assertThat(artist.getId()).isNotNull());
     }
 
+    @Test
+    void givenModifiedArtist_whenFindByUpdatedAtGreaterThanEqual_thenReturnOnlyTheModifiedArtist() {
+        testEntityManager.flush();
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE artists SET updated_at = CASE WHEN id = :id THEN :modified ELSE :old END")
+                .setParameter("id", artists.getFirst().getId())
+                .setParameter("modified", LocalDateTime.of(2020, 1, 1, 0, 0))
+                .setParameter("old", LocalDateTime.of(2000, 1, 1, 0, 0))
+                .executeUpdate();
+
+        Assertions.assertThat(artistDao.findByUpdatedAtGreaterThanEqual(LocalDateTime.of(2010, 1, 1, 0, 0)))
+                .extracting(Artist::getId)
+                .containsExactly(artists.getFirst().getId());
+    }
+
+    @Test
+    void givenKeysetCursor_whenFindByPageAfterPage_thenReturnAllArtistsInOrderOnce() {
+        final Sort sort = KeysetSpecification.sortBy("surname", "id");
+        final List<Artist> expected = artistDao.findAll(sort);
+
+        // los prefijos se repiten, por lo que el identificador debe desempatar
+        final List<Artist> scrolled = new ArrayList<>();
+        Artist last = null;
+        List<Artist> page;
+        do {
+            final Specification<Artist> spec = last == null
+                    ? Specification.allOf()
+                    : KeysetSpecification.after("surname", last.getSurname(), "id", last.getId());
+            page = artistDao.findBy(spec, query -> query.sortBy(sort).limit(3).all());
+            scrolled.addAll(page);
+            last = page.isEmpty() ? last : page.getLast();
+        } while (page.size() == 3);
+
+        Assertions.assertThat(scrolled)
+                .extracting(Artist::getId)
+                .containsExactlyElementsOf(expected.stream().map(Artist::getId).toList());
+    }
+
     /**
      * Get a number random between [min,max]
      *
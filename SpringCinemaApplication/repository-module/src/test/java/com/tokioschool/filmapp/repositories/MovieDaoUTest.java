@@ -6,15 +6,23 @@ import com.tokioschool.filmapp.domain.ExportFilm;
 import com.tokioschool.filmapp.domain.Movie;
 import com.tokioschool.filmapp.enums.TYPE_ARTIST;
 import com.tokioschool.filmapp.projections.ResultMovie;
+import com.tokioschool.filmapp.records.RangeReleaseYear;
 import com.tokioschool.filmapp.repositories.configuration.TestConfig;
+import com.tokioschool.filmapp.specifications.MovieSpecification;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
@@ -31,6 +39,7 @@ class MovieDaoUTest {
     @Autowired private ExportFilmDao exportFilmDao;
 
     @Autowired private Faker faker;
+    @Autowired private TestEntityManager testEntityManager;
 
     List<Movie> movies;
     List<Artist> artists;
@@ -197,6 +206,97 @@ class MovieDaoUTest {
                 .isNotEmpty();
     }
 
+    @Test
+    @Order(10)
+    void givenRangeReleaseYear_whenFindAllBySpecification_thenReturnPageOfRange() {
+        final Specification<Movie> specification = Specification
+                .where(MovieSpecification.containsTitle(null))
+                .and(MovieSpecification.hasReleaseYearBetween(new RangeReleaseYear(1982, 1986)));
+
+        Page<Movie> moviePage = movieDao.findAll(specification, PageRequest.of(1, 2, Sort.by("id")));
+
+        // collection of five movies, with years: 1982 to 1986
+        Assertions.assertThat(moviePage.getTotalElements()).isEqualTo(5L);
+        Assertions.assertThat(moviePage.getTotalPages()).isEqualTo(3);
+        Assertions.assertThat(moviePage.getContent())
+                .extracting(Movie::getReleaseYear)
+                .containsExactly(1984, 1985);
+    }
+
+    @Test
+    @Order(11)
+    void givenRangeReleaseYearWithOnlyMin_whenFindAllBySpecification_thenReturnAListFromMin() {
+        List<Movie> resultMovies = movieDao.findAll(MovieSpecification.hasReleaseYearBetween(new RangeReleaseYear(1987, 0)));
+
+        Assertions.assertThat(resultMovies)
+                .extracting(Movie::getReleaseYear)
+                .containsExactlyInAnyOrder(1987, 1988, 1989);
+    }
+
+    @Test
+    @Order(12)
+    void givenTitleInOtherCase_whenFindAllBySpecification_thenReturnAListNoEmpty() {
+        final String title = movies.getFirst().getTitle();
+
+        List<Movie> resultMovies = movieDao.findAll(MovieSpecification.containsTitle(" %s ".formatted(title.toUpperCase())));
+
+        Assertions.assertThat(resultMovies)
+                .isNotEmpty()
+                .allSatisfy(movie -> Assertions.assertThat(movie.getTitle()).containsIgnoringCase(title));
+    }
+
+    @Test
+    @Order(13)
+    void givenSinceAfterLastUpdate_whenFindModifiedSince_thenReturnAListEmpty() {
+        setUpdatedAt("movies", null, LocalDateTime.of(2000, 1, 1, 0, 0));
+        setUpdatedAt("artists", null, LocalDateTime.of(2000, 1, 1, 0, 0));
+
+        Assertions.assertThat(movieDao.findModifiedSince(LocalDateTime.of(2010, 1, 1, 0, 0)))
+                .isEmpty();
+        Assertions.assertThat(movieDao.findModifiedSince(LocalDateTime.of(2000, 1, 1, 0, 0)))
+                .hasSize(movies.size());
+    }
+
+    @Test
+    @Order(14)
+    void givenModifiedArtistOfCast_whenFindModifiedSince_thenReturnOnlyItsMovie() {
+        setUpdatedAt("movies", null, LocalDateTime.of(2000, 1, 1, 0, 0));
+        setUpdatedAt("artists", null, LocalDateTime.of(2000, 1, 1, 0, 0));
+        setUpdatedAt("artists", movies.getFirst().getArtists().get(1).getId(), LocalDateTime.of(2020, 1, 1, 0, 0));
+
+        Assertions.assertThat(movieDao.findModifiedSince(LocalDateTime.of(2010, 1, 1, 0, 0)))
+                .extracting(Movie::getId)
+                .containsExactly(movies.getFirst().getId());
+    }
+
+    @Test
+    @Order(15)
+    void givenModifiedManager_whenFindModifiedSince_thenReturnOnlyItsMovie() {
+        setUpdatedAt("movies", null, LocalDateTime.of(2000, 1, 1, 0, 0));
+        setUpdatedAt("artists", null, LocalDateTime.of(2000, 1, 1, 0, 0));
+        setUpdatedAt("artists", movies.getLast().getManager().getId(), LocalDateTime.of(2020, 1, 1, 0, 0));
+
+        Assertions.assertThat(movieDao.findModifiedSince(LocalDateTime.of(2010, 1, 1, 0, 0)))
+                .extracting(Movie::getId)
+                .containsExactly(movies.getLast().getId());
+    }
+
+    /**
+     * Fija la marca de modificación de las filas de una tabla, o de una de ellas, sin pasar por las entidades.
+     *
+     * @param table La tabla.
+     * @param id El identificador de la fila, o nulo para todas.
+     * @param updatedAt La marca de modificación.
+     */
+    private void setUpdatedAt(String table, Long id, LocalDateTime updatedAt) {
+        testEntityManager.flush();
+        final String where = id == null ? "" : " WHERE id = %d".formatted(id);
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE %s SET updated_at = :updatedAt%s".formatted(table, where))
+                .setParameter("updatedAt", updatedAt)
+                .executeUpdate();
+    }
+
     /**
      * Get a number random between [min,max]
      *
@@ -2,6 +2,7 @@ package com.tokioschool.filmapp.repositories;
 
 import com.tokioschool.filmapp.domain.RatingFilm;
 import com.tokioschool.filmapp.records.AverageRating;
+import com.tokioschool.filmapp.records.RatingCount;
 import com.tokioschool.filmapp.repositories.configuration.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
@@ -15,10 +16,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatList;
 
 @DataJpaTest
 @ContextConfiguration(classes = {TestConfig.class,RatingFilmDao.class})
@@ -101,4 +104,18 @@ class RatingFilmDaoUTest {
 
         assertThat(result).isNotNull().isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void countRatingsGroupByFilmId_withRatings_shouldReturnCountByFilm() {
+        RatingFilm rating3 = new RatingFilm();
+        rating3.setUserId("1L");
+        rating3.setFilmId(2L);
+        rating3.setScore(BigDecimal.valueOf(3.0));
+        entityManager.persistAndFlush(rating3);
+
+        List<RatingCount> result = ratingFilmDao.countRatingsGroupByFilmId();
+
+        assertThatList(result)
+                .containsExactlyInAnyOrder(new RatingCount(1L, 2L), new RatingCount(2L, 1L));
+    }
+}
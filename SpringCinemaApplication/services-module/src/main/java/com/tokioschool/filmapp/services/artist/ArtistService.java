@@ -2,6 +2,7 @@ package com.tokioschool.filmapp.services.artist;
 
 import com.tokioschool.core.exception.NotFoundException;
 import com.tokioschool.filmapp.dto.artist.ArtistDto;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.movie.MovieDto;
 import com.tokioschool.filmapp.enums.TYPE_ARTIST;
@@ -27,6 +28,18 @@ public interface ArtistService {
     List<ArtistDto> findByAll();
 
     PageDTO<ArtistDto> searchArtist(int pageNumber, int pageSize, SearchArtistRecord searchArtistRecord);
+
+    /**
+     * Busca artistas según criterios de búsqueda, paginando por cursor y ordenados por apellido e ID.
+     * Si el tamaño de página es 0, devuelve todos los elementos restantes.
+     *
+     * @param cursor Cursor devuelto por la página anterior, o nulo para obtener la primera página.
+     * @param pageSize Tamaño de página.
+     * @param searchArtistRecord Criterios de búsqueda.
+     * @return Un objeto {@link CursorPageDTO} con los artistas y el cursor de la página siguiente.
+     */
+    CursorPageDTO<ArtistDto> searchArtistByCursor(String cursor, int pageSize, SearchArtistRecord searchArtistRecord);
+
     /**
      * Registra un nuevo artista en la base de datos.
      *
@@ -4,21 +4,32 @@ import com.tokioschool.core.exception.NotFoundException;
 import com.tokioschool.core.exception.OperationNotAllowException;
 import com.tokioschool.filmapp.domain.Artist;
 import com.tokioschool.filmapp.dto.artist.ArtistDto;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.movie.MovieDto;
 import com.tokioschool.filmapp.dto.user.UserDto;
 import com.tokioschool.filmapp.enums.TYPE_ARTIST;
+import com.tokioschool.filmapp.records.KeysetCursor;
 import com.tokioschool.filmapp.records.SearchArtistRecord;
 import com.tokioschool.filmapp.repositories.ArtistDao;
 import com.tokioschool.filmapp.repositories.MovieDao;
 import com.tokioschool.filmapp.services.artist.ArtistService;
 import com.tokioschool.filmapp.services.movie.MovieService;
+import com.tokioschool.filmapp.services.search.SearchService;
+import com.tokioschool.filmapp.services.suggest.SuggestService;
 import com.tokioschool.filmapp.specifications.ArtistSpecification;
+import com.tokioschool.filmapp.specifications.KeysetSpecification;
+import com.tokioschool.helpers.CursorPageHelper;
+import com.tokioschool.filmapp.mapper.ArtistMapper;
+import com.tokioschool.filmapp.mapper.MovieMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.math.NumberUtils;
-import org.modelmapper.ModelMapper;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -51,7 +62,14 @@ public class ArtistServiceImpl implements ArtistService {
     private final ArtistDao artistDao;
     private final MovieDao movieDao;
 
-    private final ModelMapper modelMapper;
+    /** Los índices de búsqueda y de autocompletado solo existen en las aplicaciones que los activan **/
+    private final ObjectProvider<SearchService> searchService;
+    private final ObjectProvider<SuggestService> suggestService;
+
+    /** Campos y orden de la paginación por cursor de artistas. */
+    private static final String ARTIST_ID_FIELD = "id";
+    private static final String ARTIST_SURNAME_FIELD = "surname";
+    private static final Sort SORT_BY_SURNAME_ID = KeysetSpecification.sortBy(ARTIST_SURNAME_FIELD, ARTIST_ID_FIELD);
 
     /**
      * Obtiene una lista de todos los artistas en formato DTO.
@@ -60,23 +78,16 @@ public class ArtistServiceImpl implements ArtistService {
      */
     @Override
     public List<ArtistDto> findByAll() {
-        return artistDao.findAll().stream().map(artist -> modelMapper.map(artist, ArtistDto.class)).toList();
+        return ArtistMapper.toDtos(artistDao.findAll());
     }
 
     @Override
     public PageDTO<ArtistDto> searchArtist(int pageNumber, int pageSize, SearchArtistRecord searchArtistRecord) {
-        Specification<Artist> spec = Specification.allOf();
-
-        if (searchArtistRecord != null) {
-            spec = Specification
-                    .where(ArtistSpecification.containsName(searchArtistRecord.name()))
-                    .and(ArtistSpecification.containsSurname(searchArtistRecord.surname()))
-                    .and(ArtistSpecification.hasTypeArtist(searchArtistRecord.type()));
-        }
+        final Specification<Artist> spec = getSearchArtistSpecification(searchArtistRecord);
 
         List<ArtistDto> artistDtos = artistDao.findAll(spec)
                 .stream()
-                .map(artist -> modelMapper.map(artist, ArtistDto.class))
+                .map(ArtistMapper::toDto)
                 .toList();
 
         int startItem = pageNumber * pageSize;
@@ -107,6 +118,39 @@ public class ArtistServiceImpl implements ArtistService {
                 .build();
     }
 
+    /**
+     * Busca artistas según criterios de búsqueda, paginando por cursor y ordenados por apellido e ID.
+     * Si el tamaño de página es 0, devuelve todos los elementos restantes.
+     *
+     * Solo se leen las filas posteriores al cursor, `WHERE (surname, id) > (?, ?)`, más una para saber si hay
+     * página siguiente, por lo que el coste no depende de la profundidad de la página.
+     *
+     * @param cursor Cursor devuelto por la página anterior, o nulo para obtener la primera página.
+     * @param pageSize Tamaño de página.
+     * @param searchArtistRecord Criterios de búsqueda.
+     * @return Un objeto {@link CursorPageDTO} con los artistas y el cursor de la página siguiente.
+     */
+    @Override
+    public CursorPageDTO<ArtistDto> searchArtistByCursor(String cursor, int pageSize, SearchArtistRecord searchArtistRecord) {
+        final Pair<String, Long> lastArtist = CursorPageHelper.decodeCursor(cursor, keysetCursor -> {
+                    Validate.isTrue(keysetCursor.sortKey() != null, "The sort key of cursor is required");
+                    return Pair.of(keysetCursor.sortKey(), Long.valueOf(keysetCursor.id()));
+                })
+                .orElseGet(() -> Pair.of(null, null));
+
+        final Specification<Artist> spec = getSearchArtistSpecification(searchArtistRecord)
+                .and(KeysetSpecification.after(ARTIST_SURNAME_FIELD, lastArtist.getLeft(), ARTIST_ID_FIELD, lastArtist.getRight()));
+
+        final List<Artist> artists = artistDao.findBy(spec, query -> CursorPageHelper.limitOf(pageSize)
+                .map(limit -> query.sortBy(SORT_BY_SURNAME_ID).limit(limit))
+                .orElseGet(() -> query.sortBy(SORT_BY_SURNAME_ID))
+                .all());
+
+        return CursorPageHelper.buildCursorPage(artists, pageSize,
+                ArtistMapper::toDto,
+                artist -> KeysetCursor.of(artist.getSurname(), artist.getId()));
+    }
+
     /**
      * Registra un nuevo artista en la base de datos.
      *
@@ -139,10 +183,7 @@ public class ArtistServiceImpl implements ArtistService {
     @Override
     @Transactional(readOnly = true)
     public List<MovieDto> findMoviesByManagerById(@NonNull Long managerId) {
-        return movieDao.findMovieByManagerId(managerId)
-                .stream()
-                .map(movie -> modelMapper.map(movie,MovieDto.class))
-                .toList();
+        return MovieMapper.toDtos(movieDao.findMovieByManagerId(managerId));
     }
     /**
      * Busca un artista por su ID.
@@ -154,8 +195,8 @@ public class ArtistServiceImpl implements ArtistService {
     @Override
     public ArtistDto findById(Long artistId) throws NotFoundException {
         return Optional.ofNullable(artistId)
-                .map(artistDao::findById)
-                .map(artist -> modelMapper.map(artist, ArtistDto.class))
+                .flatMap(artistDao::findById)
+                .map(ArtistMapper::toDto)
                 .orElseThrow(() -> new NotFoundException("Artist with id: %d not found".formatted(artistId)));
     }
 
@@ -163,7 +204,7 @@ public class ArtistServiceImpl implements ArtistService {
     public List<ArtistDto> findByAllByTypeArtist(@NonNull TYPE_ARTIST typeArtist) {
         return artistDao.findByTypeArtistIs(typeArtist)
                 .stream()
-                .map(artist -> modelMapper.map(artist, ArtistDto.class))
+                .map(ArtistMapper::toDto)
                 .toList();
     }
 
@@ -180,9 +221,27 @@ public class ArtistServiceImpl implements ArtistService {
         artist.setSurname(artistDto.getSurname());
         artist.setTypeArtist(TYPE_ARTIST.valueOf(artistDto.getTypeArtist().toUpperCase()));
 
-        artist = artistDao.save(artist);
+        final Artist savedArtist = artistDao.save(artist);
+        searchService.ifAvailable(service -> service.indexArtist(savedArtist));
+        suggestService.ifAvailable(service -> service.indexArtist(savedArtist));
 
-        return modelMapper.map(artist, ArtistDto.class);
+        return ArtistMapper.toDto(savedArtist);
+    }
+
+    /**
+     * Construye la especificación con los criterios de búsqueda de artistas.
+     *
+     * @param searchArtistRecord Criterios de búsqueda. Si es nulo, no aplica filtro.
+     * @return La especificación con los criterios de búsqueda.
+     */
+    private static Specification<Artist> getSearchArtistSpecification(SearchArtistRecord searchArtistRecord) {
+        if (searchArtistRecord == null) {
+            return Specification.allOf();
+        }
+        return Specification
+                .where(ArtistSpecification.containsName(searchArtistRecord.name()))
+                .and(ArtistSpecification.containsSurname(searchArtistRecord.surname()))
+                .and(ArtistSpecification.hasTypeArtist(searchArtistRecord.type()));
     }
 
     /**
@@ -0,0 +1,141 @@
+package com.tokioschool.filmapp.services.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.EternalExpiryPolicy;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuración de la caché de segundo nivel y de la caché de consultas de Hibernate sobre JCache.
+ *
+ * Crea el gestor de cachés del proveedor configurado y, en él, una región por cada región de
+ * {@link SecondLevelCacheProperty}, con su límite de entradas y su tiempo de vida, y registra las
+ * estadísticas de cada región como métricas. Después se lo entrega a Hibernate, que guarda en esas
+ * regiones las entidades y colecciones anotadas con {@code @Cache} y los resultados de las consultas
+ * marcadas como cacheables.
+ *
+ * Por defecto el proveedor es local (Caffeine) y cada contexto de Spring tiene su propio gestor. Con
+ * un proveedor distribuido se indica su configuración en {@code config-uri}; las regiones que esa
+ * configuración no defina se crean aquí, aunque su límite de entradas depende del propio proveedor.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SecondLevelCacheConfiguration {
+
+    private static final AtomicInteger CACHE_MANAGER_SEQUENCE = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperty secondLevelCacheProperty,
+                                                ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return createCacheManager(secondLevelCacheProperty, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(SecondLevelCacheProperty secondLevelCacheProperty,
+                                                                                      CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, secondLevelCacheProperty.queryCache());
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+        };
+    }
+
+    /**
+     * Crea el gestor de cachés y sus regiones.
+     *
+     * @param secondLevelCacheProperty Propiedades de la caché de segundo nivel.
+     * @param meterRegistry Registro en el que se publican las estadísticas de cada región.
+     * @return El gestor de cachés, con las regiones creadas.
+     */
+    static CacheManager createCacheManager(SecondLevelCacheProperty secondLevelCacheProperty, MeterRegistry meterRegistry) {
+        final ClassLoader classLoader = SecondLevelCacheConfiguration.class.getClassLoader();
+        final CachingProvider cachingProvider = Caching.getCachingProvider(secondLevelCacheProperty.provider(), classLoader);
+
+        // sin configuración propia del proveedor, un gestor distinto por contexto para no compartir regiones
+        final URI uri = secondLevelCacheProperty.configUri() != null
+                ? secondLevelCacheProperty.configUri()
+                : URI.create("second-level-cache-%d".formatted(CACHE_MANAGER_SEQUENCE.incrementAndGet()));
+        final CacheManager cacheManager = cachingProvider.getCacheManager(uri, classLoader);
+
+        final Set<String> regionNames = new LinkedHashSet<>(secondLevelCacheProperty.regions().keySet());
+        if (Boolean.TRUE.equals(secondLevelCacheProperty.queryCache())) {
+            regionNames.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+            regionNames.add(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+        }
+
+        for (String regionName : regionNames) {
+            Cache<Object, Object> cache = cacheManager.getCache(regionName);
+            if (cache == null) {
+                final SecondLevelCacheProperty.Region region = secondLevelCacheProperty.resolve(regionName);
+                log.info("Creating second-level cache region '{}': {}", regionName, region);
+                cache = cacheManager.createCache(regionName, regionConfiguration(cachingProvider, region));
+            }
+            JCacheMetrics.monitor(meterRegistry, cache, Tags.of("cache.type", "second-level"));
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Construye la configuración JCache de una región.
+     *
+     * Las entradas de Hibernate ya son copias desensambladas de las entidades, así que se guardan por referencia.
+     *
+     * @param cachingProvider El proveedor en el que se crea la región.
+     * @param region Los límites de la región.
+     * @return La configuración de la región.
+     */
+    private static CompleteConfiguration<Object, Object> regionConfiguration(CachingProvider cachingProvider,
+                                                                             SecondLevelCacheProperty.Region region) {
+        final boolean expires = !region.timeToLive().isZero();
+
+        if (cachingProvider instanceof CaffeineCachingProvider) {
+            final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+            configuration.setMaximumSize(OptionalLong.of(region.maxEntries()));
+            if (expires) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+            }
+            return configuration;
+        }
+
+        // el API de JCache no limita el número de entradas: ese límite queda en la configuración del proveedor
+        return new MutableConfiguration<>()
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true)
+                .setExpiryPolicyFactory(expires
+                        ? CreatedExpiryPolicy.factoryOf(new javax.cache.expiry.Duration(TimeUnit.MILLISECONDS, region.timeToLive().toMillis()))
+                        : EternalExpiryPolicy.factoryOf());
+    }
+}
@@ -0,0 +1,74 @@
+package com.tokioschool.filmapp.services.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Propiedades de configuración de la caché de segundo nivel y de la caché de consultas de Hibernate.
+ *
+ * Cada región tiene su propio límite de entradas y tiempo de vida; sus propiedades se toman de
+ * {@code regions.<nombre>} y, las que no se indiquen, de {@code defaults}.
+ *
+ * @param enabled Indica si la caché de segundo nivel está activa.
+ * @param queryCache Indica si la caché de consultas está activa.
+ * @param provider Clase del proveedor JCache; por defecto, uno local en memoria.
+ * @param configUri Configuración propia del proveedor (por ejemplo, la de un proveedor distribuido); si no se indica,
+ *                  las regiones se crean con los límites de estas propiedades.
+ * @param defaults Propiedades por defecto de todas las regiones.
+ * @param regions Propiedades particulares de cada región, por nombre.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.second-level-cache")
+public record SecondLevelCacheProperty(Boolean enabled, Boolean queryCache, String provider, URI configUri,
+                                       Region defaults, Map<String, Region> regions) {
+
+    private static final Region BUILT_IN_DEFAULTS = new Region(1_000L, Duration.ofMinutes(10));
+
+    public SecondLevelCacheProperty {
+        enabled = Objects.requireNonNullElse(enabled, true);
+        queryCache = Objects.requireNonNullElse(queryCache, true);
+        provider = Objects.requireNonNullElse(provider, "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+        defaults = Optional.ofNullable(defaults).map(value -> value.merge(BUILT_IN_DEFAULTS)).orElse(BUILT_IN_DEFAULTS);
+        regions = Map.copyOf(Objects.requireNonNullElse(regions, Map.of()));
+    }
+
+    /**
+     * Obtiene las propiedades efectivas de una región.
+     *
+     * @param name El nombre de la región.
+     * @return Las propiedades de la región, completadas con las propiedades por defecto.
+     */
+    public Region resolve(String name) {
+        return Optional.ofNullable(regions.get(name))
+                .map(region -> region.merge(defaults))
+                .orElse(defaults);
+    }
+
+    /**
+     * Límites de una región de la caché.
+     *
+     * @param maxEntries Número máximo de entradas de la región.
+     * @param timeToLive Tiempo que una entrada permanece en la región desde que se guarda; 0 si no caduca.
+     */
+    public record Region(Long maxEntries, Duration timeToLive) {
+
+        /**
+         * Completa las propiedades no indicadas con las de otra región.
+         *
+         * @param fallback La región con la que completar.
+         * @return La región completada.
+         */
+        Region merge(Region fallback) {
+            return new Region(
+                    Objects.requireNonNullElse(maxEntries, fallback.maxEntries()),
+                    Objects.requireNonNullElse(timeToLive, fallback.timeToLive()));
+        }
+    }
+}
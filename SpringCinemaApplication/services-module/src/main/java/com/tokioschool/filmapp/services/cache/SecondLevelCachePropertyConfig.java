@@ -0,0 +1,26 @@
+package com.tokioschool.filmapp.services.cache;
+
+import com.tokioschool.configs.YamlPropertySourceFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Configuración de propiedades de la caché de segundo nivel de Hibernate.
+ *
+ * Carga los valores por defecto del archivo YAML {@code second-level-cache.yml}, que cada aplicación
+ * puede sobrescribir en su propia configuración, y habilita la clase {@link SecondLevelCacheProperty}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@PropertySource(
+        value = "classpath:second-level-cache.yml", // Ruta del archivo de propiedades YAML
+        encoding = "UTF-8", // Codificación del archivo
+        factory = YamlPropertySourceFactory.class // Fábrica personalizada para cargar propiedades YAML
+)
+@EnableConfigurationProperties(SecondLevelCacheProperty.class)
+public class SecondLevelCachePropertyConfig {
+
+}
@@ -0,0 +1,39 @@
+package com.tokioschool.filmapp.services.helpers;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Métodos auxiliares para ejecutar acciones ligadas a la transacción activa.
+ *
+ * Los índices en memoria o en disco que acompañan a la base de datos solo deben reflejar los cambios
+ * confirmados, por lo que sus escrituras se aplazan hasta que la transacción se confirma.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class TransactionHelper {
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private TransactionHelper() {}
+
+    /**
+     * Ejecuta una acción cuando se confirma la transacción activa, o inmediatamente si no hay ninguna.
+     *
+     * @param action La acción a ejecutar.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.tokioschool.filmapp.services.movie;
 
 import com.tokioschool.core.exception.NotFoundException;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.movie.MovieDto;
 import com.tokioschool.filmapp.records.SearchMovieRecord;
@@ -46,6 +47,16 @@ public interface MovieService {
      */
     PageDTO<MovieDto> searchMovie(SearchMovieRecord searchMovieRecord);
 
+    /**
+     * Busca películas en el sistema aplicando un filtro de búsqueda y paginando por cursor, ordenadas por ID.
+     * Se ignora el número de página del filtro; si el tamaño de página es 0, devuelve todos los elementos restantes.
+     *
+     * @param searchMovieRecord Objeto que contiene los criterios de búsqueda.
+     * @param cursor Cursor devuelto por la página anterior, o nulo para obtener la primera página.
+     * @return Un objeto {@link CursorPageDTO} con las películas y el cursor de la página siguiente.
+     */
+    CursorPageDTO<MovieDto> searchMovieByCursor(SearchMovieRecord searchMovieRecord, String cursor);
+
     /**
      * Obtiene una película por su identificador único.
      *
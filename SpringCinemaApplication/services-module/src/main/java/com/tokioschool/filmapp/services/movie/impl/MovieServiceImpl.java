@@ -6,32 +6,42 @@ import com.tokioschool.filmapp.domain.Artist;
 import com.tokioschool.filmapp.domain.Movie;
 import com.tokioschool.filmapp.domain.User;
 import com.tokioschool.filmapp.dto.artist.ArtistDto;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.movie.MovieDto;
 import com.tokioschool.filmapp.dto.user.UserDto;
 import com.tokioschool.filmapp.enums.TYPE_ARTIST;
+import com.tokioschool.filmapp.records.KeysetCursor;
 import com.tokioschool.filmapp.records.RangeReleaseYear;
 import com.tokioschool.filmapp.records.SearchMovieRecord;
 import com.tokioschool.filmapp.repositories.MovieDao;
 import com.tokioschool.filmapp.repositories.UserDao;
 import com.tokioschool.filmapp.services.artist.ArtistService;
 import com.tokioschool.filmapp.services.movie.MovieService;
+import com.tokioschool.filmapp.services.search.SearchService;
+import com.tokioschool.filmapp.services.suggest.SuggestService;
 import com.tokioschool.filmapp.services.user.UserService;
+import com.tokioschool.filmapp.specifications.KeysetSpecification;
+import com.tokioschool.filmapp.specifications.MovieSpecification;
+import com.tokioschool.helpers.CursorPageHelper;
 import com.tokioschool.helpers.UUIDHelper;
+import com.tokioschool.filmapp.mapper.MovieMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.apache.commons.lang3.StringUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.lang.NonNull;
-import org.springframework.lang.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Implementación del servicio para gestionar películas.
@@ -51,9 +61,17 @@ import java.util.stream.IntStream;
 public class MovieServiceImpl implements MovieService {
 
     private final MovieDao movieDao;
-    private final ModelMapper modelMapper;
     private final ArtistService artistService;
     private final UserService userService;
+    /** Los índices de búsqueda y de autocompletado solo existen en las aplicaciones que los activan **/
+    private final ObjectProvider<SearchService> searchService;
+    private final ObjectProvider<SuggestService> suggestService;
+
+    /** Orden estable de las películas, necesario para que la paginación sea determinista. */
+    private static final String MOVIE_ID_FIELD = "id";
+    private static final String MOVIE_MANAGER_FIELD = "manager";
+    private static final String MOVIE_CREATE_USER_FIELD = "createUser";
+    private static final Sort SORT_BY_ID = Sort.by(Sort.Direction.ASC, MOVIE_ID_FIELD);
 
     /**
      * Busca películas en el sistema aplicando un filtro por defecto. Si el tamaño de página es 0,
@@ -98,41 +116,69 @@ public class MovieServiceImpl implements MovieService {
                     .build();
         }
 
-        // Filtros
-        List<Movie> movies = movieDao.findAll();
-        movies = getMoviesFilterByTitle(searchMovieRecord, movies);
-        movies = getMoviesFilterByReleaseYear(searchMovieRecord, movies);
+        // Filtros, aplicados en la base de datos
+        final Specification<Movie> specification = Specification
+                .where(MovieSpecification.containsTitle(searchMovieRecord.title()))
+                .and(MovieSpecification.hasReleaseYearBetween(searchMovieRecord.rangeReleaseYear()));
 
-        // Construcción de la página de resultados
-        int start = searchMovieRecord.page() * searchMovieRecord.pageSize();
+        // Un tamaño de página 0 devuelve todos los elementos filtrados en una única página
+        if (searchMovieRecord.pageSize() == 0) {
+            final List<MovieDto> items = MovieMapper.toDtos(movieDao.findAll(specification, SORT_BY_ID));
 
-        if (start >= movies.size()) {
-            int finalPageSize = searchMovieRecord.pageSize() == 0 ? movies.size() : searchMovieRecord.pageSize();
             return PageDTO.<MovieDto>builder()
-                    .items(List.of())
+                    .items(items)
                     .pageNumber(searchMovieRecord.page())
-                    .pageSize(finalPageSize)
-                    .totalPages((int) Math.ceil(movies.size() / (double) finalPageSize))
+                    .pageSize(items.size())
+                    .totalPages(items.isEmpty() ? 0 : 1)
                     .build();
-        } else {
-            List<MovieDto> items;
+        }
 
-            if (searchMovieRecord.pageSize() == 0) {
-                items = getMovieDtoPageDTO(movies, start, movies.size());
-            } else {
-                int end = Math.min(start + searchMovieRecord.pageSize(), movies.size());
-                items = getMovieDtoPageDTO(movies, start, end);
-            }
+        // Construcción de la página de resultados: solo se leen las filas de la página pedida
+        final Page<Movie> moviePage = movieDao.findAll(specification,
+                PageRequest.of(searchMovieRecord.page(), searchMovieRecord.pageSize(), SORT_BY_ID));
 
-            int finalPageSize = searchMovieRecord.pageSize() == 0 ? items.size() : searchMovieRecord.pageSize();
+        return PageDTO.<MovieDto>builder()
+                .items(moviePage.map(MovieMapper::toDto).getContent())
+                .pageNumber(searchMovieRecord.page())
+                .pageSize(searchMovieRecord.pageSize())
+                .totalPages(moviePage.getTotalPages())
+                .build();
+    }
 
-            return PageDTO.<MovieDto>builder()
-                    .items(items)
-                    .pageNumber(searchMovieRecord.page())
-                    .pageSize(finalPageSize)
-                    .totalPages((int) Math.ceil(movies.size() / (double) finalPageSize))
-                    .build();
-        }
+    /**
+     * Busca películas en el sistema aplicando un filtro de búsqueda y paginando por cursor, ordenadas por ID.
+     * Se ignora el número de página del filtro; si el tamaño de página es 0, devuelve todos los elementos restantes.
+     *
+     * Solo se leen las filas posteriores al cursor, `WHERE id > ?`, más una para saber si hay página siguiente,
+     * por lo que el coste no depende de la profundidad de la página ni requiere consulta de recuento.
+     *
+     * @param searchMovieRecord Filtro a aplicar.
+     * @param cursor Cursor devuelto por la página anterior, o nulo para obtener la primera página.
+     * @return Página de resultados de búsqueda con el cursor de la página siguiente.
+     */
+    @Override
+    public CursorPageDTO<MovieDto> searchMovieByCursor(SearchMovieRecord searchMovieRecord, String cursor) {
+        final SearchMovieRecord filter = Optional.ofNullable(searchMovieRecord)
+                .orElseGet(() -> SearchMovieRecord.builder().build());
+        final int pageSize = Optional.ofNullable(filter.pageSize()).orElse(PAGE_SIZE_DEFAULT);
+        final Long lastMovieId = CursorPageHelper.decodeCursor(cursor, keysetCursor -> Long.valueOf(keysetCursor.id()))
+                .orElse(null);
+
+        final Specification<Movie> specification = Specification
+                .where(MovieSpecification.containsTitle(filter.title()))
+                .and(MovieSpecification.hasReleaseYearBetween(filter.rangeReleaseYear()))
+                .and(KeysetSpecification.after(MOVIE_ID_FIELD, lastMovieId));
+
+        // el gerente y el usuario creador se leen en la misma consulta; los artistas, por lotes
+        final List<Movie> movies = movieDao.findBy(specification, query -> CursorPageHelper.limitOf(pageSize)
+                .map(limit -> query.sortBy(SORT_BY_ID).limit(limit))
+                .orElseGet(() -> query.sortBy(SORT_BY_ID))
+                .project(MOVIE_MANAGER_FIELD, MOVIE_CREATE_USER_FIELD)
+                .all());
+
+        return CursorPageHelper.buildCursorPage(movies, pageSize,
+                MovieMapper::toDto,
+                movie -> KeysetCursor.of(movie.getId()));
     }
 
     /**
@@ -144,8 +190,8 @@ public class MovieServiceImpl implements MovieService {
      */
     @Override
     public MovieDto getMovieById(Long movieId) throws InvalidDataAccessApiUsageException, NotFoundException {
-        return movieDao.findById(movieId)
-                .map(movie -> modelMapper.map(movie, MovieDto.class))
+        return movieDao.findDetailById(movieId)
+                .map(MovieMapper::toDto)
                 .orElseThrow(() -> new NotFoundException("The movie is not found in the system"));
     }
 
@@ -165,7 +211,7 @@ public class MovieServiceImpl implements MovieService {
         }
 
         Movie movie = createOrUpdateMovie(new Movie(), movieDto);
-        return modelMapper.map(movie, MovieDto.class);
+        return MovieMapper.toDto(movie);
     }
 
     /**
@@ -183,86 +229,7 @@ public class MovieServiceImpl implements MovieService {
         Movie movie = movieDao.findById(movieId).orElseThrow(() -> new NotFoundException("Movie with %d don't found. The image maybe be updated".formatted(movieId)));
         movieDao.flush();
         movie = createOrUpdateMovie(movie, movieDto);
-        return modelMapper.map(movie, MovieDto.class);
-    }
-
-    /**
-     * Copia una colección en otra colección de forma determinista, donde su tamaño está en el rango [start, end].
-     *
-     * @param movies Colección con los datos fuente.
-     * @param start  Posición inicial para copiar de la colección fuente.
-     * @param end    Posición final para copiar de la colección fuente.
-     * @return Una nueva colección con los datos de la colección fuente en el rango [start, end].
-     */
-    private List<MovieDto> getMovieDtoPageDTO(List<Movie> movies, int start, int end) {
-        return IntStream.range(start, end)
-                .mapToObj(movies::get)
-                .map(movie -> modelMapper.map(movie, MovieDto.class))
-                .toList();
-    }
-
-    /**
-     * Filtra películas por año de lanzamiento. Si es nulo, no aplica filtro.
-     *
-     * @param searchMovieRecord Instancia con el valor para filtrar.
-     * @param movies            Colección a filtrar.
-     * @return Colección de películas filtradas por año de lanzamiento.
-     */
-    private List<Movie> getMoviesFilterByReleaseYear(SearchMovieRecord searchMovieRecord, @NonNull List<Movie> movies) {
-        return Optional.ofNullable(searchMovieRecord)
-                .map(SearchMovieRecord::rangeReleaseYear)
-                .map(rangeReleaseYear ->
-                        movies.stream()
-                                .filter(movie -> filterByReleaseYear(movie, rangeReleaseYear))
-                                .toList())
-                .orElseGet(() -> movies);
-    }
-
-    /**
-     * Filtra películas por título utilizando un filtro de tipo "LIKE". Si es nulo, no aplica filtro.
-     *
-     * @param searchMovieRecord Instancia con el valor para filtrar.
-     * @param movies            Colección a filtrar.
-     * @return Colección de películas filtradas por título.
-     */
-    private List<Movie> getMoviesFilterByTitle(SearchMovieRecord searchMovieRecord, @NonNull List<Movie> movies) {
-        return Optional.ofNullable(searchMovieRecord)
-                .map(SearchMovieRecord::title)
-                .map(StringUtils::stripToNull)
-                .map(StringUtils::lowerCase)
-                .map(title ->
-                        movies.stream()
-                                .filter(movie -> movie.getTitle().toLowerCase().contains(title))
-                                .toList())
-                .orElseGet(() -> movies);
-    }
-
-    /**
-     * Filtra una película por rango de años de lanzamiento (mínimo y máximo, inclusivo). Si el rango es nulo, no aplica filtro.
-     *
-     * @param movie             Película a filtrar.
-     * @param rangeReleaseYear  Rango mínimo y máximo de años para filtrar.
-     * @return true si el rango es nulo o el año de lanzamiento de la película está dentro del rango, de lo contrario false.
-     */
-    private boolean filterByReleaseYear(@NonNull Movie movie, @Nullable RangeReleaseYear rangeReleaseYear) {
-        if (rangeReleaseYear == null || movie.getReleaseYear() == null) {
-            return true;
-        } else {
-            if (rangeReleaseYear.yearMin() == null || rangeReleaseYear.yearMin() <= 0) {
-                if (rangeReleaseYear.yearMax() == null || rangeReleaseYear.yearMax() <= 0) {
-                    return true;
-                } else {
-                    return movie.getReleaseYear() <= rangeReleaseYear.yearMax();
-                }
-            } else {
-                if (rangeReleaseYear.yearMax() == null || rangeReleaseYear.yearMax() <= 0) {
-                    return movie.getReleaseYear() >= rangeReleaseYear.yearMin();
-                } else {
-                    return movie.getReleaseYear() >= rangeReleaseYear.yearMin()
-                            && movie.getReleaseYear() <= rangeReleaseYear.yearMax();
-                }
-            }
-        }
+        return MovieMapper.toDto(movie);
     }
 
     /**
@@ -309,7 +276,14 @@ public class MovieServiceImpl implements MovieService {
         final Optional<UUID> maybeUUID = UUIDHelper.mapStringToUUID(movieDto.getResourceId());
         maybeUUID.ifPresent(movie::setImage);
 
-        return movieDao.saveAndFlush(movie);
+        // un cambio solo en el reparto no modifica la fila de la película; se marca para que la base de datos
+        // actualice su marca de modificación y los índices de otras aplicaciones lo recojan
+        movie.setUpdatedAt(LocalDateTime.now());
+
+        final Movie savedMovie = movieDao.saveAndFlush(movie);
+        searchService.ifAvailable(service -> service.indexMovie(savedMovie));
+        suggestService.ifAvailable(service -> service.indexMovie(savedMovie));
+        return savedMovie;
     }
 
     /**
@@ -4,12 +4,12 @@ import com.tokioschool.core.exception.NotFoundException;
 import com.tokioschool.core.exception.OperationNotAllowException;
 import com.tokioschool.filmapp.domain.RatingFilm;
 import com.tokioschool.filmapp.dto.ratings.RatingFilmDto;
+import com.tokioschool.filmapp.mapper.RatingFilmMapper;
 import com.tokioschool.filmapp.records.AverageRating;
 import com.tokioschool.filmapp.records.RatingResponseFilmDto;
 import com.tokioschool.filmapp.records.RequestRatingFilmDto;
 import com.tokioschool.filmapp.repositories.RatingFilmDao;
 import com.tokioschool.filmapp.services.ratings.RatingFilmService;
-import com.tokioschool.helpers.DateHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
@@ -53,7 +53,7 @@ public class RatingFilmServiceImpl implements RatingFilmService {
     @Transactional(readOnly = true)
     @PreAuthorize("isAuthenticated()")
     public List<RatingFilmDto> recoverRatingFilms() {
-        return ratingFilmDao.findAll().stream().map(RatingFilmServiceImpl::buildRatingFilmDto).toList();
+        return RatingFilmMapper.toDtos(ratingFilmDao.findAll());
     }
 
     /**
@@ -117,7 +117,7 @@ public class RatingFilmServiceImpl implements RatingFilmService {
         }
 
         ratingFilm = createOrEditPopulation(ratingFilm, requestRatingFilmDto);
-        return buildRatingFilmDto(ratingFilm);
+        return RatingFilmMapper.toDto(ratingFilm);
     }
 
     /**
@@ -135,7 +135,7 @@ public class RatingFilmServiceImpl implements RatingFilmService {
     public RatingFilmDto findRatingByFilmAndUserHandler(@NonNull Long filmId, @NonNull String userId) throws IncorrectResultSizeDataAccessException {
         RatingFilm ratingFilm = ratingFilmDao.findRatingFilmByUserIdAndFilmId(userId, filmId)
                 .orElseThrow(() -> new NotFoundException("Rating Film not found!"));
-        return buildRatingFilmDto(ratingFilm);
+        return RatingFilmMapper.toDto(ratingFilm);
     }
 
     /**
@@ -188,21 +188,4 @@ public class RatingFilmServiceImpl implements RatingFilmService {
 
         return ratingFilmDao.saveAndFlush(ratingFilm);
     }
-
-    /**
-     * Construye un objeto {@link RatingFilmDto} a partir de un objeto {@link RatingFilm}.
-     *
-     * @param ratingFilm Objeto {@link RatingFilm} fuente.
-     * @return Un objeto {@link RatingFilmDto} con los datos mapeados.
-     */
-    private static RatingFilmDto buildRatingFilmDto(@NonNull RatingFilm ratingFilm) {
-        return RatingFilmDto.builder()
-                .id(ratingFilm.getId())
-                .userId(ratingFilm.getUserId())
-                .filmId(ratingFilm.getFilmId())
-                .score(ratingFilm.getScore())
-                .createAt(DateHelper.parseLocalDateToTimeToOffsetDateTimeUtc(ratingFilm.getCreateAt()))
-                .updatedAt(DateHelper.parseLocalDateToTimeToOffsetDateTimeUtc(ratingFilm.getUpdateAt()))
-                .build();
-    }
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package com.tokioschool.filmapp.services.role.impl;
 
 import com.tokioschool.filmapp.dto.user.RoleDto;
+import com.tokioschool.filmapp.mapper.RoleMapper;
 import com.tokioschool.filmapp.repositories.RoleDao;
 import com.tokioschool.filmapp.services.role.RoleService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,10 +14,9 @@ import java.util.List;
 public class RoleServiceImpl implements RoleService {
 
     private final RoleDao roleDao;
-    private final ModelMapper modelMapper;
 
     @Override
     public List<RoleDto> getAllRoles() {
-        return roleDao.findAll().stream().map(role -> modelMapper.map(role, RoleDto.class)).toList();
+        return RoleMapper.toDtos(roleDao.findAll());
     }
 }
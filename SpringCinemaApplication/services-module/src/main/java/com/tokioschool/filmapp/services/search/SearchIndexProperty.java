@@ -0,0 +1,31 @@
+package com.tokioschool.filmapp.services.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Propiedades de configuración del índice de búsqueda de texto completo.
+ *
+ * @param indexPath Directorio del índice en disco; si está vacío, el índice se mantiene en memoria.
+ * @param maxResults Número máximo de resultados de una búsqueda.
+ * @param rebuildIfEmpty Indica si se reconstruye el índice desde la base de datos al arrancar si está vacío.
+ * @param refreshInterval Intervalo entre dos búsquedas de los cambios hechos desde otras aplicaciones.
+ * @param refreshOverlap Margen con el que se repite la búsqueda de cambios antes de la última marca vista,
+ *                       que debe superar la duración de la transacción más larga que modifica los datos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.search")
+public record SearchIndexProperty(String indexPath, Integer maxResults, Boolean rebuildIfEmpty,
+                                  Duration refreshInterval, Duration refreshOverlap) {
+
+    public SearchIndexProperty {
+        maxResults = Objects.requireNonNullElse(maxResults, 20);
+        rebuildIfEmpty = Objects.requireNonNullElse(rebuildIfEmpty, Boolean.TRUE);
+        refreshInterval = Objects.requireNonNullElse(refreshInterval, Duration.ofSeconds(30));
+        refreshOverlap = Objects.requireNonNullElse(refreshOverlap, Duration.ofMinutes(1));
+    }
+}
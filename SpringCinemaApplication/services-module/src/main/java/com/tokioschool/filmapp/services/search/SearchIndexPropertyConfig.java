@@ -0,0 +1,29 @@
+package com.tokioschool.filmapp.services.search;
+
+import com.tokioschool.configs.YamlPropertySourceFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuración de propiedades del índice de búsqueda de texto completo.
+ *
+ * Carga los valores por defecto del archivo YAML {@code search-index.yml}, que cada aplicación
+ * puede sobrescribir en su propia configuración, y habilita la clase {@link SearchIndexProperty}.
+ * También habilita las tareas programadas, con las que el índice recoge los cambios de otras aplicaciones.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@PropertySource(
+        value = "classpath:search-index.yml", // Ruta del archivo de propiedades YAML
+        encoding = "UTF-8", // Codificación del archivo
+        factory = YamlPropertySourceFactory.class // Fábrica personalizada para cargar propiedades YAML
+)
+@EnableConfigurationProperties(SearchIndexProperty.class)
+@EnableScheduling
+public class SearchIndexPropertyConfig {
+
+}
@@ -0,0 +1,58 @@
+package com.tokioschool.filmapp.services.search;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+
+import java.util.List;
+
+/**
+ * Interfaz para el servicio de búsqueda de texto completo sobre películas y artistas.
+ *
+ * El índice contiene el título, el año de lanzamiento, el director y el reparto de cada película,
+ * y el nombre de cada artista. Se actualiza de forma incremental cuando se crean o modifican
+ * películas y artistas, y se puede reconstruir desde la base de datos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public interface SearchService {
+
+    /**
+     * Número máximo de resultados que se pueden pedir en una búsqueda.
+     */
+    int MAX_RESULTS_LIMIT = 100;
+
+    /**
+     * Busca películas y artistas por texto, tolerando errores tipográficos.
+     *
+     * @param query Texto a buscar.
+     * @param maxResults Número máximo de resultados; si es 0 o negativo se usa el configurado, y nunca
+     *                   supera {@link #MAX_RESULTS_LIMIT}.
+     * @return Lista de resultados ordenada por relevancia.
+     */
+    List<SearchHitDto> search(String query, int maxResults);
+
+    /**
+     * Añade o actualiza una película en el índice. Si hay una transacción activa,
+     * el índice se actualiza cuando esta se confirma.
+     *
+     * @param movie La película a indexar.
+     */
+    void indexMovie(Movie movie);
+
+    /**
+     * Añade o actualiza un artista en el índice, junto con las películas en cuyo reparto aparece.
+     * Si hay una transacción activa, el índice se actualiza cuando esta se confirma.
+     *
+     * @param artist El artista a indexar.
+     */
+    void indexArtist(Artist artist);
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     *
+     * @return Número de documentos indexados.
+     */
+    int rebuild();
+}
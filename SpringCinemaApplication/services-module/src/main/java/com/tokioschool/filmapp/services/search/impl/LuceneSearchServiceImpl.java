@@ -0,0 +1,502 @@
+package com.tokioschool.filmapp.services.search.impl;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import com.tokioschool.filmapp.repositories.ArtistDao;
+import com.tokioschool.filmapp.repositories.MovieDao;
+import com.tokioschool.filmapp.services.helpers.TransactionHelper;
+import com.tokioschool.filmapp.services.search.SearchIndexProperty;
+import com.tokioschool.filmapp.services.search.SearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del servicio de búsqueda de texto completo con un índice Lucene embebido.
+ *
+ * Cada película se indexa como un documento con su título, año de lanzamiento, director y reparto,
+ * y cada artista con su nombre y apellido. Los textos se normalizan a minúsculas y sin acentos, y
+ * cada palabra buscada se compara de forma exacta y aproximada (distancia de edición según su
+ * longitud), dando más peso al título y a las coincidencias exactas. Como la búsqueda se resuelve
+ * con el índice invertido, su latencia no depende del tamaño del catálogo.
+ *
+ * Las actualizaciones del índice se aplican cuando se confirma la transacción que modifica los datos,
+ * y un fallo al escribir en el índice no afecta a la operación; el índice se puede reconstruir con
+ * {@link #rebuild()}. Como el índice es propio de cada proceso, los cambios hechos desde otras aplicaciones
+ * se recogen periódicamente con {@link #refresh()}, que reindexa las películas y los artistas cuya marca de
+ * modificación es posterior a la última vista. Todas las escrituras en el índice se hacen con el mismo cerrojo,
+ * el del propio servicio, para que una reconstrucción no se mezcle con una actualización.
+ *
+ * Solo se crea en las aplicaciones que activan `application.search.enabled`, ya que construir el índice
+ * carga todo el catálogo.
+ *
+ * Anotaciones:
+ * - {@link Service}: Marca esta clase como un componente de servicio de Spring.
+ * - {@link ConditionalOnProperty}: Crea el servicio solo si la búsqueda está activada.
+ * - {@link Slf4j}: Proporciona un logger para registrar mensajes de depuración y errores.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.search", name = "enabled", havingValue = "true")
+@Slf4j
+public class LuceneSearchServiceImpl implements SearchService, DisposableBean {
+
+    /** Nombre de los campos del índice **/
+    private static final String UID_FIELD = "uid";
+    private static final String TYPE_FIELD = "type";
+    private static final String ID_FIELD = "id";
+    private static final String TITLE_FIELD = "title";
+    private static final String YEAR_FIELD = "year";
+    private static final String DIRECTOR_FIELD = "director";
+    private static final String CAST_FIELD = "cast";
+
+    /** Peso de cada campo de texto en la puntuación **/
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            TITLE_FIELD, 3.0f,
+            DIRECTOR_FIELD, 1.5f,
+            CAST_FIELD, 1.0f);
+
+    /** Peso adicional de una coincidencia exacta frente a una aproximada **/
+    private static final float EXACT_BOOST = 2.0f;
+
+    /** Marca de modificación de un índice reconstruido sin datos, anterior a cualquier modificación **/
+    private static final LocalDateTime EMPTY_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SearchIndexProperty searchIndexProperty;
+    private final MovieDao movieDao;
+    private final ArtistDao artistDao;
+    private final TransactionOperations transactionOperations;
+
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    /** Mayor marca de modificación indexada; nula si no se conoce. Se protege con el cerrojo del servicio **/
+    private LocalDateTime watermark;
+
+    @Autowired
+    public LuceneSearchServiceImpl(SearchIndexProperty searchIndexProperty, MovieDao movieDao, ArtistDao artistDao,
+                                   PlatformTransactionManager transactionManager) throws IOException {
+        this(searchIndexProperty, movieDao, artistDao, new TransactionTemplate(transactionManager));
+    }
+
+    public LuceneSearchServiceImpl(SearchIndexProperty searchIndexProperty, MovieDao movieDao, ArtistDao artistDao,
+                                   TransactionOperations transactionOperations) throws IOException {
+        this.searchIndexProperty = searchIndexProperty;
+        this.movieDao = movieDao;
+        this.artistDao = artistDao;
+        this.transactionOperations = transactionOperations;
+
+        this.analyzer = new FoldingAnalyzer();
+        this.directory = StringUtils.isBlank(searchIndexProperty.indexPath())
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(searchIndexProperty.indexPath()));
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        // confirma el índice vacío para que se pueda abrir el buscador
+        this.indexWriter.commit();
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * Busca películas y artistas por texto, tolerando errores tipográficos.
+     *
+     * Cada palabra buscada debe aparecer, de forma exacta o aproximada, en alguno de los campos.
+     *
+     * @param query Texto a buscar.
+     * @param maxResults Número máximo de resultados; si es 0 o negativo se usa el configurado, y nunca
+     *                   supera {@link SearchService#MAX_RESULTS_LIMIT}.
+     * @return Lista de resultados ordenada por relevancia.
+     */
+    @Override
+    public List<SearchHitDto> search(String query, int maxResults) {
+        final List<String> terms = analyze(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        final BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        terms.forEach(term -> builder.add(buildTermQuery(term), BooleanClause.Occur.MUST));
+
+        final int limit = Math.min(maxResults > 0 ? maxResults : searchIndexProperty.maxResults(), MAX_RESULTS_LIMIT);
+        try {
+            final IndexSearcher indexSearcher = searcherManager.acquire();
+            try {
+                final StoredFields storedFields = indexSearcher.storedFields();
+                final List<SearchHitDto> hits = new ArrayList<>();
+                for (ScoreDoc scoreDoc : indexSearcher.search(builder.build(), limit).scoreDocs) {
+                    hits.add(mapToSearchHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(indexSearcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error searching in the index", e);
+        }
+    }
+
+    /**
+     * Añade o actualiza una película en el índice cuando se confirma la transacción activa.
+     *
+     * @param movie La película a indexar.
+     */
+    @Override
+    public void indexMovie(@NonNull Movie movie) {
+        final Document document = mapMovieToDocument(movie);
+        TransactionHelper.afterCommit(() -> updateDocuments(List.of(document)));
+    }
+
+    /**
+     * Añade o actualiza un artista en el índice, junto con las películas en las que participa,
+     * cuando se confirma la transacción activa.
+     *
+     * @param artist El artista a indexar.
+     */
+    @Override
+    public void indexArtist(@NonNull Artist artist) {
+        // los documentos se construyen ahora, mientras las relaciones de las películas se pueden cargar
+        final List<Document> documents = transactionOperations.execute(status -> {
+            final Map<Long, Movie> movies = new LinkedHashMap<>();
+            Stream.concat(movieDao.findMovieByManagerId(artist.getId()).stream(),
+                            movieDao.findMovieByArtistsId(artist.getId()).stream())
+                    .forEach(movie -> movies.putIfAbsent(movie.getId(), movie));
+
+            final List<Document> artistDocuments = new ArrayList<>();
+            artistDocuments.add(mapArtistToDocument(artist));
+            movies.values().stream().map(this::mapMovieToDocument).forEach(artistDocuments::add);
+            return artistDocuments;
+        });
+        TransactionHelper.afterCommit(() -> updateDocuments(Objects.requireNonNull(documents)));
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     *
+     * @return Número de documentos indexados.
+     */
+    @Override
+    public synchronized int rebuild() {
+        final List<Document> documents = new ArrayList<>();
+        final LocalDateTime lastUpdatedAt = transactionOperations.execute(status -> {
+            final List<Movie> movies = movieDao.findAll();
+            final List<Artist> artists = artistDao.findAll();
+            movies.stream().map(this::mapMovieToDocument).forEach(documents::add);
+            artists.stream().map(this::mapArtistToDocument).forEach(documents::add);
+            return maxUpdatedAt(movies, artists);
+        });
+
+        try {
+            indexWriter.deleteAll();
+            for (Document document : documents) {
+                indexWriter.addDocument(document);
+            }
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error rebuilding the index", e);
+        }
+        watermark = Objects.requireNonNullElse(lastUpdatedAt, EMPTY_WATERMARK);
+
+        log.info("Search index rebuilt with {} documents", documents.size());
+        return documents.size();
+    }
+
+    /**
+     * Reindexa las películas y los artistas modificados desde la última marca vista, incluidas las películas
+     * cuyo gerente o reparto ha cambiado, para recoger los cambios hechos desde otras aplicaciones.
+     *
+     * La búsqueda empieza un margen antes de la marca, para no perder las modificaciones cuya transacción
+     * se confirmó después de leerla; reindexar un documento de nuevo no tiene efecto. Si no se conoce
+     * la marca, por ejemplo al reutilizar un índice en disco, se reconstruye el índice completo.
+     */
+    @Scheduled(
+            initialDelayString = "${application.search.refresh-interval:PT30S}",
+            fixedDelayString = "${application.search.refresh-interval:PT30S}")
+    public synchronized void refresh() {
+        if (watermark == null) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Error rebuilding the search index", e);
+            }
+            return;
+        }
+
+        final LocalDateTime since = watermark.minus(searchIndexProperty.refreshOverlap());
+        final List<Document> documents = new ArrayList<>();
+        try {
+            final LocalDateTime lastUpdatedAt = transactionOperations.execute(status -> {
+                final List<Movie> movies = movieDao.findModifiedSince(since);
+                final List<Artist> artists = artistDao.findByUpdatedAtGreaterThanEqual(since);
+                movies.stream().map(this::mapMovieToDocument).forEach(documents::add);
+                artists.stream().map(this::mapArtistToDocument).forEach(documents::add);
+                return maxUpdatedAt(movies, artists);
+            });
+            if (!documents.isEmpty() && updateDocuments(documents) && lastUpdatedAt != null && lastUpdatedAt.isAfter(watermark)) {
+                watermark = lastUpdatedAt;
+            }
+        } catch (RuntimeException e) {
+            log.error("Error refreshing the search index", e);
+        }
+        log.debug("Search index refreshed with {} documents modified since {}", documents.size(), since);
+    }
+
+    /**
+     * Reconstruye el índice al arrancar la aplicación si está vacío, por ejemplo al usar un índice en memoria
+     * o un directorio nuevo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!searchIndexProperty.rebuildIfEmpty() || indexWriter.getDocStats().numDocs > 0) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Error building the search index on startup", e);
+        }
+    }
+
+    /**
+     * Cierra el índice al destruir el bean.
+     *
+     * @throws IOException Si ocurre un error al cerrar el índice.
+     */
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    /**
+     * Construye la consulta de una palabra: exacta y aproximada sobre cada campo de texto, y exacta sobre el año.
+     *
+     * @param term La palabra normalizada.
+     * @return La consulta de la palabra.
+     */
+    private Query buildTermQuery(String term) {
+        final BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        final int maxEdits = maxEditsOf(term);
+
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            builder.add(new BoostQuery(new TermQuery(new Term(field, term)), boost * EXACT_BOOST), BooleanClause.Occur.SHOULD);
+            if (maxEdits > 0) {
+                builder.add(new BoostQuery(new FuzzyQuery(new Term(field, term), maxEdits, 1), boost), BooleanClause.Occur.SHOULD);
+            }
+        });
+        builder.add(new TermQuery(new Term(YEAR_FIELD, term)), BooleanClause.Occur.SHOULD);
+
+        return builder.build();
+    }
+
+    /**
+     * Obtiene la distancia de edición permitida para una palabra: ninguna para las cortas,
+     * una hasta cinco caracteres y dos para las más largas.
+     *
+     * @param term La palabra.
+     * @return La distancia de edición permitida.
+     */
+    private static int maxEditsOf(String term) {
+        if (term.length() < 3) {
+            return 0;
+        }
+        return term.length() < 6 ? 1 : 2;
+    }
+
+    /**
+     * Normaliza un texto con el analizador del índice.
+     *
+     * @param text El texto a normalizar.
+     * @return Las palabras normalizadas del texto.
+     */
+    private List<String> analyze(String text) {
+        final String maybeText = StringUtils.stripToNull(text);
+        if (maybeText == null) {
+            return List.of();
+        }
+
+        final List<String> terms = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(TITLE_FIELD, maybeText)) {
+            final CharTermAttribute charTermAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(charTermAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error analyzing the query", e);
+        }
+        return terms;
+    }
+
+    /**
+     * Añade o sustituye documentos en el índice y refresca el buscador.
+     *
+     * Usa el mismo cerrojo que {@link #rebuild()} y {@link #refresh()}.
+     *
+     * @param documents Los documentos a escribir.
+     * @return Verdadero si se han escrito los documentos.
+     */
+    private synchronized boolean updateDocuments(List<Document> documents) {
+        try {
+            for (Document document : documents) {
+                indexWriter.updateDocument(new Term(UID_FIELD, document.get(UID_FIELD)), document);
+            }
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+            return true;
+        } catch (IOException e) {
+            log.error("Error updating the search index, it should be rebuilt", e);
+            return false;
+        }
+    }
+
+    /**
+     * Obtiene la mayor marca de modificación de unas películas y unos artistas.
+     *
+     * @param movies Las películas.
+     * @param artists Los artistas.
+     * @return La mayor marca de modificación, o nula si no hay ninguna.
+     */
+    private static LocalDateTime maxUpdatedAt(List<Movie> movies, List<Artist> artists) {
+        return Stream.concat(movies.stream().map(Movie::getUpdatedAt), artists.stream().map(Artist::getUpdatedAt))
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+
+    /**
+     * Convierte una película en un documento del índice.
+     *
+     * @param movie La película.
+     * @return El documento de la película.
+     */
+    private Document mapMovieToDocument(Movie movie) {
+        final Document document = new Document();
+        document.add(new StringField(UID_FIELD, "%s:%d".formatted(SearchHitDto.Type.MOVIE, movie.getId()), Field.Store.YES));
+        document.add(new StringField(TYPE_FIELD, SearchHitDto.Type.MOVIE.name(), Field.Store.YES));
+        document.add(new StoredField(ID_FIELD, movie.getId()));
+        document.add(new TextField(TITLE_FIELD, StringUtils.defaultString(movie.getTitle()), Field.Store.YES));
+        Optional.ofNullable(movie.getReleaseYear())
+                .ifPresent(year -> document.add(new StringField(YEAR_FIELD, String.valueOf(year), Field.Store.YES)));
+        Optional.ofNullable(movie.getManager())
+                .ifPresent(manager -> document.add(new TextField(DIRECTOR_FIELD, getFullName(manager), Field.Store.NO)));
+        Optional.ofNullable(movie.getArtists())
+                .map(artists -> artists.stream().map(LuceneSearchServiceImpl::getFullName).collect(Collectors.joining(" ")))
+                .ifPresent(cast -> document.add(new TextField(CAST_FIELD, cast, Field.Store.NO)));
+        return document;
+    }
+
+    /**
+     * Convierte un artista en un documento del índice.
+     *
+     * @param artist El artista.
+     * @return El documento del artista.
+     */
+    private Document mapArtistToDocument(Artist artist) {
+        final Document document = new Document();
+        document.add(new StringField(UID_FIELD, "%s:%d".formatted(SearchHitDto.Type.ARTIST, artist.getId()), Field.Store.YES));
+        document.add(new StringField(TYPE_FIELD, SearchHitDto.Type.ARTIST.name(), Field.Store.YES));
+        document.add(new StoredField(ID_FIELD, artist.getId()));
+        document.add(new TextField(TITLE_FIELD, getFullName(artist), Field.Store.YES));
+        return document;
+    }
+
+    /**
+     * Convierte un documento del índice en un resultado de búsqueda.
+     *
+     * @param document El documento.
+     * @param score La puntuación del documento.
+     * @return El resultado de búsqueda.
+     */
+    private static SearchHitDto mapToSearchHit(Document document, float score) {
+        return SearchHitDto.builder()
+                .type(SearchHitDto.Type.valueOf(document.get(TYPE_FIELD)))
+                .id(document.getField(ID_FIELD).numericValue().longValue())
+                .title(document.get(TITLE_FIELD))
+                .releaseYear(Optional.ofNullable(document.get(YEAR_FIELD)).map(Integer::valueOf).orElse(null))
+                .score(score)
+                .build();
+    }
+
+    /**
+     * Obtiene el nombre completo de un artista.
+     *
+     * @param artist El artista.
+     * @return El nombre y el apellido del artista.
+     */
+    private static String getFullName(Artist artist) {
+        return StringUtils.joinWith(" ", StringUtils.defaultString(artist.getName()), StringUtils.defaultString(artist.getSurname()));
+    }
+
+    /**
+     * Analizador del índice: separa las palabras y las normaliza a minúsculas y sin acentos.
+     */
+    private static class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            final Tokenizer tokenizer = new StandardTokenizer();
+            final TokenStream tokenStream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, tokenStream);
+        }
+    }
+}
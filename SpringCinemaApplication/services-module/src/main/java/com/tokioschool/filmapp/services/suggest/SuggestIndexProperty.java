@@ -0,0 +1,33 @@
+package com.tokioschool.filmapp.services.suggest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Propiedades de configuración del índice de prefijos del autocompletado.
+ *
+ * @param maxResults Número de sugerencias devueltas si no se indica otro.
+ * @param maxResultsLimit Número máximo de sugerencias que se pueden pedir, y de mejores elementos que guarda
+ *                        cada nodo del índice; no puede superar {@link SuggestService#MAX_RESULTS_LIMIT}.
+ * @param refreshInterval Intervalo entre recargas del número de calificaciones con el que se ordenan las
+ *                        sugerencias y de los cambios hechos desde otras aplicaciones.
+ * @param refreshOverlap Margen con el que se repite la búsqueda de cambios antes de la última marca vista,
+ *                       que debe superar la duración de la transacción más larga que modifica los datos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.suggest")
+public record SuggestIndexProperty(Integer maxResults, Integer maxResultsLimit, Duration refreshInterval,
+                                   Duration refreshOverlap) {
+
+    public SuggestIndexProperty {
+        maxResultsLimit = Math.min(Objects.requireNonNullElse(maxResultsLimit, SuggestService.MAX_RESULTS_LIMIT),
+                SuggestService.MAX_RESULTS_LIMIT);
+        maxResults = Math.min(Objects.requireNonNullElse(maxResults, 10), maxResultsLimit);
+        refreshInterval = Objects.requireNonNullElse(refreshInterval, Duration.ofMinutes(1));
+        refreshOverlap = Objects.requireNonNullElse(refreshOverlap, Duration.ofMinutes(1));
+    }
+}
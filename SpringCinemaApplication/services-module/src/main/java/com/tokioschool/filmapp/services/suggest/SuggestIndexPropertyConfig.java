@@ -0,0 +1,29 @@
+package com.tokioschool.filmapp.services.suggest;
+
+import com.tokioschool.configs.YamlPropertySourceFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuración de propiedades del índice de prefijos del autocompletado.
+ *
+ * Carga los valores por defecto del archivo YAML {@code suggest-index.yml}, que cada aplicación
+ * puede sobrescribir en su propia configuración, habilita la clase {@link SuggestIndexProperty}
+ * y las tareas programadas con las que se recarga la popularidad de las sugerencias.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+@PropertySource(
+        value = "classpath:suggest-index.yml", // Ruta del archivo de propiedades YAML
+        encoding = "UTF-8", // Codificación del archivo
+        factory = YamlPropertySourceFactory.class // Fábrica personalizada para cargar propiedades YAML
+)
+@EnableConfigurationProperties(SuggestIndexProperty.class)
+public class SuggestIndexPropertyConfig {
+
+}
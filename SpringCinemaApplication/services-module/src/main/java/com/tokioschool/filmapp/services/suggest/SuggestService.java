@@ -0,0 +1,65 @@
+package com.tokioschool.filmapp.services.suggest;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import com.tokioschool.filmapp.dto.suggest.SuggestionDto;
+
+import java.util.List;
+
+/**
+ * Interfaz para el servicio de autocompletado de títulos de películas y nombres de artistas.
+ *
+ * Las sugerencias se resuelven con un índice de prefijos en memoria, que se actualiza de forma
+ * incremental cuando se crean o modifican películas y artistas, y se ordenan por popularidad
+ * (número de calificaciones).
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public interface SuggestService {
+
+    /**
+     * Número máximo de sugerencias que se pueden pedir.
+     */
+    int MAX_RESULTS_LIMIT = 50;
+
+    /**
+     * Sugiere las películas y artistas con alguna palabra que empieza por el texto escrito.
+     *
+     * @param prefix Texto escrito por el usuario.
+     * @param type Tipo de elemento a sugerir, o nulo para sugerir películas y artistas.
+     * @param maxResults Número máximo de sugerencias; si es 0 o negativo se usa el configurado, y nunca
+     *                   supera el máximo configurado.
+     * @return Lista de sugerencias ordenada de mayor a menor popularidad.
+     */
+    List<SuggestionDto> suggest(String prefix, SearchHitDto.Type type, int maxResults);
+
+    /**
+     * Añade o actualiza una película en el índice. Si hay una transacción activa,
+     * el índice se actualiza cuando esta se confirma.
+     *
+     * @param movie La película a indexar.
+     */
+    void indexMovie(Movie movie);
+
+    /**
+     * Añade o actualiza un artista en el índice. Si hay una transacción activa,
+     * el índice se actualiza cuando esta se confirma.
+     *
+     * @param artist El artista a indexar.
+     */
+    void indexArtist(Artist artist);
+
+    /**
+     * Recarga desde la base de datos el número de calificaciones con el que se ordenan las sugerencias.
+     */
+    void refreshPopularity();
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     *
+     * @return Número de elementos indexados.
+     */
+    int rebuild();
+}
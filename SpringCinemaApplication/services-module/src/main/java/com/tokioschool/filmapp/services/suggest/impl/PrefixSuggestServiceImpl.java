@@ -0,0 +1,573 @@
+package com.tokioschool.filmapp.services.suggest.impl;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import com.tokioschool.filmapp.dto.suggest.SuggestionDto;
+import com.tokioschool.filmapp.records.RatingCount;
+import com.tokioschool.filmapp.repositories.ArtistDao;
+import com.tokioschool.filmapp.repositories.MovieDao;
+import com.tokioschool.filmapp.repositories.RatingFilmDao;
+import com.tokioschool.filmapp.services.helpers.TransactionHelper;
+import com.tokioschool.filmapp.services.suggest.SuggestIndexProperty;
+import com.tokioschool.filmapp.services.suggest.SuggestService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del servicio de autocompletado con un índice de prefijos en memoria.
+ *
+ * Los títulos de las películas y los nombres de los artistas se normalizan a minúsculas, sin acentos
+ * ni signos de puntuación, y se indexa en un {@link PrefixTrie} por tipo el texto que empieza en cada una
+ * de sus palabras, de forma que "mat" sugiere "The Matrix". Cada elemento se identifica en el árbol por un
+ * {@code long} que combina su tipo y su identificador.
+ *
+ * Las sugerencias se ordenan por popularidad: el número de calificaciones de la película, o la suma de
+ * las calificaciones de las películas que ha dirigido o en las que actúa el artista. Cada nodo de los
+ * árboles guarda sus mejores elementos según este orden, hasta {@code application.suggest.max-results-limit},
+ * por lo que una sugerencia no recorre todos los elementos que empiezan por el prefijo; al indexar un
+ * elemento se recalculan los caminos de sus claves y de las de los artistas cuya popularidad cambia.
+ *
+ * Como el índice es propio de cada proceso y las calificaciones se registran en la API de calificaciones,
+ * se recargan periódicamente (propiedad {@code application.suggest.refresh-interval}) el número de
+ * calificaciones y las películas y artistas modificados desde otras aplicaciones, según su marca de
+ * modificación.
+ *
+ * Las actualizaciones del índice se aplican cuando se confirma la transacción que modifica los datos.
+ * Las lecturas y escrituras se sincronizan con un {@link ReadWriteLock}, de forma que las sugerencias
+ * concurrentes no se bloquean entre sí.
+ *
+ * Solo se crea en las aplicaciones que activan `application.suggest.enabled`, ya que construir el índice
+ * carga todo el catálogo.
+ *
+ * Anotaciones:
+ * - {@link Service}: Marca esta clase como un componente de servicio de Spring.
+ * - {@link ConditionalOnProperty}: Crea el servicio solo si el autocompletado está activado.
+ * - {@link Slf4j}: Proporciona un logger para registrar mensajes de depuración y errores.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.suggest", name = "enabled", havingValue = "true")
+@Slf4j
+public class PrefixSuggestServiceImpl implements SuggestService {
+
+    /** Longitud máxima de las claves del índice; los prefijos más largos se recortan **/
+    private static final int MAX_KEY_LENGTH = 50;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** Marca de modificación de un índice reconstruido sin datos, anterior a cualquier modificación **/
+    private static final LocalDateTime EMPTY_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SuggestIndexProperty suggestIndexProperty;
+    private final MovieDao movieDao;
+    private final ArtistDao artistDao;
+    private final RatingFilmDao ratingFilmDao;
+    private final TransactionOperations transactionOperations;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Árbol de prefijos de cada tipo de elemento **/
+    private final Map<SearchHitDto.Type, PrefixTrie> prefixTries = new EnumMap<>(SearchHitDto.Type.class);
+
+    /** Elementos indexados, por su identificador en el árbol **/
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /** Número de calificaciones de cada película **/
+    private Map<Long, Long> ratingCounts = Map.of();
+
+    /** Suma de las calificaciones de las películas de cada artista **/
+    private final Map<Long, Long> artistPopularity = new HashMap<>();
+
+    /** Mayor marca de modificación indexada; nula si no se conoce. Se protege con el bloqueo de escritura **/
+    private LocalDateTime watermark;
+
+    @Autowired
+    public PrefixSuggestServiceImpl(SuggestIndexProperty suggestIndexProperty, MovieDao movieDao, ArtistDao artistDao,
+                                    RatingFilmDao ratingFilmDao, PlatformTransactionManager transactionManager) {
+        this(suggestIndexProperty, movieDao, artistDao, ratingFilmDao, new TransactionTemplate(transactionManager));
+    }
+
+    public PrefixSuggestServiceImpl(SuggestIndexProperty suggestIndexProperty, MovieDao movieDao, ArtistDao artistDao,
+                                    RatingFilmDao ratingFilmDao, TransactionOperations transactionOperations) {
+        this.suggestIndexProperty = suggestIndexProperty;
+        this.movieDao = movieDao;
+        this.artistDao = artistDao;
+        this.ratingFilmDao = ratingFilmDao;
+        this.transactionOperations = transactionOperations;
+        for (SearchHitDto.Type type : SearchHitDto.Type.values()) {
+            prefixTries.put(type, new PrefixTrie(suggestIndexProperty.maxResultsLimit()));
+        }
+    }
+
+    /**
+     * Sugiere las películas y artistas con alguna palabra que empieza por el texto escrito.
+     *
+     * Los mejores elementos de cada prefijo ya están calculados en el árbol, por lo que solo se mezclan
+     * los de los tipos pedidos.
+     *
+     * @param prefix Texto escrito por el usuario.
+     * @param type Tipo de elemento a sugerir, o nulo para sugerir películas y artistas.
+     * @param maxResults Número máximo de sugerencias; si es 0 o negativo se usa el configurado, y nunca
+     *                   supera {@code application.suggest.max-results-limit}.
+     * @return Lista de sugerencias ordenada de mayor a menor popularidad.
+     */
+    @Override
+    public List<SuggestionDto> suggest(String prefix, SearchHitDto.Type type, int maxResults) {
+        final String key = StringUtils.left(normalize(prefix), MAX_KEY_LENGTH);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        final int limit = Math.min(maxResults > 0 ? maxResults : suggestIndexProperty.maxResults(),
+                suggestIndexProperty.maxResultsLimit());
+
+        lock.readLock().lock();
+        try {
+            final long[][] tops = Stream.of(SearchHitDto.Type.values())
+                    .filter(candidate -> type == null || candidate == type)
+                    .map(candidate -> prefixTries.get(candidate).top(key))
+                    .toArray(long[][]::new);
+
+            final List<SuggestionDto> suggestions = new ArrayList<>();
+            for (long posting : PrefixTrie.merge(tops, limit, this::compareBestFirst)) {
+                suggestions.add(mapToSuggestion(entries.get(posting), popularityOf(posting)));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Añade o actualiza una película en el índice cuando se confirma la transacción activa.
+     *
+     * @param movie La película a indexar.
+     */
+    @Override
+    public void indexMovie(@NonNull Movie movie) {
+        final Entry entry = mapMovieToEntry(movie);
+        TransactionHelper.afterCommit(() -> write(() -> putEntryAndUpdateTops(entry)));
+    }
+
+    /**
+     * Añade o actualiza un artista en el índice cuando se confirma la transacción activa.
+     *
+     * @param artist El artista a indexar.
+     */
+    @Override
+    public void indexArtist(@NonNull Artist artist) {
+        final Entry entry = mapArtistToEntry(artist);
+        TransactionHelper.afterCommit(() -> write(() -> putEntryAndUpdateTops(entry)));
+    }
+
+    /**
+     * Recarga desde la base de datos el número de calificaciones de cada película.
+     */
+    @Override
+    public void refreshPopularity() {
+        final Map<Long, Long> counts = countRatings();
+        write(() -> {
+            ratingCounts = counts;
+            recomputeArtistPopularity();
+            updateAllTops();
+        });
+    }
+
+    /**
+     * Recarga periódicamente desde la base de datos el número de calificaciones y las películas y artistas
+     * modificados desde la última marca vista, incluidas las películas cuyo gerente o reparto ha cambiado,
+     * para recoger los cambios hechos desde otras aplicaciones.
+     *
+     * La búsqueda empieza un margen antes de la marca, para no perder las modificaciones cuya transacción
+     * se confirmó después de leerla; volver a indexar un elemento no tiene efecto. Si no se conoce
+     * la marca se reconstruye el índice completo.
+     */
+    @Scheduled(
+            initialDelayString = "${application.suggest.refresh-interval:PT1M}",
+            fixedDelayString = "${application.suggest.refresh-interval:PT1M}")
+    public synchronized void refresh() {
+        try {
+            final LocalDateTime since = read(() -> watermark);
+            if (since == null) {
+                rebuild();
+                return;
+            }
+
+            final List<Entry> loaded = new ArrayList<>();
+            final LocalDateTime lastUpdatedAt = transactionOperations.execute(status ->
+                    load(movieDao.findModifiedSince(since.minus(suggestIndexProperty.refreshOverlap())),
+                            artistDao.findByUpdatedAtGreaterThanEqual(since.minus(suggestIndexProperty.refreshOverlap())),
+                            loaded));
+            final Map<Long, Long> counts = countRatings();
+
+            write(() -> {
+                ratingCounts = counts;
+                loaded.forEach(this::putEntry);
+                recomputeArtistPopularity();
+                updateAllTops();
+                if (lastUpdatedAt != null && lastUpdatedAt.isAfter(watermark)) {
+                    watermark = lastUpdatedAt;
+                }
+            });
+            log.debug("Suggest index refreshed with {} entries modified since {}", loaded.size(), since);
+        } catch (RuntimeException e) {
+            log.error("Error refreshing the suggest index", e);
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     *
+     * @return Número de elementos indexados.
+     */
+    @Override
+    public synchronized int rebuild() {
+        final List<Entry> loaded = new ArrayList<>();
+        final LocalDateTime lastUpdatedAt = transactionOperations.execute(status ->
+                load(movieDao.findAll(), artistDao.findAll(), loaded));
+        final Map<Long, Long> counts = countRatings();
+
+        write(() -> {
+            prefixTries.values().forEach(PrefixTrie::clear);
+            entries.clear();
+            ratingCounts = counts;
+            loaded.forEach(this::putEntry);
+            recomputeArtistPopularity();
+            updateAllTops();
+            watermark = Objects.requireNonNullElse(lastUpdatedAt, EMPTY_WATERMARK);
+        });
+
+        log.info("Suggest index rebuilt with {} entries", loaded.size());
+        return loaded.size();
+    }
+
+    /**
+     * Construye el índice al arrancar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Error building the suggest index on startup", e);
+        }
+    }
+
+    /**
+     * Convierte unas películas y unos artistas en elementos del índice.
+     *
+     * @param movies Las películas.
+     * @param artists Los artistas.
+     * @param loaded Lista a la que se añaden los elementos.
+     * @return La mayor marca de modificación de las películas y los artistas, o nula si no hay ninguna.
+     */
+    private static LocalDateTime load(List<Movie> movies, List<Artist> artists, List<Entry> loaded) {
+        movies.stream().map(PrefixSuggestServiceImpl::mapMovieToEntry).forEach(loaded::add);
+        artists.stream().map(PrefixSuggestServiceImpl::mapArtistToEntry).forEach(loaded::add);
+        return Stream.concat(movies.stream().map(Movie::getUpdatedAt), artists.stream().map(Artist::getUpdatedAt))
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+
+    /**
+     * Añade o sustituye un elemento en el índice y ajusta la popularidad de los artistas de la película.
+     * No recalcula los mejores elementos de los nodos. Debe llamarse con el bloqueo de escritura.
+     *
+     * @param entry El elemento.
+     * @return El elemento sustituido, o nulo si no existía.
+     */
+    private Entry putEntry(Entry entry) {
+        final long posting = postingOf(entry.type(), entry.id());
+        final PrefixTrie prefixTrie = prefixTries.get(entry.type());
+        final Entry previous = entries.put(posting, entry);
+        if (previous != null) {
+            previous.keys().forEach(key -> prefixTrie.remove(key, posting));
+            addArtistPopularity(previous, -ratingCounts.getOrDefault(previous.id(), 0L));
+        }
+        entry.keys().forEach(key -> prefixTrie.add(key, posting));
+        addArtistPopularity(entry, ratingCounts.getOrDefault(entry.id(), 0L));
+        return previous;
+    }
+
+    /**
+     * Añade o sustituye un elemento en el índice y recalcula los mejores elementos de los nodos afectados:
+     * los de las claves anteriores y nuevas del elemento y, si es una película con calificaciones, los de
+     * las claves de los artistas cuya popularidad cambia. Debe llamarse con el bloqueo de escritura.
+     *
+     * @param entry El elemento.
+     */
+    private void putEntryAndUpdateTops(Entry entry) {
+        final Entry previous = putEntry(entry);
+
+        final Set<String> keys = new LinkedHashSet<>(entry.keys());
+        final Set<Long> artistIds = new LinkedHashSet<>();
+        if (previous != null) {
+            keys.addAll(previous.keys());
+            if (ratingCounts.getOrDefault(previous.id(), 0L) != 0) {
+                Arrays.stream(previous.artistIds()).forEach(artistIds::add);
+            }
+        }
+        if (ratingCounts.getOrDefault(entry.id(), 0L) != 0) {
+            Arrays.stream(entry.artistIds()).forEach(artistIds::add);
+        }
+        prefixTries.get(entry.type()).updateTops(keys, this::compareBestFirst);
+
+        final Set<String> artistKeys = new LinkedHashSet<>();
+        artistIds.stream()
+                .map(artistId -> entries.get(postingOf(SearchHitDto.Type.ARTIST, artistId)))
+                .filter(Objects::nonNull)
+                .forEach(artist -> artistKeys.addAll(artist.keys()));
+        prefixTries.get(SearchHitDto.Type.ARTIST).updateTops(artistKeys, this::compareBestFirst);
+    }
+
+    /**
+     * Recalcula los mejores elementos de todos los nodos, tras cambiar la popularidad.
+     * Debe llamarse con el bloqueo de escritura.
+     */
+    private void updateAllTops() {
+        prefixTries.values().forEach(prefixTrie -> prefixTrie.updateAllTops(this::compareBestFirst));
+    }
+
+    /**
+     * Orden de las sugerencias: más populares primero y, a igual popularidad, por orden alfabético y por
+     * identificador. Debe llamarse con el bloqueo de lectura o de escritura.
+     *
+     * @param left Identificador en el árbol de un elemento.
+     * @param right Identificador en el árbol de otro elemento.
+     * @return Negativo si el primero va antes, positivo si va después y 0 si son el mismo.
+     */
+    private int compareBestFirst(long left, long right) {
+        final int byPopularity = Long.compare(popularityOf(right), popularityOf(left));
+        if (byPopularity != 0) {
+            return byPopularity;
+        }
+        final Entry leftEntry = entries.get(left);
+        final Entry rightEntry = entries.get(right);
+        final int byKey = leftEntry.key().compareTo(rightEntry.key());
+        if (byKey != 0) {
+            return byKey;
+        }
+        final int byId = Long.compare(leftEntry.id(), rightEntry.id());
+        return byId != 0 ? byId : Long.compare(left, right);
+    }
+
+    /**
+     * Suma las calificaciones de una película a la popularidad de sus artistas.
+     *
+     * @param entry El elemento; si no es una película no se hace nada.
+     * @param ratings Número de calificaciones a sumar, negativo para restarlas.
+     */
+    private void addArtistPopularity(Entry entry, long ratings) {
+        if (ratings == 0) {
+            return;
+        }
+        for (long artistId : entry.artistIds()) {
+            artistPopularity.merge(artistId, ratings, Long::sum);
+        }
+    }
+
+    /**
+     * Recalcula la popularidad de todos los artistas. Debe llamarse con el bloqueo de escritura.
+     */
+    private void recomputeArtistPopularity() {
+        artistPopularity.clear();
+        entries.values().forEach(entry -> addArtistPopularity(entry, ratingCounts.getOrDefault(entry.id(), 0L)));
+    }
+
+    /**
+     * Obtiene la popularidad de un elemento. Debe llamarse con el bloqueo de lectura.
+     *
+     * @param posting Identificador en el árbol del elemento.
+     * @return Número de calificaciones de la película, o de las películas del artista.
+     */
+    private long popularityOf(long posting) {
+        final long id = posting >> 1;
+        return typeOf(posting) == SearchHitDto.Type.MOVIE
+                ? ratingCounts.getOrDefault(id, 0L)
+                : artistPopularity.getOrDefault(id, 0L);
+    }
+
+    /**
+     * Cuenta las calificaciones de cada película en la base de datos.
+     *
+     * @return Número de calificaciones por película.
+     */
+    private Map<Long, Long> countRatings() {
+        return ratingFilmDao.countRatingsGroupByFilmId().stream()
+                .collect(Collectors.toUnmodifiableMap(RatingCount::filmId, RatingCount::ratings));
+    }
+
+    /**
+     * Ejecuta una lectura del índice con el bloqueo de lectura.
+     *
+     * @param read La lectura.
+     * @return El resultado de la lectura.
+     */
+    private <T> T read(Supplier<T> read) {
+        lock.readLock().lock();
+        try {
+            return read.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ejecuta una escritura en el índice con el bloqueo de escritura.
+     *
+     * @param write La escritura.
+     */
+    private void write(Runnable write) {
+        lock.writeLock().lock();
+        try {
+            write.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Convierte una película en un elemento del índice.
+     *
+     * @param movie La película.
+     * @return El elemento de la película, con los identificadores de su director y su reparto.
+     */
+    private static Entry mapMovieToEntry(Movie movie) {
+        final long[] artistIds = Stream.concat(
+                        Stream.ofNullable(movie.getManager()),
+                        Optional.ofNullable(movie.getArtists()).stream().flatMap(List::stream))
+                .map(Artist::getId)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .toArray();
+        final String label = StringUtils.defaultString(movie.getTitle());
+        return new Entry(SearchHitDto.Type.MOVIE, movie.getId(), label, movie.getReleaseYear(),
+                normalize(label), keysOf(label), artistIds);
+    }
+
+    /**
+     * Convierte un artista en un elemento del índice.
+     *
+     * @param artist El artista.
+     * @return El elemento del artista.
+     */
+    private static Entry mapArtistToEntry(Artist artist) {
+        final String label = StringUtils.normalizeSpace(StringUtils.joinWith(" ",
+                StringUtils.defaultString(artist.getName()), StringUtils.defaultString(artist.getSurname())));
+        return new Entry(SearchHitDto.Type.ARTIST, artist.getId(), label, null,
+                normalize(label), keysOf(label), new long[0]);
+    }
+
+    /**
+     * Convierte un elemento del índice en una sugerencia.
+     *
+     * @param entry El elemento.
+     * @param popularity La popularidad del elemento en el momento de la consulta.
+     * @return La sugerencia.
+     */
+    private static SuggestionDto mapToSuggestion(Entry entry, long popularity) {
+        return SuggestionDto.builder()
+                .type(entry.type())
+                .id(entry.id())
+                .label(entry.label())
+                .releaseYear(entry.releaseYear())
+                .popularity(popularity)
+                .build();
+    }
+
+    /**
+     * Obtiene las claves de un texto: el texto normalizado a partir de cada una de sus palabras.
+     *
+     * @param label El texto.
+     * @return Las claves distintas del texto.
+     */
+    private static Set<String> keysOf(String label) {
+        final String normalized = normalize(label);
+        final Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                keys.add(StringUtils.left(normalized.substring(i), MAX_KEY_LENGTH));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Normaliza un texto: minúsculas, sin acentos y con las palabras separadas por un espacio.
+     *
+     * @param text El texto.
+     * @return El texto normalizado, o vacío si no tiene letras ni números.
+     */
+    private static String normalize(String text) {
+        if (StringUtils.isBlank(text)) {
+            return StringUtils.EMPTY;
+        }
+        final String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    /**
+     * Obtiene el identificador en el árbol de un elemento: su identificador y, en el bit menos significativo, su tipo.
+     */
+    private static long postingOf(SearchHitDto.Type type, long id) {
+        return id << 1 | type.ordinal();
+    }
+
+    /**
+     * Obtiene el tipo de un elemento a partir de su identificador en el árbol.
+     */
+    private static SearchHitDto.Type typeOf(long posting) {
+        return SearchHitDto.Type.values()[(int) (posting & 1)];
+    }
+
+    /**
+     * Elemento del índice.
+     *
+     * @param type Tipo del elemento.
+     * @param id Identificador de la película o del artista.
+     * @param label Título de la película, o nombre y apellido del artista.
+     * @param releaseYear Año de lanzamiento de la película.
+     * @param key Texto normalizado, con el que se desempatan las sugerencias.
+     * @param keys Claves del elemento en el árbol.
+     * @param artistIds Identificadores del director y el reparto de la película.
+     */
+    private record Entry(SearchHitDto.Type type, long id, String label, Integer releaseYear,
+                         String key, Set<String> keys, long[] artistIds) {
+    }
+}
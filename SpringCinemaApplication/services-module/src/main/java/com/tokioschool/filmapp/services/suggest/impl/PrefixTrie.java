@@ -0,0 +1,301 @@
+package com.tokioschool.filmapp.services.suggest.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Árbol de prefijos (trie) cuyas claves apuntan a listas de identificadores primitivos.
+ *
+ * Los hijos de cada nodo se guardan en arrays ordenados por carácter, y los identificadores en arrays
+ * de {@code long}, sin objetos intermedios. Cada nodo guarda además los mejores identificadores de su
+ * subárbol según un orden, como mucho {@code topSize}, de forma que consultar un prefijo solo recorre
+ * sus caracteres y copia esa lista: el coste depende de la longitud del prefijo y de {@code topSize},
+ * no del número de claves que empiezan por él.
+ *
+ * Las listas de mejores no se mantienen al añadir o quitar identificadores: hay que recalcularlas con
+ * {@link #updateTops(Iterable, PostingOrder)} en los caminos de las claves modificadas, o con
+ * {@link #updateAllTops(PostingOrder)} en todo el árbol cuando cambia el orden.
+ *
+ * No es seguro para hilos: el acceso lo sincroniza {@link PrefixSuggestServiceImpl}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+class PrefixTrie {
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+    private static final long[] NO_POSTINGS = new long[0];
+
+    private final int topSize;
+    private Node root = new Node();
+
+    /**
+     * @param topSize Número máximo de identificadores que se guardan como mejores en cada nodo.
+     */
+    PrefixTrie(int topSize) {
+        this.topSize = topSize;
+    }
+
+    /**
+     * Añade un identificador a una clave.
+     *
+     * @param key La clave.
+     * @param posting El identificador.
+     */
+    void add(String key, long posting) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        node.addPosting(posting);
+    }
+
+    /**
+     * Quita un identificador de una clave, y elimina los nodos que quedan vacíos.
+     *
+     * @param key La clave.
+     * @param posting El identificador.
+     */
+    void remove(String key, long posting) {
+        remove(root, key, 0, posting);
+    }
+
+    /**
+     * Obtiene los mejores identificadores distintos de las claves que empiezan por un prefijo.
+     *
+     * @param prefix El prefijo.
+     * @return Los identificadores, de mejor a peor, como mucho {@code topSize}.
+     */
+    long[] top(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node == null ? NO_POSTINGS : node.top.clone();
+    }
+
+    /**
+     * Recalcula los mejores identificadores de los nodos en los caminos de unas claves, desde el más
+     * profundo hasta la raíz. Basta con las claves añadidas, quitadas o cuyos identificadores han cambiado
+     * de posición en el orden.
+     *
+     * @param keys Las claves.
+     * @param order El orden de los identificadores.
+     */
+    void updateTops(Iterable<String> keys, PostingOrder order) {
+        for (String key : keys) {
+            final List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            for (int i = 0; node != null; i++) {
+                path.add(node);
+                node = i < key.length() ? node.child(key.charAt(i)) : null;
+            }
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).updateTop(topSize, order);
+            }
+        }
+    }
+
+    /**
+     * Recalcula los mejores identificadores de todos los nodos.
+     *
+     * @param order El orden de los identificadores.
+     */
+    void updateAllTops(PostingOrder order) {
+        updateAllTops(root, order);
+    }
+
+    /**
+     * Elimina todas las claves.
+     */
+    void clear() {
+        root = new Node();
+    }
+
+    /**
+     * Mezcla varias listas de identificadores ordenadas, quitando los repetidos.
+     *
+     * @param lists Las listas, cada una de mejor a peor.
+     * @param limit Número máximo de identificadores del resultado.
+     * @param order El orden de los identificadores.
+     * @return Los mejores identificadores distintos, de mejor a peor.
+     */
+    static long[] merge(long[][] lists, int limit, PostingOrder order) {
+        final int[] positions = new int[lists.length];
+        long[] merged = new long[Math.min(limit, Arrays.stream(lists).mapToInt(list -> list.length).sum())];
+        int size = 0;
+        while (size < merged.length) {
+            int best = -1;
+            for (int i = 0; i < lists.length; i++) {
+                if (positions[i] < lists[i].length
+                        && (best < 0 || order.compare(lists[i][positions[i]], lists[best][positions[best]]) < 0)) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            final long posting = lists[best][positions[best]++];
+            // con un orden total, las copias de un identificador salen seguidas
+            if (size == 0 || merged[size - 1] != posting) {
+                merged[size++] = posting;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * Recalcula los mejores identificadores de un subárbol, primero los de los hijos.
+     */
+    private void updateAllTops(Node node, PostingOrder order) {
+        for (int i = 0; i < node.childCount; i++) {
+            updateAllTops(node.children[i], order);
+        }
+        node.updateTop(topSize, order);
+    }
+
+    /**
+     * Quita un identificador de una clave a partir de un nodo.
+     *
+     * @return {@code true} si el nodo queda vacío y se puede eliminar.
+     */
+    private static boolean remove(Node node, String key, int depth, long posting) {
+        if (depth == key.length()) {
+            node.removePosting(posting);
+        } else {
+            final char c = key.charAt(depth);
+            final Node child = node.child(c);
+            if (child == null) {
+                return false;
+            }
+            if (remove(child, key, depth + 1, posting)) {
+                node.removeChild(c);
+            }
+        }
+        return node.isEmpty();
+    }
+
+    /**
+     * Orden de los identificadores, de mejor a peor. Debe ser total: solo un mismo identificador es igual a sí mismo.
+     */
+    @FunctionalInterface
+    interface PostingOrder {
+
+        int compare(long left, long right);
+    }
+
+    /**
+     * Nodo del árbol: hijos ordenados por carácter, identificadores de la clave que termina en él
+     * y mejores identificadores de su subárbol.
+     */
+    private static final class Node {
+
+        private char[] chars = NO_CHARS;
+        private Node[] children = NO_NODES;
+        private int childCount;
+
+        private long[] postings = NO_POSTINGS;
+        private int postingCount;
+
+        private long[] top = NO_POSTINGS;
+
+        private Node child(char c) {
+            final int index = Arrays.binarySearch(chars, 0, childCount, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char c) {
+            final int index = Arrays.binarySearch(chars, 0, childCount, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            final int insertAt = -index - 1;
+            if (childCount == chars.length) {
+                final int capacity = Math.max(2, chars.length * 2);
+                chars = Arrays.copyOf(chars, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(chars, insertAt, chars, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            final Node child = new Node();
+            chars[insertAt] = c;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        private void removeChild(char c) {
+            final int index = Arrays.binarySearch(chars, 0, childCount, c);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(chars, index + 1, chars, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+
+        private void addPosting(long posting) {
+            for (int i = 0; i < postingCount; i++) {
+                if (postings[i] == posting) {
+                    return;
+                }
+            }
+            if (postingCount == postings.length) {
+                postings = Arrays.copyOf(postings, Math.max(2, postings.length * 2));
+            }
+            postings[postingCount++] = posting;
+        }
+
+        private void removePosting(long posting) {
+            for (int i = 0; i < postingCount; i++) {
+                if (postings[i] == posting) {
+                    postings[i] = postings[--postingCount];
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Recalcula los mejores identificadores del nodo a partir de los suyos y de los mejores de sus hijos.
+         */
+        private void updateTop(int topSize, PostingOrder order) {
+            if (postingCount == 0 && childCount == 1) {
+                // la lista del único hijo no cambia, se comparte
+                top = children[0].top;
+                return;
+            }
+
+            final long[][] lists = new long[childCount + 1][];
+            lists[0] = sortedPostings(order);
+            for (int i = 0; i < childCount; i++) {
+                lists[i + 1] = children[i].top;
+            }
+            top = merge(lists, topSize, order);
+        }
+
+        /**
+         * Obtiene los identificadores de la clave del nodo ordenados, con una ordenación por inserción
+         * porque suelen ser muy pocos.
+         */
+        private long[] sortedPostings(PostingOrder order) {
+            final long[] sorted = Arrays.copyOf(postings, postingCount);
+            for (int i = 1; i < sorted.length; i++) {
+                final long posting = sorted[i];
+                int j = i - 1;
+                while (j >= 0 && order.compare(sorted[j], posting) > 0) {
+                    sorted[j + 1] = sorted[j];
+                    j--;
+                }
+                sorted[j + 1] = posting;
+            }
+            return sorted;
+        }
+
+        private boolean isEmpty() {
+            return childCount == 0 && postingCount == 0;
+        }
+    }
+}
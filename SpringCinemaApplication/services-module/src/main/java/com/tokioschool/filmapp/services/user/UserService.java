@@ -1,6 +1,7 @@
 package com.tokioschool.filmapp.services.user;
 
 import com.tokioschool.filmapp.domain.User;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.user.UserDto;
 import com.tokioschool.filmapp.dto.user.UserFormDto;
@@ -92,6 +93,17 @@ public interface UserService {
      */
     PageDTO<UserDto> searchUsers(int page, int pageSize, SearchUserRecord searchUserRecord);
 
+    /**
+     * Busca usuarios según criterios de búsqueda, paginando por cursor y ordenados por apellido e ID.
+     * Si el tamaño de página es 0, devuelve todos los elementos restantes.
+     *
+     * @param cursor Cursor devuelto por la página anterior, o nulo para obtener la primera página.
+     * @param pageSize Tamaño de página.
+     * @param searchUserRecord Criterios de búsqueda.
+     * @return Un objeto {@link CursorPageDTO} que contiene la lista de usuarios encontrados y el cursor de la página siguiente.
+     */
+    CursorPageDTO<UserDto> searchUsersByCursor(String cursor, int pageSize, SearchUserRecord searchUserRecord);
+
 
     boolean operationEditAllow(String userId);
 
@@ -2,21 +2,27 @@ package com.tokioschool.filmapp.services.user.impl;
 
 import com.tokioschool.filmapp.domain.Role;
 import com.tokioschool.filmapp.domain.User;
+import com.tokioschool.filmapp.dto.common.CursorPageDTO;
 import com.tokioschool.filmapp.dto.common.PageDTO;
 import com.tokioschool.filmapp.dto.user.UserDto;
 import com.tokioschool.filmapp.dto.user.UserFormDto;
 import com.tokioschool.filmapp.enums.RoleEnum;
+import com.tokioschool.filmapp.records.KeysetCursor;
 import com.tokioschool.filmapp.records.SearchUserRecord;
 import com.tokioschool.filmapp.repositories.RoleDao;
 import com.tokioschool.filmapp.repositories.UserDao;
 import com.tokioschool.filmapp.services.user.UserService;
+import com.tokioschool.filmapp.specifications.KeysetSpecification;
 import com.tokioschool.filmapp.specifications.UserSpecification;
+import com.tokioschool.helpers.CursorPageHelper;
+import com.tokioschool.filmapp.mapper.UserMapper;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.tuple.Pair;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -51,7 +57,11 @@ public class UserServiceImpl implements UserService {
     private final UserDao userDao;
     private final RoleDao roleDao;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+
+    /** Campos y orden de la paginación por cursor de usuarios. */
+    private static final String USER_ID_FIELD = "id";
+    private static final String USER_SURNAME_FIELD = "surname";
+    private static final Sort SORT_BY_SURNAME_ID = KeysetSpecification.sortBy(USER_SURNAME_FIELD, USER_ID_FIELD);
 
     /**
      * Busca un usuario por su correo electrónico y devuelve un par con el usuario y su contraseña encriptada.
@@ -67,7 +77,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Email not allow"));
 
         return userDao.findByUsernameOrEmailIgnoreCase(maybeEmail)
-                .map(user -> Pair.of(modelMapper.map(user, UserDto.class), user.getPassword()));
+                .map(user -> Pair.of(UserMapper.toDto(user), user.getPassword()));
     }
 
     /**
@@ -86,7 +96,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new IllegalArgumentException("Email not allow"));
 
         final Optional<UserDto> maybeUserDTO = userDao.findByEmailIgnoreCase(maybeEmail)
-                .map(user -> modelMapper.map(user, UserDto.class));
+                .map(UserMapper::toDto);
 
         final User userAuth = whoAuthenticated().orElseThrow(() -> new AccessDeniedException("Is required is login"));
 
@@ -174,7 +184,7 @@ public class UserServiceImpl implements UserService {
     @PreAuthorize("isAuthenticated()")
     @Transactional(readOnly = true)
     public Optional<UserDto> findById(String userId) throws AccessDeniedException {
-        final Optional<UserDto> maybeUserDTO = userId != null ? userDao.findById(userId).map(user -> modelMapper.map(user, UserDto.class)) : Optional.empty();
+        final Optional<UserDto> maybeUserDTO = userId != null ? userDao.findById(userId).map(UserMapper::toDto) : Optional.empty();
 
         final User userAuth = whoAuthenticated().orElseThrow(() -> new AccessDeniedException("Is required is login"));
 
@@ -194,7 +204,7 @@ public class UserServiceImpl implements UserService {
     @PreAuthorize("isAuthenticated()")
     @Transactional(readOnly = true)
     public Optional<UserDto> findUserAuthenticated() {
-        return whoAuthenticated().map(user -> modelMapper.map(user, UserDto.class));
+        return whoAuthenticated().map(UserMapper::toDto);
     }
 
     /**
@@ -209,19 +219,11 @@ public class UserServiceImpl implements UserService {
     @PreAuthorize("hasRole('ADMIN')")
     @Transactional(readOnly = true)
     public PageDTO<UserDto> searchUsers(int pageNumber, int pageSize, SearchUserRecord searchUserRecord) {
-        Specification<User> spec = Specification.allOf();
-
-        if (searchUserRecord != null) {
-            spec = Specification
-                    .where(UserSpecification.hasUsername(searchUserRecord.username()))
-                    .and(UserSpecification.hasSurname(searchUserRecord.surname()))
-                    .and(UserSpecification.hasName(searchUserRecord.name()))
-                    .and(UserSpecification.containsEmail(searchUserRecord.email()));
-        }
+        final Specification<User> spec = getSearchUserSpecification(searchUserRecord);
 
         List<UserDto> usersDto = userDao.findAll(spec)
                 .stream()
-                .map(user -> modelMapper.map(user, UserDto.class))
+                .map(UserMapper::toDto)
                 .toList();
 
         int startItem = pageNumber * pageSize;
@@ -251,6 +253,41 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    /**
+     * Busca usuarios según criterios de búsqueda, paginando por cursor y ordenados por apellido e ID.
+     * Si el tamaño de página es 0, devuelve todos los elementos restantes.
+     *
+     * Solo se leen las filas posteriores al cursor, `WHERE (surname, id) > (?, ?)`, más una para saber si hay
+     * página siguiente, por lo que el coste no depende de la profundidad de la página.
+     *
+     * @param cursor Cursor devuelto por la página anterior, o nulo para obtener la primera página.
+     * @param pageSize Tamaño de página.
+     * @param searchUserRecord Criterios de búsqueda.
+     * @return Un objeto {@link CursorPageDTO} que contiene la lista de usuarios encontrados y el cursor de la página siguiente.
+     */
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserDto> searchUsersByCursor(String cursor, int pageSize, SearchUserRecord searchUserRecord) {
+        final Pair<String, String> lastUser = CursorPageHelper.decodeCursor(cursor, keysetCursor -> {
+                    Validate.isTrue(keysetCursor.sortKey() != null, "The sort key of cursor is required");
+                    return Pair.of(keysetCursor.sortKey(), keysetCursor.id());
+                })
+                .orElseGet(() -> Pair.of(null, null));
+
+        final Specification<User> spec = getSearchUserSpecification(searchUserRecord)
+                .and(KeysetSpecification.after(USER_SURNAME_FIELD, lastUser.getLeft(), USER_ID_FIELD, lastUser.getRight()));
+
+        final List<User> users = userDao.findBy(spec, query -> CursorPageHelper.limitOf(pageSize)
+                .map(limit -> query.sortBy(SORT_BY_SURNAME_ID).limit(limit))
+                .orElseGet(() -> query.sortBy(SORT_BY_SURNAME_ID))
+                .all());
+
+        return CursorPageHelper.buildCursorPage(users, pageSize,
+                UserMapper::toDto,
+                user -> KeysetCursor.of(user.getSurname(), user.getId()));
+    }
+
     /**
      * Si el usuario autenticado es admin:
      *  * Puede modificar al target si el target no es admin o si está modificándose a sí mismo.
@@ -291,6 +328,23 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found!"));
     }
 
+    /**
+     * Construye la especificación con los criterios de búsqueda de usuarios.
+     *
+     * @param searchUserRecord Criterios de búsqueda. Si es nulo, no aplica filtro.
+     * @return La especificación con los criterios de búsqueda.
+     */
+    private static Specification<User> getSearchUserSpecification(SearchUserRecord searchUserRecord) {
+        if (searchUserRecord == null) {
+            return Specification.allOf();
+        }
+        return Specification
+                .where(UserSpecification.hasUsername(searchUserRecord.username()))
+                .and(UserSpecification.hasSurname(searchUserRecord.surname()))
+                .and(UserSpecification.hasName(searchUserRecord.name()))
+                .and(UserSpecification.containsEmail(searchUserRecord.email()));
+    }
+
     /**
      * Obtiene una sublista de elementos para la paginación.
      *
@@ -335,7 +389,7 @@ public class UserServiceImpl implements UserService {
         }
         user = userDao.save(user);
 
-        return modelMapper.map(user, UserDto.class);
+        return UserMapper.toDto(user);
     }
 
     /**
@@ -1,9 +1,6 @@
 package com.tokioschool.filmapp.services.artist.impl;
 
 import com.github.javafaker.Faker;
-import com.tokioschool.filmapp.converter.ArtistListToArtistDtoListConverter;
-import com.tokioschool.filmapp.converter.ArtistToArtistDtoConverter;
-import com.tokioschool.filmapp.converter.UUIDToStringConverter;
 import com.tokioschool.filmapp.domain.Artist;
 import com.tokioschool.filmapp.domain.Movie;
 import com.tokioschool.filmapp.dto.artist.ArtistDto;
@@ -11,18 +8,19 @@ import com.tokioschool.filmapp.dto.movie.MovieDto;
 import com.tokioschool.filmapp.enums.TYPE_ARTIST;
 import com.tokioschool.filmapp.repositories.ArtistDao;
 import com.tokioschool.filmapp.repositories.MovieDao;
+import com.tokioschool.filmapp.services.search.SearchService;
+import com.tokioschool.filmapp.services.suggest.SuggestService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.ArrayList;
@@ -39,12 +37,26 @@ class ArtistServiceImplUTest {
     @Mock
     private MovieDao movieDao;
 
-    @Spy
-    private ModelMapper modelMapper;
+    @Mock
+    private SearchService searchService;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ObjectProvider<SearchService> searchServiceProvider;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ObjectProvider<SuggestService> suggestServiceProvider;
+
+    @Mock
+    private SuggestService suggestService;
 
-    @InjectMocks
     private ArtistServiceImpl artistService;
 
+    @BeforeEach
+    void init() {
+        // los dos proveedores tienen el mismo tipo sin genéricos, así que se inyectan a mano
+        artistService = new ArtistServiceImpl(artistDao, movieDao, searchServiceProvider, suggestServiceProvider);
+    }
+
 
     private static List<Movie> movies;
 
@@ -79,18 +91,6 @@ class ArtistServiceImplUTest {
                 }).toList();
     }
 
-    @BeforeEach
-    void init(){
-        // configuration of mapper
-        this.modelMapper.typeMap(Movie.class, MovieDto.class)
-                .addMappings(mapping -> mapping.using(new ArtistToArtistDtoConverter())
-                        .map(Movie::getManager,MovieDto::setManagerDto))
-                .addMappings(mapping -> mapping.using(new ArtistListToArtistDtoListConverter())
-                        .map(Movie::getArtists,MovieDto::setArtistDtos))
-                .addMappings(mapping -> mapping.using(new UUIDToStringConverter())
-                        .map(Movie::getImage,MovieDto::setResourceId));
-    }
-
     @Test
     void whenFindAllArtist_returnListArtistDTO(){
         final Faker faker = new Faker();
@@ -124,12 +124,17 @@ class ArtistServiceImplUTest {
                 .typeArtist(TYPE_ARTIST.ACTOR).build();
 
         Mockito.when(artistDao.save(Mockito.any(Artist.class))).thenReturn(artist);
+        Mockito.doReturn(searchService).when(searchServiceProvider).getIfAvailable();
+        Mockito.doReturn(suggestService).when(suggestServiceProvider).getIfAvailable();
 
         ArtistDto resultArtistDto = artistService.registerArtist(artistDto);
 
         Assertions.assertThat(resultArtistDto).isNotNull()
                 .returns("john",ArtistDto::getName)
                 .returns("ACTOR",ArtistDto::getTypeArtist);
+
+        Mockito.verify(searchService).indexArtist(artist);
+        Mockito.verify(suggestService).indexArtist(artist);
     }
 
     @Test
@@ -0,0 +1,95 @@
+package com.tokioschool.filmapp.services.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+class SecondLevelCacheConfigurationUTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void close() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @Test
+    void givenRegionWithoutProperties_whenResolve_thenUseDefaults() {
+        final SecondLevelCacheProperty property = new SecondLevelCacheProperty(null, null, null, null,
+                new SecondLevelCacheProperty.Region(null, Duration.ofMinutes(5)),
+                Map.of("role", new SecondLevelCacheProperty.Region(100L, null)));
+
+        Assertions.assertThat(property.resolve("role"))
+                .isEqualTo(new SecondLevelCacheProperty.Region(100L, Duration.ofMinutes(5)));
+        Assertions.assertThat(property.resolve("unknown"))
+                .isEqualTo(new SecondLevelCacheProperty.Region(1_000L, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void givenRegions_whenCreateCacheManager_thenCreateRegionsWithTheirLimits() {
+        final SecondLevelCacheProperty property = new SecondLevelCacheProperty(null, true, null, null, null,
+                Map.of("artist", new SecondLevelCacheProperty.Region(10_000L, Duration.ofMinutes(30)),
+                        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                        new SecondLevelCacheProperty.Region(null, Duration.ZERO)));
+
+        cacheManager = SecondLevelCacheConfiguration.createCacheManager(property, meterRegistry);
+
+        Assertions.assertThat(cacheManager.getCacheNames())
+                .containsExactlyInAnyOrder("artist",
+                        RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+        final CaffeineConfiguration<?, ?> artist = configuration("artist");
+        Assertions.assertThat(artist.getMaximumSize()).isEqualTo(OptionalLong.of(10_000L));
+        Assertions.assertThat(artist.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(30).toNanos()));
+
+        final CaffeineConfiguration<?, ?> timestamps = configuration(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+        Assertions.assertThat(timestamps.getMaximumSize()).isEqualTo(OptionalLong.of(1_000L));
+        Assertions.assertThat(timestamps.getExpireAfterWrite()).isEmpty();
+    }
+
+    @Test
+    void givenQueryCacheDisabled_whenCreateCacheManager_thenDoNotCreateQueryRegions() {
+        final SecondLevelCacheProperty property = new SecondLevelCacheProperty(null, false, null, null, null,
+                Map.of("role", new SecondLevelCacheProperty.Region(100L, Duration.ofHours(1))));
+
+        cacheManager = SecondLevelCacheConfiguration.createCacheManager(property, meterRegistry);
+
+        Assertions.assertThat(cacheManager.getCacheNames()).containsExactly("role");
+    }
+
+    @Test
+    void givenRegion_whenUseCache_thenPublishMetrics() {
+        final SecondLevelCacheProperty property = new SecondLevelCacheProperty(null, false, null, null, null,
+                Map.of("role", new SecondLevelCacheProperty.Region(100L, Duration.ofHours(1))));
+
+        cacheManager = SecondLevelCacheConfiguration.createCacheManager(property, meterRegistry);
+        final Cache<Object, Object> role = cacheManager.getCache("role");
+        role.put(1L, "ADMIN");
+        role.get(1L);
+        role.get(2L);
+
+        Assertions.assertThat(meterRegistry.get("cache.gets").tags("cache", "role", "result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("cache.gets").tags("cache", "role", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("cache.puts").tags("cache", "role", "cache.type", "second-level").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    private CaffeineConfiguration<?, ?> configuration(String regionName) {
+        return cacheManager.getCache(regionName).getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -3,9 +3,6 @@ package com.tokioschool.filmapp.services.movie.impl;
 import com.github.javafaker.Faker;
 import com.tokioschool.core.exception.NotFoundException;
 import com.tokioschool.core.exception.ValidacionException;
-import com.tokioschool.filmapp.converter.ArtistListToArtistDtoListConverter;
-import com.tokioschool.filmapp.converter.ArtistToArtistDtoConverter;
-import com.tokioschool.filmapp.converter.UUIDToStringConverter;
 import com.tokioschool.filmapp.domain.Artist;
 import com.tokioschool.filmapp.domain.Movie;
 import com.tokioschool.filmapp.domain.User;
@@ -19,17 +16,24 @@ import com.tokioschool.filmapp.repositories.MovieDao;
 import com.tokioschool.filmapp.repositories.UserDao;
 import com.tokioschool.filmapp.services.artist.impl.ArtistServiceImpl;
 import com.tokioschool.filmapp.services.movie.MovieService;
+import com.tokioschool.filmapp.services.search.SearchService;
+import com.tokioschool.filmapp.services.suggest.SuggestService;
 import com.tokioschool.filmapp.services.user.UserService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.ArrayList;
@@ -52,12 +56,26 @@ class MovieServiceImplUTest {
     @Mock
     private UserService userService;
 
-    @Spy
-    private ModelMapper modelMapper;
+    @Mock
+    private SearchService searchService;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ObjectProvider<SearchService> searchServiceProvider;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ObjectProvider<SuggestService> suggestServiceProvider;
+
+    @Mock
+    private SuggestService suggestService;
 
-    @InjectMocks
     private MovieServiceImpl movieService;
 
+    @BeforeEach
+    void init() {
+        // los dos proveedores tienen el mismo tipo sin genéricos, así que se inyectan a mano
+        movieService = new MovieServiceImpl(movieDao, artistService, userService, searchServiceProvider, suggestServiceProvider);
+    }
+
     private static List<Movie> movies;
 
     @BeforeAll
@@ -91,23 +109,11 @@ class MovieServiceImplUTest {
                 }).toList();
     }
 
-    @BeforeEach
-    public void initEach(){
-        // configuration of mapper
-        this.modelMapper.typeMap(Movie.class, MovieDto.class)
-                .addMappings(mapping -> mapping.using(new ArtistToArtistDtoConverter())
-                        .map(Movie::getManager,MovieDto::setManagerDto))
-                .addMappings(mapping -> mapping.using(new ArtistListToArtistDtoListConverter())
-                        .map(Movie::getArtists,MovieDto::setArtistDtos))
-                .addMappings(mapping -> mapping.using(new UUIDToStringConverter())
-                        .map(Movie::getImage,MovieDto::setResourceId));
-    }
-
 
     @Test
     @Order(1)
     void givenPageGreaterThatMoviesSize_whenSearchMovie_thenReturnPageWithListEmpty() {
-        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        Mockito.when(movieDao.findAll(Mockito.<Specification<Movie>>any(), Mockito.any(Pageable.class))).thenAnswer(pageOf(movies));
 
         SearchMovieRecord searchMovieRecord = SearchMovieRecord.builder()
                 .page(movies.size())
@@ -120,15 +126,12 @@ class MovieServiceImplUTest {
                 .isNotNull()
                 .returns(true,resultMoviePageDTO1 -> resultMoviePageDTO1.getItems().isEmpty());
 
-        Mockito.verify(modelMapper,Mockito.times(0))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
-
     }
 
     @Test
     @Order(2)
     void givenSearchPageOneWithTwoItems_whenSearchMovie_thenReturnPage() {
-        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        Mockito.when(movieDao.findAll(Mockito.<Specification<Movie>>any(), Mockito.any(Pageable.class))).thenAnswer(pageOf(movies));
 
         SearchMovieRecord searchMovieRecord = SearchMovieRecord.builder()
                 .page(1)
@@ -145,14 +148,12 @@ class MovieServiceImplUTest {
                 .returns(searchMovieRecord.page(),PageDTO::getPageNumber)
                 .returns((int) Math.ceil(movies.size()/(double)searchMovieRecord.pageSize()),PageDTO::getTotalPages);
 
-        Mockito.verify(modelMapper,Mockito.times(searchMovieRecord.pageSize()))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
     }
 
     @Test
     @Order(3)
     void givenSearchPageGreaterThatItems_whenSearchMovie_thenReturnPageWitOutItems() {
-        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        Mockito.when(movieDao.findAll(Mockito.<Specification<Movie>>any(), Mockito.any(Pageable.class))).thenAnswer(pageOf(movies));
 
         SearchMovieRecord searchMovieRecord = SearchMovieRecord.builder()
                 .page(8) // overwritten
@@ -168,14 +169,14 @@ class MovieServiceImplUTest {
                 .returns(searchMovieRecord.page(),PageDTO::getPageNumber)
                 .returns((int) Math.ceil(movies.size()/(double)searchMovieRecord.pageSize()),PageDTO::getTotalPages);
 
-        Mockito.verify(modelMapper,Mockito.times(0))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
     }
 
     @Test
     @Order(4)
     void givenSearchByTitle_whenSearchMovie_thenReturnPage() {
-        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        // el filtro por título se aplica en la base de datos
+        Mockito.when(movieDao.findAll(Mockito.<Specification<Movie>>any(), Mockito.any(Pageable.class)))
+                .thenAnswer(pageOf(filterByTitle(movies.getFirst().getTitle())));
 
         SearchMovieRecord searchMovieRecord = SearchMovieRecord.builder()
                 .title(movies.getFirst().getTitle())
@@ -194,14 +195,12 @@ class MovieServiceImplUTest {
                 .returns(searchMovieRecord.page(),PageDTO::getPageNumber)
                 .returns((int) Math.ceil(1/(double)searchMovieRecord.pageSize()),PageDTO::getTotalPages);
 
-        Mockito.verify(modelMapper,Mockito.times(1))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
     }
 
     @Test
     @Order(5)
     void whenSearchMovieWithOutFilter_thenReturnPageDefault() {
-        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        Mockito.when(movieDao.findAll(Mockito.<Specification<Movie>>any(), Mockito.any(Pageable.class))).thenAnswer(pageOf(movies));
 
         PageDTO<MovieDto> resultMoviePageDTO = movieService.searchMovie();
 
@@ -212,14 +211,12 @@ class MovieServiceImplUTest {
                 .returns((int) Math.ceil(movies.size()/(double)MovieService.PAGE_SIZE_DEFAULT),PageDTO::getTotalPages);
 
 
-        Mockito.verify(modelMapper,Mockito.times(resultMoviePageDTO.getPageSize()))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
     }
 
     @Test
     @Order(6)
     void givenSearchWitchPageSizeZero_whenSearchMovie_thenReturnAllItemsInPage() {
-        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        Mockito.when(movieDao.findAll(Mockito.<Specification<Movie>>any(), Mockito.any(Sort.class))).thenReturn(movies);
 
         SearchMovieRecord searchMovieRecord = SearchMovieRecord.builder()
                 .page(0) // overwritten
@@ -236,14 +233,14 @@ class MovieServiceImplUTest {
                 .returns(movies.size(),PageDTO::getPageSize)
                 .returns(1,PageDTO::getTotalPages);
 
-        Mockito.verify(modelMapper,Mockito.times(movies.size()))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
     }
 
     @Test
     @Order(7)
     void givenSearchWitchPageSizeZeroAndFilter_whenSearchMovie_thenReturnAllItemsInPage() {
-        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        // el filtro por título se aplica en la base de datos
+        Mockito.when(movieDao.findAll(Mockito.<Specification<Movie>>any(), Mockito.any(Sort.class)))
+                .thenReturn(filterByTitle("l"));
 
         SearchMovieRecord searchMovieRecord = SearchMovieRecord.builder()
                 .title("l")
@@ -269,15 +266,13 @@ class MovieServiceImplUTest {
                 .returns(maybeMatch,PageDTO::getPageSize)
                 .returns(1,PageDTO::getTotalPages);
 
-        Mockito.verify(modelMapper,Mockito.times(maybeMatch))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
     }
 
 
     @Test
     @Order(8)
     void givenIdNull_whenSearchMovie_thenNotFoundException() {
-        Mockito.when(movieDao.findById(null)).thenThrow(new InvalidDataAccessApiUsageException("Movie don't found in the system"));
+        Mockito.when(movieDao.findDetailById(null)).thenThrow(new InvalidDataAccessApiUsageException("Movie don't found in the system"));
 
         Assertions.assertThatThrownBy(()-> movieService.getMovieById(null))
                 .isInstanceOf(InvalidDataAccessApiUsageException.class);
@@ -297,8 +292,8 @@ class MovieServiceImplUTest {
         Movie movie = new Movie();
         movie.setId(1L);
         movie.setTitle("Test Movie");
-        movie.setManager(new Artist(1L, "Manager", "Surname", TYPE_ARTIST.DIRECTOR));
-        movie.setArtists(List.of(new Artist(2L, "Actor", "Surname", TYPE_ARTIST.ACTOR)));
+        movie.setManager(Artist.builder().id(1L).name("Manager").surname("Surname").typeArtist(TYPE_ARTIST.DIRECTOR).build());
+        movie.setArtists(List.of(Artist.builder().id(2L).name("Actor").surname("Surname").typeArtist(TYPE_ARTIST.ACTOR).build()));
         movie.setReleaseYear(2020);
         movie.setImage(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
@@ -308,14 +303,17 @@ class MovieServiceImplUTest {
         Mockito.when(artistService.findById(2L)).thenReturn(new ArtistDto(2L, "Actor", "Surname", "ACTOR"));
         Mockito.when(userService.getUserById("1L")).thenReturn(User.builder().id("1L").name("test name").surname("test surname").build() );
 
+        Mockito.doReturn(searchService).when(searchServiceProvider).getIfAvailable();
+        Mockito.doReturn(suggestService).when(suggestServiceProvider).getIfAvailable();
+
         MovieDto result = movieService.createMovie(movieDto);
 
         Assertions.assertThat(result).isNotNull()
                 .returns(movieDto.getTitle(), MovieDto::getTitle)
                 .returns(movieDto.getReleaseYear(), MovieDto::getReleaseYear);
 
-        Mockito.verify(modelMapper,Mockito.times(1))
-                .map(Mockito.any(Movie.class),Mockito.eq(MovieDto.class));
+        Mockito.verify(searchService).indexMovie(movie);
+        Mockito.verify(suggestService).indexMovie(movie);
     }
 
     @Test
@@ -342,4 +340,31 @@ class MovieServiceImplUTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Artist not found");
     }
-}
\ No newline at end of file
+
+    /**
+     * Simula la paginación de la base de datos sobre una colección ya filtrada.
+     *
+     * @param source Colección con las películas que cumplen el filtro.
+     * @return Respuesta que devuelve la página pedida de la colección.
+     */
+    private static Answer<Page<Movie>> pageOf(List<Movie> source) {
+        return invocation -> {
+            final Pageable pageable = invocation.getArgument(1);
+            final int start = (int) Math.min(pageable.getOffset(), source.size());
+            final int end = Math.min(start + pageable.getPageSize(), source.size());
+            return new PageImpl<>(source.subList(start, end), pageable, source.size());
+        };
+    }
+
+    /**
+     * Filtra las películas cuyo título contiene un texto, ignorando mayúsculas y minúsculas.
+     *
+     * @param title Texto a buscar.
+     * @return Colección de películas que cumplen el filtro.
+     */
+    private static List<Movie> filterByTitle(String title) {
+        return movies.stream()
+                .filter(movie -> movie.getTitle().toLowerCase().contains(title.toLowerCase()))
+                .toList();
+    }
+}
@@ -0,0 +1,180 @@
+package com.tokioschool.filmapp.services.search.impl;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import com.tokioschool.filmapp.enums.TYPE_ARTIST;
+import com.tokioschool.filmapp.repositories.ArtistDao;
+import com.tokioschool.filmapp.repositories.MovieDao;
+import com.tokioschool.filmapp.services.search.SearchIndexProperty;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneSearchServiceImplUTest {
+
+    @Mock
+    private MovieDao movieDao;
+
+    @Mock
+    private ArtistDao artistDao;
+
+    private LuceneSearchServiceImpl searchService;
+
+    private Artist director;
+    private Artist actor;
+    private Movie matrix;
+    private Movie pelicula;
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2020, 1, 1, 10, 0);
+
+    @BeforeEach
+    void init() throws IOException {
+        searchService = new LuceneSearchServiceImpl(new SearchIndexProperty(null, null, null, null, null),
+                movieDao, artistDao, TransactionOperations.withoutTransaction());
+
+        director = Artist.builder().id(1L).name("Lana").surname("Wachowski").typeArtist(TYPE_ARTIST.DIRECTOR)
+                .updatedAt(UPDATED_AT).build();
+        actor = Artist.builder().id(2L).name("Keanu").surname("Reeves").typeArtist(TYPE_ARTIST.ACTOR)
+                .updatedAt(UPDATED_AT).build();
+
+        matrix = Movie.builder().id(1L).title("The Matrix").releaseYear(1999)
+                .manager(director).artists(new ArrayList<>(List.of(actor))).updatedAt(UPDATED_AT).build();
+        pelicula = Movie.builder().id(2L).title("La película de Matrix").releaseYear(2003)
+                .manager(director).artists(new ArrayList<>()).updatedAt(UPDATED_AT.minusDays(1)).build();
+
+        Mockito.when(movieDao.findAll()).thenReturn(List.of(matrix, pelicula));
+        Mockito.when(artistDao.findAll()).thenReturn(List.of(director, actor));
+        searchService.rebuild();
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        searchService.destroy();
+    }
+
+    @Test
+    void givenExactTitle_whenSearch_thenBestMatchIsFirst() {
+        List<SearchHitDto> hits = searchService.search("the matrix", 0);
+
+        Assertions.assertThat(hits).isNotEmpty()
+                .first()
+                .returns(SearchHitDto.Type.MOVIE, SearchHitDto::getType)
+                .returns(1L, SearchHitDto::getId)
+                .returns(1999, SearchHitDto::getReleaseYear);
+    }
+
+    @Test
+    void givenTypo_whenSearch_thenReturnFuzzyMatches() {
+        List<SearchHitDto> hits = searchService.search("Matirx", 0);
+
+        Assertions.assertThat(hits)
+                .extracting(SearchHitDto::getId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void givenTextWithoutAccents_whenSearch_thenMatchTitleWithAccents() {
+        List<SearchHitDto> hits = searchService.search("pelicula", 0);
+
+        Assertions.assertThat(hits)
+                .extracting(SearchHitDto::getId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void givenCastNameAndYear_whenSearch_thenReturnMovie() {
+        Assertions.assertThat(searchService.search("reeves 1999", 0))
+                .extracting(SearchHitDto::getType, SearchHitDto::getId)
+                .containsExactly(Assertions.tuple(SearchHitDto.Type.MOVIE, 1L));
+    }
+
+    @Test
+    void givenArtistName_whenSearch_thenArtistIsFirst() {
+        Assertions.assertThat(searchService.search("Keanu Reeves", 0))
+                .first()
+                .returns(SearchHitDto.Type.ARTIST, SearchHitDto::getType)
+                .returns(2L, SearchHitDto::getId)
+                .returns("Keanu Reeves", SearchHitDto::getTitle);
+    }
+
+    @Test
+    void givenMovieRenamed_whenIndexMovie_thenReplaceDocument() {
+        matrix.setTitle("Reloaded");
+
+        searchService.indexMovie(matrix);
+
+        Assertions.assertThat(searchService.search("reloaded", 0))
+                .extracting(SearchHitDto::getId)
+                .containsExactly(1L);
+        Assertions.assertThat(searchService.search("the matrix", 0))
+                .extracting(SearchHitDto::getId)
+                .doesNotContain(1L);
+    }
+
+    @Test
+    void givenArtistRenamed_whenIndexArtist_thenReindexMoviesOfArtist() {
+        actor.setSurname("Moss");
+        Mockito.when(movieDao.findMovieByManagerId(2L)).thenReturn(List.of());
+        Mockito.when(movieDao.findMovieByArtistsId(2L)).thenReturn(List.of(matrix));
+
+        searchService.indexArtist(actor);
+
+        Assertions.assertThat(searchService.search("reeves", 0)).isEmpty();
+        Assertions.assertThat(searchService.search("moss", 0))
+                .extracting(SearchHitDto::getType)
+                .containsExactlyInAnyOrder(SearchHitDto.Type.ARTIST, SearchHitDto.Type.MOVIE);
+    }
+
+    @Test
+    void givenBlankQuery_whenSearch_thenReturnEmpty() {
+        Assertions.assertThat(searchService.search("  ", 0)).isEmpty();
+        Assertions.assertThat(searchService.search(null, 0)).isEmpty();
+    }
+
+    @Test
+    void givenMaxResults_whenSearch_thenLimitResults() {
+        Assertions.assertThat(searchService.search("wachowski", 1)).hasSize(1);
+    }
+
+    @Test
+    void givenArtistRenamedInOtherApplication_whenRefresh_thenReindexModifiedDocuments() {
+        actor.setSurname("Moss");
+        actor.setUpdatedAt(UPDATED_AT.plusMinutes(5));
+        // lee los cambios desde la última marca menos el margen por defecto
+        Mockito.when(movieDao.findModifiedSince(UPDATED_AT.minusMinutes(1))).thenReturn(List.of(matrix));
+        Mockito.when(artistDao.findByUpdatedAtGreaterThanEqual(UPDATED_AT.minusMinutes(1))).thenReturn(List.of(actor));
+
+        searchService.refresh();
+
+        Assertions.assertThat(searchService.search("reeves", 0)).isEmpty();
+        Assertions.assertThat(searchService.search("moss", 0))
+                .extracting(SearchHitDto::getType)
+                .containsExactlyInAnyOrder(SearchHitDto.Type.ARTIST, SearchHitDto.Type.MOVIE);
+    }
+
+    @Test
+    void givenRefreshedChanges_whenRefresh_thenReadChangesFromNewWatermark() {
+        actor.setUpdatedAt(UPDATED_AT.plusMinutes(5));
+        Mockito.when(movieDao.findModifiedSince(UPDATED_AT.minusMinutes(1))).thenReturn(List.of(matrix));
+        Mockito.when(artistDao.findByUpdatedAtGreaterThanEqual(UPDATED_AT.minusMinutes(1))).thenReturn(List.of(actor));
+        searchService.refresh();
+
+        searchService.refresh();
+
+        Mockito.verify(movieDao).findModifiedSince(UPDATED_AT.plusMinutes(4));
+        Mockito.verify(artistDao).findByUpdatedAtGreaterThanEqual(UPDATED_AT.plusMinutes(4));
+    }
+}
@@ -0,0 +1,213 @@
+package com.tokioschool.filmapp.services.suggest.impl;
+
+import com.tokioschool.filmapp.domain.Artist;
+import com.tokioschool.filmapp.domain.Movie;
+import com.tokioschool.filmapp.dto.search.SearchHitDto;
+import com.tokioschool.filmapp.dto.suggest.SuggestionDto;
+import com.tokioschool.filmapp.enums.TYPE_ARTIST;
+import com.tokioschool.filmapp.records.RatingCount;
+import com.tokioschool.filmapp.repositories.ArtistDao;
+import com.tokioschool.filmapp.repositories.MovieDao;
+import com.tokioschool.filmapp.repositories.RatingFilmDao;
+import com.tokioschool.filmapp.services.suggest.SuggestIndexProperty;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class PrefixSuggestServiceImplUTest {
+
+    @Mock
+    private MovieDao movieDao;
+
+    @Mock
+    private ArtistDao artistDao;
+
+    @Mock
+    private RatingFilmDao ratingFilmDao;
+
+    private PrefixSuggestServiceImpl suggestService;
+
+    private Artist director;
+    private Artist actor;
+    private Movie matrix;
+    private Movie reloaded;
+    private Movie mask;
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2020, 1, 1, 10, 0);
+
+    @BeforeEach
+    void init() {
+        suggestService = new PrefixSuggestServiceImpl(new SuggestIndexProperty(null, null, null, null),
+                movieDao, artistDao, ratingFilmDao, TransactionOperations.withoutTransaction());
+
+        director = Artist.builder().id(1L).name("Lana").surname("Wachowski").typeArtist(TYPE_ARTIST.DIRECTOR).build();
+        actor = Artist.builder().id(2L).name("Keanu").surname("Reeves").typeArtist(TYPE_ARTIST.ACTOR).build();
+
+        matrix = Movie.builder().id(1L).title("The Matrix").releaseYear(1999)
+                .manager(director).artists(new ArrayList<>(List.of(actor))).updatedAt(UPDATED_AT).build();
+        reloaded = Movie.builder().id(2L).title("Matrix Reloaded").releaseYear(2003)
+                .manager(director).artists(new ArrayList<>(List.of(actor))).build();
+        mask = Movie.builder().id(3L).title("La máscara").releaseYear(1994)
+                .artists(new ArrayList<>()).build();
+
+        Mockito.when(movieDao.findAll()).thenReturn(List.of(matrix, reloaded, mask));
+        Mockito.when(artistDao.findAll()).thenReturn(List.of(director, actor));
+        Mockito.when(ratingFilmDao.countRatingsGroupByFilmId())
+                .thenReturn(List.of(new RatingCount(1L, 2L), new RatingCount(2L, 5L)));
+        suggestService.rebuild();
+    }
+
+    @Test
+    void givenPrefixOfAnyWord_whenSuggest_thenRankByRatings() {
+        Assertions.assertThat(suggestService.suggest("Mat", null, 0))
+                .extracting(SuggestionDto::getId, SuggestionDto::getPopularity)
+                .containsExactly(Assertions.tuple(2L, 5L), Assertions.tuple(1L, 2L));
+    }
+
+    @Test
+    void givenPrefixWithoutAccents_whenSuggest_thenMatchTitleWithAccents() {
+        Assertions.assertThat(suggestService.suggest("masc", null, 0))
+                .singleElement()
+                .returns(3L, SuggestionDto::getId)
+                .returns("La máscara", SuggestionDto::getLabel)
+                .returns(1994, SuggestionDto::getReleaseYear);
+    }
+
+    @Test
+    void givenSeveralWords_whenSuggest_thenMatchFromWordStart() {
+        Assertions.assertThat(suggestService.suggest("the mat", null, 0))
+                .extracting(SuggestionDto::getId)
+                .containsExactly(1L);
+        Assertions.assertThat(suggestService.suggest("atrix", null, 0)).isEmpty();
+    }
+
+    @Test
+    void givenArtist_whenSuggest_thenPopularityIsSumOfMovieRatings() {
+        Assertions.assertThat(suggestService.suggest("ke", SearchHitDto.Type.ARTIST, 0))
+                .singleElement()
+                .returns(2L, SuggestionDto::getId)
+                .returns("Keanu Reeves", SuggestionDto::getLabel)
+                .returns(7L, SuggestionDto::getPopularity);
+    }
+
+    @Test
+    void givenType_whenSuggest_thenReturnOnlyThatType() {
+        Assertions.assertThat(suggestService.suggest("ma", SearchHitDto.Type.ARTIST, 0)).isEmpty();
+        Assertions.assertThat(suggestService.suggest("ma", SearchHitDto.Type.MOVIE, 0)).hasSize(3);
+    }
+
+    @Test
+    void givenMaxResults_whenSuggest_thenReturnMostPopular() {
+        Assertions.assertThat(suggestService.suggest("m", null, 1))
+                .extracting(SuggestionDto::getId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void givenMovieRenamed_whenIndexMovie_thenReplaceKeys() {
+        matrix.setTitle("Speed");
+
+        suggestService.indexMovie(matrix);
+
+        Assertions.assertThat(suggestService.suggest("the", null, 0)).isEmpty();
+        Assertions.assertThat(suggestService.suggest("spe", null, 0))
+                .extracting(SuggestionDto::getId, SuggestionDto::getPopularity)
+                .containsExactly(Assertions.tuple(1L, 2L));
+    }
+
+    @Test
+    void givenCastChanged_whenIndexMovie_thenUpdateArtistPopularity() {
+        matrix.setArtists(new ArrayList<>());
+
+        suggestService.indexMovie(matrix);
+
+        Assertions.assertThat(suggestService.suggest("reeves", null, 0))
+                .extracting(SuggestionDto::getPopularity)
+                .containsExactly(5L);
+    }
+
+    @Test
+    void givenNewArtist_whenIndexArtist_thenSuggestArtist() {
+        suggestService.indexArtist(Artist.builder().id(3L).name("Carrie-Anne").surname("Moss").typeArtist(TYPE_ARTIST.ACTOR).build());
+
+        Assertions.assertThat(suggestService.suggest("anne", null, 0))
+                .extracting(SuggestionDto::getType, SuggestionDto::getId)
+                .containsExactly(Assertions.tuple(SearchHitDto.Type.ARTIST, 3L));
+    }
+
+    @Test
+    void givenNewRatings_whenRefreshPopularity_thenReorderSuggestions() {
+        Mockito.when(ratingFilmDao.countRatingsGroupByFilmId())
+                .thenReturn(List.of(new RatingCount(1L, 9L)));
+
+        suggestService.refreshPopularity();
+
+        Assertions.assertThat(suggestService.suggest("matrix", null, 0))
+                .extracting(SuggestionDto::getId)
+                .containsExactly(1L, 2L);
+        Assertions.assertThat(suggestService.suggest("reeves", null, 0))
+                .extracting(SuggestionDto::getPopularity)
+                .containsExactly(9L);
+    }
+
+    @Test
+    void givenBlankPrefix_whenSuggest_thenReturnEmpty() {
+        Assertions.assertThat(suggestService.suggest(" - ", null, 0)).isEmpty();
+        Assertions.assertThat(suggestService.suggest(null, null, 0)).isEmpty();
+    }
+
+    @Test
+    void givenMaxResultsOverLimit_whenSuggest_thenClampToLimit() {
+        Assertions.assertThat(suggestService.suggest("m", null, Integer.MAX_VALUE))
+                .extracting(SuggestionDto::getId)
+                .containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void givenManyMoviesWithPrefix_whenSuggest_thenReturnMostPopularOfAll() {
+        final List<Movie> movies = new ArrayList<>();
+        final List<RatingCount> ratingCounts = new ArrayList<>();
+        for (long id = 10; id < 200; id++) {
+            movies.add(Movie.builder().id(id).title("Movie %d".formatted(id)).artists(new ArrayList<>()).build());
+            ratingCounts.add(new RatingCount(id, (id * 37) % 101));
+        }
+        Mockito.when(movieDao.findAll()).thenReturn(movies);
+        Mockito.when(ratingFilmDao.countRatingsGroupByFilmId()).thenReturn(ratingCounts);
+        suggestService.rebuild();
+
+        final List<Long> expected = ratingCounts.stream()
+                .sorted((left, right) -> Long.compare(right.ratings(), left.ratings()))
+                .limit(5)
+                .map(RatingCount::ratings)
+                .toList();
+        Assertions.assertThat(suggestService.suggest("mo", SearchHitDto.Type.MOVIE, 5))
+                .extracting(SuggestionDto::getPopularity)
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void givenMovieRenamedInOtherApplication_whenRefresh_thenReplaceKeys() {
+        matrix.setTitle("Speed");
+        matrix.setUpdatedAt(UPDATED_AT.plusMinutes(5));
+        // lee los cambios desde la última marca menos el margen por defecto
+        Mockito.when(movieDao.findModifiedSince(UPDATED_AT.minusMinutes(1))).thenReturn(List.of(matrix));
+        Mockito.when(artistDao.findByUpdatedAtGreaterThanEqual(UPDATED_AT.minusMinutes(1))).thenReturn(List.of());
+
+        suggestService.refresh();
+
+        Assertions.assertThat(suggestService.suggest("the", null, 0)).isEmpty();
+        Assertions.assertThat(suggestService.suggest("spe", null, 0))
+                .extracting(SuggestionDto::getId, SuggestionDto::getPopularity)
+                .containsExactly(Assertions.tuple(1L, 2L));
+    }
+}
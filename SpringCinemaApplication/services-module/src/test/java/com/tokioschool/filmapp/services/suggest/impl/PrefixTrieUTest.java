@@ -0,0 +1,59 @@
+package com.tokioschool.filmapp.services.suggest.impl;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class PrefixTrieUTest {
+
+    /** De mayor a menor identificador, para que el orden sea fácil de comprobar **/
+    private static final PrefixTrie.PostingOrder DESCENDING = (left, right) -> Long.compare(right, left);
+
+    private PrefixTrie prefixTrie;
+
+    @BeforeEach
+    void init() {
+        prefixTrie = new PrefixTrie(3);
+        prefixTrie.add("matrix", 1L);
+        prefixTrie.add("matrix reloaded", 2L);
+        prefixTrie.add("reloaded", 2L);
+        prefixTrie.add("mask", 3L);
+        prefixTrie.add("mama mia", 4L);
+        prefixTrie.add("mia", 4L);
+        prefixTrie.add("speed", 5L);
+        prefixTrie.updateAllTops(DESCENDING);
+    }
+
+    @Test
+    void givenPrefix_whenTop_thenReturnBestPostingsUpToTopSize() {
+        Assertions.assertThat(prefixTrie.top("m")).containsExactly(4L, 3L, 2L);
+        Assertions.assertThat(prefixTrie.top("mat")).containsExactly(2L, 1L);
+        Assertions.assertThat(prefixTrie.top("x")).isEmpty();
+    }
+
+    @Test
+    void givenPostingUnderSeveralKeys_whenTop_thenReturnItOnce() {
+        prefixTrie.add("mama", 4L);
+        prefixTrie.updateTops(List.of("mama"), DESCENDING);
+
+        Assertions.assertThat(prefixTrie.top("ma")).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    void givenRemovedKey_whenUpdateTops_thenRemoveFromAncestors() {
+        prefixTrie.remove("mama mia", 4L);
+        prefixTrie.remove("mia", 4L);
+        prefixTrie.updateTops(List.of("mama mia", "mia"), DESCENDING);
+
+        Assertions.assertThat(prefixTrie.top("m")).containsExactly(3L, 2L, 1L);
+        Assertions.assertThat(prefixTrie.top("mam")).isEmpty();
+    }
+
+    @Test
+    void givenSortedLists_whenMerge_thenReturnBestDistinct() {
+        Assertions.assertThat(PrefixTrie.merge(new long[][]{{9L, 5L, 1L}, {9L, 7L}, {}}, 3, DESCENDING))
+                .containsExactly(9L, 7L, 5L);
+    }
+}
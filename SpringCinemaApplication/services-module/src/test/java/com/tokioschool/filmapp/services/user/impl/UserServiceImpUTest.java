@@ -19,9 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
@@ -58,9 +56,6 @@ class UserServiceImpUTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
-    @Spy
-    private ModelMapper  modelMapper;
-
     private static final Faker faker = new Faker();
     private static  List<User> users;
 
@@ -92,8 +87,6 @@ class UserServiceImpUTest {
 
         Optional<Pair<UserDto,String>> maybePairUserDTOPwd = userService.findUserAndPasswordByEmail(users.getFirst().getEmail());
 
-        Mockito.verify(modelMapper,Mockito.times(1)).map(users.getFirst(), UserDto.class);
-
         userService.findUserAndPasswordByEmail(users.getFirst().getEmail());
 
         assertThat(maybePairUserDTOPwd).isPresent()
@@ -114,8 +107,6 @@ class UserServiceImpUTest {
 
         Optional<Pair<UserDto,String>> maybePairUserDTOPwd = userService.findUserAndPasswordByEmail(users.getFirst().getUsername());
 
-        Mockito.verify(modelMapper,Mockito.times(1)).map(users.getFirst(), UserDto.class);
-
         userService.findUserAndPasswordByEmail(users.getFirst().getUsername());
 
         assertThat(maybePairUserDTOPwd).isPresent()
@@ -156,8 +147,6 @@ class UserServiceImpUTest {
 
         Optional<UserDto> maybeUserDTO = userService.findByEmail(users.getFirst().getEmail());
 
-        Mockito.verify(modelMapper, Mockito.times(1)).map(users.getFirst(), UserDto.class);
-
         assertThat(maybeUserDTO).isPresent().get()
                 .returns(users.getFirst().getEmail(), UserDto::getEmail)
                 .returns(users.getFirst().getName(), UserDto::getName)
@@ -203,7 +192,6 @@ class UserServiceImpUTest {
         UserDto reusltUserDto = userService.registerUser(userFormDTO);
 
         // Assertions
-        Mockito.verify(modelMapper,Mockito.times(1)).map(user, UserDto.class);
 
         assertThat(reusltUserDto).isNotNull()
                 .returns(userFormDTO.getName(), UserDto::getName)
@@ -404,7 +392,6 @@ class UserServiceImpUTest {
         SearchUserRecord searchUserRecord = new SearchUserRecord("username", "surname", "name", "email@example.com");
         User user = new User();
         when(userDao.findAll(any(Specification.class))).thenReturn(List.of(user));
-        when(modelMapper.map(user, UserDto.class)).thenReturn(new UserDto());
 
         PageDTO<UserDto> result = userService.searchUsers(0, 10, searchUserRecord);
 
@@ -1,24 +1,36 @@
 package com.tokioschool.storeapp.configuration;
 
+import com.tokioschool.storeapp.configuration.properties.ContentCacheConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.ImageDerivativeConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.SegmentConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StorageConfigurationProperties;
 import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Clase de configuración principal para la aplicación de la tienda.
  *
  * Esta clase se encarga de habilitar las propiedades de configuración definidas
- * en {@link StoreConfigurationProperties} mediante la anotación {@link EnableConfigurationProperties}.
+ * en {@link StoreConfigurationProperties}, {@link ContentCacheConfigurationProperties},
+ * {@link SegmentConfigurationProperties}, {@link StorageConfigurationProperties} y {@link ImageDerivativeConfigurationProperties}
+ * mediante la anotación {@link EnableConfigurationProperties}.
  *
  * Anotaciones:
  * - {@link Configuration}: Marca esta clase como una clase de configuración de Spring.
  * - {@link EnableConfigurationProperties}: Habilita el soporte para las propiedades de configuración
- *   especificadas en la clase {@link StoreConfigurationProperties}.
+ *   especificadas en las clases {@link StoreConfigurationProperties}, {@link ContentCacheConfigurationProperties},
+ *   {@link SegmentConfigurationProperties}, {@link StorageConfigurationProperties} y {@link ImageDerivativeConfigurationProperties}.
+ * - {@link EnableScheduling}: Habilita las tareas programadas en segundo plano, como la compactación
+ *   del diario de metadatos y de los segmentos.
  *
  * @author andres.rpenuela
  * @version 1.0
  */
 @Configuration
-@EnableConfigurationProperties(value = StoreConfigurationProperties.class)
+@EnableConfigurationProperties(value = {StoreConfigurationProperties.class, ContentCacheConfigurationProperties.class,
+        SegmentConfigurationProperties.class, StorageConfigurationProperties.class, ImageDerivativeConfigurationProperties.class})
+@EnableScheduling
 public class StoreConfig {
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.tokioschool.storeapp.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propiedades de configuración de la caché de contenido de los recursos.
+ *
+ * Se cargan desde la configuración de la aplicación con el prefijo `application.store.cache`.
+ *
+ * @param enabled Indica si la caché está activa.
+ * @param maxSize Presupuesto total en bytes del contenido cacheado.
+ * @param maxEntrySize Tamaño máximo de un recurso para poder cachearse.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.store.cache")
+public record ContentCacheConfigurationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64MB") DataSize maxSize,
+        @DefaultValue("2MB") DataSize maxEntrySize) {
+}
@@ -0,0 +1,20 @@
+package com.tokioschool.storeapp.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de configuración de las variantes de imagen.
+ *
+ * Se cargan desde la configuración de la aplicación con el prefijo `application.store.derivatives`.
+ *
+ * @param maxPixels Número máximo de píxeles (ancho por alto) de una imagen original para generar sus variantes;
+ *                  las imágenes mayores se rechazan sin decodificarlas.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.store.derivatives")
+public record ImageDerivativeConfigurationProperties(
+        @DefaultValue("40000000") long maxPixels) {
+}
@@ -0,0 +1,25 @@
+package com.tokioschool.storeapp.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propiedades de configuración del motor de almacenamiento por segmentos.
+ *
+ * Se cargan desde la configuración de la aplicación con el prefijo `application.store.segment`,
+ * y solo se usan cuando `application.store.engine` es `segment`.
+ *
+ * @param segmentSize Tamaño a partir del cual se cierra el segmento activo y se abre uno nuevo.
+ * @param compactionThreshold Proporción de bytes borrados de un segmento a partir de la cual se compacta.
+ * @param maxObjectSize Tamaño máximo del contenido de un recurso; los recursos mayores no se guardan en un segmento.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.store.segment")
+public record SegmentConfigurationProperties(
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("0.5") double compactionThreshold,
+        @DefaultValue("4MB") DataSize maxObjectSize) {
+}
@@ -0,0 +1,36 @@
+package com.tokioschool.storeapp.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de configuración del backend en el que se guarda el contenido de los recursos.
+ *
+ * Se cargan desde la configuración de la aplicación con el prefijo `application.store.storage`,
+ * y solo se usan cuando `application.store.engine` es `file`.
+ *
+ * @param backend Backend de almacenamiento del contenido.
+ * @param maxMappedFiles Número máximo de ficheros proyectados en memoria a la vez (backend `mmap`).
+ * @param offHeap Si el backend `memory` guarda el contenido fuera del heap (buffers directos).
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "application.store.storage")
+public record StorageConfigurationProperties(
+        @DefaultValue("filesystem") Backend backend,
+        @DefaultValue("1024") int maxMappedFiles,
+        @DefaultValue("false") boolean offHeap) {
+
+    /**
+     * Backends de almacenamiento del contenido.
+     */
+    public enum Backend {
+        /** Un fichero por contenido en el directorio de trabajo. */
+        FILESYSTEM,
+        /** Igual que {@link #FILESYSTEM}, pero las lecturas se hacen sobre ficheros proyectados en memoria. */
+        MMAP,
+        /** En memoria, sin persistencia; pensado para pruebas y capas calientes. */
+        MEMORY
+    }
+}
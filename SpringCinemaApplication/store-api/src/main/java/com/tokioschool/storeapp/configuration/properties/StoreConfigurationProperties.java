@@ -2,9 +2,13 @@ package com.tokioschool.storeapp.configuration.properties;
 
 import com.tokioschool.storeapp.core.helper.FileHelper;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 import java.nio.file.Path;
+import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Clase de configuración de propiedades para la tienda.
@@ -13,14 +17,53 @@ import java.nio.file.Path;
  * definidas en el archivo de configuración de la aplicación con el prefijo "application.store".
  * Proporciona métodos para construir rutas de recursos basadas en las propiedades configuradas.
  *
+ * Los recursos se distribuyen en un directorio fragmentado (sharding) de dos niveles derivado
+ * del UUID del recurso, por ejemplo {@code <relativePath>/3f/a9/3fa9c1d2-...}, de forma que su
+ * ruta se resuelve directamente sin recorrer el directorio de trabajo.
+ *
+ * El contenido se guarda direccionado por su hash SHA-256 en {@code <relativePath>/blobs}, con el mismo
+ * esquema de fragmentación, y las subidas se escriben primero en {@code <relativePath>/tmp}.
+ *
+ * El motor de almacenamiento se elige con `application.store.engine`: {@link StorageEngine#FILE} (por defecto)
+ * guarda cada recurso en sus propios ficheros, y {@link StorageEngine#SEGMENT} los añade a ficheros de
+ * segmento en {@code <relativePath>/segments}.
+ *
  * @param absolutePath Ruta absoluta configurada en las propiedades.
  * @param relativePath Ruta relativa configurada en las propiedades.
+ * @param engine Motor de almacenamiento de los recursos, {@link StorageEngine#FILE} si no se indica.
  *
  * @author andres.rpenuela
  * @version 1.0
  */
 @ConfigurationProperties(prefix = "application.store")
-public record StoreConfigurationProperties(Path absolutePath, String relativePath) {
+public record StoreConfigurationProperties(Path absolutePath, String relativePath, StorageEngine engine) {
+
+    public static final String BLOBS_DIRECTORY = "blobs";
+    public static final String TEMPORAL_DIRECTORY = "tmp";
+    public static final String METADATA_JOURNAL = "metadata.journal";
+    public static final String SEGMENTS_DIRECTORY = "segments";
+    public static final String DERIVATIVES_EXTENSION = ".derivatives";
+
+    /**
+     * Motores de almacenamiento de los recursos.
+     */
+    public enum StorageEngine {
+        /** Un fichero de descripción por recurso y el contenido en blobs direccionados por hash. */
+        FILE,
+        /** Recursos añadidos a ficheros de segmento, con un índice de desplazamientos en memoria. */
+        SEGMENT
+    }
+
+    @ConstructorBinding
+    public StoreConfigurationProperties(Path absolutePath, String relativePath, @Nullable StorageEngine engine) {
+        this.absolutePath = absolutePath;
+        this.relativePath = relativePath;
+        this.engine = Objects.requireNonNullElse(engine, StorageEngine.FILE);
+    }
+
+    public StoreConfigurationProperties(Path absolutePath, String relativePath) {
+        this(absolutePath, relativePath, StorageEngine.FILE);
+    }
 
     /**
      * Construye la ruta de recursos a partir de la ruta relativa configurada en las propiedades.
@@ -54,4 +97,93 @@ public record StoreConfigurationProperties(Path absolutePath, String relativePat
     public Path getResourcePathFromRelativePathGivenNameResource(@Nonnull String nameResource) {
         return buildResourcePathFromRelativePathGivenNameResource().resolve(nameResource);
     }
-}
\ No newline at end of file
+
+    /**
+     * Obtiene el directorio fragmentado (shard) en el que se aloja un recurso.
+     *
+     * El directorio se deriva de los cuatro primeros caracteres hexadecimales del UUID,
+     * con dos niveles de 256 entradas cada uno.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return La ruta del directorio fragmentado como un objeto {@link Path}.
+     */
+    public Path getShardPathGivenResourceId(@Nonnull UUID resourceId) {
+        final String id = resourceId.toString();
+        return buildResourcePathFromRelativePathGivenNameResource()
+                .resolve(id.substring(0, 2))
+                .resolve(id.substring(2, 4));
+    }
+
+    /**
+     * Obtiene la ruta del contenido de un recurso dentro de su directorio fragmentado.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return La ruta del contenido como un objeto {@link Path}.
+     */
+    public Path getResourceContentPathGivenResourceId(@Nonnull UUID resourceId) {
+        return getShardPathGivenResourceId(resourceId).resolve(resourceId.toString());
+    }
+
+    /**
+     * Obtiene la ruta del fichero de descripción (json) de un recurso dentro de su directorio fragmentado.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return La ruta de la descripción como un objeto {@link Path}.
+     */
+    public Path getResourceDescriptionPathGivenResourceId(@Nonnull UUID resourceId) {
+        return getShardPathGivenResourceId(resourceId).resolve("%s.json".formatted(resourceId));
+    }
+
+    /**
+     * Obtiene el directorio de las variantes de imagen de un recurso, junto a su descripción.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return La ruta del directorio de variantes como un objeto {@link Path}.
+     */
+    public Path getDerivativesPathGivenResourceId(@Nonnull UUID resourceId) {
+        return getShardPathGivenResourceId(resourceId).resolve(resourceId + DERIVATIVES_EXTENSION);
+    }
+
+    /**
+     * Obtiene la ruta de un contenido direccionado por su hash (blob), dentro de su directorio fragmentado.
+     *
+     * @param contentHash Hash SHA-256 del contenido, en hexadecimal.
+     * @return La ruta del blob como un objeto {@link Path}.
+     */
+    public Path getBlobPathGivenContentHash(@Nonnull String contentHash) {
+        return buildResourcePathFromRelativePathGivenNameResource()
+                .resolve(BLOBS_DIRECTORY)
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    /**
+     * Obtiene el directorio temporal en el que se escriben las subidas antes de moverlas a su blob.
+     *
+     * Está dentro del directorio de trabajo para que el movimiento final sea atómico.
+     *
+     * @return La ruta del directorio temporal como un objeto {@link Path}.
+     */
+    public Path buildTemporalPath() {
+        return buildResourcePathFromRelativePathGivenNameResource().resolve(TEMPORAL_DIRECTORY);
+    }
+
+    /**
+     * Obtiene la ruta del diario (journal) de metadatos de los recursos.
+     *
+     * @return La ruta del diario como un objeto {@link Path}.
+     */
+    public Path getMetadataJournalPath() {
+        return buildResourcePathFromRelativePathGivenNameResource().resolve(METADATA_JOURNAL);
+    }
+
+    /**
+     * Obtiene el directorio de los ficheros de segmento.
+     *
+     * @return La ruta del directorio de segmentos como un objeto {@link Path}.
+     */
+    public Path getSegmentsPath() {
+        return buildResourcePathFromRelativePathGivenNameResource().resolve(SEGMENTS_DIRECTORY);
+    }
+}
@@ -2,8 +2,13 @@ package com.tokioschool.storeapp.controller;
 
 import com.tokioschool.storeapp.core.exception.InternalErrorException;
 import com.tokioschool.storeapp.core.exception.NotFoundException;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
+import com.tokioschool.storeapp.dto.store.ResourceBatchDto;
+import com.tokioschool.storeapp.dto.store.ResourceBatchRequestDto;
 import com.tokioschool.storeapp.dto.store.ResourceContentDto;
 import com.tokioschool.storeapp.dto.store.ResourceIdDto;
+import com.tokioschool.storeapp.service.ImageDerivativeService;
 import com.tokioschool.storeapp.service.StoreService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,24 +16,48 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Controlador para operaciones relacionadas con los recursos de la tienda.
  *
  * Este controlador proporciona endpoints para gestionar recursos, incluyendo
- * obtener, crear y eliminar recursos.
+ * obtener (en JSON, en binario por streaming o como variante redimensionada de una imagen),
+ * obtener varios recursos en una sola petición, crear y eliminar recursos.
+ *
+ * Los recursos no cambian una vez creados (una actualización crea un recurso nuevo), por lo que sus
+ * respuestas llevan un ETag fuerte basado en el resumen del contenido y se pueden cachear como inmutables.
+ * Las peticiones condicionales con `If-None-Match` o `If-Modified-Since` se responden con 304 (NOT MODIFIED).
  *
  * @author andres.rpenuela
  * @version 1.0
@@ -39,13 +68,27 @@ import java.util.UUID;
 @Tag(name = "store", description = "Operaciones relacionadas con los recursos de la tienda")
 public class StoreApiController {
 
+    public static final String HEADER_RESOURCE_ID = "X-Resource-Id";
+    public static final String HEADER_RESOURCE_NAME = "X-Resource-Name";
+    public static final String HEADER_RESOURCE_DESCRIPTION = "X-Resource-Description";
+    public static final String HEADER_RESOURCE_SIZE = "X-Resource-Size";
+    public static final String HEADER_RESOURCES_NOT_FOUND = "X-Resources-Not-Found";
+    public static final String HEADER_CONTENT_ID = "Content-ID";
+
+    private static final CacheControl RESOURCE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePrivate()
+            .immutable();
+
     private final StoreService storeService;
+    private final ImageDerivativeService imageDerivativeService;
 
     /**
      * Endpoint para obtener un recurso por su ID.
      *
      * @param resourceId ID del recurso a obtener.
-     * @return Una respuesta HTTP con el contenido del recurso y un código de estado 200 (OK).
+     * @param requestHeaders Cabeceras de la petición, para evaluar `If-None-Match`.
+     * @return Una respuesta HTTP con el contenido del recurso y un código de estado 200 (OK),
+     * o 304 (NOT MODIFIED) si el cliente ya tiene esa versión, que se comprueba sin leer el contenido.
      * @throws NotFoundException Si el recurso no se encuentra.
      */
     @Operation(
@@ -57,6 +100,10 @@ public class StoreApiController {
                             description = "Recurso obtenido exitosamente",
                             content = @Content(schema = @Schema(implementation = ResourceContentDto.class))
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "El recurso no ha cambiado"
+                    ),
                     @ApiResponse(
                             responseCode = "401",
                             description = "Operación no autorizada",
@@ -78,12 +125,297 @@ public class StoreApiController {
     @GetMapping(value = "/{resourceId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ResourceContentDto> getResourceHandler(
-            @NotNull @PathVariable UUID resourceId) {
+            @NotNull @PathVariable UUID resourceId,
+            @RequestHeader HttpHeaders requestHeaders) {
+
+        // Una petición condicional se evalúa con los metadatos, sin leer el contenido
+        if (requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            final ResourceStream resourceStream = storeService.findResourceStream(resourceId)
+                    .orElseThrow(() -> new NotFoundException("Resource with id: %s not found!".formatted(resourceId)));
+            final String eTag = buildEntityTag(resourceId, resourceStream.getResourceDescription().getContentHash());
+            if (isNotModified(requestHeaders, eTag, null)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(RESOURCE_CACHE_CONTROL).build();
+            }
+        }
 
         ResourceContentDto resourceContentDto = storeService.findResource(resourceId)
                 .orElseThrow(() -> new NotFoundException("Resource with id: %s not found!".formatted(resourceId)));
 
-        return ResponseEntity.ok(resourceContentDto);
+        final String eTag = buildEntityTag(resourceId, resourceContentDto.contentHash());
+        return ResponseEntity.ok().eTag(eTag).cacheControl(RESOURCE_CACHE_CONTROL).body(resourceContentDto);
+    }
+
+    /**
+     * Endpoint para obtener el contenido binario de un recurso por su ID.
+     *
+     * El contenido se sirve en streaming directamente desde el almacenamiento, sin cargarlo en memoria
+     * ni codificarlo en base64. Soporta peticiones parciales mediante las cabeceras `Range` e `If-Range`
+     * (206 Partial Content), y devuelve los metadatos del recurso como cabeceras de la respuesta.
+     * Con `If-None-Match` o `If-Modified-Since` responde 304 (NOT MODIFIED) sin leer el contenido.
+     *
+     * @param resourceId ID del recurso a obtener.
+     * @param requestHeaders Cabeceras de la petición, para evaluar `Range`, `If-Range` y las condiciones de caché.
+     * @return Una respuesta HTTP con el contenido del recurso y un código de estado 200 (OK) o 206 (PARTIAL CONTENT).
+     * @throws NotFoundException Si el recurso no se encuentra.
+     */
+    @Operation(
+            summary = "Obtener el contenido binario de un recurso por ID",
+            description = "Este endpoint permite descargar el contenido de un recurso en streaming, con soporte de rangos.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Contenido del recurso obtenido exitosamente"
+                    ),
+                    @ApiResponse(
+                            responseCode = "206",
+                            description = "Rango del contenido del recurso obtenido exitosamente"
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Operación no autorizada",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Recurso no encontrado",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "El recurso no ha cambiado"
+                    ),
+                    @ApiResponse(
+                            responseCode = "416",
+                            description = "Rango solicitado no satisfacible"
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @GetMapping(value = "/{resourceId}/content")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Resource> getResourceContentHandler(
+            @NotNull @PathVariable UUID resourceId,
+            @RequestHeader HttpHeaders requestHeaders) {
+
+        final ResourceStream resourceStream = storeService.findResourceStream(resourceId)
+                .orElseThrow(() -> new NotFoundException("Resource with id: %s not found!".formatted(resourceId)));
+        final String eTag = buildEntityTag(resourceId, resourceStream.getResourceDescription().getContentHash());
+
+        return buildResourceContentResponse(resourceId, resourceStream, eTag, requestHeaders);
+    }
+
+    /**
+     * Endpoint para obtener una variante redimensionada de un recurso de tipo imagen.
+     *
+     * La variante se genera la primera vez que se pide y queda guardada en disco junto al original,
+     * por lo que las siguientes peticiones se sirven en streaming igual que el contenido original.
+     * Está pensado para las miniaturas de los listados, que no necesitan la imagen a tamaño completo.
+     *
+     * El ETag de la variante no depende de su contenido, por lo que `If-None-Match` se evalúa antes de
+     * buscarla: una respuesta 304 solo comprueba que el original existe y nunca genera la variante.
+     *
+     * @param resourceId ID del recurso original.
+     * @param width Ancho máximo de la variante, en píxeles.
+     * @param format Formato de la variante (por ejemplo `jpeg` o `png`), opcional.
+     * @param requestHeaders Cabeceras de la petición, para evaluar las cabeceras condicionales, `Range` e `If-Range`.
+     * @return Una respuesta HTTP con el contenido de la variante y un código de estado 200 (OK) o 206 (PARTIAL CONTENT),
+     * o sin contenido y un código de estado 304 (NOT MODIFIED) si el cliente ya tiene esa variante.
+     * @throws NotFoundException Si el recurso no se encuentra.
+     */
+    @Operation(
+            summary = "Obtener una variante redimensionada de una imagen por ID",
+            description = "Este endpoint permite descargar una miniatura de un recurso de tipo imagen, por ejemplo ?w=200&format=jpeg.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Variante del recurso obtenida exitosamente"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Ancho o formato no válidos, o el recurso no es una imagen",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Operación no autorizada",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Recurso no encontrado",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @GetMapping(value = "/{resourceId}/content", params = "w")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Resource> getResourceDerivativeHandler(
+            @NotNull @PathVariable UUID resourceId,
+            @RequestParam("w") int width,
+            @Nullable @RequestParam(value = "format", required = false) String format,
+            @RequestHeader HttpHeaders requestHeaders) {
+
+        // La variante depende solo del original, que no cambia, del ancho y del formato pedidos
+        final String eTag = "\"%s-w%d-%s\"".formatted(resourceId, width,
+                Optional.ofNullable(format).map(value -> value.toLowerCase(Locale.ROOT)).orElse("original"));
+        if (requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH) && isNotModified(requestHeaders, eTag, null)) {
+            // con las mismas validaciones que la petición sin condición: un recurso que no es una imagen no tiene variantes
+            imageDerivativeService.findImageOriginal(resourceId, width, format)
+                    .orElseThrow(() -> new NotFoundException("Resource with id: %s not found!".formatted(resourceId)));
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(RESOURCE_CACHE_CONTROL)
+                    .build();
+        }
+
+        final ResourceStream resourceStream = imageDerivativeService.findImageDerivative(resourceId, width, format)
+                .orElseThrow(() -> new NotFoundException("Resource with id: %s not found!".formatted(resourceId)));
+
+        return buildResourceContentResponse(resourceId, resourceStream, eTag, requestHeaders);
+    }
+
+    /**
+     * Construye la respuesta binaria de un recurso, atendiendo las cabeceras condicionales,
+     * `Range` e `If-Range`.
+     *
+     * @param resourceId ID del recurso.
+     * @param resourceStream Recurso encontrado.
+     * @param eTag ETag fuerte del contenido que se sirve.
+     * @param requestHeaders Cabeceras de la petición.
+     * @return Una respuesta HTTP con el contenido del recurso y un código de estado 200 (OK) o 206 (PARTIAL CONTENT),
+     * o sin contenido y un código de estado 304 (NOT MODIFIED) si el cliente ya tiene esa versión.
+     */
+    private static ResponseEntity<Resource> buildResourceContentResponse(UUID resourceId, ResourceStream resourceStream,
+                                                                         String eTag, HttpHeaders requestHeaders) {
+        if (isNotModified(requestHeaders, eTag, resourceStream.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(resourceStream.getLastModified())
+                    .cacheControl(RESOURCE_CACHE_CONTROL)
+                    .build();
+        }
+
+        final HttpHeaders headers = buildResourceHeaders(resourceId, resourceStream);
+        headers.setETag(eTag);
+        headers.setCacheControl(RESOURCE_CACHE_CONTROL);
+
+        // Si el validador de If-Range no coincide, se ignora el rango y se devuelve el contenido completo.
+        // InputStreamResource evita que Spring aplique el rango de la petición sobre el cuerpo.
+        if (requestHeaders.containsKey(HttpHeaders.RANGE) && !isIfRangeSatisfied(requestHeaders, resourceStream, eTag)) {
+            try {
+                headers.setContentLength(resourceStream.getContent().contentLength());
+                return ResponseEntity.ok()
+                        .headers(headers)
+                        .body(new InputStreamResource(resourceStream.getContent().getInputStream()));
+            } catch (IOException e) {
+                throw new InternalErrorException("Error to read the resource with id: %s".formatted(resourceId), e);
+            }
+        }
+
+        // El cuerpo es un Resource, por lo que Spring atiende la cabecera Range con ResourceRegion (206)
+        return ResponseEntity.ok().headers(headers).body(resourceStream.getContent());
+    }
+
+    /**
+     * Endpoint para obtener varios recursos por sus IDs en una sola petición.
+     *
+     * Evita una petición HTTP por recurso cuando una página necesita muchos recursos, como los carteles
+     * de un listado de películas. Los recursos se devuelven en el orden pedido, sin repetidos, y los IDs
+     * que no existen se indican en `notFound`.
+     *
+     * @param resourceBatchRequestDto IDs de los recursos a obtener.
+     * @return Una respuesta HTTP con los recursos encontrados y un código de estado 200 (OK).
+     */
+    @Operation(
+            summary = "Obtener varios recursos por ID",
+            description = "Este endpoint permite obtener hasta 100 recursos, con su contenido, en una sola petición.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Recursos obtenidos exitosamente",
+                            content = @Content(schema = @Schema(implementation = ResourceBatchDto.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Lista de IDs vacía o demasiado grande",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Operación no autorizada",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ResourceBatchDto> getResourcesHandler(
+            @Valid @RequestBody ResourceBatchRequestDto resourceBatchRequestDto) {
+
+        final List<ResourceContentDto> resources = new ArrayList<>();
+        final List<UUID> notFound = new ArrayList<>();
+        for (UUID resourceId : new LinkedHashSet<>(resourceBatchRequestDto.resourceIds())) {
+            storeService.findResource(resourceId)
+                    .ifPresentOrElse(resources::add, () -> notFound.add(resourceId));
+        }
+
+        return ResponseEntity.ok(ResourceBatchDto.builder().resources(resources).notFound(notFound).build());
+    }
+
+    /**
+     * Endpoint para obtener el contenido binario de varios recursos en una única respuesta multipart.
+     *
+     * Cada recurso encontrado es una parte de la respuesta `multipart/mixed`, con su contenido en streaming
+     * y sus metadatos como cabeceras de la parte. Cada parte se identifica con `Content-ID: <id>` y se entrega
+     * como `attachment`, ya que `form-data` solo tiene sentido en `multipart/form-data`. Los IDs que no existen se indican en la cabecera
+     * `X-Resources-Not-Found`, separados por comas.
+     *
+     * @param resourceBatchRequestDto IDs de los recursos a obtener.
+     * @return Una respuesta HTTP multipart con una parte por recurso y un código de estado 200 (OK).
+     */
+    @Operation(
+            summary = "Obtener el contenido binario de varios recursos por ID",
+            description = "Este endpoint permite descargar hasta 100 recursos en una respuesta multipart/mixed.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Recursos obtenidos exitosamente"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Lista de IDs vacía o demasiado grande",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Operación no autorizada",
+                            content = @Content(schema = @Schema(implementation = Map.class))
+                    )
+            },
+            security = @SecurityRequirement(name = "auth-openapi")
+    )
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.MULTIPART_MIXED_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<MultiValueMap<String, HttpEntity<Resource>>> getResourcesContentHandler(
+            @Valid @RequestBody ResourceBatchRequestDto resourceBatchRequestDto) {
+
+        final MultiValueMap<String, HttpEntity<Resource>> parts = new LinkedMultiValueMap<>();
+        final List<String> notFound = new ArrayList<>();
+        for (UUID resourceId : new LinkedHashSet<>(resourceBatchRequestDto.resourceIds())) {
+            storeService.findResourceStream(resourceId)
+                    .ifPresentOrElse(
+                            resourceStream -> parts.add(resourceId.toString(),
+                                    new HttpEntity<>(resourceStream.getContent(), buildBatchPartHeaders(resourceId, resourceStream))),
+                            () -> notFound.add(resourceId.toString()));
+        }
+
+        final ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok().contentType(MediaType.MULTIPART_MIXED);
+        if (!notFound.isEmpty()) {
+            responseBuilder.header(HEADER_RESOURCES_NOT_FOUND, String.join(",", notFound));
+        }
+        return responseBuilder.body(parts);
     }
 
     /**
@@ -162,4 +494,125 @@ public class StoreApiController {
         storeService.deleteResource(resourceId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Construye las cabeceras de la respuesta binaria a partir de los metadatos del recurso.
+     *
+     * @param resourceId ID del recurso.
+     * @param resourceStream Recurso encontrado.
+     * @return Las cabeceras con el tipo de contenido, la fecha de modificación y los metadatos del recurso.
+     */
+    private static HttpHeaders buildResourceHeaders(UUID resourceId, ResourceStream resourceStream) {
+        final ResourceDescription resourceDescription = resourceStream.getResourceDescription();
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(Optional.ofNullable(resourceDescription.getContentType())
+                .map(MediaType::parseMediaType)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM));
+        headers.setLastModified(resourceStream.getLastModified());
+        headers.set(HEADER_RESOURCE_ID, resourceId.toString());
+        headers.set(HEADER_RESOURCE_SIZE, String.valueOf(resourceDescription.getSize()));
+
+        if (resourceDescription.getResourceName() != null) {
+            headers.setContentDisposition(ContentDisposition.inline()
+                    .filename(resourceDescription.getResourceName(), StandardCharsets.UTF_8)
+                    .build());
+            headers.set(HEADER_RESOURCE_NAME, UriUtils.encode(resourceDescription.getResourceName(), StandardCharsets.UTF_8));
+        }
+        if (resourceDescription.getDescription() != null) {
+            headers.set(HEADER_RESOURCE_DESCRIPTION, UriUtils.encode(resourceDescription.getDescription(), StandardCharsets.UTF_8));
+        }
+        return headers;
+    }
+
+    /**
+     * Construye las cabeceras de una parte de la respuesta `multipart/mixed`.
+     *
+     * Sustituye la disposición `form-data` que añade el conversor multipart por una `attachment`
+     * y añade el `Content-ID` de la parte.
+     *
+     * @param resourceId ID del recurso.
+     * @param resourceStream Recurso encontrado.
+     * @return Las cabeceras del recurso, con el identificador y la disposición de la parte.
+     */
+    private static HttpHeaders buildBatchPartHeaders(UUID resourceId, ResourceStream resourceStream) {
+        final HttpHeaders headers = buildResourceHeaders(resourceId, resourceStream);
+        final String resourceName = resourceStream.getResourceDescription().getResourceName();
+
+        final ContentDisposition.Builder contentDisposition = ContentDisposition.attachment();
+        if (resourceName != null) {
+            contentDisposition.filename(resourceName, StandardCharsets.UTF_8);
+        }
+        headers.setContentDisposition(contentDisposition.build());
+        headers.set(HEADER_CONTENT_ID, "<%s>".formatted(resourceId));
+        return headers;
+    }
+
+    /**
+     * Evalúa la cabecera `If-Range` de la petición.
+     *
+     * Se admite un ETag fuerte, que debe ser igual al del recurso, o una fecha, que debe coincidir
+     * exactamente con la fecha de modificación del recurso. Cualquier otro validador se considera no coincidente.
+     *
+     * @param requestHeaders Cabeceras de la petición.
+     * @param resourceStream Recurso encontrado.
+     * @param eTag ETag fuerte del recurso.
+     * @return `true` si no hay `If-Range` o si su validador coincide, de lo contrario `false`.
+     */
+    private static boolean isIfRangeSatisfied(HttpHeaders requestHeaders, ResourceStream resourceStream, String eTag) {
+        final String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            return requestHeaders.getFirstDate(HttpHeaders.IF_RANGE) == resourceStream.getLastModified().getEpochSecond() * 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Construye el ETag fuerte de un recurso a partir del resumen de su contenido.
+     *
+     * Los recursos antiguos, guardados antes de calcular el resumen, usan su identificador,
+     * que también es estable porque el contenido de un recurso no cambia.
+     *
+     * @param resourceId ID del recurso.
+     * @param contentHash Resumen SHA-256 del contenido, si se conoce.
+     * @return El ETag entre comillas.
+     */
+    private static String buildEntityTag(UUID resourceId, @Nullable String contentHash) {
+        return "\"%s\"".formatted(Optional.ofNullable(contentHash).orElseGet(resourceId::toString));
+    }
+
+    /**
+     * Evalúa las cabeceras condicionales `If-None-Match` e `If-Modified-Since` de la petición.
+     *
+     * Como indica la RFC 9110, si la petición tiene `If-None-Match` se ignora `If-Modified-Since`.
+     * La comparación de `If-None-Match` es débil, por lo que se admiten también los ETag con el prefijo `W/`.
+     *
+     * @param requestHeaders Cabeceras de la petición.
+     * @param eTag ETag fuerte del recurso.
+     * @param lastModified Fecha de modificación del recurso, si se conoce.
+     * @return `true` si el cliente ya tiene la versión actual del recurso, de lo contrario `false`.
+     */
+    private static boolean isNotModified(HttpHeaders requestHeaders, String eTag, @Nullable Instant lastModified) {
+        if (requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            return requestHeaders.getIfNoneMatch().stream()
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            final long ifModifiedSince = requestHeaders.getIfModifiedSince();
+            return ifModifiedSince >= 0 && lastModified.getEpochSecond() * 1000 <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
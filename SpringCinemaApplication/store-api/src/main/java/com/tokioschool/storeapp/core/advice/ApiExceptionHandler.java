@@ -1,5 +1,6 @@
 package com.tokioschool.storeapp.core.advice;
 
+import com.tokioschool.storeapp.core.exception.BadRequestException;
 import com.tokioschool.storeapp.core.exception.InternalErrorException;
 import com.tokioschool.storeapp.core.exception.NotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -46,6 +47,19 @@ public class ApiExceptionHandler {
         return Map.of("message", ex.getMessage(), "request", request.getRequestURI());
     }
 
+    /**
+     * Maneja excepciones de tipo {@link BadRequestException}.
+     *
+     * @param ex Excepción lanzada cuando la petición no es válida.
+     * @param request Objeto {@link HttpServletRequest} que contiene información de la solicitud.
+     * @return Un mapa con el mensaje de error y la URI de la solicitud.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BadRequestException.class)
+    public Map<String, String> handleBadRequestException(BadRequestException ex, HttpServletRequest request) {
+        return Map.of("message", ex.getMessage(), "request", request.getRequestURI());
+    }
+
     /**
      * Maneja excepciones de tipo {@link MethodArgumentNotValidException}.
      *
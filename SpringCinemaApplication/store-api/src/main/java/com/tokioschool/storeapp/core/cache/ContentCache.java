@@ -0,0 +1,205 @@
+package com.tokioschool.storeapp.core.cache;
+
+import com.tokioschool.storeapp.configuration.properties.ContentCacheConfigurationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caché en memoria del contenido de los recursos más solicitados, limitada por bytes.
+ *
+ * El contenido se guarda en {@link ByteBuffer} directos, fuera del heap, de modo que los recursos
+ * cacheados no ocupan la generación antigua. La caché combina:
+ * - Expulsión LRU: cuando no cabe una entrada se expulsan las menos usadas recientemente.
+ * - Admisión TinyLFU: una entrada nueva solo expulsa a otras si se ha pedido con más frecuencia que
+ *   ellas, según un {@link FrequencySketch}. Así un recurso pedido una sola vez no desplaza a los
+ *   recursos populares.
+ *
+ * Publica las métricas `store.content.cache.hits`, `store.content.cache.misses`,
+ * `store.content.cache.evictions`, `store.content.cache.size` (bytes) y `store.content.cache.entries`.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class ContentCache {
+
+    private static final String METRIC_PREFIX = "store.content.cache";
+    private static final long ESTIMATED_ENTRY_SIZE = 8 * 1024;
+    private static final int MAX_SKETCH_WIDTH = 1 << 20;
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final long maxEntrySize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Orden de acceso: la primera entrada es la candidata a expulsar
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch frequencySketch;
+    private long size;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ContentCache(ContentCacheConfigurationProperties contentCacheConfigurationProperties, MeterRegistry meterRegistry) {
+        this.enabled = contentCacheConfigurationProperties.enabled();
+        this.maxSize = contentCacheConfigurationProperties.maxSize().toBytes();
+        this.maxEntrySize = Math.min(maxSize, contentCacheConfigurationProperties.maxEntrySize().toBytes());
+        this.frequencySketch = new FrequencySketch((int) Math.min(MAX_SKETCH_WIDTH, Math.max(1, maxSize / ESTIMATED_ENTRY_SIZE)));
+
+        this.hits = Counter.builder(METRIC_PREFIX + ".hits").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".misses").register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, ContentCache::size).baseUnit("bytes").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".entries", this, ContentCache::entries).register(meterRegistry);
+    }
+
+    /**
+     * Busca el contenido de una clave en la caché y registra el acceso.
+     *
+     * @param key Clave del contenido (hash del contenido o identificador del recurso).
+     * @return Un objeto `Optional` con una copia del contenido, o vacío si no está cacheado.
+     */
+    public Optional<byte[]> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        final ByteBuffer buffer;
+        lock.lock();
+        try {
+            frequencySketch.increment(key);
+            buffer = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+
+        if (buffer == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+
+        // Los buffers guardados nunca se modifican, se copian desde un duplicado para no compartir la posición
+        final byte[] content = new byte[buffer.capacity()];
+        buffer.duplicate().clear().get(content);
+        return Optional.of(content);
+    }
+
+    /**
+     * Guarda el contenido de una clave si la política de admisión lo permite.
+     *
+     * @param key Clave del contenido.
+     * @param content Contenido a cachear.
+     * @return `true` si el contenido se ha cacheado, `false` si se ha rechazado.
+     */
+    public boolean put(String key, byte[] content) {
+        if (!enabled || content.length > maxEntrySize) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (entries.containsKey(key)) {
+                return true;
+            }
+
+            final List<String> victims = selectVictims(key, content.length);
+            if (victims == null) {
+                return false;
+            }
+            victims.forEach(victim -> {
+                size -= entries.remove(victim).capacity();
+                evictions.increment();
+            });
+
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(content.length).put(content).flip();
+            entries.put(key, buffer.asReadOnlyBuffer());
+            size += content.length;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina el contenido de una clave de la caché.
+     *
+     * @param key Clave del contenido.
+     */
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            final ByteBuffer buffer = entries.remove(key);
+            if (buffer != null) {
+                size -= buffer.capacity();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de bytes cacheados.
+     *
+     * @return Los bytes ocupados por el contenido cacheado.
+     */
+    public long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de entradas cacheadas.
+     *
+     * @return El número de entradas.
+     */
+    public int entries() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Selecciona, en orden LRU, las entradas a expulsar para que quepa el candidato.
+     *
+     * @return Las claves a expulsar, o `null` si alguna es más frecuente que el candidato y no se admite.
+     */
+    private List<String> selectVictims(String candidate, long candidateSize) {
+        final List<String> victims = new ArrayList<>();
+        final int candidateFrequency = frequencySketch.frequency(candidate);
+
+        long freed = 0;
+        final Iterator<Map.Entry<String, ByteBuffer>> iterator = entries.entrySet().iterator();
+        while (size - freed + candidateSize > maxSize && iterator.hasNext()) {
+            final Map.Entry<String, ByteBuffer> victim = iterator.next();
+            if (frequencySketch.frequency(victim.getKey()) >= candidateFrequency) {
+                log.debug("Content {} not admitted in the cache, less frequent than {}", candidate, victim.getKey());
+                return null;
+            }
+            victims.add(victim.getKey());
+            freed += victim.getValue().capacity();
+        }
+        return victims;
+    }
+}
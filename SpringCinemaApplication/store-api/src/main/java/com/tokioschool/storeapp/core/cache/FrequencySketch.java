@@ -0,0 +1,89 @@
+package com.tokioschool.storeapp.core.cache;
+
+/**
+ * Estimador aproximado de la frecuencia de acceso de las claves (count-min sketch de 4 filas).
+ *
+ * Cada contador satura en 15 y, cada cierto número de accesos, todos los contadores se dividen
+ * a la mitad para que la frecuencia refleje la popularidad reciente (envejecimiento de TinyLFU).
+ *
+ * No es seguro para hilos; el llamante debe serializar el acceso.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final byte[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param width Número de contadores por fila, se redondea a potencia de dos.
+     */
+    FrequencySketch(int width) {
+        final int size = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+        this.table = new byte[DEPTH][size];
+        this.mask = size - 1;
+        this.sampleSize = size * 10;
+    }
+
+    /**
+     * Registra un acceso a la clave.
+     *
+     * @param key Clave accedida.
+     */
+    void increment(Object key) {
+        final int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            final int index = indexOf(hash, i);
+            if (table[i][index] < MAX_COUNT) {
+                table[i][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estima la frecuencia de acceso de la clave.
+     *
+     * @param key Clave consultada.
+     * @return La frecuencia estimada, entre 0 y 15.
+     */
+    int frequency(Object key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (byte[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (byte) (row[i] >>> 1);
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = hash * SEEDS[row];
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    private static int spread(int hash) {
+        final int h = hash ^ (hash >>> 16);
+        return h * 0x45D9F3B;
+    }
+}
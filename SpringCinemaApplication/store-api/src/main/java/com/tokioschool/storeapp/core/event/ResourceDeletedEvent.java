@@ -0,0 +1,17 @@
+package com.tokioschool.storeapp.core.event;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado cuando se elimina un recurso del almacenamiento.
+ *
+ * Permite a otros componentes, como las variantes de imagen, limpiar los datos derivados del recurso
+ * sin que el servicio de almacenamiento dependa de ellos.
+ *
+ * @param resourceId Identificador del recurso eliminado.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record ResourceDeletedEvent(UUID resourceId) {
+}
@@ -4,9 +4,11 @@ import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
 /**
@@ -60,4 +62,19 @@ public class FileHelper {
     public static boolean deleteWorkIfNotExists(Path path) throws IOException {
         return Files.deleteIfExists(path);
     }
-}
\ No newline at end of file
+
+    /**
+     * Mueve un archivo reemplazando el destino, de forma atómica si el sistema de archivos lo permite.
+     *
+     * @param source Ruta del archivo de origen.
+     * @param target Ruta del archivo de destino.
+     * @throws IOException Si ocurre un error al mover el archivo.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
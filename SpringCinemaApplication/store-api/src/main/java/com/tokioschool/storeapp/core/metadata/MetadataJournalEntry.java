@@ -0,0 +1,37 @@
+package com.tokioschool.storeapp.core.metadata;
+
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import jakarta.annotation.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Entrada del diario (journal) de metadatos de los recursos.
+ *
+ * Cada entrada se guarda como una línea JSON en el fichero del diario, que solo admite añadir
+ * entradas al final. Al reproducir el diario en orden se obtiene el estado actual del índice.
+ *
+ * @param operation Operación registrada.
+ * @param resourceId Identificador del recurso.
+ * @param resourceDescription Descripción del recurso, solo presente en las operaciones {@link Operation#PUT}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record MetadataJournalEntry(Operation operation, UUID resourceId, @Nullable ResourceDescription resourceDescription) {
+
+    /**
+     * Operaciones que se registran en el diario.
+     */
+    public enum Operation {
+        PUT, DELETE
+    }
+
+    public static MetadataJournalEntry put(ResourceDescription resourceDescription) {
+        return new MetadataJournalEntry(Operation.PUT, resourceDescription.getId(), resourceDescription);
+    }
+
+    public static MetadataJournalEntry delete(UUID resourceId) {
+        return new MetadataJournalEntry(Operation.DELETE, resourceId, null);
+    }
+}
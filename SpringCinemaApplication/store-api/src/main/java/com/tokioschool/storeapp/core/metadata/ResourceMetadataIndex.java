@@ -0,0 +1,341 @@
+package com.tokioschool.storeapp.core.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.helper.FileHelper;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice en memoria de los metadatos de los recursos.
+ *
+ * Mantiene un mapa de UUID a {@link ResourceDescription}, de modo que las búsquedas no necesitan
+ * abrir ni parsear el fichero de descripción ({@code <uuid>.json}) de cada recurso.
+ *
+ * El índice se persiste en un diario (journal) al que solo se añaden entradas ({@link MetadataJournalEntry}):
+ * - Al arrancar se reproduce el diario. Si no existe o está corrupto, se reconstruye a partir de
+ *   los ficheros de descripción y se reescribe el diario.
+ * - Cada alta y baja añade una entrada al diario antes de actualizar el mapa.
+ * - En segundo plano se compacta el diario cuando acumula demasiadas entradas obsoletas,
+ *   reescribiéndolo solo con los recursos vivos.
+ *
+ * Notas:
+ * - Las lecturas nunca se bloquean; las escrituras en el diario se serializan con un único bloqueo.
+ * - Los ficheros de descripción se siguen escribiendo, ya que son la fuente para reconstruir el índice.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.store", name = "engine", havingValue = "file", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceMetadataIndex {
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final int SHARD_DEPTH = 3;
+    private static final long MIN_COMPACTION_GARBAGE = 1_000;
+
+    private final StoreConfigurationProperties storeConfigurationProperties;
+    private final ObjectMapper objectMapper;
+
+    // Serializa las escrituras en el diario y las operaciones de compactación y reconstrucción
+    private final ReentrantLock journalLock = new ReentrantLock();
+
+    private volatile Map<UUID, ResourceDescription> index = new ConcurrentHashMap<>();
+    private BufferedWriter journalWriter;
+    private long journalEntries;
+
+    /**
+     * Carga el índice al arrancar, reproduciendo el diario o reconstruyéndolo si no es válido.
+     *
+     * @throws IOException Si ocurre un error al reconstruir el diario.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        journalLock.lock();
+        try {
+            if (!loadJournal()) {
+                rebuildLocked();
+            }
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Cierra el diario al detener la aplicación.
+     *
+     * @throws IOException Si ocurre un error al cerrar el diario.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        journalLock.lock();
+        try {
+            closeJournalWriter();
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Busca la descripción de un recurso en el índice.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return Un objeto `Optional` con la descripción, o vacío si el recurso no existe.
+     */
+    public Optional<ResourceDescription> find(UUID resourceId) {
+        return Optional.ofNullable(index.get(resourceId));
+    }
+
+    /**
+     * Obtiene el número de recursos indexados.
+     *
+     * @return El número de recursos.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Registra la descripción de un recurso en el diario y en el índice.
+     *
+     * @param resourceDescription Descripción del recurso, con su identificador.
+     * @throws IOException Si ocurre un error al escribir en el diario.
+     */
+    public void put(ResourceDescription resourceDescription) throws IOException {
+        journalLock.lock();
+        try {
+            appendJournalEntry(MetadataJournalEntry.put(resourceDescription));
+            index.put(resourceDescription.getId(), resourceDescription);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Elimina un recurso del diario y del índice.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return Un objeto `Optional` con la descripción eliminada, o vacío si el recurso no estaba indexado.
+     * @throws IOException Si ocurre un error al escribir en el diario.
+     */
+    public Optional<ResourceDescription> remove(UUID resourceId) throws IOException {
+        journalLock.lock();
+        try {
+            final ResourceDescription resourceDescription = index.get(resourceId);
+            if (resourceDescription == null) {
+                return Optional.empty();
+            }
+            appendJournalEntry(MetadataJournalEntry.delete(resourceId));
+            index.remove(resourceId);
+            return Optional.of(resourceDescription);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Reconstruye el índice a partir de los ficheros de descripción y reescribe el diario.
+     *
+     * @throws IOException Si ocurre un error al recorrer los ficheros o al escribir el diario.
+     */
+    public void rebuild() throws IOException {
+        journalLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Compacta el diario si las entradas obsoletas superan a los recursos vivos.
+     *
+     * Se ejecuta periódicamente en segundo plano.
+     */
+    @Scheduled(
+            initialDelayString = "${application.store.metadata.compaction-interval:PT5M}",
+            fixedDelayString = "${application.store.metadata.compaction-interval:PT5M}")
+    public void compactIfNeeded() {
+        journalLock.lock();
+        try {
+            final long garbage = journalEntries - index.size();
+            if (garbage < Math.max(MIN_COMPACTION_GARBAGE, index.size())) {
+                return;
+            }
+            writeJournalSnapshot(index);
+            log.info("Compacted the metadata journal, {} obsolete entries removed", garbage);
+        } catch (IOException e) {
+            log.error("Error to compact the metadata journal, cause: {}", e.getMessage(), e);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Reescribe el diario solo con los recursos vivos.
+     *
+     * @throws IOException Si ocurre un error al escribir el diario.
+     */
+    public void compact() throws IOException {
+        journalLock.lock();
+        try {
+            writeJournalSnapshot(index);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Reproduce el diario de metadatos.
+     *
+     * @return `true` si el diario existe y se ha reproducido completo, `false` si no existe o está corrupto.
+     */
+    private boolean loadJournal() {
+        final Path journalPath = storeConfigurationProperties.getMetadataJournalPath();
+        if (!Files.isRegularFile(journalPath)) {
+            log.info("Metadata journal {} not found, rebuilding from descriptions", journalPath);
+            return false;
+        }
+
+        final Map<UUID, ResourceDescription> loaded = new ConcurrentHashMap<>();
+        long entries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (StringUtils.isBlank(line)) {
+                    continue;
+                }
+                final MetadataJournalEntry entry = objectMapper.readValue(line, MetadataJournalEntry.class);
+                switch (entry.operation()) {
+                    case PUT -> loaded.put(entry.resourceId(), entry.resourceDescription());
+                    case DELETE -> loaded.remove(entry.resourceId());
+                }
+                entries++;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Metadata journal {} is corrupted, rebuilding from descriptions, cause: {}", journalPath, e.getMessage());
+            return false;
+        }
+
+        index = loaded;
+        journalEntries = entries;
+        return true;
+    }
+
+    private void rebuildLocked() throws IOException {
+        final Map<UUID, ResourceDescription> rebuilt = scanResourceDescriptions();
+        // Con un almacén vacío no se crea el diario, se creará con la primera entrada
+        if (!rebuilt.isEmpty() || Files.exists(storeConfigurationProperties.getMetadataJournalPath())) {
+            writeJournalSnapshot(rebuilt);
+        }
+        index = rebuilt;
+        journalEntries = rebuilt.size();
+        log.info("Metadata index rebuilt with {} resources", rebuilt.size());
+    }
+
+    /**
+     * Recorre los directorios fragmentados y lee todos los ficheros de descripción.
+     *
+     * @return Un mapa con las descripciones encontradas.
+     * @throws IOException Si ocurre un error al recorrer los directorios.
+     */
+    private Map<UUID, ResourceDescription> scanResourceDescriptions() throws IOException {
+        final Path workingPath = storeConfigurationProperties.buildResourcePathFromRelativePathGivenNameResource();
+        final Map<UUID, ResourceDescription> scanned = new ConcurrentHashMap<>();
+        if (!Files.isDirectory(workingPath)) {
+            return scanned;
+        }
+
+        try (Stream<Path> paths = Files.walk(workingPath, SHARD_DEPTH)) {
+            paths.filter(path -> workingPath.relativize(path).getNameCount() == SHARD_DEPTH)
+                    .filter(path -> path.getFileName().toString().endsWith(JSON_EXTENSION))
+                    .filter(Files::isRegularFile)
+                    .forEach(path -> readResourceDescription(path)
+                            .ifPresent(resourceDescription -> scanned.put(resourceDescription.getId(), resourceDescription)));
+        }
+        return scanned;
+    }
+
+    private Optional<ResourceDescription> readResourceDescription(Path path) {
+        final String id = StringUtils.removeEnd(path.getFileName().toString(), JSON_EXTENSION);
+        try {
+            final UUID resourceId = UUID.fromString(id);
+            final ResourceDescription resourceDescription = objectMapper.readValue(path.toFile(), ResourceDescription.class);
+            // Las descripciones anteriores no guardaban el identificador, se toma del nombre del fichero
+            return Optional.of(resourceDescription.toBuilder().id(resourceId).build());
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("Skip the description {}, cause: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Escribe el diario completo a partir de un mapa de recursos, de forma atómica.
+     *
+     * @param resources Recursos vivos.
+     * @throws IOException Si ocurre un error al escribir el diario.
+     */
+    private void writeJournalSnapshot(Map<UUID, ResourceDescription> resources) throws IOException {
+        FileHelper.createWorkIfNotExists(storeConfigurationProperties.buildTemporalPath());
+        final Path temporalFile = Files.createTempFile(storeConfigurationProperties.buildTemporalPath(), "journal-", ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporalFile, StandardCharsets.UTF_8)) {
+                for (ResourceDescription resourceDescription : resources.values()) {
+                    writer.write(objectMapper.writeValueAsString(MetadataJournalEntry.put(resourceDescription)));
+                    writer.newLine();
+                }
+            }
+            closeJournalWriter();
+            FileHelper.moveAtomically(temporalFile, storeConfigurationProperties.getMetadataJournalPath());
+            journalEntries = resources.size();
+        } finally {
+            Files.deleteIfExists(temporalFile);
+        }
+    }
+
+    private void appendJournalEntry(MetadataJournalEntry entry) throws IOException {
+        openJournalWriter();
+        journalWriter.write(objectMapper.writeValueAsString(entry));
+        journalWriter.newLine();
+        journalWriter.flush();
+        journalEntries++;
+    }
+
+    private void openJournalWriter() throws IOException {
+        if (journalWriter == null) {
+            FileHelper.createWorkIfNotExists(storeConfigurationProperties.buildResourcePathFromRelativePathGivenNameResource());
+            journalWriter = Files.newBufferedWriter(storeConfigurationProperties.getMetadataJournalPath(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        }
+    }
+
+    private void closeJournalWriter() throws IOException {
+        if (journalWriter != null) {
+            journalWriter.close();
+            journalWriter = null;
+        }
+    }
+}
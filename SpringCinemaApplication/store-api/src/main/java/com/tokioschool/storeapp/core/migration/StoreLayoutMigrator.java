@@ -0,0 +1,120 @@
+package com.tokioschool.storeapp.core.migration;
+
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.helper.FileHelper;
+import com.tokioschool.storeapp.core.metadata.ResourceMetadataIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Migrador de un solo uso del formato plano de almacenamiento al formato fragmentado.
+ *
+ * En el formato plano, el contenido ({@code <uuid>}) y la descripción ({@code <uuid>.json}) de cada
+ * recurso se guardaban directamente en el directorio de trabajo. Al arrancar la aplicación, este
+ * componente mueve dichos ficheros al directorio fragmentado que les corresponde según
+ * {@link StoreConfigurationProperties#getShardPathGivenResourceId(UUID)}.
+ *
+ * Notas:
+ * - Solo se recorre el primer nivel del directorio de trabajo, por lo que una vez migrado
+ *   el contenido el coste del arranque es un único listado de pocas entradas.
+ * - Los ficheros cuyo destino ya existe no se sobrescriben y se dejan en su sitio.
+ * - Si se migra algún fichero, se reconstruye el {@link ResourceMetadataIndex}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.store", name = "engine", havingValue = "file", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class StoreLayoutMigrator implements ApplicationRunner {
+
+    private static final String JSON_EXTENSION = ".json";
+
+    private final StoreConfigurationProperties storeConfigurationProperties;
+    private final ResourceMetadataIndex resourceMetadataIndex;
+
+    /**
+     * Ejecuta la migración al arrancar la aplicación.
+     *
+     * @param args Argumentos de la aplicación.
+     * @throws IOException Si ocurre un error al recorrer el directorio de trabajo.
+     */
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        final int migrated = migrate();
+        if (migrated > 0) {
+            log.info("Migrated {} files from flat layout to sharded layout", migrated);
+            // Los recursos migrados no estaban en el índice de metadatos
+            resourceMetadataIndex.rebuild();
+        }
+    }
+
+    /**
+     * Mueve los ficheros del formato plano a su directorio fragmentado.
+     *
+     * @return El número de ficheros movidos.
+     * @throws IOException Si ocurre un error al recorrer el directorio de trabajo.
+     */
+    public int migrate() throws IOException {
+        final Path workingPath = storeConfigurationProperties.buildResourcePathFromRelativePathGivenNameResource();
+        if (!Files.isDirectory(workingPath)) {
+            return 0;
+        }
+
+        int migrated = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(workingPath, Files::isRegularFile)) {
+            for (Path file : files) {
+                final String fileName = file.getFileName().toString();
+                final Optional<UUID> resourceIdOpt = parseResourceId(fileName);
+                if (resourceIdOpt.isEmpty()) {
+                    continue;
+                }
+
+                final Path target = storeConfigurationProperties.getShardPathGivenResourceId(resourceIdOpt.get())
+                        .resolve(fileName);
+                if (Files.exists(target)) {
+                    log.warn("Skip migration of {}, the target {} already exists", file, target);
+                    continue;
+                }
+
+                try {
+                    FileHelper.createWorkIfNotExists(target.getParent());
+                    Files.move(file, target);
+                    migrated++;
+                } catch (IOException e) {
+                    log.error("Error to migrate the file {}, cause: {}", file, e.getMessage(), e);
+                }
+            }
+        }
+        return migrated;
+    }
+
+    /**
+     * Obtiene el identificador del recurso a partir del nombre de un fichero del formato plano.
+     *
+     * @param fileName Nombre del fichero, {@code <uuid>} o {@code <uuid>.json}.
+     * @return Un objeto `Optional` con el UUID, o vacío si el nombre no corresponde a un recurso.
+     */
+    private static Optional<UUID> parseResourceId(String fileName) {
+        final String id = StringUtils.removeEnd(fileName, JSON_EXTENSION);
+        try {
+            final UUID resourceId = UUID.fromString(id);
+            return resourceId.toString().equals(id) ? Optional.of(resourceId) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.tokioschool.storeapp.core.segment;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fichero de segmento abierto, al que se añaden registros y del que se lee con lecturas posicionales.
+ *
+ * Las lecturas posicionales de {@link FileChannel} son seguras entre hilos y no modifican la posición
+ * del canal, por lo que varios lectores pueden leer a la vez que se añaden registros al final.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+class Segment implements Closeable {
+
+    private static final String FILE_NAME_FORMAT = "segment-%010d.dat";
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+
+    // Posición de escritura, solo se modifica con el bloqueo de escritura del almacén
+    private volatile long size;
+    private long deadBytes;
+
+    private Segment(long id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    static Segment open(Path segmentsPath, long id) throws IOException {
+        final Path path = segmentsPath.resolve(FILE_NAME_FORMAT.formatted(id));
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(id, path, channel, channel.size());
+    }
+
+    /**
+     * Obtiene el identificador de un segmento a partir del nombre de su fichero.
+     *
+     * @param path Ruta del fichero.
+     * @return El identificador, o -1 si el fichero no es un segmento.
+     */
+    static long parseId(Path path) {
+        final String fileName = path.getFileName().toString();
+        if (!fileName.matches("segment-\\d{10}\\.dat")) {
+            return -1;
+        }
+        return Long.parseLong(fileName.substring("segment-".length(), fileName.length() - ".dat".length()));
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    FileChannel channel() {
+        return channel;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long deadBytes() {
+        return deadBytes;
+    }
+
+    void addDeadBytes(long bytes) {
+        deadBytes += bytes;
+    }
+
+    void advance(long bytes) {
+        size += bytes;
+    }
+
+    /**
+     * Descarta el final del segmento a partir de una posición, por ejemplo un registro escrito a medias.
+     *
+     * @param position Nueva longitud del segmento.
+     * @throws IOException Si ocurre un error al truncar el fichero.
+     */
+    void truncate(long position) throws IOException {
+        channel.truncate(position);
+        size = position;
+    }
+
+    ByteBuffer read(long position, int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of the segment %s".formatted(path));
+            }
+        }
+        return buffer.flip();
+    }
+
+    void write(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
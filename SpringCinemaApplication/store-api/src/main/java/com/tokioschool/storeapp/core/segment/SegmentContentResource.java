@@ -0,0 +1,64 @@
+package com.tokioschool.storeapp.core.segment;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Recurso de Spring cuyo contenido se lee de su segmento en el momento de escribir la respuesta.
+ *
+ * El tamaño y la fecha de modificación se toman de la posición del recurso obtenida al buscarlo,
+ * de modo que Spring no tiene que leer el contenido para calcular las cabeceras ni los rangos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class SegmentContentResource extends AbstractResource {
+
+    private final SegmentStore segmentStore;
+    private final SegmentEntry segmentEntry;
+
+    public SegmentContentResource(SegmentStore segmentStore, SegmentEntry segmentEntry) {
+        this.segmentStore = segmentStore;
+        this.segmentEntry = segmentEntry;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return segmentStore.openContent(segmentEntry.resourceDescription().getId())
+                .orElseThrow(() -> new FileNotFoundException("%s does not exist".formatted(getDescription())));
+    }
+
+    @Override
+    public boolean exists() {
+        return segmentStore.find(segmentEntry.resourceDescription().getId()).isPresent();
+    }
+
+    @Override
+    public long contentLength() {
+        return segmentEntry.contentLength();
+    }
+
+    @Override
+    public long lastModified() {
+        return segmentEntry.createdAt().toEpochMilli();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Segment content [%s]".formatted(segmentEntry.resourceDescription().getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof SegmentContentResource that && segmentEntry.equals(that.segmentEntry)
+                && segmentStore == that.segmentStore);
+    }
+
+    @Override
+    public int hashCode() {
+        return segmentEntry.hashCode();
+    }
+}
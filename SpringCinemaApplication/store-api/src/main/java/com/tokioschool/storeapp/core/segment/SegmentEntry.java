@@ -0,0 +1,40 @@
+package com.tokioschool.storeapp.core.segment;
+
+import com.tokioschool.storeapp.domain.ResourceDescription;
+
+import java.time.Instant;
+
+/**
+ * Posición de un recurso dentro de un fichero de segmento.
+ *
+ * @param segmentId Identificador del segmento que contiene el registro.
+ * @param position Desplazamiento del inicio del registro dentro del segmento.
+ * @param contentLength Longitud del contenido en bytes.
+ * @param metadataLength Longitud de los metadatos (JSON) en bytes.
+ * @param createdAt Instante en el que se guardó el recurso.
+ * @param resourceDescription Descripción del recurso.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record SegmentEntry(long segmentId, long position, int contentLength, int metadataLength,
+                           Instant createdAt, ResourceDescription resourceDescription) {
+
+    /**
+     * Obtiene el desplazamiento del contenido dentro del segmento.
+     *
+     * @return El desplazamiento del contenido.
+     */
+    public long contentPosition() {
+        return position + SegmentRecord.HEADER_SIZE;
+    }
+
+    /**
+     * Obtiene el tamaño total del registro en el segmento.
+     *
+     * @return El tamaño del registro en bytes.
+     */
+    public long recordSize() {
+        return SegmentRecord.recordSize(contentLength, metadataLength);
+    }
+}
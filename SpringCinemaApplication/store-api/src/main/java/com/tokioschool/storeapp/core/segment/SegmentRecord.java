@@ -0,0 +1,114 @@
+package com.tokioschool.storeapp.core.segment;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cabecera de un registro de un fichero de segmento.
+ *
+ * Formato de un registro:
+ * {@code [cabecera][contenido][metadatos JSON][marca de fin]}, donde la cabecera contiene
+ * {@code magic(4) operación(1) uuid(16) creado(8) longitudContenido(4) longitudMetadatos(4)}.
+ *
+ * La cabecera y la marca de fin se escriben después del contenido y los metadatos, de modo que un
+ * registro escrito a medias (por ejemplo, tras una caída) se detecta al arrancar y se descarta.
+ * Los borrados se registran como lápidas: registros {@link Operation#DELETE} sin contenido ni metadatos.
+ *
+ * @param operation Operación del registro.
+ * @param resourceId Identificador del recurso.
+ * @param createdAt Instante en el que se escribió el registro.
+ * @param contentLength Longitud del contenido en bytes.
+ * @param metadataLength Longitud de los metadatos en bytes.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+record SegmentRecord(Operation operation, UUID resourceId, Instant createdAt, int contentLength, int metadataLength) {
+
+    static final int HEADER_SIZE = 37;
+    static final int TRAILER_SIZE = 4;
+
+    private static final int MAGIC = 0x53544F52;
+    private static final int TRAILER = 0x454E4452;
+
+    /**
+     * Operaciones que se registran en un segmento.
+     */
+    enum Operation {
+        PUT, DELETE
+    }
+
+    static SegmentRecord put(UUID resourceId, int contentLength, int metadataLength) {
+        return new SegmentRecord(Operation.PUT, resourceId, Instant.now(), contentLength, metadataLength);
+    }
+
+    static SegmentRecord delete(UUID resourceId) {
+        return new SegmentRecord(Operation.DELETE, resourceId, Instant.now(), 0, 0);
+    }
+
+    static long recordSize(int contentLength, int metadataLength) {
+        return (long) HEADER_SIZE + contentLength + metadataLength + TRAILER_SIZE;
+    }
+
+    long recordSize() {
+        return recordSize(contentLength, metadataLength);
+    }
+
+    ByteBuffer encodeHeader() {
+        return ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .put((byte) operation.ordinal())
+                .putLong(resourceId.getMostSignificantBits())
+                .putLong(resourceId.getLeastSignificantBits())
+                .putLong(createdAt.toEpochMilli())
+                .putInt(contentLength)
+                .putInt(metadataLength)
+                .flip();
+    }
+
+    /**
+     * Codifica un registro completo sin contenido ni metadatos, como una lápida.
+     *
+     * @return El buffer con la cabecera y la marca de fin.
+     */
+    ByteBuffer encodeTombstone() {
+        return ByteBuffer.allocate(HEADER_SIZE + TRAILER_SIZE)
+                .put(encodeHeader())
+                .put(encodeTrailer())
+                .flip();
+    }
+
+    static ByteBuffer encodeTrailer() {
+        return ByteBuffer.allocate(TRAILER_SIZE).putInt(TRAILER).flip();
+    }
+
+    /**
+     * Decodifica una cabecera.
+     *
+     * @param buffer Buffer con los {@link #HEADER_SIZE} bytes de la cabecera.
+     * @return La cabecera, o vacío si los bytes no son una cabecera válida.
+     */
+    static Optional<SegmentRecord> decodeHeader(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            return Optional.empty();
+        }
+        final int operation = buffer.get();
+        if (operation < 0 || operation >= Operation.values().length) {
+            return Optional.empty();
+        }
+        final UUID resourceId = new UUID(buffer.getLong(), buffer.getLong());
+        final Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+        final int contentLength = buffer.getInt();
+        final int metadataLength = buffer.getInt();
+        if (contentLength < 0 || metadataLength < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new SegmentRecord(Operation.values()[operation], resourceId, createdAt, contentLength, metadataLength));
+    }
+
+    static boolean isTrailer(ByteBuffer buffer) {
+        return buffer.getInt() == TRAILER;
+    }
+}
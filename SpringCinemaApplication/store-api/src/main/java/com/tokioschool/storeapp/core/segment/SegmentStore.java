@@ -0,0 +1,469 @@
+package com.tokioschool.storeapp.core.segment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.storeapp.configuration.properties.SegmentConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.helper.FileHelper;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Almacén de recursos en ficheros de segmento.
+ *
+ * En lugar de guardar cada recurso en sus propios ficheros, los recursos se añaden como registros
+ * ({@link SegmentRecord}) al final del segmento activo. Cuando el segmento activo alcanza el tamaño
+ * configurado se cierra y se abre uno nuevo. Esto reduce el número de ficheros (inodos) a uno por
+ * cada segmento, en vez de dos por recurso.
+ *
+ * - Un índice en memoria guarda, por cada recurso, el segmento, el desplazamiento y las longitudes de
+ *   su registro ({@link SegmentEntry}). Se reconstruye al arrancar recorriendo los segmentos en orden.
+ * - Las lecturas son posicionales sobre el {@link FileChannel} del segmento.
+ * - Los borrados añaden una lápida y cuentan el registro como espacio muerto del segmento.
+ * - En segundo plano se compactan los segmentos cerrados cuyo espacio muerto supera el umbral
+ *   configurado: sus registros vivos se copian al segmento activo y el fichero se elimina.
+ *
+ * Notas:
+ * - Las escrituras (altas, borrados y compactación) se serializan con un único bloqueo.
+ * - Las lecturas no se bloquean entre sí; solo esperan mientras se cierra un segmento compactado.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.store", name = "engine", havingValue = "segment")
+@RequiredArgsConstructor
+@Slf4j
+public class SegmentStore {
+
+    private final StoreConfigurationProperties storeConfigurationProperties;
+    private final SegmentConfigurationProperties segmentConfigurationProperties;
+    private final ObjectMapper objectMapper;
+
+    // Serializa las escrituras en el segmento activo y la compactación
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Impide cerrar un segmento compactado mientras se lee de él
+    private final ReentrantReadWriteLock segmentsLock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Map<UUID, SegmentEntry> index = new ConcurrentHashMap<>();
+    private Segment activeSegment;
+
+    /**
+     * Abre los segmentos existentes y reconstruye el índice recorriéndolos en orden.
+     *
+     * @throws IOException Si ocurre un error al abrir o leer los segmentos.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        final Path segmentsPath = storeConfigurationProperties.getSegmentsPath();
+        FileHelper.createWorkIfNotExists(segmentsPath);
+
+        final List<Long> segmentIds;
+        try (Stream<Path> paths = Files.list(segmentsPath)) {
+            segmentIds = paths.map(Segment::parseId).filter(id -> id >= 0).sorted().toList();
+        }
+
+        writeLock.lock();
+        try {
+            for (int i = 0; i < segmentIds.size(); i++) {
+                final Segment segment = Segment.open(segmentsPath, segmentIds.get(i));
+                segments.put(segment.id(), segment);
+                scanSegment(segment, i == segmentIds.size() - 1);
+            }
+            activeSegment = segments.isEmpty() ? openSegment(1) : segments.lastEntry().getValue();
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Segment store loaded with {} resources in {} segments", index.size(), segments.size());
+    }
+
+    /**
+     * Cierra los segmentos al detener la aplicación.
+     *
+     * @throws IOException Si ocurre un error al cerrar los segmentos.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        segmentsLock.writeLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca la posición de un recurso en los segmentos.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return Un objeto `Optional` con la posición y la descripción, o vacío si el recurso no existe.
+     */
+    public Optional<SegmentEntry> find(UUID resourceId) {
+        return Optional.ofNullable(index.get(resourceId));
+    }
+
+    /**
+     * Obtiene el número de recursos almacenados.
+     *
+     * @return El número de recursos.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Obtiene el número de ficheros de segmento.
+     *
+     * @return El número de segmentos.
+     */
+    public int segments() {
+        return segments.size();
+    }
+
+    /**
+     * Lee el contenido de un recurso con una lectura posicional en su segmento.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return Un objeto `Optional` con el contenido, o vacío si el recurso no existe.
+     * @throws IOException Si ocurre un error al leer el segmento.
+     */
+    public Optional<byte[]> readContent(UUID resourceId) throws IOException {
+        segmentsLock.readLock().lock();
+        try {
+            final SegmentEntry segmentEntry = index.get(resourceId);
+            if (segmentEntry == null) {
+                return Optional.empty();
+            }
+            final Segment segment = segments.get(segmentEntry.segmentId());
+            return Optional.of(segment.read(segmentEntry.contentPosition(), segmentEntry.contentLength()).array());
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Abre un flujo con el contenido de un recurso, limitado a su registro en el segmento.
+     *
+     * El flujo lee con su propio canal sobre el fichero del segmento, por lo que no retiene el bloqueo
+     * mientras se escribe la respuesta y sigue siendo válido aunque el segmento se compacte entretanto.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return Un objeto `Optional` con el flujo del contenido, o vacío si el recurso no existe.
+     * @throws IOException Si ocurre un error al abrir el segmento.
+     */
+    public Optional<InputStream> openContent(UUID resourceId) throws IOException {
+        segmentsLock.readLock().lock();
+        try {
+            final SegmentEntry segmentEntry = index.get(resourceId);
+            if (segmentEntry == null) {
+                return Optional.empty();
+            }
+            final Segment segment = segments.get(segmentEntry.segmentId());
+            return Optional.of(new SegmentContentInputStream(FileChannel.open(segment.path(), StandardOpenOption.READ),
+                    segmentEntry.contentPosition(), segmentEntry.contentLength()));
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Añade un recurso al segmento activo.
+     *
+     * El contenido se copia en streaming desde el flujo al segmento, sin cargarlo en memoria. Solo se
+     * admiten recursos de hasta el tamaño máximo configurado (`max-object-size`).
+     *
+     * @param resourceDescription Descripción del recurso, con su identificador.
+     * @param content Flujo con el contenido del recurso.
+     * @param contentLength Longitud del contenido en bytes.
+     * @return La posición del recurso en el segmento.
+     * @throws IOException Si ocurre un error al escribir en el segmento, el recurso supera el tamaño máximo
+     *                     o el flujo no tiene la longitud indicada.
+     */
+    public SegmentEntry put(ResourceDescription resourceDescription, InputStream content, long contentLength) throws IOException {
+        final long maxObjectSize = Math.min(segmentConfigurationProperties.maxObjectSize().toBytes(), Integer.MAX_VALUE);
+        if (contentLength < 0 || contentLength > maxObjectSize) {
+            throw new IOException("The resource is too large for a segment, size: %d, max: %d".formatted(contentLength, maxObjectSize));
+        }
+        final byte[] metadata = objectMapper.writeValueAsBytes(resourceDescription);
+        final SegmentRecord segmentRecord = SegmentRecord.put(resourceDescription.getId(), (int) contentLength, metadata.length);
+
+        writeLock.lock();
+        try {
+            final Segment segment = rollActiveSegmentIfNeeded();
+            final long position = segment.size();
+            try {
+                // La cabecera vacía reserva su espacio y deja el registro inválido hasta que se complete
+                segment.write(ByteBuffer.allocate(SegmentRecord.HEADER_SIZE), position);
+                transferContent(segment, content, position + SegmentRecord.HEADER_SIZE, contentLength);
+                segment.write(ByteBuffer.wrap(metadata), position + SegmentRecord.HEADER_SIZE + contentLength);
+                segment.write(SegmentRecord.encodeTrailer(), position + segmentRecord.recordSize() - SegmentRecord.TRAILER_SIZE);
+                segment.write(segmentRecord.encodeHeader(), position);
+            } catch (IOException e) {
+                segment.truncate(position);
+                throw e;
+            }
+            segment.advance(segmentRecord.recordSize());
+
+            final SegmentEntry segmentEntry = new SegmentEntry(segment.id(), position, segmentRecord.contentLength(),
+                    segmentRecord.metadataLength(), segmentRecord.createdAt(), resourceDescription);
+            Optional.ofNullable(index.put(resourceDescription.getId(), segmentEntry)).ifPresent(this::markDead);
+            return segmentEntry;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Elimina un recurso añadiendo una lápida al segmento activo.
+     *
+     * @param resourceId Identificador del recurso.
+     * @return Un objeto `Optional` con la posición eliminada, o vacío si el recurso no existía.
+     * @throws IOException Si ocurre un error al escribir la lápida.
+     */
+    public Optional<SegmentEntry> delete(UUID resourceId) throws IOException {
+        writeLock.lock();
+        try {
+            final SegmentEntry segmentEntry = index.get(resourceId);
+            if (segmentEntry == null) {
+                return Optional.empty();
+            }
+
+            final SegmentRecord tombstone = SegmentRecord.delete(resourceId);
+            final Segment segment = rollActiveSegmentIfNeeded();
+            appendRecord(segment, tombstone.encodeTombstone());
+            segment.addDeadBytes(tombstone.recordSize());
+
+            index.remove(resourceId);
+            markDead(segmentEntry);
+            return Optional.of(segmentEntry);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Compacta los segmentos si su espacio muerto supera el umbral configurado.
+     *
+     * Se ejecuta periódicamente en segundo plano.
+     */
+    @Scheduled(
+            initialDelayString = "${application.store.segment.compaction-interval:PT5M}",
+            fixedDelayString = "${application.store.segment.compaction-interval:PT5M}")
+    public void compactIfNeeded() {
+        try {
+            final int compacted = compact();
+            if (compacted > 0) {
+                log.info("Compacted {} segments", compacted);
+            }
+        } catch (IOException e) {
+            log.error("Error to compact the segments, cause: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compacta los segmentos cerrados cuyo espacio muerto supera el umbral configurado.
+     *
+     * @return El número de segmentos compactados.
+     * @throws IOException Si ocurre un error al copiar los registros o eliminar un segmento.
+     */
+    public int compact() throws IOException {
+        writeLock.lock();
+        try {
+            final List<Segment> candidates = segments.values().stream()
+                    .filter(segment -> segment != activeSegment)
+                    .filter(segment -> segment.deadBytes() >= segment.size() * segmentConfigurationProperties.compactionThreshold())
+                    .toList();
+            for (Segment segment : candidates) {
+                compactSegment(segment);
+            }
+            return candidates.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Copia los registros vivos de un segmento al segmento activo y elimina su fichero.
+     *
+     * Las lápidas se conservan salvo en el segmento más antiguo: el alta que anulan solo puede estar
+     * en un segmento anterior o en el mismo, y si se descartasen antes resucitaría al reconstruir el índice.
+     */
+    private void compactSegment(Segment segment) throws IOException {
+        final boolean oldest = segments.firstKey() == segment.id();
+
+        long position = 0;
+        while (position < segment.size()) {
+            final Optional<SegmentRecord> segmentRecordOpt = readRecord(segment, position);
+            if (segmentRecordOpt.isEmpty()) {
+                break;
+            }
+            final SegmentRecord segmentRecord = segmentRecordOpt.get();
+            final long recordSize = segmentRecord.recordSize();
+
+            if (segmentRecord.operation() == SegmentRecord.Operation.PUT) {
+                final SegmentEntry segmentEntry = index.get(segmentRecord.resourceId());
+                if (segmentEntry != null && segmentEntry.segmentId() == segment.id() && segmentEntry.position() == position) {
+                    final Segment target = rollActiveSegmentIfNeeded();
+                    final long targetPosition = appendRecord(target, segment.read(position, (int) recordSize));
+                    index.put(segmentRecord.resourceId(), new SegmentEntry(target.id(), targetPosition, segmentEntry.contentLength(),
+                            segmentEntry.metadataLength(), segmentEntry.createdAt(), segmentEntry.resourceDescription()));
+                }
+            } else if (!oldest) {
+                final Segment target = rollActiveSegmentIfNeeded();
+                appendRecord(target, segment.read(position, (int) recordSize));
+                target.addDeadBytes(recordSize);
+            }
+            position += recordSize;
+        }
+
+        segmentsLock.writeLock().lock();
+        try {
+            segments.remove(segment.id());
+            segment.close();
+            Files.deleteIfExists(segment.path());
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+        log.debug("Segment {} compacted", segment.path());
+    }
+
+    /**
+     * Recorre un segmento al arrancar y aplica sus registros al índice.
+     *
+     * Un registro incompleto al final del último segmento es una escritura interrumpida y se descarta.
+     */
+    private void scanSegment(Segment segment, boolean last) throws IOException {
+        long position = 0;
+        while (position < segment.size()) {
+            final Optional<SegmentRecord> segmentRecordOpt = readRecord(segment, position);
+            if (segmentRecordOpt.isEmpty()) {
+                break;
+            }
+            final SegmentRecord segmentRecord = segmentRecordOpt.get();
+
+            if (segmentRecord.operation() == SegmentRecord.Operation.PUT) {
+                final long metadataPosition = position + SegmentRecord.HEADER_SIZE + segmentRecord.contentLength();
+                final ResourceDescription resourceDescription = objectMapper.readValue(
+                        segment.read(metadataPosition, segmentRecord.metadataLength()).array(), ResourceDescription.class);
+                final SegmentEntry segmentEntry = new SegmentEntry(segment.id(), position, segmentRecord.contentLength(),
+                        segmentRecord.metadataLength(), segmentRecord.createdAt(), resourceDescription);
+                Optional.ofNullable(index.put(segmentRecord.resourceId(), segmentEntry)).ifPresent(this::markDead);
+            } else {
+                Optional.ofNullable(index.remove(segmentRecord.resourceId())).ifPresent(this::markDead);
+                segment.addDeadBytes(segmentRecord.recordSize());
+            }
+            position += segmentRecord.recordSize();
+        }
+
+        if (position < segment.size()) {
+            if (last) {
+                log.warn("Discard an incomplete record at {} of the segment {}", position, segment.path());
+                segment.truncate(position);
+            } else {
+                log.error("Invalid record at {} of the segment {}, the rest of the segment is ignored", position, segment.path());
+                segment.addDeadBytes(segment.size() - position);
+            }
+        }
+    }
+
+    /**
+     * Lee y valida la cabecera y la marca de fin de un registro.
+     *
+     * @return La cabecera del registro, o vacío si el registro no es válido o está incompleto.
+     */
+    private Optional<SegmentRecord> readRecord(Segment segment, long position) throws IOException {
+        if (position + SegmentRecord.HEADER_SIZE + SegmentRecord.TRAILER_SIZE > segment.size()) {
+            return Optional.empty();
+        }
+        return SegmentRecord.decodeHeader(segment.read(position, SegmentRecord.HEADER_SIZE))
+                .filter(segmentRecord -> position + segmentRecord.recordSize() <= segment.size())
+                .filter(segmentRecord -> {
+                    try {
+                        return SegmentRecord.isTrailer(segment.read(
+                                position + segmentRecord.recordSize() - SegmentRecord.TRAILER_SIZE, SegmentRecord.TRAILER_SIZE));
+                    } catch (IOException e) {
+                        return false;
+                    }
+                });
+    }
+
+    /**
+     * Añade al final de un segmento un registro completo, ya codificado.
+     *
+     * @return El desplazamiento del registro en el segmento.
+     */
+    private long appendRecord(Segment segment, ByteBuffer segmentRecord) throws IOException {
+        final long position = segment.size();
+        final int recordSize = segmentRecord.remaining();
+        try {
+            segment.write(segmentRecord, position);
+        } catch (IOException e) {
+            segment.truncate(position);
+            throw e;
+        }
+        segment.advance(recordSize);
+        return position;
+    }
+
+    private void transferContent(Segment segment, InputStream content, long position, long contentLength) throws IOException {
+        final ReadableByteChannel source = Channels.newChannel(content);
+        long transferred = 0;
+        while (transferred < contentLength) {
+            final long count = segment.channel().transferFrom(source, position + transferred, contentLength - transferred);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+        }
+        if (transferred != contentLength) {
+            throw new IOException("Unexpected end of the content, expected %d bytes and read %d".formatted(contentLength, transferred));
+        }
+    }
+
+    private Segment rollActiveSegmentIfNeeded() throws IOException {
+        if (activeSegment.size() >= segmentConfigurationProperties.segmentSize().toBytes()) {
+            activeSegment = openSegment(activeSegment.id() + 1);
+        }
+        return activeSegment;
+    }
+
+    private Segment openSegment(long id) throws IOException {
+        final Segment segment = Segment.open(storeConfigurationProperties.getSegmentsPath(), id);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void markDead(SegmentEntry segmentEntry) {
+        Optional.ofNullable(segments.get(segmentEntry.segmentId()))
+                .ifPresent(segment -> segment.addDeadBytes(segmentEntry.recordSize()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.tokioschool.storeapp.core.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Canal de solo lectura sobre un {@link ByteBuffer}, sin copiar su contenido.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+class ByteBufferChannel implements SeekableByteChannel {
+
+    private final ByteBuffer buffer;
+    private long position;
+    private boolean open = true;
+
+    /**
+     * @param buffer Buffer a leer, desde la posición 0 hasta su límite.
+     */
+    ByteBufferChannel(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read(ByteBuffer destination) throws ClosedChannelException {
+        ensureOpen();
+        if (position >= buffer.limit()) {
+            return -1;
+        }
+        final int read = (int) Math.min(destination.remaining(), buffer.limit() - position);
+        destination.put(destination.position(), buffer, (int) position, read);
+        destination.position(destination.position() + read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public int write(ByteBuffer source) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws ClosedChannelException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) throws ClosedChannelException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position: %d".formatted(newPosition));
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws ClosedChannelException {
+        ensureOpen();
+        return buffer.limit();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+}
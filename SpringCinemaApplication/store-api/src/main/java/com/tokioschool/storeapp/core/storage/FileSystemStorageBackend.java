@@ -0,0 +1,112 @@
+package com.tokioschool.storeapp.core.storage;
+
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.helper.FileHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Backend de almacenamiento sobre el sistema de ficheros, con un fichero por contenido.
+ *
+ * Mantiene la organización del directorio de trabajo: las claves con forma de UUID son el contenido de un
+ * recurso anterior, dentro de su directorio fragmentado, y el resto se guardan en el directorio de blobs,
+ * fragmentado por sus cuatro primeros caracteres. Cada escritura se hace en un fichero temporal que después
+ * se mueve de forma atómica a su destino.
+ *
+ * Es el backend por defecto (`application.store.storage.backend=filesystem`).
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.store.storage", name = "backend", havingValue = "filesystem", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FileSystemStorageBackend implements StorageBackend {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    protected final StoreConfigurationProperties storeConfigurationProperties;
+
+    @Override
+    public long put(String key, InputStream content) throws IOException {
+        final Path target = resolvePath(key);
+        final Path temporalPath = storeConfigurationProperties.buildTemporalPath();
+        FileHelper.createWorkIfNotExists(temporalPath);
+
+        final Path temporalFile = Files.createTempFile(temporalPath, "put-", ".tmp");
+        try {
+            final long size = Files.copy(content, temporalFile, StandardCopyOption.REPLACE_EXISTING);
+            FileHelper.createWorkIfNotExists(target.getParent());
+            FileHelper.moveAtomically(temporalFile, target);
+            return size;
+        } finally {
+            Files.deleteIfExists(temporalFile);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> getStream(String key) throws IOException {
+        try {
+            return Optional.of(Files.newInputStream(resolvePath(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<SeekableByteChannel> getChannel(String key) throws IOException {
+        try {
+            return Optional.of(Files.newByteChannel(resolvePath(key), StandardOpenOption.READ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolvePath(key));
+    }
+
+    @Override
+    public Optional<StorageStat> stat(String key) throws IOException {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(resolvePath(key), BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new StorageStat(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resuelve la ruta del fichero de una clave.
+     *
+     * @param key Clave del contenido.
+     * @return La ruta del fichero en el directorio de trabajo.
+     * @throws IllegalArgumentException Si la clave no es válida.
+     */
+    protected Path resolvePath(String key) {
+        StorageBackend.requireValidKey(key);
+        if (UUID_PATTERN.matcher(key).matches()) {
+            return storeConfigurationProperties.getResourceContentPathGivenResourceId(UUID.fromString(key));
+        }
+        return storeConfigurationProperties.getBlobPathGivenContentHash(key);
+    }
+}
@@ -0,0 +1,79 @@
+package com.tokioschool.storeapp.core.storage;
+
+import com.tokioschool.storeapp.configuration.properties.StorageConfigurationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Backend de almacenamiento en memoria, sin persistencia.
+ *
+ * Pensado para las pruebas y para capas calientes de contenido pequeño. El contenido se guarda en el heap
+ * o, con `application.store.storage.off-heap=true`, en buffers directos fuera del heap, que no cargan
+ * al recolector de basura. Las lecturas comparten el buffer, sin copiarlo.
+ *
+ * Se activa con `application.store.storage.backend=memory`.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.store.storage", name = "backend", havingValue = "memory")
+public class InMemoryStorageBackend implements StorageBackend {
+
+    private final boolean offHeap;
+    private final Map<String, StoredContent> contents = new ConcurrentHashMap<>();
+
+    public InMemoryStorageBackend(StorageConfigurationProperties storageConfigurationProperties) {
+        this.offHeap = storageConfigurationProperties.offHeap();
+    }
+
+    @Override
+    public long put(String key, InputStream content) throws IOException {
+        StorageBackend.requireValidKey(key);
+        final byte[] bytes = content.readAllBytes();
+        final ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+        buffer.put(bytes).flip();
+
+        contents.put(key, new StoredContent(buffer.asReadOnlyBuffer(), Instant.now()));
+        return bytes.length;
+    }
+
+    @Override
+    public Optional<InputStream> getStream(String key) {
+        return find(key).map(storedContent -> new ByteBufferInputStream(storedContent.content()));
+    }
+
+    @Override
+    public Optional<SeekableByteChannel> getChannel(String key) {
+        return find(key).map(storedContent -> new ByteBufferChannel(storedContent.content()));
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return contents.remove(StorageBackend.requireValidKey(key)) != null;
+    }
+
+    @Override
+    public Optional<StorageStat> stat(String key) {
+        return find(key).map(storedContent -> new StorageStat(key, storedContent.content().limit(), storedContent.lastModified()));
+    }
+
+    private Optional<StoredContent> find(String key) {
+        return Optional.ofNullable(contents.get(StorageBackend.requireValidKey(key)));
+    }
+
+    /**
+     * Contenido guardado y fecha de su escritura.
+     */
+    private record StoredContent(ByteBuffer content, Instant lastModified) {
+    }
+}
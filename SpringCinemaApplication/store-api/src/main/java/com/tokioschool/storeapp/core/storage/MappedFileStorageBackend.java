@@ -0,0 +1,147 @@
+package com.tokioschool.storeapp.core.storage;
+
+import com.tokioschool.storeapp.configuration.properties.StorageConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import jakarta.annotation.Nullable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Backend de almacenamiento sobre el sistema de ficheros optimizado para lectura.
+ *
+ * Escribe igual que {@link FileSystemStorageBackend}, pero lee proyectando los ficheros en memoria
+ * ({@link MappedByteBuffer}): los contenidos más leídos se sirven desde la caché de páginas del sistema
+ * operativo sin llamadas de lectura ni copias al heap. Mantiene abiertas como máximo
+ * `application.store.storage.max-mapped-files` proyecciones, descartando la menos usada.
+ *
+ * Cada lectura comprueba que el fichero proyectado sigue siendo el mismo (identificador y fecha de modificación),
+ * por lo que una sustitución atómica del contenido nunca sirve la proyección anterior. Una proyección se descarta
+ * al sustituir o eliminar su contenido; como Java no permite liberarla explícitamente, en Windows el borrado
+ * puede fallar mientras siga referenciada.
+ *
+ * Se activa con `application.store.storage.backend=mmap`.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.store.storage", name = "backend", havingValue = "mmap")
+public class MappedFileStorageBackend extends FileSystemStorageBackend {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Mapping> mappings;
+
+    public MappedFileStorageBackend(StoreConfigurationProperties storeConfigurationProperties,
+                                    StorageConfigurationProperties storageConfigurationProperties) {
+        super(storeConfigurationProperties);
+        final int maxMappedFiles = Math.max(1, storageConfigurationProperties.maxMappedFiles());
+        this.mappings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Mapping> eldest) {
+                return size() > maxMappedFiles;
+            }
+        };
+    }
+
+    @Override
+    public long put(String key, InputStream content) throws IOException {
+        final long size = super.put(key, content);
+        unmap(key);
+        return size;
+    }
+
+    @Override
+    public Optional<InputStream> getStream(String key) throws IOException {
+        return map(key).map(ByteBufferInputStream::new);
+    }
+
+    @Override
+    public Optional<SeekableByteChannel> getChannel(String key) throws IOException {
+        return map(key).map(ByteBufferChannel::new);
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        unmap(key);
+        return super.delete(key);
+    }
+
+    /**
+     * Obtiene la proyección de un contenido, creándola si no existe.
+     *
+     * @param key Clave del contenido.
+     * @return Un objeto `Optional` con la proyección de solo lectura, o vacío si el contenido no existe.
+     * @throws IOException Si ocurre un error al proyectar el fichero.
+     */
+    private Optional<MappedByteBuffer> map(String key) throws IOException {
+        final Path path = resolvePath(key);
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            unmap(key);
+            return Optional.empty();
+        }
+
+        lock.lock();
+        try {
+            final Mapping mapping = mappings.get(key);
+            if (mapping != null && mapping.isCurrent(attributes)) {
+                return Optional.of(mapping.buffer());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        final MappedByteBuffer mapped;
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+
+        lock.lock();
+        try {
+            mappings.put(key, new Mapping(mapped, attributes.fileKey(), attributes.lastModifiedTime()));
+        } finally {
+            lock.unlock();
+        }
+        return Optional.of(mapped);
+    }
+
+    private void unmap(String key) {
+        lock.lock();
+        try {
+            mappings.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Proyección de un fichero y los datos que identifican la versión proyectada.
+     */
+    private record Mapping(MappedByteBuffer buffer, @Nullable Object fileKey, FileTime lastModified) {
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return Objects.equals(fileKey, attributes.fileKey()) && lastModified.equals(attributes.lastModifiedTime());
+        }
+    }
+}
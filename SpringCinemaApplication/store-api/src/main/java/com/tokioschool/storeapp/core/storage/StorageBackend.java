@@ -0,0 +1,88 @@
+package com.tokioschool.storeapp.core.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Interfaz de los backends en los que se guarda el contenido de los recursos.
+ *
+ * El contenido se identifica por una clave opaca: el hash del blob, el UUID de un recurso anterior
+ * o cualquier otra cadena que cumpla {@link #KEY_PATTERN}. Escribir una clave existente sustituye su contenido
+ * de forma atómica, por lo que un lector nunca ve un contenido a medio escribir.
+ *
+ * El backend se elige con `application.store.storage.backend`; todas las implementaciones deben pasar
+ * la misma batería de pruebas de conformidad.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public interface StorageBackend {
+
+    /**
+     * Formato de las claves: caracteres alfanuméricos, punto, guion y guion bajo, con al menos cuatro caracteres.
+     */
+    Pattern KEY_PATTERN = Pattern.compile("^[0-9A-Za-z][0-9A-Za-z._-]{3,}$");
+
+    /**
+     * Guarda un contenido, sustituyendo el anterior si la clave ya existe.
+     *
+     * @param key Clave del contenido.
+     * @param content Contenido a guardar; se lee hasta el final pero no se cierra.
+     * @return El número de bytes guardados.
+     * @throws IOException Si ocurre un error al escribir el contenido.
+     */
+    long put(String key, InputStream content) throws IOException;
+
+    /**
+     * Abre un contenido para leerlo en streaming.
+     *
+     * @param key Clave del contenido.
+     * @return Un objeto `Optional` con el flujo del contenido, que debe cerrar quien lo abre, o vacío si no existe.
+     * @throws IOException Si ocurre un error al abrir el contenido.
+     */
+    Optional<InputStream> getStream(String key) throws IOException;
+
+    /**
+     * Abre un contenido para leerlo por posiciones.
+     *
+     * @param key Clave del contenido.
+     * @return Un objeto `Optional` con un canal de solo lectura, que debe cerrar quien lo abre, o vacío si no existe.
+     * @throws IOException Si ocurre un error al abrir el contenido.
+     */
+    Optional<SeekableByteChannel> getChannel(String key) throws IOException;
+
+    /**
+     * Elimina un contenido.
+     *
+     * @param key Clave del contenido.
+     * @return `true` si el contenido existía, de lo contrario `false`.
+     * @throws IOException Si ocurre un error al eliminar el contenido.
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * Obtiene el tamaño y la fecha de escritura de un contenido, sin leerlo.
+     *
+     * @param key Clave del contenido.
+     * @return Un objeto `Optional` con la información del contenido, o vacío si no existe.
+     * @throws IOException Si ocurre un error al consultar el contenido.
+     */
+    Optional<StorageStat> stat(String key) throws IOException;
+
+    /**
+     * Comprueba que una clave cumple el formato admitido por los backends.
+     *
+     * @param key Clave a comprobar.
+     * @return La misma clave.
+     * @throws IllegalArgumentException Si la clave no cumple {@link #KEY_PATTERN}.
+     */
+    static String requireValidKey(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid storage key: %s".formatted(key));
+        }
+        return key;
+    }
+}
@@ -0,0 +1,75 @@
+package com.tokioschool.storeapp.core.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Recurso de Spring cuyo contenido se lee de un {@link StorageBackend} en el momento de escribir la respuesta.
+ *
+ * El tamaño y la fecha de modificación se toman de la información del contenido obtenida al buscarlo,
+ * de modo que Spring no tiene que leerlo para calcular las cabeceras ni los rangos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public class StorageBackendResource extends AbstractResource {
+
+    private final StorageBackend storageBackend;
+    private final StorageStat storageStat;
+
+    public StorageBackendResource(StorageBackend storageBackend, StorageStat storageStat) {
+        this.storageBackend = storageBackend;
+        this.storageStat = storageStat;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return storageBackend.getStream(storageStat.key())
+                .orElseThrow(() -> new FileNotFoundException("%s does not exist".formatted(getDescription())));
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+        return storageBackend.getChannel(storageStat.key())
+                .orElseThrow(() -> new FileNotFoundException("%s does not exist".formatted(getDescription())));
+    }
+
+    @Override
+    public boolean exists() {
+        try {
+            return storageBackend.stat(storageStat.key()).isPresent();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public long contentLength() {
+        return storageStat.size();
+    }
+
+    @Override
+    public long lastModified() {
+        return storageStat.lastModified().toEpochMilli();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Storage content [%s]".formatted(storageStat.key());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof StorageBackendResource that && storageStat.key().equals(that.storageStat.key())
+                && storageBackend == that.storageBackend);
+    }
+
+    @Override
+    public int hashCode() {
+        return storageStat.key().hashCode();
+    }
+}
@@ -0,0 +1,16 @@
+package com.tokioschool.storeapp.core.storage;
+
+import java.time.Instant;
+
+/**
+ * Información de un contenido guardado en un {@link StorageBackend}.
+ *
+ * @param key Clave del contenido.
+ * @param size Tamaño del contenido en bytes.
+ * @param lastModified Fecha de la última escritura del contenido.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record StorageStat(String key, long size, Instant lastModified) {
+}
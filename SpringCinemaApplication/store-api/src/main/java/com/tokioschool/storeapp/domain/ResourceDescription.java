@@ -21,7 +21,7 @@ import java.util.UUID;
  * @version 1.0
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 @Jacksonized
 public class ResourceDescription {
 
@@ -49,4 +49,12 @@ public class ResourceDescription {
      * Tamaño del recurso en bytes.
      */
     int size;
+
+    /**
+     * Hash SHA-256 (hexadecimal) del contenido, que identifica el blob compartido en el que se guarda.
+     *
+     * Es nulo en los recursos anteriores al almacenamiento direccionado por contenido, cuyo
+     * contenido se guarda junto a su descripción con el UUID como nombre.
+     */
+    String contentHash;
 }
\ No newline at end of file
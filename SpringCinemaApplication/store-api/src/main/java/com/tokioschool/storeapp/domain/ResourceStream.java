@@ -0,0 +1,37 @@
+package com.tokioschool.storeapp.domain;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+
+/**
+ * Representa un recurso almacenado cuyo contenido se sirve en streaming.
+ *
+ * A diferencia de {@link com.tokioschool.storeapp.dto.store.ResourceContentDto}, el contenido
+ * no se carga en memoria: se expone como un {@link Resource} que se lee directamente del
+ * almacenamiento en el momento de escribir la respuesta.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Value
+@Builder
+public class ResourceStream {
+
+    /**
+     * Metadatos del recurso.
+     */
+    ResourceDescription resourceDescription;
+
+    /**
+     * Contenido del recurso, leído bajo demanda.
+     */
+    Resource content;
+
+    /**
+     * Fecha de la última modificación del contenido.
+     */
+    Instant lastModified;
+}
@@ -0,0 +1,21 @@
+package com.tokioschool.storeapp.dto.store;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO con el resultado de una petición de varios recursos.
+ *
+ * @param resources Recursos encontrados, con su contenido, en el orden en que se pidieron.
+ * @param notFound Identificadores de los recursos que no se han encontrado.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Builder
+@Jacksonized
+public record ResourceBatchDto(List<ResourceContentDto> resources, List<UUID> notFound) {
+}
@@ -0,0 +1,28 @@
+package com.tokioschool.storeapp.dto.store;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO con los identificadores de los recursos que se piden en una sola petición.
+ *
+ * @param resourceIds Identificadores de los recursos, como máximo {@value #MAX_RESOURCES}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Builder
+@Jacksonized
+public record ResourceBatchRequestDto(
+        @NotEmpty
+        @Size(max = MAX_RESOURCES)
+        List<@NotNull UUID> resourceIds) {
+
+    public static final int MAX_RESOURCES = 100;
+}
@@ -52,7 +52,12 @@ public record ResourceContentDto(
         /**
          * Tamaño del recurso en bytes.
          */
-        int size) {
+        int size,
+
+        /**
+         * Resumen SHA-256 del contenido, en hexadecimal. Puede ser nulo en recursos antiguos.
+         */
+        String contentHash) {
 
     /**
      * Compara este objeto con otro para determinar si son iguales.
@@ -101,6 +106,7 @@ public record ResourceContentDto(
                 ", contentType='" + contentType + '\'' +
                 ", description='" + description + '\'' +
                 ", size=" + size +
+                ", contentHash='" + contentHash + '\'' +
                 '}';
     }
 }
\ No newline at end of file
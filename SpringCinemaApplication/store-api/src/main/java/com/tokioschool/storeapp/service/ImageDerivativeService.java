@@ -0,0 +1,47 @@
+package com.tokioschool.storeapp.service;
+
+import com.tokioschool.storeapp.domain.ResourceStream;
+import jakarta.annotation.Nullable;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Servicio para obtener variantes redimensionadas (miniaturas) de los recursos de tipo imagen.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public interface ImageDerivativeService {
+
+    /**
+     * Busca una variante de un recurso de tipo imagen, redimensionada al ancho indicado.
+     *
+     * La variante se genera la primera vez que se pide y se sirve desde disco el resto de veces.
+     * Solo puede ser accedido por usuarios autenticados.
+     *
+     * @param resourceId El identificador único del recurso original.
+     * @param width Ancho máximo de la variante, en píxeles. La imagen nunca se amplía.
+     * @param format Formato de la variante (por ejemplo `jpeg` o `png`), o el del original si no se indica.
+     * @return Un objeto `Optional` que contiene la variante encapsulada en `ResourceStream`,
+     *         o un `Optional.empty` si el recurso no se encuentra.
+     */
+    @PreAuthorize("isAuthenticated()")
+    Optional<ResourceStream> findImageDerivative(UUID resourceId, int width, @Nullable String format);
+
+    /**
+     * Busca el original de una variante y comprueba que la variante puede generarse, sin generarla.
+     *
+     * Sirve para responder a una petición condicional de una variante con las mismas validaciones que
+     * {@link #findImageDerivative(UUID, int, String)}. Solo puede ser accedido por usuarios autenticados.
+     *
+     * @param resourceId El identificador único del recurso original.
+     * @param width Ancho máximo de la variante, en píxeles.
+     * @param format Formato de la variante, o el del original si no se indica.
+     * @return Un objeto `Optional` que contiene el original encapsulado en `ResourceStream`,
+     *         o un `Optional.empty` si el recurso no se encuentra.
+     */
+    @PreAuthorize("isAuthenticated()")
+    Optional<ResourceStream> findImageOriginal(UUID resourceId, int width, @Nullable String format);
+}
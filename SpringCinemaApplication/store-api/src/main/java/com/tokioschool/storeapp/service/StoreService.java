@@ -1,5 +1,6 @@
 package com.tokioschool.storeapp.service;
 
+import com.tokioschool.storeapp.domain.ResourceStream;
 import com.tokioschool.storeapp.dto.store.ResourceContentDto;
 import com.tokioschool.storeapp.dto.store.ResourceIdDto;
 import jakarta.annotation.Nullable;
@@ -46,6 +47,20 @@ public interface StoreService {
     @PreAuthorize("isAuthenticated()")
     Optional<ResourceContentDto> findResource(UUID resourceId);
 
+    /**
+     * Busca un recurso en el sistema dado su identificador, sin cargar su contenido en memoria.
+     *
+     * El contenido se devuelve como un recurso de Spring que se lee directamente del almacenamiento,
+     * de modo que puede servirse en streaming o por rangos.
+     * Solo puede ser accedido por usuarios autenticados.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @return Un objeto `Optional` que contiene el recurso encapsulado en `ResourceStream`,
+     *         o un `Optional.empty` si no se encuentra.
+     */
+    @PreAuthorize("isAuthenticated()")
+    Optional<ResourceStream> findResourceStream(UUID resourceId);
+
     /**
      * Elimina un recurso del sistema.
      *
@@ -0,0 +1,310 @@
+package com.tokioschool.storeapp.service.impl;
+
+import com.tokioschool.storeapp.configuration.properties.ImageDerivativeConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.event.ResourceDeletedEvent;
+import com.tokioschool.storeapp.core.exception.BadRequestException;
+import com.tokioschool.storeapp.core.exception.InternalErrorException;
+import com.tokioschool.storeapp.core.helper.FileHelper;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
+import com.tokioschool.storeapp.service.ImageDerivativeService;
+import com.tokioschool.storeapp.service.StoreService;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementación del servicio de variantes de imagen.
+ *
+ * Las variantes se generan con las APIs de imagen del JDK ({@link ImageIO} y {@link Graphics2D}) a partir
+ * del contenido original, y se guardan en disco junto al recurso, en {@code <uuid>.derivatives/w<ancho>.<formato>}.
+ * Cada variante se genera una única vez; las siguientes peticiones la sirven directamente desde su fichero.
+ *
+ * Las variantes de un recurso se eliminan al recibir el evento {@link ResourceDeletedEvent}.
+ *
+ * Notas:
+ * - La reducción se hace por pasos a la mitad del tamaño para mantener la calidad de las miniaturas.
+ * - Los formatos sin transparencia (como JPEG) se componen sobre fondo blanco.
+ * - Las dimensiones del original se leen de su cabecera antes de decodificarlo, y las imágenes con más
+ *   píxeles de los configurados se rechazan.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    public static final int MAX_WIDTH = 2048;
+    private static final String IMAGE_CONTENT_TYPE_PREFIX = "image/";
+    private static final String DEFAULT_FORMAT = "png";
+    private static final int DERIVATIVE_LOCKS = 64;
+
+    private final StoreService storeService;
+    private final StoreConfigurationProperties storeConfigurationProperties;
+    private final ImageDerivativeConfigurationProperties imageDerivativeConfigurationProperties;
+
+    // Bloqueos por franjas de ruta, para que cada variante se genere una sola vez
+    private final ReentrantLock[] derivativeLocks = createDerivativeLocks();
+
+    /**
+     * Busca el original de una variante y comprueba el ancho, que el original es una imagen y que el formato
+     * pedido se puede escribir, sin generar la variante.
+     *
+     * @param resourceId El identificador único del recurso original.
+     * @param width Ancho máximo de la variante, en píxeles.
+     * @param format Formato de la variante, o el del original si no se indica.
+     * @return Un objeto `Optional` que contiene el original, o un `Optional.empty` si el recurso no se encuentra.
+     * @throws BadRequestException Si el ancho o el formato no son válidos, o el recurso no es una imagen.
+     */
+    @Override
+    public Optional<ResourceStream> findImageOriginal(UUID resourceId, int width, @Nullable String format) {
+        if (width < 1 || width > MAX_WIDTH) {
+            throw new BadRequestException("The width must be between 1 and %d".formatted(MAX_WIDTH));
+        }
+
+        final Optional<ResourceStream> originalOpt = storeService.findResourceStream(resourceId);
+        originalOpt.ifPresent(original -> {
+            final String contentType = original.getResourceDescription().getContentType();
+            if (contentType == null || !contentType.startsWith(IMAGE_CONTENT_TYPE_PREFIX)) {
+                throw new BadRequestException("The resource with id: %s is not an image".formatted(resourceId));
+            }
+            resolveImageWriter(format, contentType);
+        });
+        return originalOpt;
+    }
+
+    /**
+     * Busca una variante de un recurso de tipo imagen, generándola si aún no existe.
+     *
+     * @param resourceId El identificador único del recurso original.
+     * @param width Ancho máximo de la variante, en píxeles.
+     * @param format Formato de la variante, o el del original si no se indica.
+     * @return Un objeto `Optional` que contiene la variante, o un `Optional.empty` si el recurso no se encuentra.
+     * @throws BadRequestException Si el ancho o el formato no son válidos, o el recurso no es una imagen.
+     * @throws InternalErrorException Si ocurre un error al generar la variante.
+     */
+    @Override
+    public Optional<ResourceStream> findImageDerivative(UUID resourceId, int width, @Nullable String format) {
+        // El original se busca siempre, para no servir variantes de un recurso eliminado
+        final Optional<ResourceStream> originalOpt = findImageOriginal(resourceId, width, format);
+        if (originalOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final ResourceStream original = originalOpt.get();
+        final ResourceDescription resourceDescription = original.getResourceDescription();
+        final ImageWriterSpi imageWriterSpi = resolveImageWriter(format, resourceDescription.getContentType());
+        final String formatName = imageWriterSpi.getFormatNames()[0].toLowerCase(Locale.ROOT);
+        final Path derivativePath = storeConfigurationProperties.getDerivativesPathGivenResourceId(resourceId)
+                .resolve("w%d.%s".formatted(width, imageWriterSpi.getFileSuffixes()[0]));
+
+        try {
+            if (!Files.isRegularFile(derivativePath)) {
+                generateDerivative(original, derivativePath, width, formatName);
+            }
+
+            return Optional.of(ResourceStream.builder()
+                    .resourceDescription(resourceDescription.toBuilder()
+                            .resourceName("%s.%s".formatted(Optional.ofNullable(resourceDescription.getResourceName())
+                                            .map(StringUtils::stripFilenameExtension)
+                                            .orElseGet(resourceId::toString),
+                                    imageWriterSpi.getFileSuffixes()[0]))
+                            .contentType(imageWriterSpi.getMIMETypes()[0])
+                            .size((int) Files.size(derivativePath))
+                            .contentHash(null)
+                            .build())
+                    .content(new FileSystemResource(derivativePath))
+                    .lastModified(Files.getLastModifiedTime(derivativePath).toInstant())
+                    .build());
+        } catch (IOException e) {
+            throw new InternalErrorException("Error to generate the image derivative of the resource with id: %s".formatted(resourceId), e);
+        }
+    }
+
+    /**
+     * Elimina las variantes de un recurso cuando este se elimina.
+     *
+     * @param resourceDeletedEvent Evento con el identificador del recurso eliminado.
+     */
+    @EventListener
+    public void onResourceDeleted(ResourceDeletedEvent resourceDeletedEvent) {
+        final Path derivativesPath = storeConfigurationProperties.getDerivativesPathGivenResourceId(resourceDeletedEvent.resourceId());
+        try {
+            if (FileSystemUtils.deleteRecursively(derivativesPath)) {
+                log.debug("Deleted the image derivatives of the resource with id {}", resourceDeletedEvent.resourceId());
+            }
+        } catch (IOException e) {
+            log.error("Error to delete the image derivatives of the resource with id {}, cause: {}",
+                    resourceDeletedEvent.resourceId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Genera la variante en un fichero temporal y la mueve de forma atómica a su ruta.
+     */
+    private void generateDerivative(ResourceStream original, Path derivativePath, int width, String formatName) throws IOException {
+        final ReentrantLock lock = derivativeLocks[Math.floorMod(derivativePath.hashCode(), derivativeLocks.length)];
+        lock.lock();
+        try {
+            // Otra petición ha podido generarla mientras se esperaba el bloqueo
+            if (Files.isRegularFile(derivativePath)) {
+                return;
+            }
+
+            final BufferedImage source = readImage(original);
+            final BufferedImage derivative = resize(source, width, supportsTransparency(formatName));
+
+            final Path temporalPath = storeConfigurationProperties.buildTemporalPath();
+            FileHelper.createWorkIfNotExists(temporalPath);
+            FileHelper.createWorkIfNotExists(derivativePath.getParent());
+            final Path temporalFile = Files.createTempFile(temporalPath, "derivative-", ".tmp");
+            try {
+                if (!ImageIO.write(derivative, formatName, temporalFile.toFile())) {
+                    throw new IOException("There is no image writer for the format %s".formatted(formatName));
+                }
+                FileHelper.moveAtomically(temporalFile, derivativePath);
+            } finally {
+                Files.deleteIfExists(temporalFile);
+            }
+            log.debug("Generated the image derivative {}", derivativePath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Decodifica la imagen original, comprobando antes sus dimensiones en la cabecera.
+     *
+     * Una imagen pequeña en disco puede declarar unas dimensiones enormes y ocupar gigabytes al decodificarse,
+     * por lo que se rechaza sin decodificarla si supera el número máximo de píxeles configurado.
+     *
+     * @throws BadRequestException Si el contenido no es una imagen legible o supera el número máximo de píxeles.
+     */
+    private BufferedImage readImage(ResourceStream original) throws IOException {
+        final UUID resourceId = original.getResourceDescription().getId();
+        try (InputStream inputStream = original.getContent().getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            final Iterator<ImageReader> imageReaders = imageInputStream == null
+                    ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(imageInputStream);
+            if (!imageReaders.hasNext()) {
+                throw new BadRequestException("The resource with id: %s is not a readable image".formatted(resourceId));
+            }
+
+            final ImageReader imageReader = imageReaders.next();
+            try {
+                imageReader.setInput(imageInputStream, true, true);
+                final long pixels = (long) imageReader.getWidth(0) * imageReader.getHeight(0);
+                if (pixels > imageDerivativeConfigurationProperties.maxPixels()) {
+                    throw new BadRequestException("The image with id: %s is too large, %d pixels and the maximum is %d"
+                            .formatted(resourceId, pixels, imageDerivativeConfigurationProperties.maxPixels()));
+                }
+                return imageReader.read(0);
+            } finally {
+                imageReader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Redimensiona una imagen al ancho indicado manteniendo su proporción, sin ampliarla.
+     */
+    private static BufferedImage resize(BufferedImage source, int width, boolean transparency) {
+        final int targetWidth = Math.min(width, source.getWidth());
+        final int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        final int imageType = transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            // Reducción por pasos: como mucho a la mitad en cada paso
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            final BufferedImage scaled = new BufferedImage(currentWidth, currentHeight, imageType);
+            final Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!transparency) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * Resuelve el escritor de imágenes del formato pedido, o del formato del original si no se indica.
+     *
+     * @throws BadRequestException Si el formato pedido no está soportado.
+     */
+    private static ImageWriterSpi resolveImageWriter(@Nullable String format, String contentType) {
+        if (format != null) {
+            return findImageWriter(ImageIO.getImageWritersByFormatName(format.toLowerCase(Locale.ROOT)))
+                    .orElseThrow(() -> new BadRequestException("The image format %s is not supported".formatted(format)));
+        }
+        return findImageWriter(ImageIO.getImageWritersByMIMEType(contentType))
+                .or(() -> findImageWriter(ImageIO.getImageWritersByFormatName(DEFAULT_FORMAT)))
+                .orElseThrow(() -> new IllegalStateException("There is no image writer for %s".formatted(DEFAULT_FORMAT)));
+    }
+
+    private static Optional<ImageWriterSpi> findImageWriter(Iterator<ImageWriter> imageWriters) {
+        if (!imageWriters.hasNext()) {
+            return Optional.empty();
+        }
+        final ImageWriter imageWriter = imageWriters.next();
+        try {
+            return Optional.ofNullable(imageWriter.getOriginatingProvider());
+        } finally {
+            imageWriter.dispose();
+        }
+    }
+
+    private static boolean supportsTransparency(String formatName) {
+        return DEFAULT_FORMAT.equals(formatName);
+    }
+
+    private static ReentrantLock[] createDerivativeLocks() {
+        final ReentrantLock[] locks = new ReentrantLock[DERIVATIVE_LOCKS];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
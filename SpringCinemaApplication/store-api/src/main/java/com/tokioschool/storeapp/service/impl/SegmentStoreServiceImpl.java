@@ -0,0 +1,216 @@
+package com.tokioschool.storeapp.service.impl;
+
+import com.tokioschool.storeapp.core.cache.ContentCache;
+import com.tokioschool.storeapp.core.event.ResourceDeletedEvent;
+import com.tokioschool.storeapp.core.segment.SegmentContentResource;
+import com.tokioschool.storeapp.core.segment.SegmentEntry;
+import com.tokioschool.storeapp.core.segment.SegmentStore;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
+import com.tokioschool.storeapp.dto.store.ResourceContentDto;
+import com.tokioschool.storeapp.dto.store.ResourceIdDto;
+import com.tokioschool.storeapp.service.StoreService;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementación del servicio para la gestión de recursos sobre ficheros de segmento.
+ *
+ * Se activa con `application.store.engine=segment` y sustituye a {@link StoreServiceImpl}. Los recursos
+ * (contenido y metadatos) se añaden como registros a ficheros de segmento grandes gestionados por
+ * {@link SegmentStore}, en lugar de guardar dos ficheros por recurso. Está pensado para recursos pequeños
+ * y numerosos, como avatares y carteles.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.store", name = "engine", havingValue = "segment")
+@RequiredArgsConstructor
+@Slf4j
+public class SegmentStoreServiceImpl implements StoreService {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final SegmentStore segmentStore;
+    private final ContentCache contentCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Sube un recurso al sistema, añadiendo su contenido y metadatos al segmento activo.
+     *
+     * @param multipartFile El archivo que se desea cargar en el sistema.
+     * @param description Información adicional sobre el recurso (opcional).
+     * @return Un objeto `Optional` que contiene el identificador del recurso encapsulado en `ResourceIdDto`.
+     */
+    @Override
+    public Optional<ResourceIdDto> saveResource(MultipartFile multipartFile, @Nullable String description) {
+        // Verifica si el recurso está vacío
+        if (multipartFile.isEmpty()) {
+            log.error("The resource is empty");
+            return Optional.empty();
+        }
+
+        // Genera un identificador único para el recurso
+        final ResourceIdDto resourceIdDto = ResourceIdDto.builder().resourceId(UUID.randomUUID()).build();
+
+        // Calcula el resumen del contenido, que se usa como validador (ETag) del recurso
+        final String contentHash;
+        try {
+            contentHash = computeContentHash(multipartFile);
+        } catch (IOException e) {
+            log.error("Don't read the resource to compute its hash, cause: %s".formatted(e), e);
+            return Optional.empty();
+        }
+
+        // Construye los metadatos del recurso
+        final ResourceDescription resourceDescription = ResourceDescription.builder()
+                .id(resourceIdDto.resourceId())
+                .resourceName(multipartFile.getOriginalFilename())
+                .description(description)
+                .size((int) multipartFile.getSize())
+                .contentType(multipartFile.getContentType())
+                .contentHash(contentHash)
+                .build();
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            segmentStore.put(resourceDescription, inputStream, multipartFile.getSize());
+        } catch (IOException e) {
+            log.error("Don't save the resource in the segment, cause: %s".formatted(e), e);
+            return Optional.empty();
+        }
+
+        // Retorna el identificador del recurso creado
+        return Optional.of(resourceIdDto);
+    }
+
+    /**
+     * Busca un recurso dado su identificador y lo retorna encapsulado en un `ResourceContentDto`.
+     *
+     * @param resourceId El identificador del recurso.
+     * @return Un objeto `Optional` que contiene el contenido y los metadatos del recurso,
+     *         o un `Optional.empty` si no se encuentra.
+     */
+    @Override
+    public Optional<ResourceContentDto> findResource(UUID resourceId) {
+        final Optional<SegmentEntry> segmentEntryOpt = segmentStore.find(resourceId);
+        if (segmentEntryOpt.isEmpty()) {
+            log.debug("Error to find the resource with id {}, don't found", resourceId);
+            return Optional.empty();
+        }
+
+        final ResourceDescription resourceDescription = segmentEntryOpt.get().resourceDescription();
+        final Optional<byte[]> contentOpt = contentCache.get(resourceId.toString())
+                .or(() -> readContent(resourceId));
+
+        return contentOpt.map(content -> ResourceContentDto.builder()
+                .contentType(resourceDescription.getContentType())
+                .description(resourceDescription.getDescription())
+                .resourceName(resourceDescription.getResourceName())
+                .size(resourceDescription.getSize())
+                .contentHash(resourceDescription.getContentHash())
+                .content(content)
+                .resourceId(resourceId)
+                .build());
+    }
+
+    /**
+     * Busca un recurso dado su identificador y lo retorna encapsulado en un `ResourceStream`.
+     *
+     * El contenido no se carga en memoria: se lee en streaming de su segmento al escribir la respuesta,
+     * igual que en el resto de motores.
+     *
+     * @param resourceId El identificador del recurso.
+     * @return Un objeto `Optional` que contiene el recurso, o un `Optional.empty` si no se encuentra.
+     */
+    @Override
+    public Optional<ResourceStream> findResourceStream(UUID resourceId) {
+        final Optional<SegmentEntry> segmentEntryOpt = segmentStore.find(resourceId);
+        if (segmentEntryOpt.isEmpty()) {
+            log.debug("Error to find the resource with id {}, don't found", resourceId);
+            return Optional.empty();
+        }
+
+        final SegmentEntry segmentEntry = segmentEntryOpt.get();
+        return Optional.of(ResourceStream.builder()
+                .resourceDescription(segmentEntry.resourceDescription())
+                .content(new SegmentContentResource(segmentStore, segmentEntry))
+                .lastModified(segmentEntry.createdAt())
+                .build());
+    }
+
+    /**
+     * Elimina un recurso dado su identificador, añadiendo una lápida al segmento activo.
+     *
+     * El espacio del recurso se recupera al compactar su segmento. Al terminar se publica un
+     * {@link ResourceDeletedEvent} para limpiar los datos derivados del recurso.
+     *
+     * @param resourceId El identificador del recurso.
+     */
+    @Override
+    public void deleteResource(UUID resourceId) {
+        try {
+            if (segmentStore.delete(resourceId).isPresent()) {
+                contentCache.invalidate(resourceId.toString());
+                applicationEventPublisher.publishEvent(new ResourceDeletedEvent(resourceId));
+            }
+        } catch (IOException e) {
+            log.error("Error in deleteResource, cause: %s".formatted(e), e);
+        }
+    }
+
+    /**
+     * Lee el contenido de un recurso de su segmento y lo ofrece a la caché de contenido.
+     *
+     * @param resourceId El identificador del recurso.
+     * @return Un objeto `Optional` con el contenido, o vacío si no existe o no se puede leer.
+     */
+    private Optional<byte[]> readContent(UUID resourceId) {
+        try {
+            final Optional<byte[]> contentOpt = segmentStore.readContent(resourceId);
+            contentOpt.ifPresent(content -> contentCache.put(resourceId.toString(), content));
+            return contentOpt;
+        } catch (IOException e) {
+            log.error("Error the read the segment of the resource with id {}, because {}", resourceId, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Calcula el resumen SHA-256 del contenido de un recurso.
+     *
+     * Los recursos de un segmento son pequeños, por lo que se lee el contenido una vez para el resumen
+     * y otra para escribirlo en el segmento, ya que los metadatos se serializan antes que el contenido.
+     *
+     * @param multipartFile El archivo del recurso.
+     * @return El resumen del contenido en hexadecimal.
+     * @throws IOException Si ocurre un error al leer el contenido.
+     */
+    private static String computeContentHash(MultipartFile multipartFile) throws IOException {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The algorithm %s is not available".formatted(DIGEST_ALGORITHM), e);
+        }
+        try (InputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), messageDigest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+}
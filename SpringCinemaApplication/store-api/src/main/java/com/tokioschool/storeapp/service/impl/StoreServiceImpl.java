@@ -2,8 +2,15 @@ package com.tokioschool.storeapp.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.cache.ContentCache;
+import com.tokioschool.storeapp.core.event.ResourceDeletedEvent;
 import com.tokioschool.storeapp.core.helper.FileHelper;
+import com.tokioschool.storeapp.core.metadata.ResourceMetadataIndex;
+import com.tokioschool.storeapp.core.storage.StorageBackend;
+import com.tokioschool.storeapp.core.storage.StorageBackendResource;
+import com.tokioschool.storeapp.core.storage.StorageStat;
 import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
 import com.tokioschool.storeapp.dto.store.ResourceContentDto;
 import com.tokioschool.storeapp.dto.store.ResourceIdDto;
 import com.tokioschool.storeapp.service.StoreService;
@@ -11,34 +18,70 @@ import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FilenameFilter;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Implementación del servicio para la gestión de recursos en el sistema.
  *
  * Esta clase proporciona metodos para cargar, buscar y eliminar recursos,
- * utilizando un sistema de almacenamiento basado en archivos.
+ * utilizando un sistema de almacenamiento basado en archivos. La descripción de cada recurso se guarda en un
+ * directorio fragmentado derivado de su UUID, por lo que la búsqueda y el borrado resuelven
+ * la ruta directamente en lugar de recorrer el directorio de trabajo.
+ *
+ * El contenido se guarda direccionado por su hash SHA-256 (blob) en el {@link StorageBackend} configurado:
+ * primero se calcula el hash leyendo la subida en streaming y solo se escribe si el blob no existe.
+ * El UUID del recurso es una referencia a dicho blob, de modo que subir el mismo contenido varias veces
+ * no duplica el almacenamiento. Cada blob lleva un contador de referencias ({@code <hash>.refs}) y solo
+ * se elimina cuando ningún recurso lo referencia.
+ *
+ * Los metadatos se consultan en el índice en memoria {@link ResourceMetadataIndex}, por lo que una
+ * búsqueda no abre ni parsea el fichero de descripción del recurso.
+ *
+ * El contenido de los recursos más solicitados se sirve desde la {@link ContentCache}, sin volver a leer el disco.
+ *
+ * Es el motor de almacenamiento por defecto (`application.store.engine=file`); la alternativa sobre
+ * ficheros de segmento es {@link SegmentStoreServiceImpl}.
  *
  * @author andres.rpenuela
  * @version 1.0
  */
 @Service
+@ConditionalOnProperty(prefix = "application.store", name = "engine", havingValue = "file", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class StoreServiceImpl implements StoreService {
 
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String REFS_EXTENSION = ".refs";
+    private static final int BLOB_LOCKS = 64;
+
     private final StoreConfigurationProperties storeConfigurationProperties;
     private final ObjectMapper objectMapper;
+    private final ResourceMetadataIndex resourceMetadataIndex;
+    private final ContentCache contentCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StorageBackend storageBackend;
+
+    // Bloqueos por franjas de hash, para serializar el contador de referencias de un mismo blob
+    private final ReentrantLock[] blobLocks = createBlobLocks();
 
     /**
      * Inicializa el directorio de trabajo si no existe.
@@ -57,6 +100,9 @@ public class StoreServiceImpl implements StoreService {
     /**
      * Sube un recurso al sistema, guardando su contenido y metadatos.
      *
+     * El contenido no se carga en memoria: se lee en streaming para calcular su hash SHA-256 y
+     * solo se escribe en el backend de almacenamiento si el blob todavía no existe.
+     *
      * @param multipartFile El archivo que se desea cargar en el sistema.
      * @param description Información adicional sobre el recurso (opcional).
      * @return Un objeto `Optional` que contiene el identificador del recurso encapsulado en `ResourceIdDto`.
@@ -69,39 +115,41 @@ public class StoreServiceImpl implements StoreService {
             return Optional.empty();
         }
 
-        // Construye los metadatos del recurso
-        final ResourceDescription resourceDescription = ResourceDescription.builder()
-                .resourceName(multipartFile.getOriginalFilename())
-                .description(description)
-                .size((int) multipartFile.getSize())
-                .contentType(multipartFile.getContentType()).build();
-
-        // Genera un identificador único para el recurso
-        final ResourceIdDto resourceIdDto = ResourceIdDto.builder().resourceId(UUID.randomUUID()).build();
-        final String resourceName = "%s".formatted(resourceIdDto.resourceId());
-        final String resourceDescriptionName = "%s.json".formatted(resourceIdDto.resourceId());
-
-        // Define las rutas para guardar el contenido y los metadatos
-        final Path pathResourceToContent = storeConfigurationProperties.getResourcePathFromRelativePathGivenNameResource(resourceName);
-        final Path pathResourceToDescription = storeConfigurationProperties.getResourcePathFromRelativePathGivenNameResource(resourceDescriptionName);
-
-        // Guarda el contenido del recurso
+        // Guarda el contenido del recurso en su blob
+        final String contentHash;
         try {
-            Files.write(pathResourceToContent, multipartFile.getBytes());
+            contentHash = storeBlob(multipartFile);
         } catch (IOException e) {
             log.error("Don't save content resource, cause: %s".formatted(e), e);
             return Optional.empty();
         }
 
-        // Guarda los metadatos del recurso en formato JSON
+        // Genera un identificador único para el recurso
+        final ResourceIdDto resourceIdDto = ResourceIdDto.builder().resourceId(UUID.randomUUID()).build();
+
+        // Construye los metadatos del recurso
+        final ResourceDescription resourceDescription = ResourceDescription.builder()
+                .id(resourceIdDto.resourceId())
+                .resourceName(multipartFile.getOriginalFilename())
+                .description(description)
+                .size((int) multipartFile.getSize())
+                .contentType(multipartFile.getContentType())
+                .contentHash(contentHash)
+                .build();
+
+        // Guarda los metadatos del recurso en formato JSON, dentro de su directorio fragmentado, y los indexa
+        final Path pathResourceToDescription = storeConfigurationProperties.getResourceDescriptionPathGivenResourceId(resourceIdDto.resourceId());
         try {
+            FileHelper.createWorkIfNotExists(pathResourceToDescription.getParent());
             objectMapper.writeValue(pathResourceToDescription.toFile(), resourceDescription);
+            resourceMetadataIndex.put(resourceDescription);
         } catch (IOException e) {
             log.error("Don't save meta data of resource, cause: %s".formatted(e));
             try {
-                Files.deleteIfExists(pathResourceToContent);
+                Files.deleteIfExists(pathResourceToDescription);
+                releaseBlob(contentHash);
             } catch (IOException ex) {
-                log.error("Error to deleted the resource, cause: %s".formatted(e));
+                log.error("Error to deleted the resource, cause: %s".formatted(ex));
             }
             return Optional.empty();
         }
@@ -119,50 +167,91 @@ public class StoreServiceImpl implements StoreService {
      */
     @Override
     public Optional<ResourceContentDto> findResource(UUID resourceId) {
-        final String patternFileName = "%s".formatted(resourceId);
-        final String patternFileJsonName = "%s.json".formatted(resourceId);
-
-        final Optional<File> fileResourceOpt;
-        final Optional<File> fileDescriptionResourceOpt;
+        final Optional<ResourceDescription> resourceDescriptionOpt = readResourceDescription(resourceId);
+        if (resourceDescriptionOpt.isEmpty()) {
+            return Optional.empty();
+        }
 
-        // Busca los archivos del recurso en el sistema
-        final FilenameFilter filenameFilter = (dir, name) -> name.contains(patternFileName);
-        final File[] files = storeConfigurationProperties.buildResourcePathFromRelativePathGivenNameResource()
-                .toFile()
-                .listFiles(filenameFilter);
+        final ResourceDescription resourceDescription = resourceDescriptionOpt.get();
+        final String contentCacheKey = getContentKey(resourceId, resourceDescription);
 
-        if (files == null || files.length <= 1) {
-            log.debug("Error to find the resource with id {}, don't found", resourceId);
+        // Lee el contenido del recurso, de la caché o del disco
+        final Optional<byte[]> contentOpt = contentCache.get(contentCacheKey)
+                .or(() -> readContent(resourceId, resourceDescription));
+        if (contentOpt.isEmpty()) {
             return Optional.empty();
         }
 
-        // Carga los archivos del recurso
-        fileResourceOpt = Arrays.stream(files).filter(file -> file.getName().equalsIgnoreCase(patternFileName)).findFirst();
-        fileDescriptionResourceOpt = Arrays.stream(files).filter(file -> file.getName().equalsIgnoreCase(patternFileJsonName)).findFirst();
+        // Construye el resultado final
+        final ResourceContentDto resourceContentDto = ResourceContentDto.builder()
+                .contentType(resourceDescription.getContentType())
+                .description(resourceDescription.getDescription())
+                .resourceName(resourceDescription.getResourceName())
+                .size(resourceDescription.getSize())
+                .contentHash(resourceDescription.getContentHash())
+                .content(contentOpt.get())
+                .resourceId(resourceId)
+                .build();
+
+        return Optional.of(resourceContentDto);
+    }
+
+    /**
+     * Lee del disco el contenido de un recurso y lo ofrece a la caché de contenido.
+     *
+     * @param resourceId El identificador del recurso.
+     * @param resourceDescription La descripción del recurso.
+     * @return Un objeto `Optional` con el contenido, o vacío si no existe o no se puede leer.
+     */
+    private Optional<byte[]> readContent(UUID resourceId, ResourceDescription resourceDescription) {
+        final String contentKey = getContentKey(resourceId, resourceDescription);
+        try {
+            final Optional<InputStream> inputStreamOpt = storageBackend.getStream(contentKey);
+            if (inputStreamOpt.isEmpty()) {
+                log.debug("Error the resource with id {}, content not found", resourceId);
+                return Optional.empty();
+            }
 
-        if (fileResourceOpt.isEmpty() || fileDescriptionResourceOpt.isEmpty()) {
-            log.debug("Error the resource with id {}, uncompleted number files", resourceId);
+            final byte[] content;
+            try (InputStream inputStream = inputStreamOpt.get()) {
+                content = inputStream.readAllBytes();
+            }
+            contentCache.put(contentKey, content);
+            return Optional.of(content);
+        } catch (IOException e) {
+            log.error("Error the read the file with id {}, because {}", resourceId, e.getMessage(), e);
             return Optional.empty();
         }
+    }
 
-        // Lee el contenido y los metadatos del recurso
-        try {
-            final byte[] content = Files.readAllBytes(fileResourceOpt.get().toPath());
+    /**
+     * Busca un recurso dado su identificador y lo retorna encapsulado en un `ResourceStream`,
+     * cuyo contenido se lee directamente del backend de almacenamiento al escribir la respuesta.
+     *
+     * @param resourceId El identificador del recurso.
+     * @return Un objeto `Optional` que contiene el recurso, o un `Optional.empty` si no se encuentra.
+     */
+    @Override
+    public Optional<ResourceStream> findResourceStream(UUID resourceId) {
+        final Optional<ResourceDescription> resourceDescriptionOpt = readResourceDescription(resourceId);
+        if (resourceDescriptionOpt.isEmpty()) {
+            return Optional.empty();
+        }
 
-            final ResourceDescription resourceDescription = this.objectMapper
-                    .readValue(fileDescriptionResourceOpt.get(), ResourceDescription.class);
+        final ResourceDescription resourceDescription = resourceDescriptionOpt.get();
 
-            // Construye el resultado final
-            final ResourceContentDto resourceContentDto = ResourceContentDto.builder()
-                    .contentType(resourceDescription.getContentType())
-                    .description(resourceDescription.getDescription())
-                    .resourceName(resourceDescription.getResourceName())
-                    .size(resourceDescription.getSize())
-                    .content(content)
-                    .resourceId(resourceId)
-                    .build();
+        try {
+            final Optional<StorageStat> storageStatOpt = storageBackend.stat(getContentKey(resourceId, resourceDescription));
+            if (storageStatOpt.isEmpty()) {
+                log.debug("Error the resource with id {}, content not found", resourceId);
+                return Optional.empty();
+            }
 
-            return Optional.of(resourceContentDto);
+            return Optional.of(ResourceStream.builder()
+                    .resourceDescription(resourceDescription)
+                    .content(new StorageBackendResource(storageBackend, storageStatOpt.get()))
+                    .lastModified(storageStatOpt.get().lastModified())
+                    .build());
 
         } catch (IOException e) {
             log.error("Error the read the file with id {}, because {}", resourceId, e.getMessage(), e);
@@ -171,24 +260,159 @@ public class StoreServiceImpl implements StoreService {
     }
 
     /**
-     * Elimina un recurso (contenido y archivo de descripción) dado su identificador.
+     * Elimina un recurso (archivo de descripción y referencia a su contenido) dado su identificador.
+     *
+     * El blob del contenido solo se elimina cuando ya no lo referencia ningún otro recurso.
+     * Al terminar se publica un {@link ResourceDeletedEvent} para limpiar los datos derivados del recurso.
      *
      * @param resourceId El identificador del recurso.
      */
     @Override
     public void deleteResource(UUID resourceId) {
-        final FilenameFilter filenameFilter = (dir, name) -> name.contains("%s".formatted(resourceId));
-        final File[] filesByName = storeConfigurationProperties
-                .buildResourcePathFromRelativePathGivenNameResource()
-                .toFile()
-                .listFiles(filenameFilter::accept);
+        final Path pathResourceToDescription = storeConfigurationProperties.getResourceDescriptionPathGivenResourceId(resourceId);
 
-        Arrays.stream(filesByName).forEach(file -> {
-            try {
-                Files.deleteIfExists(file.toPath());
-            } catch (IOException e) {
-                log.error("Error in deleteResource, cause: ".formatted(e));
+        try {
+            // Se desindexa y se borra la descripción antes que el contenido para no dejar recursos con referencias rotas.
+            // Solo quien desindexa el recurso libera su contenido, aunque se borre varias veces a la vez.
+            final Optional<ResourceDescription> resourceDescriptionOpt = resourceMetadataIndex.remove(resourceId);
+            Files.deleteIfExists(pathResourceToDescription);
+
+            if (resourceDescriptionOpt.isEmpty()) {
+                return;
+            }
+
+            final String contentHash = resourceDescriptionOpt.get().getContentHash();
+            if (contentHash == null) {
+                contentCache.invalidate(resourceId.toString());
+                storageBackend.delete(resourceId.toString());
+            } else {
+                releaseBlob(contentHash);
             }
-        });
+            applicationEventPublisher.publishEvent(new ResourceDeletedEvent(resourceId));
+        } catch (IOException e) {
+            log.error("Error in deleteResource, cause: %s".formatted(e), e);
+        }
+    }
+
+    /**
+     * Obtiene la descripción de un recurso del índice de metadatos.
+     *
+     * @param resourceId El identificador del recurso.
+     * @return Un objeto `Optional` con la descripción, o vacío si no existe.
+     */
+    private Optional<ResourceDescription> readResourceDescription(UUID resourceId) {
+        final Optional<ResourceDescription> resourceDescriptionOpt = resourceMetadataIndex.find(resourceId);
+        if (resourceDescriptionOpt.isEmpty()) {
+            log.debug("Error to find the resource with id {}, don't found", resourceId);
+        }
+        return resourceDescriptionOpt;
+    }
+
+    /**
+     * Obtiene la clave del contenido de un recurso, en el backend de almacenamiento y en la caché:
+     * el hash de su blob, compartido por todos los recursos con el mismo contenido, o su UUID si es
+     * un recurso anterior.
+     *
+     * @param resourceId El identificador del recurso.
+     * @param resourceDescription La descripción del recurso.
+     * @return La clave del contenido.
+     */
+    private static String getContentKey(UUID resourceId, ResourceDescription resourceDescription) {
+        return Optional.ofNullable(resourceDescription.getContentHash()).orElseGet(resourceId::toString);
+    }
+
+    /**
+     * Calcula en streaming el hash del contenido y lo guarda en su blob, o incrementa las referencias
+     * del blob si ya existe.
+     *
+     * La subida ya está en el almacenamiento temporal del servidor, por lo que se lee una vez para el hash
+     * y, solo si el blob no existe, otra para escribirlo en el backend.
+     *
+     * @param multipartFile El archivo subido.
+     * @return El hash SHA-256 del contenido, en hexadecimal.
+     * @throws IOException Si ocurre un error al escribir el contenido.
+     */
+    private String storeBlob(MultipartFile multipartFile) throws IOException {
+        final MessageDigest messageDigest = newMessageDigest();
+        try (InputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), messageDigest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        final String contentHash = HexFormat.of().formatHex(messageDigest.digest());
+
+        final ReentrantLock lock = getBlobLock(contentHash);
+        lock.lock();
+        try {
+            if (storageBackend.stat(contentHash).isEmpty()) {
+                try (InputStream inputStream = multipartFile.getInputStream()) {
+                    storageBackend.put(contentHash, inputStream);
+                }
+            }
+            writeReferences(contentHash, readReferences(contentHash) + 1);
+        } finally {
+            lock.unlock();
+        }
+        return contentHash;
+    }
+
+    /**
+     * Decrementa las referencias de un blob y lo elimina si ya no está referenciado.
+     *
+     * @param contentHash Hash del blob.
+     * @throws IOException Si ocurre un error al actualizar o eliminar el blob.
+     */
+    private void releaseBlob(String contentHash) throws IOException {
+        final ReentrantLock lock = getBlobLock(contentHash);
+        lock.lock();
+        try {
+            final long references = readReferences(contentHash) - 1;
+            if (references > 0) {
+                writeReferences(contentHash, references);
+                return;
+            }
+            contentCache.invalidate(contentHash);
+            storageBackend.delete(contentHash);
+            storageBackend.delete(getReferencesKey(contentHash));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long readReferences(String contentHash) throws IOException {
+        final Optional<InputStream> inputStreamOpt = storageBackend.getStream(getReferencesKey(contentHash));
+        if (inputStreamOpt.isEmpty()) {
+            return 0;
+        }
+        try (InputStream inputStream = inputStreamOpt.get()) {
+            return Long.parseLong(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim());
+        }
+    }
+
+    private void writeReferences(String contentHash, long references) throws IOException {
+        storageBackend.put(getReferencesKey(contentHash),
+                new ByteArrayInputStream(Long.toString(references).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String getReferencesKey(String contentHash) {
+        return contentHash + REFS_EXTENSION;
+    }
+
+    private ReentrantLock getBlobLock(String contentHash) {
+        return blobLocks[Math.floorMod(contentHash.hashCode(), blobLocks.length)];
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The algorithm %s is not available".formatted(DIGEST_ALGORITHM), e);
+        }
+    }
+
+    private static ReentrantLock[] createBlobLocks() {
+        final ReentrantLock[] locks = new ReentrantLock[BLOB_LOCKS];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
     }
-}
\ No newline at end of file
+}
@@ -2,12 +2,18 @@ package com.tokioschool.storeapp.controller.it;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tokioschool.storeapp.controller.StoreApiController;
+import com.tokioschool.storeapp.core.exception.BadRequestException;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
+import com.tokioschool.storeapp.dto.store.ResourceBatchRequestDto;
 import com.tokioschool.storeapp.dto.store.ResourceContentDto;
 import com.tokioschool.storeapp.dto.store.ResourceIdDto;
 import com.tokioschool.storeapp.redis.service.RedisJwtBlackListService;
 import com.tokioschool.storeapp.security.filter.StoreApiSecurityConfiguration;
 import com.tokioschool.storeapp.security.jwt.configuration.JwtConfiguration;
+import com.tokioschool.storeapp.service.ImageDerivativeService;
 import com.tokioschool.storeapp.service.StoreService;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
@@ -16,6 +22,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithAnonymousUser;
@@ -27,8 +35,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @WebMvcTest(controllers = StoreApiController.class) // obtiente solo el contexto del contraldor especificado
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -37,6 +48,8 @@ import java.util.UUID;
 @Import({StoreApiSecurityConfiguration.class, JwtConfiguration.class}) // Importa la configuración de seguridad
 class StoreApiControllerITest {
 
+    private static final String CONTENT_HASH = "a".repeat(64);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -46,6 +59,9 @@ class StoreApiControllerITest {
     @MockitoBean
     private StoreService storeService;
 
+    @MockitoBean
+    private ImageDerivativeService imageDerivativeService;
+
     // Filter Security
     @MockitoBean
     private RedisJwtBlackListService jwtBlackListService;
@@ -73,6 +89,242 @@ class StoreApiControllerITest {
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenResourceId_whenGetResourceContentEndpoint_returnOk() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.TEXT_PLAIN))
+                .andExpect(MockMvcResultMatchers.content().string("hola"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(MockMvcResultMatchers.header().string(StoreApiController.HEADER_RESOURCE_ID, resourceId.toString()))
+                .andExpect(MockMvcResultMatchers.header().string(StoreApiController.HEADER_RESOURCE_NAME, "ExampleFile.txt"));
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenResourceId_whenGetResourceContentEndpoint_returnCacheValidators() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"%s\"".formatted(CONTENT_HASH)))
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"));
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenMatchingIfNoneMatch_whenGetResourceContentEndpoint_returnNotModified() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId))
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"%s\"".formatted(CONTENT_HASH)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"%s\"".formatted(CONTENT_HASH)))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenMatchingIfNoneMatch_whenGetResourceEndpoint_returnNotModified() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+        Mockito.when(storeService.findResource(resourceId))
+                .thenReturn(Optional.of(ResourceContentDto.builder()
+                        .resourceId(resourceId)
+                        .content("hola".getBytes())
+                        .size(4)
+                        .contentType(MediaType.TEXT_PLAIN_VALUE)
+                        .resourceName("ExampleFile.txt")
+                        .contentHash(CONTENT_HASH)
+                        .build()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s".formatted(resourceId)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"%s\"".formatted(CONTENT_HASH)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.contentHash").value(CONTENT_HASH));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s".formatted(resourceId))
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"%s\"".formatted(CONTENT_HASH)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        Mockito.verify(storeService, Mockito.times(1)).findResource(resourceId);
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenRange_whenGetResourceContentEndpoint_returnPartialContent() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId))
+                        .header(HttpHeaders.RANGE, "bytes=1-2"))
+                .andExpect(MockMvcResultMatchers.status().isPartialContent())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes 1-2/4"))
+                .andExpect(MockMvcResultMatchers.content().string("ol"));
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenRangeWithStaleIfRange_whenGetResourceContentEndpoint_returnFullContent() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId))
+                        .header(HttpHeaders.RANGE, "bytes=1-2")
+                        .header(HttpHeaders.IF_RANGE, "Wed, 21 Oct 2015 07:28:00 GMT"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("hola"));
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenUnknownResourceId_whenGetResourceContentEndpoint_returnNotFound() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId)))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenWidth_whenGetResourceContentEndpoint_returnImageDerivative() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(imageDerivativeService.findImageDerivative(resourceId, 200, "jpeg"))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "jpeg")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId))
+                        .param("w", "200")
+                        .param("format", "jpeg"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("jpeg"));
+
+        Mockito.verify(storeService, Mockito.never()).findResourceStream(resourceId);
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenMatchingETag_whenGetResourceDerivativeEndpoint_returnNotModifiedWithoutDerivative() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(imageDerivativeService.findImageOriginal(resourceId, 200, "JPEG"))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId))
+                        .param("w", "200")
+                        .param("format", "JPEG")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"%s-w200-jpeg\"".formatted(resourceId)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"%s-w200-jpeg\"".formatted(resourceId)));
+
+        Mockito.verify(imageDerivativeService, Mockito.never()).findImageDerivative(Mockito.any(), Mockito.anyInt(), Mockito.any());
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenMatchingETagOfNotImage_whenGetResourceDerivativeEndpoint_returnBadRequest() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(imageDerivativeService.findImageOriginal(resourceId, 200, null))
+                .thenThrow(new BadRequestException("The resource with id: %s is not an image".formatted(resourceId)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/store/api/resource/%s/content".formatted(resourceId))
+                        .param("w", "200")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"%s-w200-original\"".formatted(resourceId)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenResourceIds_whenGetResourcesBatchEndpoint_returnFoundAndNotFound() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        final UUID unknownResourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResource(resourceId))
+                .thenReturn(Optional.of(ResourceContentDto.builder()
+                        .resourceId(resourceId)
+                        .content("hola".getBytes())
+                        .size(4)
+                        .contentType(MediaType.TEXT_PLAIN_VALUE)
+                        .resourceName("ExampleFile.txt")
+                        .build()));
+        Mockito.when(storeService.findResource(unknownResourceId)).thenReturn(Optional.empty());
+
+        final ResourceBatchRequestDto resourceBatchRequestDto = ResourceBatchRequestDto.builder()
+                .resourceIds(List.of(resourceId, unknownResourceId, resourceId))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/store/api/resource/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(resourceBatchRequestDto)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.resources.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.resources[0].resourceId").value(resourceId.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.notFound[0]").value(unknownResourceId.toString()));
+
+        // los identificadores repetidos se buscan una sola vez
+        Mockito.verify(storeService, Mockito.times(1)).findResource(resourceId);
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenResourceIds_whenGetResourcesBatchContentEndpoint_returnMultipart() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        final UUID unknownResourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId))
+                .thenReturn(Optional.of(getResourceStream(resourceId, "hola")));
+        Mockito.when(storeService.findResourceStream(unknownResourceId)).thenReturn(Optional.empty());
+
+        final ResourceBatchRequestDto resourceBatchRequestDto = ResourceBatchRequestDto.builder()
+                .resourceIds(List.of(resourceId, unknownResourceId))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/store/api/resource/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.MULTIPART_MIXED)
+                        .content(objectMapper.writeValueAsString(resourceBatchRequestDto)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.MULTIPART_MIXED))
+                .andExpect(MockMvcResultMatchers.header().string(StoreApiController.HEADER_RESOURCES_NOT_FOUND, unknownResourceId.toString()))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString("hola")))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(
+                        "%s: %s".formatted(StoreApiController.HEADER_RESOURCE_ID, resourceId))))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(
+                        "%s: <%s>".formatted(StoreApiController.HEADER_CONTENT_ID, resourceId))))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(
+                        "%s: %s".formatted(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE))))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(
+                        "%s: attachment; filename=".formatted(HttpHeaders.CONTENT_DISPOSITION))))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.not(Matchers.containsString("form-data"))));
+    }
+
+    @Test
+    @WithMockUser(username = "anyUser")
+    void givenTooManyResourceIds_whenGetResourcesBatchEndpoint_returnBadRequest() throws Exception {
+        final ResourceBatchRequestDto resourceBatchRequestDto = ResourceBatchRequestDto.builder()
+                .resourceIds(Stream.generate(UUID::randomUUID).limit(ResourceBatchRequestDto.MAX_RESOURCES + 1).toList())
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/store/api/resource/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(resourceBatchRequestDto)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verifyNoInteractions(storeService);
+    }
+
     @Test
     @WithAnonymousUser
     void givenAnonymousUser_whenGetResourceEndpoint_returnUnauthorized() throws Exception {
@@ -172,4 +424,18 @@ class StoreApiControllerITest {
         mockMvc.perform(MockMvcRequestBuilders.delete("/store/api/resource/{resourceId}",resourceIdDto.resourceId()))
                 .andExpect(MockMvcResultMatchers.status().isUnauthorized());
     }
-}
\ No newline at end of file
+
+    private static ResourceStream getResourceStream(UUID resourceId, String content) {
+        return ResourceStream.builder()
+                .resourceDescription(ResourceDescription.builder()
+                        .id(resourceId)
+                        .resourceName("ExampleFile.txt")
+                        .contentType(MediaType.TEXT_PLAIN_VALUE)
+                        .size(content.length())
+                        .contentHash(CONTENT_HASH)
+                        .build())
+                .content(new ByteArrayResource(content.getBytes()))
+                .lastModified(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.tokioschool.storeapp.core.cache.ut;
+
+import com.tokioschool.storeapp.configuration.properties.ContentCacheConfigurationProperties;
+import com.tokioschool.storeapp.core.cache.ContentCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class ContentCacheUTest {
+
+    private static final int ENTRY_SIZE = 40;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContentCache contentCache;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        // caben dos entradas
+        contentCache = new ContentCache(new ContentCacheConfigurationProperties(true, DataSize.ofBytes(100), DataSize.ofBytes(50)),
+                meterRegistry);
+    }
+
+    @Test
+    void givenCachedContent_whenGet_thenReturnContentAndCountHit() {
+        final byte[] content = getContent('a');
+
+        Assertions.assertThat(contentCache.get("a")).isEmpty();
+        Assertions.assertThat(contentCache.put("a", content)).isTrue();
+
+        Assertions.assertThat(contentCache.get("a")).contains(content);
+        Assertions.assertThat(contentCache.size()).isEqualTo(ENTRY_SIZE);
+        Assertions.assertThat(meterRegistry.get("store.content.cache.hits").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("store.content.cache.misses").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenContentLargerThanMaxEntrySize_whenPut_thenReject() {
+        Assertions.assertThat(contentCache.put("a", new byte[51])).isFalse();
+        Assertions.assertThat(contentCache.entries()).isZero();
+    }
+
+    @Test
+    void givenFullCache_whenPutMoreFrequentContent_thenEvictLeastRecentlyUsed() {
+        contentCache.put("a", getContent('a'));
+        contentCache.put("b", getContent('b'));
+        contentCache.get("a");
+        contentCache.get("c");
+        contentCache.get("c");
+
+        Assertions.assertThat(contentCache.put("c", getContent('c'))).isTrue();
+
+        Assertions.assertThat(contentCache.get("b")).isEmpty();
+        Assertions.assertThat(contentCache.get("a")).isPresent();
+        Assertions.assertThat(contentCache.get("c")).isPresent();
+        Assertions.assertThat(meterRegistry.get("store.content.cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFullCache_whenPutLessFrequentContent_thenRejectAdmission() {
+        contentCache.put("a", getContent('a'));
+        contentCache.put("b", getContent('b'));
+        contentCache.get("a");
+        contentCache.get("b");
+
+        Assertions.assertThat(contentCache.put("c", getContent('c'))).isFalse();
+
+        Assertions.assertThat(contentCache.entries()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("store.content.cache.evictions").counter().count()).isZero();
+    }
+
+    @Test
+    void givenCachedContent_whenInvalidate_thenRemove() {
+        contentCache.put("a", getContent('a'));
+
+        contentCache.invalidate("a");
+
+        Assertions.assertThat(contentCache.get("a")).isEmpty();
+        Assertions.assertThat(contentCache.size()).isZero();
+    }
+
+    private static byte[] getContent(char value) {
+        return String.valueOf(value).repeat(ENTRY_SIZE).getBytes();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tokioschool.storeapp.core.metadata.ut;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.metadata.ResourceMetadataIndex;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+class ResourceMetadataIndexUTest {
+
+    @TempDir
+    Path temporalPath;
+
+    private StoreConfigurationProperties storeConfigurationProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void init() {
+        storeConfigurationProperties = new StoreConfigurationProperties(temporalPath.toAbsolutePath(), temporalPath.toString());
+    }
+
+    @Test
+    void givenJournal_whenInit_thenReplayEntries() throws IOException {
+        final ResourceMetadataIndex resourceMetadataIndex = newResourceMetadataIndex();
+        final ResourceDescription kept = getResourceDescription();
+        final ResourceDescription deleted = getResourceDescription();
+        resourceMetadataIndex.put(kept);
+        resourceMetadataIndex.put(deleted);
+        resourceMetadataIndex.remove(deleted.getId());
+        resourceMetadataIndex.close();
+
+        final ResourceMetadataIndex reloaded = newResourceMetadataIndex();
+
+        Assertions.assertThat(reloaded.find(kept.getId())).contains(kept);
+        Assertions.assertThat(reloaded.find(deleted.getId())).isEmpty();
+        Assertions.assertThat(Files.readAllLines(storeConfigurationProperties.getMetadataJournalPath())).hasSize(3);
+    }
+
+    @Test
+    void givenCorruptedJournal_whenInit_thenRebuildFromDescriptions() throws IOException {
+        final ResourceDescription resourceDescription = getResourceDescription();
+        final Path descriptionPath = storeConfigurationProperties.getResourceDescriptionPathGivenResourceId(resourceDescription.getId());
+        Files.createDirectories(descriptionPath.getParent());
+        // las descripciones anteriores no guardaban el identificador
+        objectMapper.writeValue(descriptionPath.toFile(), resourceDescription.toBuilder().id(null).build());
+        Files.writeString(storeConfigurationProperties.getMetadataJournalPath(), "{\"operation\":\"PUT\",\"resou",
+                StandardOpenOption.CREATE);
+
+        final ResourceMetadataIndex resourceMetadataIndex = newResourceMetadataIndex();
+
+        Assertions.assertThat(resourceMetadataIndex.find(resourceDescription.getId())).contains(resourceDescription);
+        Assertions.assertThat(Files.readAllLines(storeConfigurationProperties.getMetadataJournalPath())).hasSize(1);
+    }
+
+    @Test
+    void givenObsoleteEntries_whenCompact_thenKeepOnlyLiveResources() throws IOException {
+        final ResourceMetadataIndex resourceMetadataIndex = newResourceMetadataIndex();
+        final ResourceDescription kept = getResourceDescription();
+        resourceMetadataIndex.put(kept);
+        for (int i = 0; i < 5; i++) {
+            final ResourceDescription deleted = getResourceDescription();
+            resourceMetadataIndex.put(deleted);
+            resourceMetadataIndex.remove(deleted.getId());
+        }
+
+        resourceMetadataIndex.compact();
+        resourceMetadataIndex.put(getResourceDescription());
+
+        Assertions.assertThat(Files.readAllLines(storeConfigurationProperties.getMetadataJournalPath())).hasSize(2);
+        Assertions.assertThat(resourceMetadataIndex.find(kept.getId())).contains(kept);
+        Assertions.assertThat(resourceMetadataIndex.size()).isEqualTo(2);
+    }
+
+    private ResourceMetadataIndex newResourceMetadataIndex() throws IOException {
+        final ResourceMetadataIndex resourceMetadataIndex = new ResourceMetadataIndex(storeConfigurationProperties, objectMapper);
+        resourceMetadataIndex.init();
+        return resourceMetadataIndex;
+    }
+
+    private static ResourceDescription getResourceDescription() {
+        return ResourceDescription.builder()
+                .id(UUID.randomUUID())
+                .resourceName("file.txt")
+                .contentType(MediaType.TEXT_PLAIN_VALUE)
+                .size(4)
+                .contentHash("a".repeat(64))
+                .build();
+    }
+}
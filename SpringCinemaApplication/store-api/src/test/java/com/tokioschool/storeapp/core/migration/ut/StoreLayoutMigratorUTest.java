@@ -0,0 +1,47 @@
+package com.tokioschool.storeapp.core.migration.ut;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.metadata.ResourceMetadataIndex;
+import com.tokioschool.storeapp.core.migration.StoreLayoutMigrator;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+class StoreLayoutMigratorUTest {
+
+    @TempDir
+    Path temporalPath;
+
+    @Test
+    void givenFlatLayout_whenMigrate_thenMoveToShardedLayout() throws IOException {
+        final StoreConfigurationProperties storeConfigurationProperties =
+                new StoreConfigurationProperties(temporalPath.toAbsolutePath(), temporalPath.toString());
+        final StoreLayoutMigrator storeLayoutMigrator = new StoreLayoutMigrator(storeConfigurationProperties,
+                new ResourceMetadataIndex(storeConfigurationProperties, new ObjectMapper()));
+
+        final UUID resourceId = UUID.randomUUID();
+        Files.writeString(temporalPath.resolve(resourceId.toString()), "HOLA");
+        Files.writeString(temporalPath.resolve("%s.json".formatted(resourceId)), "{}");
+        Files.writeString(temporalPath.resolve("other.txt"), "other");
+
+        final int migrated = storeLayoutMigrator.migrate();
+
+        Assertions.assertThat(migrated).isEqualTo(2);
+        Assertions.assertThat(storeConfigurationProperties.getResourceContentPathGivenResourceId(resourceId))
+                .exists()
+                .hasContent("HOLA");
+        Assertions.assertThat(storeConfigurationProperties.getResourceDescriptionPathGivenResourceId(resourceId))
+                .exists();
+        Assertions.assertThat(temporalPath.resolve(resourceId.toString())).doesNotExist();
+        Assertions.assertThat(temporalPath.resolve("other.txt")).exists();
+
+        // una segunda ejecución no tiene nada que migrar
+        Assertions.assertThat(storeLayoutMigrator.migrate()).isZero();
+    }
+}
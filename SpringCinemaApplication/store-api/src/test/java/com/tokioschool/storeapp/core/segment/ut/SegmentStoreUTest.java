@@ -0,0 +1,204 @@
+package com.tokioschool.storeapp.core.segment.ut;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.storeapp.configuration.properties.SegmentConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.segment.SegmentEntry;
+import com.tokioschool.storeapp.core.segment.SegmentStore;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+class SegmentStoreUTest {
+
+    private static final byte[] CONTENT = "HOLA".getBytes();
+
+    @TempDir
+    Path temporalPath;
+
+    private StoreConfigurationProperties storeConfigurationProperties;
+    private SegmentStore segmentStore;
+
+    @BeforeEach
+    void init() throws IOException {
+        storeConfigurationProperties = new StoreConfigurationProperties(temporalPath.toAbsolutePath(), temporalPath.toString(),
+                StoreConfigurationProperties.StorageEngine.SEGMENT);
+        segmentStore = newSegmentStore();
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        segmentStore.close();
+    }
+
+    @Test
+    void givenResource_whenPut_thenReadContent() throws IOException {
+        final ResourceDescription resourceDescription = getResourceDescription();
+
+        final SegmentEntry segmentEntry = put(resourceDescription);
+
+        Assertions.assertThat(segmentStore.find(resourceDescription.getId()))
+                .contains(segmentEntry)
+                .get()
+                .returns(resourceDescription, SegmentEntry::resourceDescription);
+        Assertions.assertThat(segmentStore.readContent(resourceDescription.getId())).contains(CONTENT);
+    }
+
+    @Test
+    void givenResourceLargerThanMaxObjectSize_whenPut_thenThrowIOException() {
+        final ResourceDescription resourceDescription = getResourceDescription();
+        final byte[] content = new byte[65];
+
+        Assertions.assertThatThrownBy(() -> segmentStore.put(resourceDescription, new ByteArrayInputStream(content), content.length))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("too large");
+        Assertions.assertThat(segmentStore.find(resourceDescription.getId())).isEmpty();
+    }
+
+    @Test
+    void givenResource_whenOpenContent_thenStreamOnlyItsContent() throws IOException {
+        final ResourceDescription first = getResourceDescription();
+        final ResourceDescription second = getResourceDescription();
+        put(first);
+        put(second);
+
+        try (InputStream inputStream = segmentStore.openContent(first.getId()).orElseThrow()) {
+            Assertions.assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+        }
+        Assertions.assertThat(segmentStore.openContent(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void givenOpenContent_whenCompactItsSegment_thenStreamStillReadable() throws IOException {
+        final List<ResourceDescription> resourceDescriptions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ResourceDescription resourceDescription = getResourceDescription();
+            put(resourceDescription);
+            resourceDescriptions.add(resourceDescription);
+        }
+        final ResourceDescription kept = resourceDescriptions.getFirst();
+        resourceDescriptions.stream().skip(1).forEach(resourceDescription -> {
+            try {
+                segmentStore.delete(resourceDescription.getId());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        try (InputStream inputStream = segmentStore.openContent(kept.getId()).orElseThrow()) {
+            Assertions.assertThat(segmentStore.compact()).isPositive();
+
+            Assertions.assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void givenResources_whenReload_thenReplaySegments() throws IOException {
+        final ResourceDescription kept = getResourceDescription();
+        final ResourceDescription deleted = getResourceDescription();
+        put(kept);
+        put(deleted);
+        segmentStore.delete(deleted.getId());
+        segmentStore.close();
+
+        segmentStore = newSegmentStore();
+
+        Assertions.assertThat(segmentStore.find(kept.getId())).isPresent();
+        Assertions.assertThat(segmentStore.find(deleted.getId())).isEmpty();
+        Assertions.assertThat(segmentStore.readContent(kept.getId())).contains(CONTENT);
+    }
+
+    @Test
+    void givenIncompleteRecord_whenReload_thenDiscardIt() throws IOException {
+        final ResourceDescription resourceDescription = getResourceDescription();
+        put(resourceDescription);
+        segmentStore.close();
+        final Path segmentPath = getSegmentPaths().getFirst();
+        final long size = Files.size(segmentPath);
+        // escritura interrumpida: cabecera vacía y parte del contenido
+        Files.write(segmentPath, new byte[50], StandardOpenOption.APPEND);
+
+        segmentStore = newSegmentStore();
+
+        Assertions.assertThat(segmentStore.size()).isOne();
+        Assertions.assertThat(segmentPath).hasSize(size);
+        final ResourceDescription other = getResourceDescription();
+        put(other);
+        Assertions.assertThat(segmentStore.readContent(other.getId())).contains(CONTENT);
+    }
+
+    @Test
+    void givenDeletedResources_whenCompact_thenRemoveSegmentAndKeepLiveResources() throws IOException {
+        final List<ResourceDescription> kept = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ResourceDescription resourceDescription = getResourceDescription();
+            put(resourceDescription);
+            if (i % 5 == 0) {
+                kept.add(resourceDescription);
+            } else {
+                segmentStore.delete(resourceDescription.getId());
+            }
+        }
+        final int segments = segmentStore.segments();
+        Assertions.assertThat(segments).isGreaterThan(1);
+
+        Assertions.assertThat(segmentStore.compact()).isPositive();
+
+        Assertions.assertThat(segmentStore.segments()).isLessThan(segments);
+        for (ResourceDescription resourceDescription : kept) {
+            Assertions.assertThat(segmentStore.readContent(resourceDescription.getId())).contains(CONTENT);
+        }
+
+        // tras compactar, el índice reconstruido es el mismo
+        segmentStore.close();
+        segmentStore = newSegmentStore();
+        Assertions.assertThat(segmentStore.size()).isEqualTo(kept.size());
+        for (ResourceDescription resourceDescription : kept) {
+            Assertions.assertThat(segmentStore.readContent(resourceDescription.getId())).contains(CONTENT);
+        }
+    }
+
+    private SegmentStore newSegmentStore() throws IOException {
+        // segmentos pequeños para forzar varios ficheros
+        final SegmentStore store = new SegmentStore(storeConfigurationProperties,
+                new SegmentConfigurationProperties(DataSize.ofBytes(512), 0.5, DataSize.ofBytes(64)), new ObjectMapper());
+        store.init();
+        return store;
+    }
+
+    private SegmentEntry put(ResourceDescription resourceDescription) throws IOException {
+        return segmentStore.put(resourceDescription, new ByteArrayInputStream(CONTENT), CONTENT.length);
+    }
+
+    private List<Path> getSegmentPaths() throws IOException {
+        try (Stream<Path> paths = Files.list(storeConfigurationProperties.getSegmentsPath())) {
+            return paths.sorted().toList();
+        }
+    }
+
+    private static ResourceDescription getResourceDescription() {
+        return ResourceDescription.builder()
+                .id(UUID.randomUUID())
+                .resourceName("file.txt")
+                .contentType(MediaType.TEXT_PLAIN_VALUE)
+                .size(CONTENT.length)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.tokioschool.storeapp.core.storage.ut;
+
+import com.tokioschool.storeapp.core.storage.StorageBackend;
+import com.tokioschool.storeapp.core.storage.StorageStat;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Batería de pruebas común que debe superar cualquier implementación de {@link StorageBackend}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+abstract class AbstractStorageBackendUTest {
+
+    private static final String CONTENT = "HOLA MUNDO";
+    private static final String OTHER_CONTENT = "ADIOS";
+
+    private StorageBackend storageBackend;
+    private String key;
+
+    /**
+     * Crea el backend que se va a probar, vacío.
+     */
+    protected abstract StorageBackend createStorageBackend() throws IOException;
+
+    @BeforeEach
+    void init() throws IOException {
+        storageBackend = createStorageBackend();
+        key = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void givenContent_whenPutAndGetStream_thenReturnSameContent() throws IOException {
+        final long size = storageBackend.put(key, toInputStream(CONTENT));
+
+        Assertions.assertThat(size).isEqualTo(CONTENT.length());
+        Assertions.assertThat(readContent(storageBackend.getStream(key))).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void givenContent_whenGetChannel_thenReadFromPosition() throws IOException {
+        storageBackend.put(key, toInputStream(CONTENT));
+
+        final Optional<SeekableByteChannel> channelOpt = storageBackend.getChannel(key);
+
+        Assertions.assertThat(channelOpt).isPresent();
+        try (SeekableByteChannel channel = channelOpt.get()) {
+            Assertions.assertThat(channel.size()).isEqualTo(CONTENT.length());
+
+            final ByteBuffer buffer = ByteBuffer.allocate(5);
+            channel.position(5);
+            Assertions.assertThat(channel.read(buffer)).isEqualTo(5);
+            Assertions.assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("MUNDO");
+            Assertions.assertThat(channel.read(buffer.clear())).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void givenContent_whenStat_thenReturnSizeAndLastModified() throws IOException {
+        final Instant before = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        storageBackend.put(key, toInputStream(CONTENT));
+
+        final Optional<StorageStat> storageStatOpt = storageBackend.stat(key);
+
+        Assertions.assertThat(storageStatOpt).isPresent();
+        Assertions.assertThat(storageStatOpt.get().key()).isEqualTo(key);
+        Assertions.assertThat(storageStatOpt.get().size()).isEqualTo(CONTENT.length());
+        Assertions.assertThat(storageStatOpt.get().lastModified()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    void givenExistingContent_whenPut_thenReplaceContent() throws IOException {
+        storageBackend.put(key, toInputStream(CONTENT));
+        // un lector abierto antes de reemplazar el contenido no debe impedir la escritura
+        try (InputStream ignored = storageBackend.getStream(key).orElseThrow()) {
+            storageBackend.put(key, toInputStream(OTHER_CONTENT));
+        }
+
+        Assertions.assertThat(readContent(storageBackend.getStream(key))).isEqualTo(OTHER_CONTENT);
+        Assertions.assertThat(storageBackend.stat(key)).get()
+                .extracting(StorageStat::size).isEqualTo((long) OTHER_CONTENT.length());
+    }
+
+    @Test
+    void givenContent_whenDelete_thenRemoveOnce() throws IOException {
+        storageBackend.put(key, toInputStream(CONTENT));
+
+        Assertions.assertThat(storageBackend.delete(key)).isTrue();
+        Assertions.assertThat(storageBackend.delete(key)).isFalse();
+        Assertions.assertThat(storageBackend.stat(key)).isEmpty();
+    }
+
+    @Test
+    void givenMissingKey_whenGet_thenReturnEmpty() throws IOException {
+        Assertions.assertThat(storageBackend.getStream(key)).isEmpty();
+        Assertions.assertThat(storageBackend.getChannel(key)).isEmpty();
+        Assertions.assertThat(storageBackend.stat(key)).isEmpty();
+    }
+
+    @Test
+    void givenEmptyContent_whenPut_thenStoreEmptyContent() throws IOException {
+        Assertions.assertThat(storageBackend.put(key, toInputStream(""))).isZero();
+
+        Assertions.assertThat(readContent(storageBackend.getStream(key))).isEmpty();
+        Assertions.assertThat(storageBackend.stat(key)).get().extracting(StorageStat::size).isEqualTo(0L);
+    }
+
+    @Test
+    void givenInvalidKey_whenPut_thenThrowIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> storageBackend.put("../secret", toInputStream(CONTENT)))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> storageBackend.stat(""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readContent(Optional<InputStream> inputStreamOpt) throws IOException {
+        Assertions.assertThat(inputStreamOpt).isPresent();
+        try (InputStream inputStream = inputStreamOpt.get()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
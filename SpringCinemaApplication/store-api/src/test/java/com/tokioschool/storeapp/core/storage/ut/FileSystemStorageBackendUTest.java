@@ -0,0 +1,19 @@
+package com.tokioschool.storeapp.core.storage.ut;
+
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.storage.FileSystemStorageBackend;
+import com.tokioschool.storeapp.core.storage.StorageBackend;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+class FileSystemStorageBackendUTest extends AbstractStorageBackendUTest {
+
+    @TempDir
+    Path temporalPath;
+
+    @Override
+    protected StorageBackend createStorageBackend() {
+        return new FileSystemStorageBackend(new StoreConfigurationProperties(temporalPath.toAbsolutePath(), temporalPath.toString()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.tokioschool.storeapp.core.storage.ut;
+
+import com.tokioschool.storeapp.configuration.properties.StorageConfigurationProperties;
+import com.tokioschool.storeapp.core.storage.InMemoryStorageBackend;
+import com.tokioschool.storeapp.core.storage.StorageBackend;
+import org.junit.jupiter.api.Nested;
+
+class InMemoryStorageBackendUTest extends AbstractStorageBackendUTest {
+
+    @Override
+    protected StorageBackend createStorageBackend() {
+        return new InMemoryStorageBackend(new StorageConfigurationProperties(StorageConfigurationProperties.Backend.MEMORY, 0, false));
+    }
+
+    @Nested
+    class OffHeap extends AbstractStorageBackendUTest {
+
+        @Override
+        protected StorageBackend createStorageBackend() {
+            return new InMemoryStorageBackend(new StorageConfigurationProperties(StorageConfigurationProperties.Backend.MEMORY, 0, true));
+        }
+    }
+}
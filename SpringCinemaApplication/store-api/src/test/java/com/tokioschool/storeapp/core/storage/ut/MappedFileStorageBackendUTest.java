@@ -0,0 +1,22 @@
+package com.tokioschool.storeapp.core.storage.ut;
+
+import com.tokioschool.storeapp.configuration.properties.StorageConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.storage.MappedFileStorageBackend;
+import com.tokioschool.storeapp.core.storage.StorageBackend;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+class MappedFileStorageBackendUTest extends AbstractStorageBackendUTest {
+
+    @TempDir
+    Path temporalPath;
+
+    @Override
+    protected StorageBackend createStorageBackend() {
+        // con un único fichero mapeado también se prueba la expulsión de los mapeos
+        return new MappedFileStorageBackend(new StoreConfigurationProperties(temporalPath.toAbsolutePath(), temporalPath.toString()),
+                new StorageConfigurationProperties(StorageConfigurationProperties.Backend.MMAP, 1, false));
+    }
+}
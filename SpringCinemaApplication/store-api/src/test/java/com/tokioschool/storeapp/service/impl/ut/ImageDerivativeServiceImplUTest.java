@@ -0,0 +1,149 @@
+package com.tokioschool.storeapp.service.impl.ut;
+
+import com.tokioschool.storeapp.configuration.properties.ImageDerivativeConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.event.ResourceDeletedEvent;
+import com.tokioschool.storeapp.core.exception.BadRequestException;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
+import com.tokioschool.storeapp.service.StoreService;
+import com.tokioschool.storeapp.service.impl.ImageDerivativeServiceImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceImplUTest {
+
+    @TempDir
+    Path temporalPath;
+
+    @Mock
+    private StoreService storeService;
+
+    private StoreConfigurationProperties storeConfigurationProperties;
+    private ImageDerivativeServiceImpl imageDerivativeService;
+
+    @BeforeEach
+    void init() {
+        storeConfigurationProperties = new StoreConfigurationProperties(temporalPath.toAbsolutePath(), temporalPath.toString());
+        imageDerivativeService = new ImageDerivativeServiceImpl(storeService, storeConfigurationProperties,
+                new ImageDerivativeConfigurationProperties(500 * 500));
+    }
+
+    @Test
+    void givenImage_whenFindImageDerivative_thenResizeAndCacheOnDisk() throws IOException {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId)).thenReturn(Optional.of(getImageResourceStream(resourceId, 400, 200)));
+
+        final ResourceStream derivative = imageDerivativeService.findImageDerivative(resourceId, 100, "jpeg").orElseThrow();
+
+        Assertions.assertThat(derivative.getResourceDescription())
+                .returns(MediaType.IMAGE_JPEG_VALUE, ResourceDescription::getContentType)
+                .returns("poster.jpg", ResourceDescription::getResourceName);
+        final BufferedImage image = readImage(derivative);
+        Assertions.assertThat(image.getWidth()).isEqualTo(100);
+        Assertions.assertThat(image.getHeight()).isEqualTo(50);
+
+        final Path derivativePath = storeConfigurationProperties.getDerivativesPathGivenResourceId(resourceId).resolve("w100.jpg");
+        Assertions.assertThat(derivativePath).exists();
+
+        // la segunda petición se sirve desde disco, sin volver a leer el original
+        final ResourceStream cached = imageDerivativeService.findImageDerivative(resourceId, 100, "jpg").orElseThrow();
+        Assertions.assertThat(cached.getContent().getFile().toPath()).isEqualTo(derivativePath);
+        Assertions.assertThat(cached.getLastModified()).isEqualTo(derivative.getLastModified());
+    }
+
+    @Test
+    void givenSmallImage_whenFindImageDerivative_thenNotUpscaleAndKeepFormat() throws IOException {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId)).thenReturn(Optional.of(getImageResourceStream(resourceId, 40, 20)));
+
+        final ResourceStream derivative = imageDerivativeService.findImageDerivative(resourceId, 200, null).orElseThrow();
+
+        Assertions.assertThat(derivative.getResourceDescription().getContentType()).isEqualTo(MediaType.IMAGE_PNG_VALUE);
+        Assertions.assertThat(readImage(derivative).getWidth()).isEqualTo(40);
+    }
+
+    @Test
+    void givenNotImage_whenFindImageDerivative_thenBadRequest() {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId)).thenReturn(Optional.of(ResourceStream.builder()
+                .resourceDescription(ResourceDescription.builder().id(resourceId).contentType(MediaType.TEXT_PLAIN_VALUE).build())
+                .content(new ByteArrayResource("HOLA".getBytes()))
+                .lastModified(Instant.now())
+                .build()));
+
+        Assertions.assertThatThrownBy(() -> imageDerivativeService.findImageDerivative(resourceId, 100, null))
+                .isInstanceOf(BadRequestException.class);
+        Assertions.assertThatThrownBy(() -> imageDerivativeService.findImageOriginal(resourceId, 100, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void givenImageWithTooManyPixels_whenFindImageDerivative_thenBadRequestWithoutDerivative() throws IOException {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId)).thenReturn(Optional.of(getImageResourceStream(resourceId, 1000, 300)));
+
+        Assertions.assertThatThrownBy(() -> imageDerivativeService.findImageDerivative(resourceId, 100, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("too large");
+        Assertions.assertThat(storeConfigurationProperties.getDerivativesPathGivenResourceId(resourceId)).doesNotExist();
+    }
+
+    @Test
+    void givenUnknownResource_whenFindImageDerivative_thenEmpty() {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId)).thenReturn(Optional.empty());
+
+        Assertions.assertThat(imageDerivativeService.findImageDerivative(resourceId, 100, null)).isEmpty();
+    }
+
+    @Test
+    void givenDerivative_whenResourceDeleted_thenDeleteDerivatives() throws IOException {
+        final UUID resourceId = UUID.randomUUID();
+        Mockito.when(storeService.findResourceStream(resourceId)).thenReturn(Optional.of(getImageResourceStream(resourceId, 400, 200)));
+        imageDerivativeService.findImageDerivative(resourceId, 100, null);
+
+        imageDerivativeService.onResourceDeleted(new ResourceDeletedEvent(resourceId));
+
+        Assertions.assertThat(storeConfigurationProperties.getDerivativesPathGivenResourceId(resourceId)).doesNotExist();
+    }
+
+    private ResourceStream getImageResourceStream(UUID resourceId, int width, int height) throws IOException {
+        final Path imagePath = temporalPath.resolve("%s.png".formatted(resourceId));
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", imagePath.toFile());
+        return ResourceStream.builder()
+                .resourceDescription(ResourceDescription.builder()
+                        .id(resourceId)
+                        .resourceName("poster.png")
+                        .contentType(MediaType.IMAGE_PNG_VALUE)
+                        .build())
+                .content(new FileSystemResource(imagePath))
+                .lastModified(Instant.now())
+                .build();
+    }
+
+    private static BufferedImage readImage(ResourceStream resourceStream) throws IOException {
+        try (InputStream inputStream = resourceStream.getContent().getInputStream()) {
+            return ImageIO.read(inputStream);
+        }
+    }
+}
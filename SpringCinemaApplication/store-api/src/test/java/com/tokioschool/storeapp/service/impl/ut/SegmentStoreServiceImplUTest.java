@@ -0,0 +1,105 @@
+package com.tokioschool.storeapp.service.impl.ut;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.storeapp.configuration.properties.ContentCacheConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.SegmentConfigurationProperties;
+import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.cache.ContentCache;
+import com.tokioschool.storeapp.core.segment.SegmentStore;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
+import com.tokioschool.storeapp.dto.store.ResourceContentDto;
+import com.tokioschool.storeapp.dto.store.ResourceIdDto;
+import com.tokioschool.storeapp.service.StoreService;
+import com.tokioschool.storeapp.service.impl.SegmentStoreServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+class SegmentStoreServiceImplUTest {
+
+    private static SegmentStore segmentStore;
+    private static StoreService storeService;
+
+    @TempDir
+    public static Path temporalPath;
+
+    private static final String FILE_NAME = "file.txt";
+    private static final String CONTENT = "HOLA";
+    private static final String CONTENT_TYPE = MediaType.TEXT_PLAIN_VALUE;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        StoreConfigurationProperties storeConfigurationProperties = new StoreConfigurationProperties(temporalPath.toAbsolutePath(),
+                temporalPath.toString(), StoreConfigurationProperties.StorageEngine.SEGMENT);
+        segmentStore = new SegmentStore(storeConfigurationProperties,
+                new SegmentConfigurationProperties(DataSize.ofMegabytes(1), 0.5, DataSize.ofKilobytes(64)), new ObjectMapper());
+        segmentStore.init();
+        ContentCache contentCache = new ContentCache(new ContentCacheConfigurationProperties(true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64)),
+                new SimpleMeterRegistry());
+        storeService = new SegmentStoreServiceImpl(segmentStore, contentCache, event -> {});
+    }
+
+    @AfterAll
+    public static void close() throws IOException {
+        segmentStore.close();
+    }
+
+    @Test
+    void givenResource_whenFindResource_thenReturnOk() {
+        final ResourceIdDto resourceIdDto = storeService.saveResource(getMockMultipartFile(), "description").get();
+
+        final Optional<ResourceContentDto> optionalResourceContentDto = storeService.findResource(resourceIdDto.resourceId());
+
+        Assertions.assertThat(optionalResourceContentDto)
+                .isPresent()
+                .get()
+                .returns(resourceIdDto.resourceId(), ResourceContentDto::resourceId)
+                .returns(CONTENT.getBytes(), ResourceContentDto::content)
+                .returns(FILE_NAME, ResourceContentDto::resourceName)
+                .returns(CONTENT_TYPE, ResourceContentDto::contentType)
+                .returns("description", ResourceContentDto::description)
+                .extracting(ResourceContentDto::contentHash)
+                .asString()
+                .hasSize(64);
+    }
+
+    @Test
+    void givenResource_whenFindResourceStream_thenReturnOk() throws IOException {
+        final ResourceIdDto resourceIdDto = storeService.saveResource(getMockMultipartFile(), null).get();
+
+        final Optional<ResourceStream> optionalResourceStream = storeService.findResourceStream(resourceIdDto.resourceId());
+
+        Assertions.assertThat(optionalResourceStream).isPresent();
+        Assertions.assertThat(optionalResourceStream.get().getResourceDescription())
+                .returns(FILE_NAME, ResourceDescription::getResourceName)
+                .returns(CONTENT_TYPE, ResourceDescription::getContentType);
+        Assertions.assertThat(optionalResourceStream.get().getContent().getContentAsByteArray()).isEqualTo(CONTENT.getBytes());
+        Assertions.assertThat(optionalResourceStream.get().getLastModified()).isNotNull();
+    }
+
+    @Test
+    void givenResource_whenDeleteResource_thenNotFound() {
+        final ResourceIdDto resourceIdDto = storeService.saveResource(getMockMultipartFile(), null).get();
+        Assertions.assertThat(storeService.findResource(resourceIdDto.resourceId())).isPresent();
+
+        storeService.deleteResource(resourceIdDto.resourceId());
+
+        Assertions.assertThat(storeService.findResource(resourceIdDto.resourceId())).isEmpty();
+        Assertions.assertThat(storeService.findResourceStream(resourceIdDto.resourceId())).isEmpty();
+    }
+
+    private static MockMultipartFile getMockMultipartFile() {
+        return new MockMultipartFile("file", FILE_NAME, CONTENT_TYPE, CONTENT.getBytes());
+    }
+}
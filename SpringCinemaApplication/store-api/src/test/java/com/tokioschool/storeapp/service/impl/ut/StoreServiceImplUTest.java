@@ -1,11 +1,18 @@
 package com.tokioschool.storeapp.service.impl.ut;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.storeapp.configuration.properties.ContentCacheConfigurationProperties;
 import com.tokioschool.storeapp.configuration.properties.StoreConfigurationProperties;
+import com.tokioschool.storeapp.core.cache.ContentCache;
+import com.tokioschool.storeapp.core.metadata.ResourceMetadataIndex;
+import com.tokioschool.storeapp.core.storage.FileSystemStorageBackend;
+import com.tokioschool.storeapp.domain.ResourceDescription;
+import com.tokioschool.storeapp.domain.ResourceStream;
 import com.tokioschool.storeapp.dto.store.ResourceContentDto;
 import com.tokioschool.storeapp.dto.store.ResourceIdDto;
 import com.tokioschool.storeapp.service.StoreService;
 import com.tokioschool.storeapp.service.impl.StoreServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -14,11 +21,17 @@ import org.junit.jupiter.api.io.TempDir;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 
 @ActiveProfiles("test")
@@ -26,6 +39,7 @@ class StoreServiceImplUTest {
 
 
     private static StoreService storeService;
+    private static ContentCache contentCache;
 
     @TempDir
     public static Path temporalPath;
@@ -37,9 +51,16 @@ class StoreServiceImplUTest {
     private static final String CONTENT_TYPE = MediaType.TEXT_PLAIN_VALUE;
 
     @BeforeAll
-    public static void init(){
+    public static void init() throws IOException {
         StoreConfigurationProperties storeConfigurationProperties = new StoreConfigurationProperties(temporalPath.toAbsolutePath(),temporalPath.toString());
-        storeService = new StoreServiceImpl(storeConfigurationProperties,new ObjectMapper());
+        ResourceMetadataIndex resourceMetadataIndex = new ResourceMetadataIndex(storeConfigurationProperties, new ObjectMapper());
+        resourceMetadataIndex.init();
+        contentCache = new ContentCache(new ContentCacheConfigurationProperties(true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64)),
+                new SimpleMeterRegistry());
+        StoreServiceImpl storeServiceImpl = new StoreServiceImpl(storeConfigurationProperties,new ObjectMapper(), resourceMetadataIndex, contentCache,
+                event -> {}, new FileSystemStorageBackend(storeConfigurationProperties));
+        storeServiceImpl.init();
+        storeService = storeServiceImpl;
     }
 
     @Test
@@ -53,10 +74,8 @@ class StoreServiceImplUTest {
                 .isNotEmpty()
                 .matches(resourceIdDto -> Objects.nonNull(resourceIdDto.get().resourceId()))
                 .matches(resourceIdDto ->
-                        Files.exists(Path.of(temporalPath.toString(),resourceIdDto.get().resourceId().toString()))
-                ).matches(resourceIdDto ->
-                                Files.exists(Path.of(temporalPath.toString(),
-                                        "%s.json".formatted(resourceIdDto.get().resourceId().toString()))
+                                Files.exists(getShardPath(resourceIdDto.get().resourceId())
+                                        .resolve("%s.json".formatted(resourceIdDto.get().resourceId().toString()))
                 )
                 );
     }
@@ -78,6 +97,21 @@ class StoreServiceImplUTest {
                 .returns(CONTENT_TYPE,ResourceContentDto::contentType);
     }
 
+    @Test
+    void givenResource_whenFindResourceStream_thenReturnOk() throws IOException {
+        final ResourceIdDto resourceIdDto = storeService.saveResource(getMockMultipartFile(), "description").get();
+
+        final Optional<ResourceStream> optionalResourceStream = storeService
+                .findResourceStream(resourceIdDto.resourceId());
+
+        Assertions.assertThat(optionalResourceStream).isPresent();
+        Assertions.assertThat(optionalResourceStream.get().getResourceDescription())
+                .returns(FILE_NAME, ResourceDescription::getResourceName)
+                .returns(CONTENT_TYPE, ResourceDescription::getContentType);
+        Assertions.assertThat(optionalResourceStream.get().getContent().getContentAsByteArray())
+                .isEqualTo(CONTENT.getBytes());
+    }
+
     @Test
     void givenResource_whenDeleteResource_thenReturnOk() {
         final ResourceIdDto resourceIdDto = storeService
@@ -93,13 +127,76 @@ class StoreServiceImplUTest {
                 .isEmpty();
     }
 
+    @Test
+    void givenSameContentTwice_whenSaveResource_thenShareBlob() throws IOException {
+        final MockMultipartFile multipartFile = getMockMultipartFile(UUID.randomUUID().toString());
+
+        final ResourceIdDto first = storeService.saveResource(multipartFile, null).get();
+        final ResourceIdDto second = storeService.saveResource(multipartFile, null).get();
+
+        final Path blobPath = getBlobPath(multipartFile.getBytes());
+        Assertions.assertThat(first.resourceId()).isNotEqualTo(second.resourceId());
+        Assertions.assertThat(blobPath).exists();
+        Assertions.assertThat(Path.of(blobPath + ".refs")).hasContent("2");
+
+        // el blob se mantiene mientras lo referencie algún recurso
+        storeService.deleteResource(first.resourceId());
+        Assertions.assertThat(blobPath).exists();
+        Assertions.assertThat(storeService.findResource(second.resourceId())).isPresent();
+
+        storeService.deleteResource(second.resourceId());
+        Assertions.assertThat(blobPath).doesNotExist();
+        Assertions.assertThat(Path.of(blobPath + ".refs")).doesNotExist();
+    }
+
+    @Test
+    void givenFoundResource_whenDeleteResource_thenInvalidateContentCache() throws IOException {
+        final MockMultipartFile multipartFile = getMockMultipartFile(UUID.randomUUID().toString());
+        final String contentHash = getContentHash(multipartFile.getBytes());
+        final ResourceIdDto resourceIdDto = storeService.saveResource(multipartFile, null).get();
+
+        Assertions.assertThat(storeService.findResource(resourceIdDto.resourceId())).isPresent();
+        Assertions.assertThat(contentCache.get(contentHash)).contains(multipartFile.getBytes());
+
+        // el contenido cacheado se sirve aunque el blob ya no esté en disco
+        Files.delete(getBlobPath(multipartFile.getBytes()));
+        Assertions.assertThat(storeService.findResource(resourceIdDto.resourceId()))
+                .get()
+                .returns(multipartFile.getBytes(), ResourceContentDto::content);
+
+        storeService.deleteResource(resourceIdDto.resourceId());
+        Assertions.assertThat(contentCache.get(contentHash)).isEmpty();
+    }
+
+    private static Path getBlobPath(byte[] content) {
+        final String hash = getContentHash(content);
+        return Path.of(temporalPath.toString(), "blobs", hash.substring(0, 2), hash.substring(2, 4), hash);
+    }
+
+    private static String getContentHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path getShardPath(UUID resourceId) {
+        final String id = resourceId.toString();
+        return Path.of(temporalPath.toString(), id.substring(0, 2), id.substring(2, 4));
+    }
+
     private static MockMultipartFile getMockMultipartFile() {
+        return getMockMultipartFile(CONTENT);
+    }
+
+    private static MockMultipartFile getMockMultipartFile(String content) {
 
         return new MockMultipartFile(
                 FILE_NAME.replace(EXT_TXT, StringUtils.EMPTY),
                 FILE_NAME,
                 CONTENT_TYPE,
-                CONTENT.getBytes());
+                content.getBytes());
 
     }
 }
\ No newline at end of file
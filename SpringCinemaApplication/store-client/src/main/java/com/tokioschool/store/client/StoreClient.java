@@ -0,0 +1,473 @@
+package com.tokioschool.store.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.cache.NearCache;
+import com.tokioschool.concurrent.SingleFlight;
+import com.tokioschool.helpers.ResourceCacheHelper;
+import com.tokioschool.helpers.ResourceStreamHelper;
+import com.tokioschool.httpclient.resilience.ResilientExecutor;
+import com.tokioschool.store.dto.ResourceBatchDto;
+import com.tokioschool.store.dto.ResourceBatchRequestDto;
+import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.dto.ResourceContentStream;
+import com.tokioschool.store.dto.ResourceIdDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Cliente de la API de Store compartido por las aplicaciones.
+ *
+ * Reúne las llamadas a la API de Store que antes repetía cada aplicación: guardar, buscar (uno o varios),
+ * validar, abrir en streaming y eliminar recursos. Todas las llamadas pasan por el {@link ResilientExecutor}
+ * del servicio destino {@code store} y los recursos encontrados se guardan en una caché local ({@link NearCache}).
+ *
+ * Las búsquedas concurrentes de un mismo recurso que no está en la caché se agrupan ({@link SingleFlight}) en una
+ * sola llamada a la API de Store, cuyo resultado comparten.
+ *
+ * Cada operación tiene una variante bloqueante y otra asíncrona, que devuelve un {@link CompletableFuture}
+ * y se ejecuta en un hilo virtual con el contexto de seguridad del hilo que la solicita, de modo que quien
+ * la llama puede solapar, por ejemplo, la subida de un recurso con su trabajo en base de datos.
+ *
+ * A diferencia de las fachadas de las aplicaciones, el cliente no oculta los errores: un recurso que no existe
+ * se devuelve como {@link Optional#empty()}, pero cualquier otro fallo se lanza (o completa el futuro de forma
+ * excepcional) para que cada aplicación decida su alternativa.
+ *
+ * Las instancias se crean con {@link StoreClientFactory}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Slf4j
+public class StoreClient {
+
+    /** URL base de los recursos en la API de Store. */
+    public static final String RESOURCE_URL = "/store/api/resource";
+
+    /** Nombre de la caché local de los recursos. */
+    public static final String RESOURCE_CACHE = "store-resources";
+
+    /** Nombre de la agrupación de las búsquedas concurrentes de un recurso. */
+    public static final String FIND_RESOURCE_FLIGHT = "store-find-resource";
+
+    /** Memoria estimada de los metadatos de un recurso en la caché, en bytes. */
+    static final int RESOURCE_METADATA_SIZE = 512;
+
+    /** Cabeceras de las respuestas de error de la API de Store que se conservan, como el rango de un 416. */
+    private static final List<String> ERROR_RESPONSE_HEADERS = List.of(HttpHeaders.CONTENT_RANGE);
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final ResilientExecutor storeExecutor;
+    private final NearCache<UUID, ResourceContentDto> resourceCache;
+    private final SingleFlight<UUID, Optional<ResourceContentDto>> findResourceFlight;
+    private final ExecutorService executorService;
+
+    StoreClient(RestClient restClient, ObjectMapper objectMapper, ResilientExecutor storeExecutor,
+                NearCache<UUID, ResourceContentDto> resourceCache,
+                SingleFlight<UUID, Optional<ResourceContentDto>> findResourceFlight, ExecutorService executorService) {
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+        this.storeExecutor = storeExecutor;
+        this.resourceCache = resourceCache;
+        this.findResourceFlight = findResourceFlight;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Guarda un recurso en la API de Store.
+     *
+     * @param multipartFile El archivo que representa el recurso.
+     * @param description Una descripción del recurso.
+     * @return El identificador único del recurso guardado.
+     * @throws RuntimeException Si la API de Store no guarda el recurso.
+     */
+    public ResourceIdDto saveResource(MultipartFile multipartFile, @Nullable String description) {
+        // Construcción de las partes de la solicitud
+        final HttpEntity<Object> descriptionPart = buildHttpEntity(MediaType.APPLICATION_JSON, buildDescriptionBody(description));
+        final HttpEntity<Object> resourcePart = buildHttpEntity(resolveMediaType(multipartFile.getContentType()),
+                multipartFile.getResource());
+
+        // Montaje del cuerpo de la solicitud multipart
+        final MultiValueMap<Object, Object> parts = new LinkedMultiValueMap<>();
+        parts.add("description", descriptionPart);
+        parts.add("content", resourcePart);
+
+        return storeExecutor.execute(() -> {
+            final ResourceIdDto resourceIdDto = restClient.post()
+                    .uri(RESOURCE_URL)
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
+                    .body(parts)
+                    .retrieve()
+                    .body(ResourceIdDto.class);
+
+            return Optional.ofNullable(resourceIdDto)
+                    .orElseThrow(() -> new IllegalStateException("Store returned no identifier for the saved resource"));
+        }, StoreClient::rethrow);
+    }
+
+    /**
+     * Guarda un recurso en la API de Store de forma asíncrona.
+     *
+     * El archivo se lee al enviarlo, por lo que debe esperarse al resultado antes de que termine la petición
+     * que lo ha recibido.
+     *
+     * @param multipartFile El archivo que representa el recurso.
+     * @param description Una descripción del recurso.
+     * @return Un {@link CompletableFuture} con el identificador único del recurso guardado.
+     */
+    public CompletableFuture<ResourceIdDto> saveResourceAsync(MultipartFile multipartFile, @Nullable String description) {
+        return async(() -> saveResource(multipartFile, description));
+    }
+
+    /**
+     * Busca un recurso en la API de Store por su identificador.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @return Un {@link Optional} con el contenido del recurso, o vacío si no existe.
+     * @throws RuntimeException Si la API de Store falla o no está disponible.
+     */
+    public Optional<ResourceContentDto> findResource(UUID resourceId) {
+        final Optional<ResourceContentDto> cachedResource = resourceCache.get(resourceId)
+                .filter(resourceContentDto -> resourceContentDto.content() != null);
+        if (cachedResource.isPresent()) {
+            return cachedResource;
+        }
+
+        final String uri = "%s/{resourceId}".formatted(RESOURCE_URL);
+        return findResourceFlight.execute(resourceId, () -> storeExecutor.execute(() -> {
+            final ResourceContentDto resourceContentDto = restClient.get()
+                    .uri(uri, resourceId)
+                    .retrieve()
+                    .body(ResourceContentDto.class);
+
+            return Optional.ofNullable(resourceContentDto).map(this::cacheResource);
+        }, StoreClient::emptyIfNotFound));
+    }
+
+    /**
+     * Busca un recurso en la API de Store por su identificador de forma asíncrona.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @return Un {@link CompletableFuture} con el contenido del recurso, o vacío si no existe.
+     */
+    public CompletableFuture<Optional<ResourceContentDto>> findResourceAsync(UUID resourceId) {
+        return async(() -> findResource(resourceId));
+    }
+
+    /**
+     * Comprueba si un recurso sigue coincidiendo con alguno de los ETag que tiene el cliente.
+     *
+     * Si el recurso está en la caché local se compara su ETag sin llamar a la API de Store; si no, se reenvía
+     * la cabecera `If-None-Match` en una petición HEAD sobre el contenido, que responde 304 (NOT MODIFIED)
+     * sin leer el contenido del almacenamiento.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @param ifNoneMatch El valor de la cabecera `If-None-Match` del cliente.
+     * @return Un {@link Optional} con el ETag actual del recurso si no ha cambiado, o vacío en caso contrario.
+     * @throws RuntimeException Si la API de Store falla o no está disponible.
+     */
+    public Optional<String> findResourceETagIfNotModified(UUID resourceId, String ifNoneMatch) {
+        final Optional<String> cachedETag = resourceCache.get(resourceId)
+                .map(resourceContentDto -> ResourceCacheHelper.buildEntityTag(resourceId, resourceContentDto.contentHash()));
+        if (cachedETag.isPresent()) {
+            return cachedETag.filter(eTag -> ResourceCacheHelper.matchesEntityTag(ifNoneMatch, eTag));
+        }
+
+        final String uri = "%s/{resourceId}/content".formatted(RESOURCE_URL);
+        return storeExecutor.execute(() -> {
+            final ResponseEntity<Void> response = restClient.head()
+                    .uri(uri, resourceId)
+                    .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+                    .retrieve()
+                    .toBodilessEntity();
+
+            return Optional.ofNullable(response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                    ? response.getHeaders().getETag()
+                    : null);
+        }, StoreClient::emptyIfNotFound);
+    }
+
+    /**
+     * Abre en streaming el contenido binario de un recurso, sin cargarlo en memoria.
+     *
+     * Pide el contenido a la API de Store, reenviando las cabeceras `Range`, `If-Range` y condicionales del
+     * cliente, y devuelve la respuesta abierta: el contenido se lee directamente de la conexión, que se libera
+     * al cerrarlo. Si la llamada se abandona por tiempo después de abrir la respuesta, se cierra aquí.
+     *
+     * Los errores del cliente (4xx), como un recurso que no existe (404) o un rango que no se puede servir (416),
+     * se devuelven con su estado y sin cuerpo, para que la aplicación los responda tal cual en lugar de volver
+     * a pedir el recurso completo. Solo los errores del servidor (5xx) y de conexión se lanzan.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @param requestHeaders Las cabeceras de la petición del cliente.
+     * @return El contenido abierto, que debe cerrarse, o la respuesta de error de la API de Store sin cuerpo.
+     * @throws RuntimeException Si la API de Store falla o no está disponible.
+     */
+    public ResourceContentStream openResourceContent(UUID resourceId, HttpHeaders requestHeaders) {
+        final String uri = "%s/{resourceId}/content".formatted(RESOURCE_URL);
+        return storeExecutor.execute(() -> restClient.get()
+                .uri(uri, resourceId)
+                .headers(headers -> ResourceStreamHelper.copyHeaders(requestHeaders, headers,
+                        ResourceStreamHelper.PROXIED_REQUEST_HEADERS))
+                .exchange((request, response) -> {
+                    final HttpStatusCode statusCode = response.getStatusCode();
+                    if (statusCode.isError()) {
+                        final HttpHeaders errorHeaders = new HttpHeaders();
+                        ResourceStreamHelper.copyHeaders(response.getHeaders(), errorHeaders, ERROR_RESPONSE_HEADERS);
+                        response.close();
+                        // solo los errores del servidor cuentan como fallos de la API de Store
+                        if (statusCode.is5xxServerError()) {
+                            throw new IllegalStateException("Store responded %s to the content of %s".formatted(statusCode, resourceId));
+                        }
+                        return new ResourceContentStream(statusCode, errorHeaders, InputStream.nullInputStream());
+                    }
+
+                    return new ResourceContentStream(statusCode, response.getHeaders(),
+                            new FilterInputStream(response.getBody()) {
+                                @Override
+                                public void close() {
+                                    response.close();
+                                }
+                            });
+                }, false), StoreClient::closeQuietly, StoreClient::rethrow);
+    }
+
+    /**
+     * Abre en streaming el contenido binario de un recurso de forma asíncrona.
+     *
+     * @param resourceId El identificador único del recurso.
+     * @param requestHeaders Las cabeceras de la petición del cliente.
+     * @return Un {@link CompletableFuture} con el contenido abierto, que debe cerrarse, o la respuesta de error
+     * de la API de Store sin cuerpo.
+     */
+    public CompletableFuture<ResourceContentStream> openResourceContentAsync(UUID resourceId, HttpHeaders requestHeaders) {
+        return async(() -> openResourceContent(resourceId, requestHeaders));
+    }
+
+    /**
+     * Busca varios recursos en la API de Store por sus identificadores.
+     *
+     * Los identificadores repetidos o nulos se descartan y el resto se piden en lotes de, como máximo,
+     * {@value ResourceBatchRequestDto#MAX_RESOURCES} recursos. Los recursos que están en la caché local no se
+     * piden. La búsqueda es parcial: si falla la petición de un lote se registra el error y sus recursos no
+     * aparecen en el resultado.
+     *
+     * @param resourceIds Los identificadores únicos de los recursos.
+     * @return Un {@link Map} con el contenido de los recursos encontrados, en el orden pedido.
+     */
+    public Map<UUID, ResourceContentDto> findResources(Collection<UUID> resourceIds) {
+        final List<UUID> distinctResourceIds = new ArrayList<>(new LinkedHashSet<>(resourceIds));
+        distinctResourceIds.removeIf(Objects::isNull);
+
+        final Map<UUID, ResourceContentDto> resources = new HashMap<>();
+        final List<UUID> missingResourceIds = new ArrayList<>();
+        for (UUID resourceId : distinctResourceIds) {
+            resourceCache.get(resourceId)
+                    .filter(resourceContentDto -> resourceContentDto.content() != null)
+                    .ifPresentOrElse(resourceContentDto -> resources.put(resourceId, resourceContentDto),
+                            () -> missingResourceIds.add(resourceId));
+        }
+
+        for (int from = 0; from < missingResourceIds.size(); from += ResourceBatchRequestDto.MAX_RESOURCES) {
+            final List<UUID> chunk = missingResourceIds.subList(from,
+                    Math.min(from + ResourceBatchRequestDto.MAX_RESOURCES, missingResourceIds.size()));
+            final ResourceBatchDto resourceBatchDto = storeExecutor.execute(() -> restClient.post()
+                    .uri("%s/batch".formatted(RESOURCE_URL))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(ResourceBatchRequestDto.builder().resourceIds(List.copyOf(chunk)).build())
+                    .retrieve()
+                    .body(ResourceBatchDto.class), e -> {
+                log.error("Excepción al buscar los recursos", e);
+                return null;
+            });
+
+            if (resourceBatchDto != null && resourceBatchDto.resources() != null) {
+                resourceBatchDto.resources().forEach(resource -> resources.put(resource.resourceId(), cacheResource(resource)));
+            }
+        }
+
+        // en el orden pedido
+        final Map<UUID, ResourceContentDto> orderedResources = new LinkedHashMap<>();
+        distinctResourceIds.stream()
+                .filter(resources::containsKey)
+                .forEach(resourceId -> orderedResources.put(resourceId, resources.get(resourceId)));
+        return orderedResources;
+    }
+
+    /**
+     * Busca varios recursos en la API de Store por sus identificadores de forma asíncrona.
+     *
+     * @param resourceIds Los identificadores únicos de los recursos.
+     * @return Un {@link CompletableFuture} con el contenido de los recursos encontrados, en el orden pedido.
+     */
+    public CompletableFuture<Map<UUID, ResourceContentDto>> findResourcesAsync(Collection<UUID> resourceIds) {
+        final List<UUID> requestedResourceIds = new ArrayList<>(resourceIds);
+        return async(() -> findResources(requestedResourceIds));
+    }
+
+    /**
+     * Elimina un recurso de la API de Store por su identificador, y de la caché local de todos los nodos.
+     *
+     * @param resourceId El identificador único del recurso a eliminar.
+     * @throws RuntimeException Si la API de Store no elimina el recurso.
+     */
+    public void deleteResource(UUID resourceId) {
+        final String uri = "%s/{resourceId}".formatted(RESOURCE_URL);
+
+        // se invalida aunque falle la eliminación, la API de Store puede haberlo eliminado
+        resourceCache.invalidate(resourceId);
+        storeExecutor.run(() -> restClient.delete().uri(uri, resourceId)
+                .retrieve()
+                .toBodilessEntity(), StoreClient::rethrow);
+    }
+
+    /**
+     * Elimina un recurso de la API de Store por su identificador de forma asíncrona.
+     *
+     * @param resourceId El identificador único del recurso a eliminar.
+     * @return Un {@link CompletableFuture} que se completa al eliminar el recurso.
+     */
+    public CompletableFuture<Void> deleteResourceAsync(UUID resourceId) {
+        return async(() -> {
+            deleteResource(resourceId);
+            return null;
+        });
+    }
+
+    /**
+     * Ejecuta una operación en un hilo virtual con el contexto de seguridad del hilo que la solicita.
+     *
+     * @param operation La operación a ejecutar.
+     * @return Un {@link CompletableFuture} con el resultado de la operación.
+     * @param <T> El tipo del resultado.
+     */
+    private <T> CompletableFuture<T> async(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(operation, new DelegatingSecurityContextExecutor(executorService));
+    }
+
+    /**
+     * Guarda un recurso en la caché local: completo si su contenido es pequeño, o solo sus metadatos.
+     *
+     * @param resourceContentDto El recurso obtenido de la API de Store.
+     * @return El mismo recurso.
+     */
+    private ResourceContentDto cacheResource(ResourceContentDto resourceContentDto) {
+        if (resourceContentDto.resourceId() == null) {
+            return resourceContentDto;
+        }
+
+        if (resourceContentDto.content() != null && resourceCache.isCacheableContent(resourceContentDto.content().length)) {
+            resourceCache.put(resourceContentDto.resourceId(), resourceContentDto);
+        } else {
+            resourceCache.put(resourceContentDto.resourceId(), ResourceContentDto.builder()
+                    .resourceId(resourceContentDto.resourceId())
+                    .resourceName(resourceContentDto.resourceName())
+                    .contentType(resourceContentDto.contentType())
+                    .description(resourceContentDto.description())
+                    .size(resourceContentDto.size())
+                    .contentHash(resourceContentDto.contentHash())
+                    .build());
+        }
+        return resourceContentDto;
+    }
+
+    /**
+     * Construye el cuerpo JSON de la descripción de un recurso.
+     *
+     * @param description La descripción del recurso.
+     * @return El cuerpo JSON, o vacío si no se puede procesar.
+     */
+    private String buildDescriptionBody(@Nullable String description) {
+        final Map<String, String> descriptionMap = new HashMap<>();
+        descriptionMap.put("description", description);
+        try {
+            return objectMapper.writeValueAsString(descriptionMap);
+        } catch (JsonProcessingException e) {
+            log.error("Error al procesar la descripción", e);
+            return StringUtils.EMPTY;
+        }
+    }
+
+    /**
+     * Obtiene el tipo de contenido de un archivo; si no lo indica o no es válido, se guarda como binario.
+     *
+     * @param contentType El tipo de contenido del archivo.
+     * @return El tipo de contenido con el que se guarda el archivo.
+     */
+    private static MediaType resolveMediaType(@Nullable String contentType) {
+        if (contentType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.valueOf(contentType);
+        } catch (InvalidMediaTypeException e) {
+            log.error("Error al procesar el archivo", e);
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    /**
+     * Construye una entidad HTTP con el tipo de contenido y el cuerpo proporcionados.
+     *
+     * @param mediaType El tipo de contenido de la entidad.
+     * @param body El cuerpo de la entidad.
+     * @return Una instancia de {@link HttpEntity}.
+     */
+    private static HttpEntity<Object> buildHttpEntity(MediaType mediaType, Object body) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static <T> Optional<T> emptyIfNotFound(RuntimeException exception) {
+        if (exception instanceof HttpClientErrorException.NotFound) {
+            return Optional.empty();
+        }
+        throw exception;
+    }
+
+    private static void closeQuietly(ResourceContentStream resourceContentStream) {
+        try {
+            resourceContentStream.close();
+        } catch (IOException e) {
+            log.debug("Error al cerrar el contenido abandonado del recurso", e);
+        }
+    }
+
+    private static <T> T rethrow(RuntimeException exception) {
+        throw exception;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tokioschool.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.cache.NearCache;
+import com.tokioschool.cache.NearCacheFactory;
+import com.tokioschool.concurrent.SingleFlightFactory;
+import com.tokioschool.httpclient.HttpClientFactory;
+import com.tokioschool.httpclient.resilience.ResilienceRegistry;
+import com.tokioschool.store.dto.ResourceContentDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factoría de los clientes de la API de Store.
+ *
+ * Cada aplicación crea su {@link StoreClient} a partir del {@link RestClient} con el que se autentica en la
+ * API de Store; la factoría le añade el ejecutor resiliente del servicio destino {@code store}, la caché local
+ * de los recursos, la agrupación de sus búsquedas concurrentes y los hilos virtuales en los que se ejecutan sus
+ * operaciones asíncronas.
+ *
+ * Anotaciones:
+ * - {@link Component}: Registra la factoría como un bean de Spring.
+ * - {@link RequiredArgsConstructor}: Genera un constructor con los argumentos requeridos.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreClientFactory implements DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final ResilienceRegistry resilienceRegistry;
+    private final NearCacheFactory nearCacheFactory;
+    private final SingleFlightFactory singleFlightFactory;
+    private final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("store-client-", 0).factory());
+
+    /**
+     * Crea un cliente de la API de Store.
+     *
+     * @param restClient El cliente REST, ya configurado con la URL base y la autenticación de la API de Store.
+     * @return El cliente de la API de Store.
+     */
+    public StoreClient create(RestClient restClient) {
+        final NearCache<UUID, ResourceContentDto> resourceCache = nearCacheFactory.create(StoreClient.RESOURCE_CACHE,
+                UUID::fromString, resourceContentDto -> StoreClient.RESOURCE_METADATA_SIZE
+                        + (resourceContentDto.content() == null ? 0L : resourceContentDto.content().length));
+
+        return new StoreClient(restClient, objectMapper,
+                resilienceRegistry.getExecutor(HttpClientFactory.STORE_DOWNSTREAM), resourceCache,
+                singleFlightFactory.create(StoreClient.FIND_RESOURCE_FLIGHT), executorService);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,26 @@
+package com.tokioschool.store.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) con la respuesta de la API de Store a una petición de varios recursos.
+ *
+ * Anotaciones:
+ * - {@link Builder}: Proporciona un patrón de construcción para instanciar objetos de esta clase.
+ * - {@link Jacksonized}: Permite que Jackson deserialice el objeto usando el builder.
+ *
+ * Campos:
+ * - {@code resources}: Recursos encontrados, con su contenido.
+ * - {@code notFound}: Identificadores de los recursos que no se han encontrado.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Builder
+@Jacksonized
+public record ResourceBatchDto(List<ResourceContentDto> resources, List<UUID> notFound) {
+}
@@ -0,0 +1,26 @@
+package com.tokioschool.store.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) con los identificadores de los recursos que se piden a la API de Store
+ * en una sola petición.
+ *
+ * Anotaciones:
+ * - {@link Builder}: Proporciona un patrón de construcción para instanciar objetos de esta clase.
+ *
+ * Campos:
+ * - {@code resourceIds}: Identificadores de los recursos, como máximo {@value #MAX_RESOURCES}.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+@Builder
+public record ResourceBatchRequestDto(List<UUID> resourceIds) {
+
+    /** Número máximo de recursos que admite la API de Store en una sola petición. */
+    public static final int MAX_RESOURCES = 100;
+}
@@ -10,7 +10,7 @@ import java.util.UUID;
  * DTO (Data Transfer Object) para representar el contenido de un recurso.
  *
  * Esta clase utiliza un registro para almacenar información sobre un recurso, incluyendo
- * su identificador, contenido, nombre, tipo de contenido, descripción y tamaño.
+ * su identificador, contenido, nombre, tipo de contenido, descripción, tamaño y resumen del contenido.
  *
  * Anotaciones:
  * - {@link Builder}: Proporciona un patrón de construcción para instanciar objetos de esta clase.
@@ -23,12 +23,21 @@ import java.util.UUID;
  * - {@code contentType}: Tipo de contenido del recurso (por ejemplo, "image/png").
  * - {@code description}: Descripción del recurso.
  * - {@code size}: Tamaño del recurso en bytes.
+ * - {@code contentHash}: Resumen SHA-256 del contenido, usado como ETag. Puede ser nulo en recursos antiguos.
  *
  * @author andres.rpenuela
  */
 @Builder
 @Jacksonized
-public record ResourceContentDto(UUID resourceId, byte[] content, String resourceName, String contentType, String description, int size) {
+public record ResourceContentDto(UUID resourceId, byte[] content, String resourceName, String contentType, String description, int size,
+                                 String contentHash) {
+
+    /**
+     * Crea el contenido de un recurso sin el resumen de su contenido.
+     */
+    public ResourceContentDto(UUID resourceId, byte[] content, String resourceName, String contentType, String description, int size) {
+        this(resourceId, content, resourceName, contentType, description, size, null);
+    }
 
     /**
      * Compara este objeto con otro para determinar si son iguales.
@@ -77,6 +86,7 @@ public record ResourceContentDto(UUID resourceId, byte[] content, String resourc
                 ", contentType='" + contentType + '\'' +
                 ", description='" + description + '\'' +
                 ", size=" + size +
+                ", contentHash='" + contentHash + '\'' +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.tokioschool.store.dto;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Contenido binario de un recurso abierto en streaming desde la API de Store.
+ *
+ * El contenido se lee directamente de la conexión con la API de Store; quien lo recibe debe cerrarlo
+ * para liberar la conexión.
+ *
+ * Los errores del cliente (4xx) de la API de Store llegan también así, con su estado y sin contenido.
+ *
+ * @param statusCode Estado de la respuesta de la API de Store (200, 206, 304 o un error 4xx).
+ * @param headers Cabeceras de la respuesta de la API de Store.
+ * @param content Contenido del recurso, abierto.
+ *
+ * @author andres.rpenuela
+ * @version 1.0
+ */
+public record ResourceContentStream(HttpStatusCode statusCode, HttpHeaders headers, InputStream content) implements Closeable {
+
+    @Override
+    public void close() throws IOException {
+        content.close();
+    }
+}
@@ -0,0 +1,272 @@
+package com.tokioschool.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tokioschool.cache.NearCacheFactory;
+import com.tokioschool.cache.NearCacheProperty;
+import com.tokioschool.concurrent.SingleFlightFactory;
+import com.tokioschool.concurrent.SingleFlightProperty;
+import com.tokioschool.httpclient.HttpClientFactory;
+import com.tokioschool.httpclient.properties.ResilienceProperty;
+import com.tokioschool.httpclient.resilience.CircuitBreaker;
+import com.tokioschool.httpclient.resilience.ResilienceRegistry;
+import com.tokioschool.store.dto.ResourceContentDto;
+import com.tokioschool.store.dto.ResourceContentStream;
+import com.tokioschool.store.dto.ResourceIdDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+@ExtendWith(MockitoExtension.class)
+class StoreClientUTest {
+
+    @Mock
+    private RestClient restClient;
+    @Mock
+    private RestClient.RequestHeadersUriSpec requestHeadersUriSpec;
+    @Mock
+    private RestClient.RequestBodyUriSpec requestBodyUriSpec;
+    @Mock
+    private RestClient.ResponseSpec responseSpec;
+
+    private final ResilienceRegistry resilienceRegistry =
+            new ResilienceRegistry(new ResilienceProperty(null, null), new SimpleMeterRegistry(), Clock.systemUTC());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StoreClientFactory storeClientFactory;
+    private StoreClient storeClient;
+
+    @BeforeEach
+    void init() {
+        storeClientFactory = new StoreClientFactory(new ObjectMapper(), resilienceRegistry,
+                new NearCacheFactory(new NearCacheProperty(null, null, null), null, new SimpleMeterRegistry(), Clock.systemUTC()),
+                new SingleFlightFactory(new SingleFlightProperty(null, null), meterRegistry));
+        storeClient = storeClientFactory.create(restClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeClientFactory.destroy();
+        resilienceRegistry.destroy();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void givenNotFoundResource_whenFindResourceAsync_thenCompleteEmpty() {
+        mockGetResource();
+        Mockito.when(responseSpec.body(ResourceContentDto.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        Assertions.assertThat(storeClient.findResourceAsync(UUID.randomUUID()).join()).isEmpty();
+    }
+
+    @Test
+    void givenFailingStore_whenFindResource_thenThrowInsteadOfEmpty() {
+        mockGetResource();
+        Mockito.when(responseSpec.body(ResourceContentDto.class))
+                .thenThrow(HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Error", null, null, null));
+
+        Assertions.assertThatThrownBy(() -> storeClient.findResource(UUID.randomUUID()))
+                .isInstanceOf(HttpServerErrorException.class);
+        Assertions.assertThatThrownBy(() -> storeClient.findResourceAsync(UUID.randomUUID()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpServerErrorException.class);
+    }
+
+    @Test
+    void givenFoundResource_whenFindResourceAsync_thenCacheIt() {
+        final UUID resourceId = UUID.randomUUID();
+        final ResourceContentDto resourceContentDto = ResourceContentDto.builder()
+                .resourceId(resourceId)
+                .content("test".getBytes())
+                .size(4)
+                .build();
+        mockGetResource();
+        Mockito.when(responseSpec.body(ResourceContentDto.class)).thenReturn(resourceContentDto);
+
+        Assertions.assertThat(storeClient.findResourceAsync(resourceId).join()).contains(resourceContentDto);
+        Assertions.assertThat(storeClient.findResourcesAsync(List.of(resourceId)).join())
+                .isEqualTo(Map.of(resourceId, resourceContentDto));
+
+        Mockito.verify(restClient, Mockito.times(1)).get();
+        Mockito.verify(restClient, Mockito.never()).post();
+    }
+
+    @Test
+    void givenAuthenticatedCaller_whenSaveResourceAsync_thenCallStoreWithCallerContext() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "secret"));
+        final ResourceIdDto resourceIdDto = new ResourceIdDto(UUID.randomUUID());
+        final AtomicReference<String> callerName = new AtomicReference<>();
+
+        Mockito.when(restClient.post()).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.contentType(Mockito.any(MediaType.class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.body(Mockito.any(Map.class))).thenReturn(requestBodyUriSpec);
+        Mockito.when(requestBodyUriSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.body(ResourceIdDto.class)).thenAnswer(invocation -> {
+            callerName.set(Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                    .map(Authentication::getName)
+                    .orElse(null));
+            return resourceIdDto;
+        });
+
+        final ResourceIdDto result = storeClient.saveResourceAsync(
+                new MockMultipartFile("file", "test.txt", "text/plain", "test".getBytes()), "test description").join();
+
+        Assertions.assertThat(result).isEqualTo(resourceIdDto);
+        Assertions.assertThat(callerName.get()).isEqualTo("user");
+    }
+
+    @Test
+    void givenFailingStore_whenDeleteResourceAsync_thenCompleteExceptionally() {
+        Mockito.when(restClient.delete()).thenThrow(new IllegalStateException("Error deleting resource"));
+
+        Assertions.assertThatThrownBy(() -> storeClient.deleteResourceAsync(UUID.randomUUID()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenConcurrentReadsOfSameResource_whenFindResource_thenCollapseIntoOneCall() throws Exception {
+        final UUID resourceId = UUID.randomUUID();
+        final ResourceContentDto resourceContentDto = ResourceContentDto.builder()
+                .resourceId(resourceId)
+                .content("test".getBytes())
+                .size(4)
+                .build();
+        final CountDownLatch release = new CountDownLatch(1);
+        mockGetResource();
+        Mockito.when(responseSpec.body(ResourceContentDto.class)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return resourceContentDto;
+        });
+
+        final List<CompletableFuture<Optional<ResourceContentDto>>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(storeClient.findResourceAsync(resourceId));
+        }
+        // la primera búsqueda sigue en curso hasta que las demás se han agrupado con ella
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (collapsedCalls() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        results.forEach(result -> Assertions.assertThat(result.join()).contains(resourceContentDto));
+        Assertions.assertThat(collapsedCalls()).isEqualTo(2);
+        Mockito.verify(restClient, Mockito.times(1)).get();
+    }
+
+    @Test
+    void givenUnsatisfiableRange_whenOpenResourceContent_thenReturnTheStatusWithoutBody() throws Exception {
+        final HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes */4");
+        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+        final RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse response =
+                mockOpenResourceContent(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, responseHeaders);
+        final HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.set(HttpHeaders.RANGE, "bytes=10-");
+
+        try (ResourceContentStream resourceContentStream = storeClient.openResourceContent(UUID.randomUUID(), requestHeaders)) {
+            Assertions.assertThat(resourceContentStream.statusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            Assertions.assertThat(resourceContentStream.headers().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */4");
+            Assertions.assertThat(resourceContentStream.headers().getContentType()).isNull();
+            Assertions.assertThat(resourceContentStream.content().readAllBytes()).isEmpty();
+        }
+        Mockito.verify(response).close();
+    }
+
+    @Test
+    void givenNotFoundResource_whenOpenResourceContent_thenReturnTheStatusWithoutBody() throws Exception {
+        final RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse response =
+                mockOpenResourceContent(HttpStatus.NOT_FOUND, new HttpHeaders());
+
+        try (ResourceContentStream resourceContentStream = storeClient.openResourceContent(UUID.randomUUID(), new HttpHeaders())) {
+            Assertions.assertThat(resourceContentStream.statusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            Assertions.assertThat(resourceContentStream.content().readAllBytes()).isEmpty();
+        }
+        Mockito.verify(response).close();
+        Assertions.assertThat(resilienceRegistry.getExecutor(HttpClientFactory.STORE_DOWNSTREAM).getCircuitBreaker().getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenFailingStore_whenOpenResourceContent_thenThrow() {
+        final RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse response =
+                mockOpenResourceContent(HttpStatus.SERVICE_UNAVAILABLE, new HttpHeaders());
+
+        Assertions.assertThatThrownBy(() -> storeClient.openResourceContent(UUID.randomUUID(), new HttpHeaders()))
+                .isInstanceOf(IllegalStateException.class);
+        Mockito.verify(response).close();
+    }
+
+    /**
+     * Simula la respuesta de la API de Store al contenido de un recurso, pasándola a la función de {@code exchange}.
+     */
+    @SuppressWarnings("unchecked")
+    private RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse mockOpenResourceContent(HttpStatus status, HttpHeaders headers) {
+        final RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse response =
+                Mockito.mock(RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse.class);
+        try {
+            Mockito.when(response.getStatusCode()).thenReturn(status);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Mockito.when(response.getHeaders()).thenReturn(headers);
+
+        Mockito.when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.headers(Mockito.any(Consumer.class))).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.exchange(Mockito.any(RestClient.RequestHeadersSpec.ExchangeFunction.class), Mockito.eq(false)))
+                .thenAnswer(invocation -> invocation.<RestClient.RequestHeadersSpec.ExchangeFunction<?>>getArgument(0)
+                        .exchange(Mockito.mock(HttpRequest.class), response));
+        return response;
+    }
+
+    private double collapsedCalls() {
+        return meterRegistry.get("single.flight.calls")
+                .tag("name", StoreClient.FIND_RESOURCE_FLIGHT)
+                .tag("kind", "collapsed")
+                .counter()
+                .count();
+    }
+
+    private void mockGetResource() {
+        Mockito.when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.any(String.class), Mockito.any(Object[].class))).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+    }
+}